@@ -21,6 +21,8 @@
 import com.sparkword.core.ConfigManager;
 import com.sparkword.core.MessageManager;
 import com.sparkword.core.NotifyManager;
+import com.sparkword.core.effects.EffectQueue;
+import com.sparkword.core.evidence.EvidenceStore;
 import com.sparkword.core.lifecycle.BootstrapIntegrations;
 import com.sparkword.core.lifecycle.MaintenanceTasks;
 import com.sparkword.core.lifecycle.RegisterListener;
@@ -31,16 +33,23 @@
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 
 public class Environment {
 
+    private static final long EVIDENCE_SEGMENT_BYTES = 4L * 1024 * 1024;
+    private static final int EVIDENCE_MAX_SEGMENTS = 16;
+    private static final int EVIDENCE_RECENT_BOOKS = 16;
+
     private final SparkWord plugin;
 
     private final ConfigManager configManager;
     private final MessageManager messageManager;
     private final StorageManager storage;
+    private final EffectQueue effectQueue;
+    private final EvidenceStore evidenceStore;
     private final NotifyManager notifyManager;
     private final PlayerDataManager playerDataManager;
     private final MaintenanceTasks maintenanceTasks;
@@ -58,6 +67,10 @@ public Environment(SparkWord plugin) {
         this.messageManager = new MessageManager(plugin, configManager);
 
         this.storage = new StorageManager(plugin, configManager);
+        this.effectQueue = new EffectQueue("SparkWord-Effects", 4096, 256, 250, plugin.getLogger());
+        this.evidenceStore = new EvidenceStore(new File(plugin.getDataFolder(), "evidence").toPath(),
+            EVIDENCE_SEGMENT_BYTES, EVIDENCE_MAX_SEGMENTS, EVIDENCE_RECENT_BOOKS, plugin.getLogger());
+        this.evidenceStore.open();
         this.notifyManager = new NotifyManager(plugin);
         this.playerDataManager = new PlayerDataManager(plugin);
 
@@ -85,6 +98,7 @@ public void load() {
         registrar.registerIncomingChannels();
 
         maintenanceTasks.startPurgeTask();
+        notifyManager.startDigestTask();
 
         integrations.initMetrics(configManager);
         integrations.checkUpdates();
@@ -121,7 +135,12 @@ public void shutdown() {
         Bukkit.getScheduler().cancelTasks(plugin);
         maintenanceTasks.stopAll();
 
-        if (playerDataManager != null) playerDataManager.invalidateAll();
+        if (effectQueue != null) effectQueue.shutdown(5000);
+        if (playerDataManager != null) {
+            playerDataManager.shutdown();
+            playerDataManager.invalidateAll();
+        }
+        if (evidenceStore != null) evidenceStore.close();
         if (storage != null) storage.close();
     }
 
@@ -137,6 +156,14 @@ public MessageManager getMessageManager() {
         return messageManager;
     }
 
+    public EffectQueue getEffectQueue() {
+        return effectQueue;
+    }
+
+    public EvidenceStore getEvidenceStore() {
+        return evidenceStore;
+    }
+
     public NotifyManager getNotifyManager() {
         return notifyManager;
     }
@@ -145,6 +172,10 @@ public PlayerDataManager getPlayerDataManager() {
         return playerDataManager;
     }
 
+    public MaintenanceTasks getMaintenanceTasks() {
+        return maintenanceTasks;
+    }
+
     public StorageManager getStorage() {
         return storage;
     }
@@ -19,10 +19,13 @@
 
 import com.sparkword.core.storage.StorageManager;
 import com.sparkword.core.storage.model.MuteInfo.MuteScope;
+import com.sparkword.moderation.antispam.SpamCheck;
+import com.sparkword.moderation.antispam.SpamManager;
 import com.sparkword.moderation.filters.word.result.FilterResult;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 
 import java.util.UUID;
 
@@ -95,4 +98,25 @@ public static void mutePlayer(UUID uuid, String name, int seconds, String reason
             }
         });
     }
+
+    public static boolean registerSpamCheck(Plugin owner, String id, SpamCheck check) {
+        if (plugin == null || !plugin.isEnabled()) return false;
+        SpamManager spamManager = plugin.getSpamManager();
+        if (spamManager == null) return false;
+
+        spamManager.registerCheck(owner, id, check);
+        return true;
+    }
+
+    public static boolean unregisterSpamCheck(Plugin owner, String id) {
+        if (plugin == null) return false;
+        SpamManager spamManager = plugin.getSpamManager();
+        return spamManager != null && spamManager.unregisterCheck(owner, id);
+    }
+
+    public static void unregisterSpamChecks(Plugin owner) {
+        if (plugin == null) return;
+        SpamManager spamManager = plugin.getSpamManager();
+        if (spamManager != null) spamManager.unregisterChecks(owner);
+    }
 }
@@ -45,6 +45,11 @@ public static void attachSubCommands(LiteralArgumentBuilder<CommandSourceStack>
                             manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "audit", StringArgumentType.getString(ctx, "player"));
                             return 1;
                         })
+                        .then(Commands.argument("cursor", StringArgumentType.word())
+                            .executes(ctx -> {
+                                manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "audit", StringArgumentType.getString(ctx, "player"), StringArgumentType.getString(ctx, "cursor"));
+                                return 1;
+                            }))
                      )
                    );
 
@@ -53,6 +58,22 @@ public static void attachSubCommands(LiteralArgumentBuilder<CommandSourceStack>
                     manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "logs");
                     return 1;
                 })
+                .then(Commands.literal("search")
+                        .executes(ctx -> {
+                            manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "logs", "search");
+                            return 1;
+                        })
+                        .then(Commands.argument("query", StringArgumentType.greedyString())
+                            .executes(ctx -> {
+                                String[] terms = StringArgumentType.getString(ctx, "query").trim().split("\\s+");
+                                String[] args = new String[terms.length + 2];
+                                args[0] = "logs";
+                                args[1] = "search";
+                                System.arraycopy(terms, 0, args, 2, terms.length);
+                                manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", args);
+                                return 1;
+                            }))
+                     )
                 .then(Commands.argument("type", StringArgumentType.word())
                         .suggests((ctx, b) -> {
                             b.suggest("b");
@@ -70,6 +91,11 @@ public static void attachSubCommands(LiteralArgumentBuilder<CommandSourceStack>
                                 manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "logs", StringArgumentType.getString(ctx, "type"), String.valueOf(IntegerArgumentType.getInteger(ctx, "page")));
                                 return 1;
                             }))
+                        .then(Commands.argument("cursor", StringArgumentType.word())
+                            .executes(ctx -> {
+                                manager.dispatchFromBrigadier(ctx.getSource().getSender(), "sw", "logs", StringArgumentType.getString(ctx, "type"), StringArgumentType.getString(ctx, "cursor"));
+                                return 1;
+                            }))
                      )
                    );
 
@@ -109,6 +135,9 @@ public void register(Commands commands, CommandManager manager, Environment env,
                     .then(Commands.argument("page", IntegerArgumentType.integer(1))
                             .executes(ctx -> run(manager, ctx, "sw-scan", StringArgumentType.getString(ctx, "player"), String.valueOf(IntegerArgumentType.getInteger(ctx, "page"))))
                          )
+                    .then(Commands.argument("cursor", StringArgumentType.word())
+                            .executes(ctx -> run(manager, ctx, "sw-scan", StringArgumentType.getString(ctx, "player"), StringArgumentType.getString(ctx, "cursor")))
+                         )
                  );
 
         LiteralCommandNode<CommandSourceStack> node = builder.build();
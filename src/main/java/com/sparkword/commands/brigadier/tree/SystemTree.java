@@ -58,7 +58,10 @@ public void register(Commands commands, CommandManager manager, Environment env,
         var debugBuilder = Commands.literal("sw-debug")
             .requires(s -> s.getSender().hasPermission("sparkword.debug"))
             .executes(ctx -> run(manager, ctx, "sw-debug"))
-            .then(Commands.literal("filter").executes(ctx -> run(manager, ctx, "sw-debug", "filter")));
+            .then(Commands.literal("filter").executes(ctx -> run(manager, ctx, "sw-debug", "filter")))
+            .then(Commands.literal("rules").executes(ctx -> run(manager, ctx, "sw-debug", "rules")))
+            .then(Commands.literal("alerts").executes(ctx -> run(manager, ctx, "sw-debug", "alerts")))
+            .then(Commands.literal("storage").executes(ctx -> run(manager, ctx, "sw-debug", "storage")));
 
         LiteralCommandNode<CommandSourceStack> debugNode = debugBuilder.build();
         commands.register(debugNode, "Debug Mode", Collections.emptyList());
@@ -20,8 +20,10 @@
 import com.sparkword.Environment;
 import com.sparkword.commands.SubCommand;
 import com.sparkword.core.storage.model.AuditEntry;
+import com.sparkword.core.storage.model.PageCursor;
 import com.sparkword.util.TimeUtil;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -30,9 +32,12 @@
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class AuditCommand implements SubCommand {
+    private static final int PAGE_SIZE = 10;
+
     private final Environment env;
 
     public AuditCommand(Environment env) {
@@ -46,25 +51,53 @@ public boolean execute(CommandSender sender, String[] args) {
             return true;
         }
 
-        String target = (args.length > 0) ? args[0] : "Global";
-
-        env.getStorage().getAudit().getAuditLogsStructAsync(args.length > 0 ? args[0] : null, 10).thenAccept(logs -> {
-            Bukkit.getScheduler().runTask(env.getPlugin(), () -> {
-                sender.sendMessage(MiniMessage.miniMessage().deserialize(
-                    "<dark_gray>--- <#09bbf5>Audit Logs: " + target + "</#09bbf5> <dark_gray>---"
-                                                                        ));
+        String token = args.length > 0 && PageCursor.isToken(args[args.length - 1]) ? args[args.length - 1] : null;
+        String staff = (args.length > 0 && !PageCursor.isToken(args[0])) ? args[0] : null;
+        String target = (staff != null) ? staff : "Global";
+
+        if (token != null) {
+            PageCursor after = PageCursor.decode(token);
+            if (after == null) {
+                env.getMessageManager().sendMessage(sender, "logs.viewer.invalid-cursor");
+                return true;
+            }
+            env.getStorage().getAudit().getAuditLogsPageAsync(staff, after, PAGE_SIZE).thenAccept(page ->
+                showPage(sender, staff, target, page.entries(), page.next()));
+            return true;
+        }
 
-                if (logs.isEmpty()) {
-                    env.getMessageManager().sendMessage(sender, "logs.viewer.no-records");
-                    return;
-                }
+        env.getStorage().getAudit().getAuditLogsStructAsync(staff, PAGE_SIZE).thenAccept(logs ->
+            showPage(sender, staff, target, logs, nextCursor(logs)));
+        return true;
+    }
 
-                for (AuditEntry log : logs) {
-                    sender.sendMessage(formatEntry(log));
-                }
-            });
+    private void showPage(CommandSender sender, String staff, String target, List<AuditEntry> logs, String next) {
+        Bukkit.getScheduler().runTask(env.getPlugin(), () -> {
+            sender.sendMessage(MiniMessage.miniMessage().deserialize(
+                "<dark_gray>--- <#09bbf5>Audit Logs: " + target + "</#09bbf5> <dark_gray>---"
+                                                                    ));
+
+            if (logs.isEmpty()) {
+                env.getMessageManager().sendMessage(sender, "logs.viewer.no-records");
+                return;
+            }
+
+            for (AuditEntry log : logs) {
+                sender.sendMessage(formatEntry(log));
+            }
+
+            if (next != null) {
+                String command = "/sw audit " + (staff != null ? staff + " " : "") + next;
+                sender.sendMessage(env.getMessageManager().getComponent("logs.viewer.next-page", null, false)
+                    .clickEvent(ClickEvent.runCommand(command)));
+            }
         });
-        return true;
+    }
+
+    private String nextCursor(List<AuditEntry> logs) {
+        if (logs.size() < PAGE_SIZE) return null;
+        AuditEntry last = logs.get(logs.size() - 1);
+        return new PageCursor(last.timestamp(), last.id()).encode();
     }
 
     private Component formatEntry(AuditEntry log) {
@@ -20,18 +20,27 @@
 import com.sparkword.Environment;
 import com.sparkword.commands.SubCommand;
 import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.core.storage.search.SearchQuery;
 import com.sparkword.util.TimeUtil;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.regex.Pattern;
 
 public class LogsCommand implements SubCommand {
+    private static final int PAGE_SIZE = 10;
+
     private final Environment env;
 
     public LogsCommand(Environment env) {
@@ -45,7 +54,24 @@ public boolean execute(CommandSender sender, String[] args) {
             return true;
         }
 
+        if (args.length > 0 && args[0].equalsIgnoreCase("search")) {
+            search(sender, args);
+            return true;
+        }
+
         String type = (args.length > 0) ? args[0].toLowerCase() : "b";
+
+        if (args.length > 1 && PageCursor.isToken(args[1])) {
+            PageCursor after = PageCursor.decode(args[1]);
+            if (after == null) {
+                env.getMessageManager().sendMessage(sender, "logs.viewer.invalid-cursor");
+                return true;
+            }
+            env.getStorage().getReports().getGlobalLogsPageAsync(type, after).thenAccept(page ->
+                showPage(sender, "Logs (" + type.toUpperCase() + ") Pg: »", page.entries(), nextCommand(type, page.next())));
+            return true;
+        }
+
         int page = 1;
         if (args.length > 1) {
             try {
@@ -56,23 +82,75 @@ public boolean execute(CommandSender sender, String[] args) {
 
         final int fPage = page;
 
-        env.getStorage().getReports().getGlobalLogsStructAsync(type, page).thenAccept(logs -> {
-            Bukkit.getScheduler().runTask(env.getPlugin(), () -> {
-                sender.sendMessage(MiniMessage.miniMessage().deserialize(
-                    "<dark_gray>--- <#09bbf5>Logs (" + type.toUpperCase() + ") Pg: " + fPage + "</#09bbf5> <dark_gray>---"
-                                                                        ));
+        env.getStorage().getReports().getGlobalLogsStructAsync(type, page).thenAccept(logs ->
+            showPage(sender, "Logs (" + type.toUpperCase() + ") Pg: " + fPage, logs, nextCommand(type, nextCursor(logs))));
+        return true;
+    }
 
-                if (logs.isEmpty()) {
-                    env.getMessageManager().sendMessage(sender, "logs.viewer.no-records");
-                    return;
+    private void search(CommandSender sender, String[] args) {
+        int page = 1;
+        StringJoiner terms = new StringJoiner(" ");
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].regionMatches(true, 0, "page:", 0, 5)) {
+                try {
+                    page = Math.max(1, Integer.parseInt(args[i].substring(5)));
+                } catch (NumberFormatException ignored) {
                 }
+                continue;
+            }
+            terms.add(args[i]);
+        }
 
-                for (LogEntry log : logs) {
-                    sender.sendMessage(buildLogComponent(log));
-                }
-            });
+        String text = terms.toString();
+        SearchQuery query = SearchQuery.of(text);
+        if (query.isEmpty()) {
+            env.getMessageManager().sendMessage(sender, "help.usage-logs-search");
+            return;
+        }
+
+        if (env.getStorage().getReports().isSearchIndexing()) {
+            env.getMessageManager().sendMessage(sender, "logs.viewer.search-indexing");
+        }
+
+        final int fPage = page;
+        env.getStorage().getReports().searchLogsAsync(query, page).thenAccept(result ->
+            showPage(sender, "Search: " + text + " Pg: " + fPage, result.entries(), searchCommand(text, result)));
+    }
+
+    private String nextCommand(String type, String next) {
+        return next != null ? "/sw logs " + type + " " + next : null;
+    }
+
+    private String searchCommand(String text, Page<LogEntry> result) {
+        return result.hasNext() ? "/sw logs search " + text + " page:" + result.next() : null;
+    }
+
+    private void showPage(CommandSender sender, String title, List<LogEntry> logs, String nextCommand) {
+        Bukkit.getScheduler().runTask(env.getPlugin(), () -> {
+            sender.sendMessage(MiniMessage.miniMessage().deserialize(
+                "<dark_gray>--- <#09bbf5><title></#09bbf5> <dark_gray>---", Placeholder.unparsed("title", title)
+                                                                    ));
+
+            if (logs.isEmpty()) {
+                env.getMessageManager().sendMessage(sender, "logs.viewer.no-records");
+                return;
+            }
+
+            for (LogEntry log : logs) {
+                sender.sendMessage(buildLogComponent(log));
+            }
+
+            if (nextCommand != null) {
+                sender.sendMessage(env.getMessageManager().getComponent("logs.viewer.next-page", null, false)
+                    .clickEvent(ClickEvent.runCommand(nextCommand)));
+            }
         });
-        return true;
+    }
+
+    private String nextCursor(List<LogEntry> logs) {
+        if (logs.size() < PAGE_SIZE) return null;
+        LogEntry last = logs.get(logs.size() - 1);
+        return new PageCursor(last.timestamp(), last.id()).encode();
     }
 
     private Component buildLogComponent(LogEntry log) {
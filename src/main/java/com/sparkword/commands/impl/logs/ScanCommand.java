@@ -19,11 +19,14 @@
 
 import com.sparkword.Environment;
 import com.sparkword.commands.SubCommand;
+import com.sparkword.core.storage.model.PageCursor;
 import com.sparkword.util.PaperProfileUtil;
+import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -45,8 +48,15 @@ public boolean execute(CommandSender sender, String[] args) {
             return true;
         }
 
+        String token = (args.length > 1 && PageCursor.isToken(args[1])) ? args[1] : null;
+        PageCursor[] cursors = token != null ? PageCursor.decode(token, 2) : null;
+        if (token != null && cursors == null) {
+            env.getMessageManager().sendMessage(sender, "logs.viewer.invalid-cursor");
+            return true;
+        }
+
         int page = 1;
-        if (args.length > 1) {
+        if (args.length > 1 && token == null) {
             try {
                 page = Integer.parseInt(args[1]);
             } catch (Exception ignored) {
@@ -56,6 +66,7 @@ public boolean execute(CommandSender sender, String[] args) {
 
         final int fPage = page;
         final String targetName = args[0];
+        final String label = token != null ? "»" : String.valueOf(page);
 
         env.getStorage().getPlayerIdByNameAsync(targetName).thenCompose(dbId -> {
             if (dbId != -1) return CompletableFuture.completedFuture(Map.entry(dbId, targetName));
@@ -70,18 +81,27 @@ public boolean execute(CommandSender sender, String[] args) {
             if (entry == null || entry.getKey() == -1) {
                 throw new RuntimeException("Player not found");
             }
+            if (cursors != null) {
+                return env.getStorage().getPlayerReportPageAsync(entry.getKey(), cursors[0], cursors[1])
+                    .thenApply(report -> new ScanResult(entry.getValue(), report.entries(), report.next()));
+            }
             return env.getStorage().getPlayerReportAsync(entry.getKey(), fPage)
-                .thenApply(lines -> Map.entry(entry.getValue(), lines));
+                .thenApply(lines -> new ScanResult(entry.getValue(), lines, null));
         }).thenAccept(result -> {
             Bukkit.getScheduler().runTask(env.getPlugin(), () -> {
                 sender.sendMessage(MiniMessage.miniMessage().deserialize(
-                    "<dark_gray>--- <#09bbf5>Scan: " + result.getKey() + " (Pg " + fPage + ")</#09bbf5> <dark_gray>---"
+                    "<dark_gray>--- <#09bbf5>Scan: " + result.name() + " (Pg " + label + ")</#09bbf5> <dark_gray>---"
                                                                         ));
 
-                if (result.getValue().isEmpty()) {
+                if (result.lines().isEmpty()) {
                     env.getMessageManager().sendMessage(sender, "moderation.scan-empty");
                 } else {
-                    for (String str : result.getValue()) sender.sendMessage(str);
+                    for (String str : result.lines()) sender.sendMessage(str);
+                }
+
+                if (result.next() != null) {
+                    sender.sendMessage(env.getMessageManager().getComponent("logs.viewer.next-page", null, false)
+                        .clickEvent(ClickEvent.runCommand("/sw-scan " + result.name() + " " + result.next())));
                 }
             });
         }).exceptionally(e -> {
@@ -92,4 +112,7 @@ public boolean execute(CommandSender sender, String[] args) {
 
         return true;
     }
+
+    private record ScanResult(String name, List<String> lines, String next) {
+    }
 }
@@ -19,8 +19,19 @@
 
 import com.sparkword.Environment;
 import com.sparkword.commands.SubCommand;
+import com.sparkword.core.effects.AlertAggregator.AlertMetrics;
+import com.sparkword.core.effects.EffectQueue.EffectMetrics;
+import com.sparkword.core.lifecycle.MaintenanceTasks;
+import com.sparkword.core.lifecycle.MaintenanceTasks.TaskMetrics;
+import com.sparkword.core.storage.spi.WriteMetrics;
+import com.sparkword.moderation.antispam.SpamManager;
+import com.sparkword.moderation.antispam.rules.RuleStats;
+import com.sparkword.util.TimeUtil;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
+import java.util.Map;
+
 public class DebugCommand implements SubCommand {
     private final Environment env;
 
@@ -44,6 +55,21 @@ public boolean execute(CommandSender sender, String[] args) {
             return true;
         }
 
+        if (args.length > 0 && args[0].equalsIgnoreCase("rules")) {
+            sendRuleStats(sender);
+            return true;
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("alerts")) {
+            sendAlertStats(sender);
+            return true;
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("storage")) {
+            sendStorageStats(sender);
+            return true;
+        }
+
         boolean newState = !env.getPlugin().isDebugMode();
         env.getPlugin().setDebugMode(newState);
 
@@ -51,4 +77,91 @@ public boolean execute(CommandSender sender, String[] args) {
         env.getMessageManager().sendMessage(sender, key);
         return true;
     }
+
+    private void sendRuleStats(CommandSender sender) {
+        SpamManager spamManager = env.getSpamManager();
+        List<RuleStats> stats = spamManager != null && spamManager.getCustomRuleCheck() != null
+            ? spamManager.getCustomRuleCheck().getStats()
+            : List.of();
+
+        if (stats.isEmpty()) {
+            env.getMessageManager().sendMessage(sender, "debug.rules-empty");
+            return;
+        }
+
+        env.getMessageManager().sendMessage(sender, "debug.rules-header", Map.of("count", String.valueOf(stats.size())));
+        for (RuleStats rule : stats) {
+            sender.sendMessage(env.getMessageManager().getComponent("debug.rule-stats", Map.of(
+                "rule", rule.id(),
+                "hits", String.valueOf(rule.hits()),
+                "evaluations", String.valueOf(rule.evaluations()),
+                "avg", String.valueOf(rule.avgNanos())
+                                                                                                 ), false));
+        }
+    }
+
+    private void sendAlertStats(CommandSender sender) {
+        AlertMetrics alerts = env.getNotifyManager().getAlertMetrics();
+        env.getMessageManager().sendMessage(sender, "debug.alert-stats", Map.of(
+            "emitted", String.valueOf(alerts.emitted()),
+            "suppressed", String.valueOf(alerts.suppressed()),
+            "digests", String.valueOf(alerts.digests()),
+            "throttled", String.valueOf(alerts.throttled())
+                                                                              ));
+
+        if (env.getEffectQueue() == null) return;
+        EffectMetrics effects = env.getEffectQueue().metrics();
+        env.getMessageManager().sendMessage(sender, "debug.effect-stats", Map.of(
+            "executed", String.valueOf(effects.executed()),
+            "coalesced", String.valueOf(effects.coalesced()),
+            "dropped", String.valueOf(effects.dropped()),
+            "pending", String.valueOf(effects.pending())
+                                                                               ));
+    }
+
+    private void sendStorageStats(CommandSender sender) {
+        WriteMetrics writes = env.getStorage().getWriteMetrics();
+        env.getMessageManager().sendMessage(sender, "debug.storage-stats", Map.of(
+            "queued", String.valueOf(writes.queued()),
+            "batches", String.valueOf(writes.batches()),
+            "avg", String.format("%.1f", writes.avgBatchSize()),
+            "largest", String.valueOf(writes.largestBatch()),
+            "commit", String.valueOf(writes.avgCommitMicros()),
+            "max", String.valueOf(writes.maxCommitMicros()),
+            "overflow", String.valueOf(writes.overflow()),
+            "failed", String.valueOf(writes.failed())
+                                                                                 ));
+        env.getMessageManager().sendMessage(sender, "debug.storage-backpressure", Map.of(
+            "dropped", String.valueOf(writes.dropped()),
+            "rejected", String.valueOf(writes.quarantined()),
+            "spilled", String.valueOf(writes.spilled()),
+            "replayed", String.valueOf(writes.replayed()),
+            "writer", String.valueOf(writes.writerQueued()),
+            "blocked", String.valueOf(writes.writerBlocked()),
+            "refused", String.valueOf(writes.writerRefused())
+                                                                                        ));
+        env.getMessageManager().sendMessage(sender, "debug.storage-journal", Map.of(
+            "journaled", String.valueOf(writes.journaled()),
+            "pending", String.valueOf(writes.journalPending()),
+            "bypassed", String.valueOf(writes.journalBypassed()),
+            "recovered", String.valueOf(writes.recovered())
+                                                                                   ));
+
+        MaintenanceTasks maintenance = env.getMaintenanceTasks();
+        if (maintenance == null) return;
+        long lastRun = maintenance.getLastRunMillis();
+        env.getMessageManager().sendMessage(sender, "debug.storage-maintenance", Map.of(
+            "last", lastRun == 0 ? "-" : TimeUtil.formatDuration((System.currentTimeMillis() - lastRun) / 1000)
+                                                                                       ));
+        for (TaskMetrics task : maintenance.getMetrics()) {
+            sender.sendMessage(env.getMessageManager().getComponent("debug.maintenance-task", Map.of(
+                "task", task.task(),
+                "runs", String.valueOf(task.runs()),
+                "last", String.valueOf(task.lastMillis()),
+                "avg", String.valueOf(task.avgMillis()),
+                "max", String.valueOf(task.maxMillis()),
+                "over", String.valueOf(task.overBudget())
+                                                                                                     ), false));
+        }
+    }
 }
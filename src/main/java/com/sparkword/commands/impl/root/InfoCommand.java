@@ -84,6 +84,7 @@ public boolean execute(CommandSender sender, String[] args) {
             sendHelpLine(sender, "help.deny");
             sendHelpLine(sender, "help.audit");
             sendHelpLine(sender, "help.logs");
+            sendHelpLine(sender, "help.logs-search");
             sendHelpLine(sender, "help.purge");
             sendHelpLine(sender, "help.reload");
             sendHelpLine(sender, "help.debug");
@@ -0,0 +1,85 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class MessageBundle {
+
+    private static final String DEFAULT_PREFIX = "<#09bbf5>[SparkWord] <reset>";
+
+    private final String id;
+    private final Map<String, String> raw;
+    private final Map<String, MessageTemplate> templates;
+    private final String prefixString;
+    private final Component prefixComponent;
+
+    private MessageBundle(String id, Map<String, String> raw, Map<String, MessageTemplate> templates,
+                          String prefixString, Component prefixComponent) {
+        this.id = id;
+        this.raw = raw;
+        this.templates = templates;
+        this.prefixString = prefixString;
+        this.prefixComponent = prefixComponent;
+    }
+
+    public static MessageBundle compile(String id, Map<String, String> raw, MiniMessage miniMessage) {
+        Map<String, MessageTemplate> templates = new HashMap<>(raw.size() * 2);
+        for (Map.Entry<String, String> entry : raw.entrySet()) {
+            templates.put(entry.getKey(), MessageTemplate.compile(miniMessage, entry.getValue()));
+        }
+
+        String prefix = raw.getOrDefault("prefix", DEFAULT_PREFIX);
+        return new MessageBundle(id, Map.copyOf(raw), Map.copyOf(templates), prefix, miniMessage.deserialize(prefix));
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String getRaw(String key) {
+        return raw.get(key);
+    }
+
+    public String getString(String key) {
+        return raw.getOrDefault(key, key);
+    }
+
+    public String getPrefix() {
+        return prefixString;
+    }
+
+    public Component getPrefixComponent() {
+        return prefixComponent;
+    }
+
+    public Component getComponent(String key, Map<String, String> placeholders, boolean usePrefix) {
+        if (placeholders == null) placeholders = Collections.emptyMap();
+
+        MessageTemplate template = templates.get(key);
+        if (template == null) return Component.text(key);
+
+        Component body = template.render(placeholders);
+        return usePrefix ? Component.textOfChildren(prefixComponent, body) : body;
+    }
+}
@@ -21,21 +21,29 @@
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class MessageManager {
 
+    private static final String FALLBACK_LOCALE = "en_US";
+    private static final List<String> BUNDLED_LOCALES = List.of("en_US", "es_LA", "de_DE", "nl_NL", "pt_BR");
+
     private final SparkWord plugin;
     private final ConfigManager configManager;
     private final MiniMessage miniMessage;
-    private YamlConfiguration messagesConfig;
-    private String prefixString;
+    private final Map<Locale, MessageBundle> clientLocaleCache = new ConcurrentHashMap<>();
+    private volatile Map<String, MessageBundle> bundles = Map.of();
+    private volatile MessageBundle defaultBundle;
+    private volatile boolean clientLocale;
 
     public MessageManager(SparkWord plugin, ConfigManager configManager) {
         this.plugin = plugin;
@@ -46,44 +54,128 @@ public MessageManager(SparkWord plugin, ConfigManager configManager) {
 
     public void reload() {
         String targetLocale = configManager.getGeneralSettings().getLocale();
-        if (targetLocale == null || targetLocale.isEmpty()) targetLocale = "en_US";
+        if (targetLocale == null || targetLocale.isEmpty()) targetLocale = FALLBACK_LOCALE;
 
         File localeFolder = new File(plugin.getDataFolder(), "locale");
         if (!localeFolder.exists()) localeFolder.mkdirs();
 
-        File targetFile = new File(localeFolder, targetLocale + ".yml");
-
-        if (!targetFile.exists()) {
-            if (plugin.getResource("locale/" + targetLocale + ".yml") != null) {
-                plugin.saveResource("locale/" + targetLocale + ".yml", false);
-            } else {
-                plugin.getLogger().warning("Locale file '" + targetLocale + ".yml' not found in JAR or Disk. Falling back to 'en_US.yml'.");
-                targetLocale = "en_US";
-                targetFile = new File(localeFolder, "en_US.yml");
+        for (String bundled : BUNDLED_LOCALES) {
+            if (!new File(localeFolder, bundled + ".yml").exists() && plugin.getResource("locale/" + bundled + ".yml") != null) {
+                plugin.saveResource("locale/" + bundled + ".yml", false);
+            }
+        }
 
-                if (!targetFile.exists() && plugin.getResource("locale/en_US.yml") != null) {
-                    plugin.saveResource("locale/en_US.yml", false);
-                }
+        Map<String, Map<String, String>> rawBundles = new LinkedHashMap<>();
+        File[] files = localeFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                String id = file.getName().substring(0, file.getName().length() - 4);
+                rawBundles.put(id, flatten(YamlConfiguration.loadConfiguration(file)));
             }
         }
 
-        if (targetFile.exists()) {
-            messagesConfig = YamlConfiguration.loadConfiguration(targetFile);
-        } else {
-            messagesConfig = new YamlConfiguration();
+        String defaultId = findId(rawBundles.keySet(), targetLocale);
+        if (defaultId == null) {
+            plugin.getLogger().warning("Locale file '" + targetLocale + ".yml' not found in JAR or Disk. Falling back to 'en_US.yml'.");
+            defaultId = findId(rawBundles.keySet(), FALLBACK_LOCALE);
+        }
+        if (defaultId == null) {
             plugin.getLogger().severe("CRITICAL: Could not load any locale file.");
         }
 
-        prefixString = messagesConfig.getString("prefix", "<#09bbf5>[SparkWord] <reset>");
+        String fallbackId = findId(rawBundles.keySet(), FALLBACK_LOCALE);
+        Map<String, String> fallbackRaw = fallbackId != null ? rawBundles.get(fallbackId) : Map.of();
+        Map<String, String> defaultRaw = defaultId != null ? rawBundles.get(defaultId) : Map.of();
+
+        Map<String, MessageBundle> compiled = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : rawBundles.entrySet()) {
+            Map<String, String> chain = new HashMap<>(fallbackRaw);
+            chain.putAll(defaultRaw);
+            chain.putAll(entry.getValue());
+            compiled.put(entry.getKey().toLowerCase(Locale.ROOT), MessageBundle.compile(entry.getKey(), chain, miniMessage));
+        }
+
+        MessageBundle resolvedDefault = defaultId != null
+            ? compiled.get(defaultId.toLowerCase(Locale.ROOT))
+            : MessageBundle.compile(FALLBACK_LOCALE, Map.of(), miniMessage);
+
+        this.bundles = Map.copyOf(compiled);
+        this.defaultBundle = resolvedDefault;
+        this.clientLocale = configManager.getGeneralSettings().isClientLocale();
+        this.clientLocaleCache.clear();
+    }
+
+    private Map<String, String> flatten(YamlConfiguration config) {
+        Map<String, String> raw = new HashMap<>();
+        for (String key : config.getKeys(true)) {
+            if (config.isConfigurationSection(key)) continue;
+
+            String value = config.getString(key);
+            if (value != null) raw.put(key, value);
+        }
+        return raw;
+    }
+
+    private String findId(Set<String> ids, String wanted) {
+        for (String id : ids) {
+            if (id.equalsIgnoreCase(wanted)) return id;
+        }
+        return null;
+    }
+
+    public MessageBundle getBundle(CommandSender recipient) {
+        if (!clientLocale || !(recipient instanceof Player player)) return defaultBundle;
+        return getBundle(player.locale());
+    }
+
+    public MessageBundle getBundle(Locale locale) {
+        if (locale == null) return defaultBundle;
+        return clientLocaleCache.computeIfAbsent(locale, this::resolveBundle);
+    }
+
+    public MessageBundle getDefaultBundle() {
+        return defaultBundle;
+    }
+
+    private MessageBundle resolveBundle(Locale locale) {
+        Map<String, MessageBundle> current = bundles;
+
+        String language = locale.getLanguage().toLowerCase(Locale.ROOT);
+        String country = locale.getCountry().toLowerCase(Locale.ROOT);
+
+        if (!country.isEmpty()) {
+            MessageBundle exact = current.get(language + "_" + country);
+            if (exact != null) return exact;
+        }
+
+        MessageBundle plain = current.get(language);
+        if (plain != null) return plain;
+
+        if (defaultBundle.id().toLowerCase(Locale.ROOT).startsWith(language + "_")) return defaultBundle;
+
+        String languagePrefix = language + "_";
+        MessageBundle sameLanguage = null;
+        for (Map.Entry<String, MessageBundle> entry : current.entrySet()) {
+            if (entry.getKey().startsWith(languagePrefix)
+                && (sameLanguage == null || entry.getKey().compareTo(sameLanguage.id().toLowerCase(Locale.ROOT)) < 0)) {
+                sameLanguage = entry.getValue();
+            }
+        }
+
+        return sameLanguage != null ? sameLanguage : defaultBundle;
     }
 
     public String getPrefix() {
-        return prefixString;
+        return defaultBundle.getPrefix();
+    }
+
+    public Component getPrefixComponent() {
+        return defaultBundle.getPrefixComponent();
     }
 
     public String getString(String key) {
-        if (messagesConfig == null) return key;
-        return messagesConfig.getString(key, key);
+        return defaultBundle.getString(key);
     }
 
     public void sendMessage(CommandSender sender, String key) {
@@ -91,48 +183,59 @@ public void sendMessage(CommandSender sender, String key) {
     }
 
     public void sendMessage(CommandSender sender, String key, Map<String, String> placeholders) {
-        Component messageComp = getComponent(key, placeholders, true);
+        Component messageComp = getComponent(sender, key, placeholders, true);
         if (messageComp != Component.empty()) {
             sender.sendMessage(messageComp);
         }
     }
 
     public void sendMessage(CommandSender sender, String key, TagResolver... customResolvers) {
-        String rawMsg = messagesConfig.getString(key);
+        MessageBundle bundle = getBundle(sender);
+        String rawMsg = bundle.getRaw(key);
         if (rawMsg == null || rawMsg.isEmpty()) return;
 
-        String combinedRaw = prefixString + rawMsg;
-        Component messageComp = miniMessage.deserialize(combinedRaw, customResolvers);
-        sender.sendMessage(messageComp);
+        Component messageComp = miniMessage.deserialize(rawMsg, customResolvers);
+        sender.sendMessage(Component.textOfChildren(bundle.getPrefixComponent(), messageComp));
     }
 
     public Component getComponent(String key, Map<String, String> placeholders, boolean usePrefix) {
-        if (placeholders == null) placeholders = Collections.emptyMap();
+        return defaultBundle.getComponent(key, placeholders, usePrefix);
+    }
 
-        String rawMsg = messagesConfig.getString(key);
-        if (rawMsg == null) return Component.text(key);
+    public Component getComponent(CommandSender recipient, String key, Map<String, String> placeholders, boolean usePrefix) {
+        return getBundle(recipient).getComponent(key, placeholders, usePrefix);
+    }
 
-        List<TagResolver> resolvers = new ArrayList<>();
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            Component val = miniMessage.deserialize(entry.getValue());
-            resolvers.add(Placeholder.component(entry.getKey(), val));
-        }
+    public Component getComponent(String key) {
+        return getComponent(key, Collections.emptyMap(), true);
+    }
 
-        String combined = usePrefix ? (prefixString + rawMsg) : rawMsg;
+    public void broadcast(String permission, Function<MessageBundle, Component> renderer) {
+        List<CommandSender> recipients = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission(permission)) recipients.add(player);
+        }
+        recipients.add(Bukkit.getConsoleSender());
+        broadcast(recipients, renderer);
+    }
 
-        for (String k : placeholders.keySet()) {
-            combined = combined.replace("{" + k + "}", "<" + k + ">");
+    public void broadcast(Collection<? extends CommandSender> recipients, Function<MessageBundle, Component> renderer) {
+        Map<MessageBundle, Component> rendered = new IdentityHashMap<>(4);
+        for (CommandSender recipient : recipients) {
+            recipient.sendMessage(rendered.computeIfAbsent(getBundle(recipient), renderer));
         }
+    }
 
-        return miniMessage.deserialize(combined, TagResolver.resolver(resolvers));
+    public Component getSpyIconComponent(String originalText, Set<String> detectedWords, boolean replacementEnabled) {
+        return getSpyIconComponent(defaultBundle, originalText, detectedWords, replacementEnabled);
     }
 
-    public Component getComponent(String key) {
-        return getComponent(key, Collections.emptyMap(), true);
+    public Component getSpyIconComponent(CommandSender viewer, String originalText, Set<String> detectedWords, boolean replacementEnabled) {
+        return getSpyIconComponent(getBundle(viewer), originalText, detectedWords, replacementEnabled);
     }
 
-    public Component getSpyIconComponent(String originalText, Set<String> detectedWords, boolean replacementEnabled) {
-        String iconSymbol = messagesConfig.getString("notification.icon-symbol", "⚠️");
+    private Component getSpyIconComponent(MessageBundle bundle, String originalText, Set<String> detectedWords, boolean replacementEnabled) {
+        String iconSymbol = Objects.requireNonNullElse(bundle.getRaw("notification.icon-symbol"), "⚠️");
         Component hoverContent;
 
         if (replacementEnabled) {
@@ -140,10 +243,10 @@ public Component getSpyIconComponent(String originalText, Set<String> detectedWo
                 ? String.join(", ", detectedWords)
                 : "N/A";
 
-            hoverContent = getComponent("notification.spy-hover.matches", Map.of("matches", detectedList), false);
+            hoverContent = bundle.getComponent("notification.spy-hover.matches", Map.of("matches", detectedList), false);
         } else {
             String safeOriginal = originalText.length() > 200 ? originalText.substring(0, 200) + "..." : originalText;
-            hoverContent = getComponent("notification.spy-hover.original", Map.of("original", safeOriginal), false);
+            hoverContent = bundle.getComponent("notification.spy-hover.original", Map.of("original", safeOriginal), false);
         }
 
         return Component.space()
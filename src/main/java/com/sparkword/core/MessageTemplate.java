@@ -0,0 +1,142 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public final class MessageTemplate {
+
+    private static final String SLOT_MARK = "\uE000";
+    private static final String BRACE_TAG = "sw-slot";
+    private static final Pattern BRACE_PLACEHOLDER = Pattern.compile("\\{([a-z0-9_-]+)}");
+    private static final Pattern SLOT_NAME = Pattern.compile("[a-z0-9_-]+");
+    private static final TagResolver STANDARD = TagResolver.standard();
+    private static final TagResolver SLOTS = new SlotResolver();
+
+    private final Component root;
+    private final boolean hasSlots;
+
+    private MessageTemplate(Component root, boolean hasSlots) {
+        this.root = root;
+        this.hasSlots = hasSlots;
+    }
+
+    public static MessageTemplate compile(MiniMessage miniMessage, String raw) {
+        String normalized = BRACE_PLACEHOLDER.matcher(raw).replaceAll("<" + BRACE_TAG + ":$1>");
+        Component parsed;
+        try {
+            parsed = miniMessage.deserialize(normalized, SLOTS);
+        } catch (RuntimeException e) {
+            parsed = Component.text(raw);
+        }
+        return new MessageTemplate(parsed, containsSlot(parsed));
+    }
+
+    public Component render(Map<String, String> values) {
+        if (!hasSlots) return root;
+        return fill(root, values);
+    }
+
+    public boolean hasSlots() {
+        return hasSlots;
+    }
+
+    private static Component fill(Component node, Map<String, String> values) {
+        if (node instanceof TextComponent text && text.content().startsWith(SLOT_MARK)) {
+            return resolveSlot(text, values);
+        }
+
+        Component result = node;
+
+        HoverEvent<?> hover = node.hoverEvent();
+        if (hover != null && hover.action() == HoverEvent.Action.SHOW_TEXT) {
+            Component hoverText = (Component) hover.value();
+            Component filledHover = fill(hoverText, values);
+            if (filledHover != hoverText) result = result.hoverEvent(HoverEvent.showText(filledHover));
+        }
+
+        List<Component> children = node.children();
+        if (children.isEmpty()) return result;
+
+        List<Component> filled = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component replaced = fill(child, values);
+            if (filled == null && replaced != child) {
+                filled = new ArrayList<>(children.size());
+                filled.addAll(children.subList(0, i));
+            }
+            if (filled != null) filled.add(replaced);
+        }
+
+        return filled == null ? result : result.children(filled);
+    }
+
+    private static Component resolveSlot(TextComponent slot, Map<String, String> values) {
+        String content = slot.content();
+        boolean brace = content.charAt(1) == '{';
+        String name = content.substring(2);
+
+        String value = values.get(name);
+        if (value == null) {
+            value = brace ? "{" + name + "}" : "<" + name + ">";
+        }
+        return Component.text(value, slot.style());
+    }
+
+    private static boolean containsSlot(Component node) {
+        if (node instanceof TextComponent text && text.content().startsWith(SLOT_MARK)) return true;
+
+        HoverEvent<?> hover = node.hoverEvent();
+        if (hover != null && hover.action() == HoverEvent.Action.SHOW_TEXT && containsSlot((Component) hover.value())) {
+            return true;
+        }
+
+        for (Component child : node.children()) {
+            if (containsSlot(child)) return true;
+        }
+        return false;
+    }
+
+    private static final class SlotResolver implements TagResolver {
+        @Override
+        public Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+            if (BRACE_TAG.equals(name)) {
+                return Tag.selfClosingInserting(Component.text(SLOT_MARK + "{" + arguments.popOr("slot name").value()));
+            }
+            return Tag.selfClosingInserting(Component.text(SLOT_MARK + "<" + name));
+        }
+
+        @Override
+        public boolean has(String name) {
+            return BRACE_TAG.equals(name) || (SLOT_NAME.matcher(name).matches() && !STANDARD.has(name));
+        }
+    }
+}
@@ -17,10 +17,15 @@
  */
 package com.sparkword.core;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparkword.SparkWord;
 import com.sparkword.core.config.NotificationSettings;
+import com.sparkword.core.effects.AlertAggregator;
+import com.sparkword.core.effects.AlertAggregator.AlertMetrics;
+import com.sparkword.core.effects.AlertAggregator.Digest;
+import com.sparkword.core.effects.CoalescingEffect;
+import com.sparkword.core.effects.EffectQueue;
+import com.sparkword.core.evidence.EvidenceRecord;
+import com.sparkword.core.evidence.EvidenceStore;
 import com.sparkword.moderation.filters.util.TextNormalizer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -28,12 +33,20 @@
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BookMeta;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class NotifyManager {
 
@@ -42,17 +55,23 @@ public class NotifyManager {
     private static final String ICON_ZALGO = "⚡";
     private static final String ICON_INJECTION = "💉";
     private static final String ICON_FILTER = "⚠";
+    private static final int DIGEST_HOVER_LINES = 10;
     private final SparkWord plugin;
-    private final Cache<String, ItemStack> evidenceBookCache;
     private final MiniMessage miniMessage;
+    private final AlertAggregator alertAggregator;
 
     public NotifyManager(SparkWord plugin) {
         this.plugin = plugin;
-        this.evidenceBookCache = Caffeine.newBuilder()
-            .expireAfterWrite(Duration.ofMinutes(10))
-            .maximumSize(100)
-            .build();
         this.miniMessage = MiniMessage.miniMessage();
+        this.alertAggregator = new AlertAggregator();
+    }
+
+    public void startDigestTask() {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> submit(this::flushDigests), 20L, 20L);
+    }
+
+    public AlertMetrics getAlertMetrics() {
+        return alertAggregator.metrics();
     }
 
     private boolean shouldNotify(String category) {
@@ -78,13 +97,16 @@ private boolean shouldNotify(String category) {
     public void notifySuggestion(Player player, String word, String reason) {
         if (!hasStaffOnline()) return;
 
-        Component msg = plugin.getEnvironment().getMessageManager().getComponent("notification.staff-suggest", Map.of(
-            "player", player.getName(),
-            "suggest", word,
-            "reason", reason != null ? reason : "No reason"
-                                                                                                                     ), true);
+        String playerName = player.getName();
+        submit(() -> {
+            Map<String, String> placeholders = Map.of(
+                "player", playerName,
+                "suggest", word,
+                "reason", reason != null ? reason : "No reason"
+                                                     );
 
-        broadcastComponent(msg);
+            broadcastComponent(bundle -> bundle.getComponent("notification.staff-suggest", placeholders, true));
+        });
     }
 
     public void notifyEdit(Player player, String type, String censorType, String detectedWord, String fullContext) {
@@ -96,53 +118,103 @@ public void notifyStaff(Player offender, String category, String content, String
     }
 
     public void notifyStaff(Player offender, String source, String category, String content, String detectedWord) {
+        notifyStaff(offender, source, category, () -> content, detectedWord);
+    }
+
+    public void notifyStaff(Player offender, String source, String category, Supplier<String> content, String detectedWord) {
         if (source != null && source.equalsIgnoreCase("Book")) {
             return;
         }
 
         String safeCategory = (category != null) ? category : "General";
-        String safeContent = (content != null) ? content : "";
         String safeSource = (source != null) ? source : "Chat";
         String safeDetected = (detectedWord != null) ? detectedWord : "Pattern";
 
-        plugin.getEnvironment().getStorage().checkAndLog(offender.getName(), safeContent, safeCategory, safeSource, safeDetected);
+        plugin.getEnvironment().getStorage().checkAndLog(offender.getName(), content, safeCategory, safeSource, safeDetected);
 
-        if (!shouldNotify(safeCategory) || !hasStaffOnline()) return;
+        submit(new StaffAlert(offender.getUniqueId(), offender.getName(), safeSource, safeCategory, content, safeDetected));
+    }
 
-        Component iconComponent = getIconComponent(safeSource, safeCategory, safeContent, safeDetected, null);
+    private void deliverStaffAlert(String playerName, String source, String category, String content, String detected, int count) {
+        if (!shouldNotify(category) || !hasStaffOnline()) return;
 
-        Component message = plugin.getEnvironment().getMessageManager().getComponent(
-            "notification.alert",
-            Map.of("player", offender.getName()),
-            true
-                                                                                    ).append(iconComponent);
+        NotificationSettings settings = plugin.getEnvironment().getConfigManager().getNotificationSettings();
+        if (settings.isDigestEnabled()
+            && !alertAggregator.offer(category, playerName, source, detected, count, System.currentTimeMillis(), settings.getDigestWindowMillis())) {
+            return;
+        }
 
-        broadcastComponent(message);
+        String shownDetected = count > 1 ? detected + " (x" + count + ")" : detected;
+
+        broadcastAlert(bundle -> bundle.getComponent("notification.alert", Map.of("player", playerName), true)
+            .append(getIconComponent(bundle, source, category, content, shownDetected, null)),
+            settings, category, new AlertAggregator.Entry(playerName, source, detected, count), true);
     }
 
-    public void notifyInjection(Player player, String source, String content) {
-        notifyStaff(player, source, "Injection", content, "Malicious Syntax");
+    public void flushDigests() {
+        NotificationSettings settings = plugin.getEnvironment().getConfigManager().getNotificationSettings();
+        if (!settings.isDigestEnabled()) {
+            alertAggregator.clear();
+            return;
+        }
+
+        List<Digest> ready = alertAggregator.drainExpired(System.currentTimeMillis(), settings.getDigestWindowMillis());
+        if (ready.isEmpty() || !hasStaffOnline()) return;
+
+        for (Digest digest : ready) {
+            broadcastComponent(bundle -> getDigestComponent(bundle, digest));
+        }
     }
 
-    public void notifyBookBlocked(Player player, String reason, String detectedWord, String pageContent, ItemStack originalBook) {
-        String id = UUID.randomUUID().toString().substring(0, 8);
-        evidenceBookCache.put(id, originalBook);
+    private Component getDigestComponent(MessageBundle bundle, Digest digest) {
+        Component hoverContent = bundle.getComponent("notification.details.title", null, false);
+        int shown = Math.min(digest.entries().size(), DIGEST_HOVER_LINES);
+        for (int i = 0; i < shown; i++) {
+            AlertAggregator.Entry entry = digest.entries().get(i);
+            hoverContent = hoverContent.append(Component.newline())
+                .append(bundle.getComponent("notification.digest.entry", Map.of(
+                    "player", entry.player(),
+                    "source", entry.source(),
+                    "count", String.valueOf(entry.count()),
+                    "detected", TextNormalizer.sanitizeForDisplay(entry.detected())
+                                                                               ), false));
+        }
 
-        plugin.getEnvironment().getStorage().checkAndLog(player.getName(), pageContent, reason, "Book", detectedWord);
+        int remaining = digest.entries().size() - shown;
+        if (remaining > 0) {
+            hoverContent = hoverContent.append(Component.newline())
+                .append(bundle.getComponent("notification.digest.more", Map.of("more", String.valueOf(remaining)), false));
+        }
 
-        if (!shouldNotify(reason) || !hasStaffOnline()) return;
+        return bundle.getComponent("notification.digest.summary", Map.of(
+            "count", String.valueOf(digest.total()),
+            "type", digest.category(),
+            "players", String.valueOf(digest.players()),
+            "window", String.valueOf(Math.max(1, digest.spanMillis() / 1000))
+                                                                    ), true)
+            .hoverEvent(HoverEvent.showText(hoverContent));
+    }
 
-        ClickEvent openBookEvent = ClickEvent.runCommand("/sw internal viewbook " + id);
+    public void notifyInjection(Player player, String source, String content) {
+        notifyStaff(player, source, "Injection", content, "Malicious Syntax");
+    }
+
+    public void notifyBookBlocked(Player player, String reason, String detectedWord, String pageContent, List<String> evidencePages) {
+        String playerName = player.getName();
+        String id = plugin.getEnvironment().getEvidenceStore().store(playerName, evidencePages);
 
-        Component iconComponent = getIconComponent("Book", reason, "Book Content...", detectedWord, openBookEvent);
+        plugin.getEnvironment().getStorage().checkAndLog(playerName, pageContent, reason, "Book", detectedWord);
 
-        Component message = plugin.getEnvironment().getMessageManager().getComponent(
-            "notification.alert",
-            Map.of("player", player.getName()),
-            true
-                                                                                    ).append(iconComponent);
+        submit(() -> {
+            if (!shouldNotify(reason) || !hasStaffOnline()) return;
 
-        broadcastComponent(message);
+            ClickEvent openBookEvent = ClickEvent.runCommand("/sw internal viewbook " + id);
+
+            broadcastAlert(bundle -> bundle.getComponent("notification.alert", Map.of("player", playerName), true)
+                    .append(getIconComponent(bundle, "Book", reason, "Book Content...", detectedWord, openBookEvent)),
+                plugin.getEnvironment().getConfigManager().getNotificationSettings(),
+                reason, new AlertAggregator.Entry(playerName, "Book", detectedWord, 1), false);
+        });
     }
 
     public void notifySignBlocked(Player player, String reason, String detectedWord, String[] lines) {
@@ -150,7 +222,7 @@ public void notifySignBlocked(Player player, String reason, String detectedWord,
         notifyStaff(player, "Sign", reason, flatContent, detectedWord);
     }
 
-    private Component getIconComponent(String source, String category, String content, String detected, ClickEvent clickEvent) {
+    private Component getIconComponent(MessageBundle bundle, String source, String category, String content, String detected, ClickEvent clickEvent) {
         String iconSymbol = ICON_FILTER;
         NamedTextColor iconColor = NamedTextColor.YELLOW;
 
@@ -170,7 +242,6 @@ private Component getIconComponent(String source, String category, String conten
             iconColor = NamedTextColor.DARK_RED;
         }
 
-        MessageManager mm = plugin.getEnvironment().getMessageManager();
         String lowerSrc = source.toLowerCase();
         String displayContent = content;
 
@@ -181,17 +252,17 @@ private Component getIconComponent(String source, String category, String conten
             if (displayContent.length() > 300) displayContent = displayContent.substring(0, 300) + "...";
         }
 
-        Component hoverContent = mm.getComponent("notification.details.title", null, false)
+        Component hoverContent = bundle.getComponent("notification.details.title", null, false)
             .append(Component.newline())
-            .append(mm.getComponent("notification.details.type", Map.of("type", category), false))
+            .append(bundle.getComponent("notification.details.type", Map.of("type", category), false))
             .append(Component.newline())
-            .append(mm.getComponent("notification.details.source", Map.of("source", source), false))
+            .append(bundle.getComponent("notification.details.source", Map.of("source", source), false))
             .append(Component.newline());
 
         if (lowerSrc.contains("book")) {
-            hoverContent = hoverContent.append(mm.getComponent("notification.details.evidence-click", null, false).color(NamedTextColor.GOLD));
+            hoverContent = hoverContent.append(bundle.getComponent("notification.details.evidence-click", null, false).color(NamedTextColor.GOLD));
         } else {
-            hoverContent = hoverContent.append(mm.getComponent("notification.details.detected", Map.of("detected", displayContent), false));
+            hoverContent = hoverContent.append(bundle.getComponent("notification.details.detected", Map.of("detected", displayContent), false));
         }
 
         Component icon = Component.text("[" + iconSymbol + "]", iconColor)
@@ -205,16 +276,115 @@ private Component getIconComponent(String source, String category, String conten
     }
 
     public void openEvidenceBook(Player staff, String id) {
-        ItemStack book = evidenceBookCache.getIfPresent(id);
-        if (book != null) staff.openBook(book);
-        else plugin.getEnvironment().getMessageManager().sendMessage(staff, "notification.details.evidence-error");
+        EvidenceStore store = plugin.getEnvironment().getEvidenceStore();
+
+        EvidenceRecord cached = store.peek(id);
+        if (cached != null) {
+            staff.openBook(createEvidenceBook(staff, cached));
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> store.load(id), plugin.getEnvironment().getAsyncExecutor())
+            .thenAccept(record -> Bukkit.getScheduler().runTask(plugin, () -> {
+                if (!staff.isOnline()) return;
+                if (record != null) staff.openBook(createEvidenceBook(staff, record));
+                else plugin.getEnvironment().getMessageManager().sendMessage(staff, "notification.details.evidence-error");
+            }));
+    }
+
+    private ItemStack createEvidenceBook(Player staff, EvidenceRecord record) {
+        MessageBundle bundle = plugin.getEnvironment().getMessageManager().getBundle(staff);
+
+        ItemStack evidenceBook = new ItemStack(Material.WRITTEN_BOOK);
+        BookMeta evidenceMeta = (BookMeta) evidenceBook.getItemMeta();
+
+        evidenceMeta.title(bundle.getComponent("book.evidence-title", Map.of("player", record.playerName()), false));
+        evidenceMeta.author(bundle.getComponent("book.author-name", Collections.emptyMap(), false));
+
+        List<Component> pages = new ArrayList<>(record.pages().size());
+        for (String page : record.pages()) {
+            pages.add(Component.text(page));
+        }
+        evidenceMeta.pages(pages);
+        evidenceBook.setItemMeta(evidenceMeta);
+        return evidenceBook;
+    }
+
+    private void submit(Runnable effect) {
+        EffectQueue effects = plugin.getEnvironment().getEffectQueue();
+        if (effects != null) {
+            effects.submit(effect);
+        } else {
+            effect.run();
+        }
     }
 
     private boolean hasStaffOnline() {
         return !Bukkit.getOnlinePlayers().isEmpty();
     }
 
-    private void broadcastComponent(Component comp) {
-        Bukkit.broadcast(comp, "sparkword.notify");
+    private void broadcastComponent(Function<MessageBundle, Component> renderer) {
+        plugin.getEnvironment().getMessageManager().broadcast("sparkword.notify", renderer);
+    }
+
+    private void broadcastAlert(Function<MessageBundle, Component> renderer, NotificationSettings settings,
+                                String category, AlertAggregator.Entry alert, boolean recorded) {
+        if (!settings.isDigestEnabled() || settings.getMaxAlertsPerStaff() <= 0) {
+            broadcastComponent(renderer);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<CommandSender> recipients = new ArrayList<>();
+        boolean throttled = false;
+        for (Player staff : Bukkit.getOnlinePlayers()) {
+            if (!staff.hasPermission("sparkword.notify")) continue;
+            if (alertAggregator.tryDeliver(staff.getUniqueId(), now, settings.getDigestWindowMillis(), settings.getMaxAlertsPerStaff())) {
+                recipients.add(staff);
+            } else {
+                throttled = true;
+            }
+        }
+        recipients.add(Bukkit.getConsoleSender());
+
+        if (throttled) alertAggregator.deferThrottled(category, alert, recorded, now);
+
+        plugin.getEnvironment().getMessageManager().broadcast(recipients, renderer);
+    }
+
+    private final class StaffAlert implements CoalescingEffect {
+        private final UUID playerId;
+        private final String playerName;
+        private final String source;
+        private final String category;
+        private final Supplier<String> content;
+        private final String detected;
+        private int count = 1;
+
+        private StaffAlert(UUID playerId, String playerName, String source, String category,
+                           Supplier<String> content, String detected) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+            this.source = source;
+            this.category = category;
+            this.content = content;
+            this.detected = detected;
+        }
+
+        @Override
+        public String key() {
+            return playerId + "|" + category + "|" + source;
+        }
+
+        @Override
+        public void absorb(CoalescingEffect other) {
+            count += ((StaffAlert) other).count;
+        }
+
+        @Override
+        public void run() {
+            String shownContent = content.get();
+            deliverStaffAlert(playerName, source, category, shownContent != null ? shownContent : "", detected, count);
+        }
     }
 }
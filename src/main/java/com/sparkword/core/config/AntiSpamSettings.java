@@ -18,6 +18,7 @@
 package com.sparkword.core.config;
 
 import com.sparkword.util.TimeUtil;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
 public class AntiSpamSettings {
@@ -50,6 +51,25 @@ public class AntiSpamSettings {
     private int bookOpenDelay;
     private int bookGlobalRateLimit;
 
+    private boolean rateLimitEnabled;
+    private int rateLimitIpMessages;
+    private int rateLimitIpWindow;
+    private int rateLimitSubnetMessages;
+    private int rateLimitSubnetWindow;
+    private int rateLimitGlobalMessages;
+    private int rateLimitGlobalWindow;
+    private String rateLimitOverloadAction;
+
+    private boolean campaignEnabled;
+    private int campaignPlayers;
+    private long campaignWindow;
+    private int campaignMaxDistance;
+    private int campaignMinLength;
+    private String campaignAction;
+
+    private boolean customRulesEnabled;
+    private ConfigurationSection customRules;
+
     public AntiSpamSettings() {
     }
 
@@ -90,6 +110,25 @@ public void load(FileConfiguration config) {
         this.bookMaxPageChars = config.getInt("anti-spam.book-limits.max-chars-per-page", 256);
         this.bookOpenDelay = config.getInt("anti-spam.book-limits.open-delay", 2);
         this.bookGlobalRateLimit = config.getInt("anti-spam.book-limits.global-rate-limit", 20);
+
+        this.rateLimitEnabled = config.getBoolean("anti-spam.rate-limit.enabled", true);
+        this.rateLimitIpMessages = config.getInt("anti-spam.rate-limit.ip.messages", 10);
+        this.rateLimitIpWindow = config.getInt("anti-spam.rate-limit.ip.window", 5) * 1000;
+        this.rateLimitSubnetMessages = config.getInt("anti-spam.rate-limit.subnet.messages", 25);
+        this.rateLimitSubnetWindow = config.getInt("anti-spam.rate-limit.subnet.window", 5) * 1000;
+        this.rateLimitGlobalMessages = config.getInt("anti-spam.rate-limit.global.messages", 150);
+        this.rateLimitGlobalWindow = config.getInt("anti-spam.rate-limit.global.window", 1) * 1000;
+        this.rateLimitOverloadAction = config.getString("anti-spam.rate-limit.overload-action", "FILTER_ONLY");
+
+        this.campaignEnabled = config.getBoolean("anti-spam.campaign-detection.enabled", true);
+        this.campaignPlayers = config.getInt("anti-spam.campaign-detection.players", 3);
+        this.campaignWindow = TimeUtil.parseDuration(config.getString("anti-spam.campaign-detection.window", "60s"));
+        this.campaignMaxDistance = config.getInt("anti-spam.campaign-detection.max-distance", 3);
+        this.campaignMinLength = config.getInt("anti-spam.campaign-detection.min-length", 15);
+        this.campaignAction = config.getString("anti-spam.campaign-detection.action", "BLOCK");
+
+        this.customRulesEnabled = config.getBoolean("anti-spam.custom-rules.enabled", true);
+        this.customRules = config.getConfigurationSection("anti-spam.custom-rules.rules");
     }
 
     public boolean isDomainEnabled() {
@@ -195,4 +234,68 @@ public int getBookOpenDelay() {
     public int getBookGlobalRateLimit() {
         return bookGlobalRateLimit;
     }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    public int getRateLimitIpMessages() {
+        return rateLimitIpMessages;
+    }
+
+    public int getRateLimitIpWindow() {
+        return rateLimitIpWindow;
+    }
+
+    public int getRateLimitSubnetMessages() {
+        return rateLimitSubnetMessages;
+    }
+
+    public int getRateLimitSubnetWindow() {
+        return rateLimitSubnetWindow;
+    }
+
+    public int getRateLimitGlobalMessages() {
+        return rateLimitGlobalMessages;
+    }
+
+    public int getRateLimitGlobalWindow() {
+        return rateLimitGlobalWindow;
+    }
+
+    public String getRateLimitOverloadAction() {
+        return rateLimitOverloadAction;
+    }
+
+    public boolean isCampaignEnabled() {
+        return campaignEnabled;
+    }
+
+    public int getCampaignPlayers() {
+        return campaignPlayers;
+    }
+
+    public long getCampaignWindow() {
+        return campaignWindow;
+    }
+
+    public int getCampaignMaxDistance() {
+        return campaignMaxDistance;
+    }
+
+    public int getCampaignMinLength() {
+        return campaignMinLength;
+    }
+
+    public String getCampaignAction() {
+        return campaignAction;
+    }
+
+    public boolean isCustomRulesEnabled() {
+        return customRulesEnabled;
+    }
+
+    public ConfigurationSection getCustomRules() {
+        return customRules;
+    }
 }
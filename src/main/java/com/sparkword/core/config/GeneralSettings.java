@@ -32,6 +32,7 @@ public class GeneralSettings {
     private boolean debugMode;
     private EventPriority eventPriority;
     private String locale;
+    private boolean clientLocale;
     private int historyPlayerDays;
 
     public GeneralSettings() {
@@ -46,6 +47,7 @@ public void load(FileConfiguration config) {
             this.eventPriority = EventPriority.HIGH;
         }
         this.locale = config.getString("locale", "en");
+        this.clientLocale = config.getBoolean("client-locale", true);
         this.historyPlayerDays = config.getInt("history-player", 7);
 
         this.presets.clear();
@@ -76,6 +78,10 @@ public String getLocale() {
         return locale;
     }
 
+    public boolean isClientLocale() {
+        return clientLocale;
+    }
+
     public int getHistoryPlayerDays() {return historyPlayerDays;}
 
     public String getPreset(String key) {
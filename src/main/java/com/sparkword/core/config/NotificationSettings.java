@@ -26,6 +26,9 @@ public class NotificationSettings {
     private boolean notifyTypeIp;
     private boolean notifyTypeZalgo;
     private boolean notifyTypeInjection;
+    private boolean digestEnabled;
+    private long digestWindowMillis;
+    private int maxAlertsPerStaff;
 
     public NotificationSettings() {
     }
@@ -37,6 +40,9 @@ public void load(FileConfiguration config) {
         this.notifyTypeIp = config.getBoolean("notifications.types.ip", true);
         this.notifyTypeZalgo = config.getBoolean("notifications.types.zalgo", true);
         this.notifyTypeInjection = config.getBoolean("notifications.types.injection", true);
+        this.digestEnabled = config.getBoolean("notifications.digest.enabled", true);
+        this.digestWindowMillis = Math.max(1, config.getInt("notifications.digest.window-seconds", 5)) * 1000L;
+        this.maxAlertsPerStaff = Math.max(0, config.getInt("notifications.digest.max-alerts-per-staff", 20));
     }
 
     public boolean isNotifyIconEnabled() {
@@ -62,4 +68,16 @@ public boolean isNotifyTypeZalgo() {
     public boolean isNotifyTypeInjection() {
         return notifyTypeInjection;
     }
+
+    public boolean isDigestEnabled() {
+        return digestEnabled;
+    }
+
+    public long getDigestWindowMillis() {
+        return digestWindowMillis;
+    }
+
+    public int getMaxAlertsPerStaff() {
+        return maxAlertsPerStaff;
+    }
 }
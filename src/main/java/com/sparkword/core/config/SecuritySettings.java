@@ -17,20 +17,18 @@
  */
 package com.sparkword.core.config;
 
+import com.sparkword.moderation.antispam.domain.DomainMatcher;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class SecuritySettings {
     private final Set<String> domainWhitelist = new HashSet<>();
     private final Set<String> blockedTLDs = new HashSet<>();
 
-    private Pattern dotPattern;
-    private Pattern blacklistPattern;
+    private volatile DomainMatcher domainMatcher;
 
     public void load(FileConfiguration config) {
         this.domainWhitelist.clear();
@@ -42,33 +40,17 @@ public void load(FileConfiguration config) {
         }
 
         this.blockedTLDs.clear();
-        if (config.contains("domain-filter.blocked-tlds")) {
-            List<String> tlds = config.getStringList("domain-filter.blocked-tlds");
+        String tldPath = config.contains("domain-filter.blocked-tlds") ? "domain-filter.blocked-tlds" : "blocked-tlds";
+        if (config.contains(tldPath)) {
+            List<String> tlds = config.getStringList(tldPath);
             for (String tld : tlds) {
                 this.blockedTLDs.add(tld.toLowerCase());
             }
         }
 
-        if (config.contains("domain-filter.blacklist")) {
-            List<String> blacklist = config.getStringList("domain-filter.blacklist");
-            if (!blacklist.isEmpty()) {
-                String blacklistUnion = blacklist.stream()
-                    .map(s -> s.replaceAll("[^a-zA-Z0-9]", ""))
-                    .filter(s -> !s.isEmpty())
-                    .map(Pattern::quote)
-                    .collect(Collectors.joining("|"));
-
-                if (!blacklistUnion.isEmpty()) {
-                    this.blacklistPattern = Pattern.compile("(" + blacklistUnion + ")", Pattern.CASE_INSENSITIVE);
-                } else {
-                    this.blacklistPattern = null;
-                }
-            } else {
-                this.blacklistPattern = null;
-            }
-        } else {
-            this.blacklistPattern = null;
-        }
+        List<String> blacklist = config.contains("domain-filter.blacklist")
+            ? config.getStringList("domain-filter.blacklist")
+            : List.of();
 
         List<String> dotList;
         if (config.contains("domain-filter.dot")) {
@@ -77,27 +59,7 @@ public void load(FileConfiguration config) {
             dotList = List.of("[\\p{P}\\p{S}]", "dot", "point");
         }
 
-        if (!dotList.isEmpty()) {
-            String dotUnion = dotList.stream()
-                .map(s -> {
-                    if (s.contains("\\")) {
-                        return s;
-                    } else {
-                        String q = Pattern.quote(s);
-                        return "(?:" +
-                            "\\b" + q + "\\b|" +
-                            "\\[\\s*" + q + "\\s*\\]|" +
-                            "\\(\\s*" + q + "\\s*\\)|" +
-                            "\\{\\s*" + q + "\\s*\\}|" +
-                            "<\\s*" + q + "\\s*>)";
-                    }
-                })
-                .collect(Collectors.joining("|"));
-
-            this.dotPattern = Pattern.compile(dotUnion, Pattern.CASE_INSENSITIVE);
-        } else {
-            this.dotPattern = Pattern.compile("[\\p{P}\\p{S}]");
-        }
+        this.domainMatcher = DomainMatcher.compile(blacklist, blockedTLDs, domainWhitelist, dotList);
     }
 
     public boolean isWhitelisted(String domain) {
@@ -108,11 +70,7 @@ public boolean isBlockedTLD(String tld) {
         return blockedTLDs.contains(tld.toLowerCase());
     }
 
-    public Pattern getDotPattern() {
-        return dotPattern;
-    }
-
-    public Pattern getBlacklistPattern() {
-        return blacklistPattern;
+    public DomainMatcher getDomainMatcher() {
+        return domainMatcher;
     }
 }
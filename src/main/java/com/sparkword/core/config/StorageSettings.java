@@ -29,6 +29,30 @@ public class StorageSettings {
     private int dbPoolSize;
     private long dbMaxLifetime;
     private int dbTimeout;
+    private int readPoolSize;
+    private int batchMaxRows;
+    private long batchMaxDelayMillis;
+    private int batchQueueCapacity;
+    private String batchOverflowPolicy;
+    private int writerQueueCapacity;
+    private long writerBlockTimeoutMillis;
+    private boolean journalEnabled;
+    private int journalSegmentBytes;
+    private boolean partitioningEnabled;
+    private int purgeChunkSize;
+    private long purgePauseMillis;
+    private boolean maintenanceEnabled;
+    private long maintenanceIntervalMinutes;
+    private int maintenanceOffPeakPlayers;
+    private long maintenanceMaxDelayHours;
+    private long maintenanceTaskBudgetMillis;
+    private long maintenanceRunBudgetMillis;
+    private boolean archiveEnabled;
+    private int archiveAfterDays;
+    private int archiveRetentionDays;
+    private int archiveBlockRows;
+    private boolean searchEnabled;
+    private int searchSegmentRows;
 
     public StorageSettings() {
     }
@@ -43,6 +67,30 @@ public void load(FileConfiguration config) {
         this.dbPoolSize = config.getInt("storage.pool-settings.maximum-pool-size", 10);
         this.dbMaxLifetime = config.getLong("storage.pool-settings.max-lifetime", 1800000L);
         this.dbTimeout = config.getInt("storage.pool-settings.connection-timeout", 5000);
+        this.readPoolSize = Math.max(0, config.getInt("storage.pool-settings.sqlite-read-pool-size", 4));
+        this.batchMaxRows = config.getInt("storage.write-batch.max-rows", 256);
+        this.batchMaxDelayMillis = config.getLong("storage.write-batch.max-delay-ms", 20L);
+        this.batchQueueCapacity = config.getInt("storage.write-batch.queue-capacity", 8192);
+        this.batchOverflowPolicy = config.getString("storage.write-batch.overflow-policy", "spill");
+        this.writerQueueCapacity = config.getInt("storage.writer.queue-capacity", 4096);
+        this.writerBlockTimeoutMillis = config.getLong("storage.writer.block-timeout-ms", 1000L);
+        this.journalEnabled = config.getBoolean("storage.journal.enabled", true);
+        this.journalSegmentBytes = Math.max(1, config.getInt("storage.journal.segment-size-mb", 8)) * 1024 * 1024;
+        this.partitioningEnabled = config.getBoolean("storage.partitioning.enabled", true);
+        this.purgeChunkSize = Math.max(1, config.getInt("storage.purge.chunk-size", 1000));
+        this.purgePauseMillis = Math.max(0L, config.getLong("storage.purge.pause-ms", 25L));
+        this.maintenanceEnabled = config.getBoolean("storage.maintenance.enabled", true);
+        this.maintenanceIntervalMinutes = Math.max(1L, config.getLong("storage.maintenance.interval-minutes", 60L));
+        this.maintenanceOffPeakPlayers = Math.max(0, config.getInt("storage.maintenance.off-peak-max-players", 5));
+        this.maintenanceMaxDelayHours = Math.max(1L, config.getLong("storage.maintenance.max-delay-hours", 24L));
+        this.maintenanceTaskBudgetMillis = Math.max(100L, config.getLong("storage.maintenance.task-budget-ms", 5000L));
+        this.maintenanceRunBudgetMillis = Math.max(100L, config.getLong("storage.maintenance.run-budget-ms", 30000L));
+        this.archiveEnabled = config.getBoolean("storage.archive.enabled", true);
+        this.archiveAfterDays = Math.max(1, config.getInt("storage.archive.after-days", 30));
+        this.archiveRetentionDays = Math.max(archiveAfterDays, config.getInt("storage.archive.retention-days", 365));
+        this.archiveBlockRows = Math.max(64, config.getInt("storage.archive.block-rows", 1024));
+        this.searchEnabled = config.getBoolean("storage.search.enabled", true);
+        this.searchSegmentRows = Math.max(256, config.getInt("storage.search.segment-rows", 8192));
     }
 
     public String getStorageType() {
@@ -80,4 +128,100 @@ public long getDbMaxLifetime() {
     public int getDbTimeout() {
         return dbTimeout;
     }
+
+    public int getReadPoolSize() {
+        return readPoolSize;
+    }
+
+    public int getBatchMaxRows() {
+        return batchMaxRows;
+    }
+
+    public long getBatchMaxDelayMillis() {
+        return batchMaxDelayMillis;
+    }
+
+    public int getBatchQueueCapacity() {
+        return batchQueueCapacity;
+    }
+
+    public String getBatchOverflowPolicy() {
+        return batchOverflowPolicy;
+    }
+
+    public int getWriterQueueCapacity() {
+        return writerQueueCapacity;
+    }
+
+    public long getWriterBlockTimeoutMillis() {
+        return writerBlockTimeoutMillis;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public int getJournalSegmentBytes() {
+        return journalSegmentBytes;
+    }
+
+    public boolean isPartitioningEnabled() {
+        return partitioningEnabled;
+    }
+
+    public int getPurgeChunkSize() {
+        return purgeChunkSize;
+    }
+
+    public long getPurgePauseMillis() {
+        return purgePauseMillis;
+    }
+
+    public boolean isMaintenanceEnabled() {
+        return maintenanceEnabled;
+    }
+
+    public long getMaintenanceIntervalMinutes() {
+        return maintenanceIntervalMinutes;
+    }
+
+    public int getMaintenanceOffPeakPlayers() {
+        return maintenanceOffPeakPlayers;
+    }
+
+    public long getMaintenanceMaxDelayHours() {
+        return maintenanceMaxDelayHours;
+    }
+
+    public long getMaintenanceTaskBudgetMillis() {
+        return maintenanceTaskBudgetMillis;
+    }
+
+    public long getMaintenanceRunBudgetMillis() {
+        return maintenanceRunBudgetMillis;
+    }
+
+    public boolean isArchiveEnabled() {
+        return archiveEnabled;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    public int getArchiveRetentionDays() {
+        return archiveRetentionDays;
+    }
+
+    public int getArchiveBlockRows() {
+        return archiveBlockRows;
+    }
+
+    public boolean isSearchEnabled() {
+        return searchEnabled;
+    }
+
+    public int getSearchSegmentRows() {
+        return searchSegmentRows;
+    }
 }
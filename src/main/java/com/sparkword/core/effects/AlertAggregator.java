@@ -0,0 +1,187 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.effects;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AlertAggregator {
+
+    private final Map<String, Window> windows = new HashMap<>();
+    private final Map<UUID, StaffBudget> budgets = new HashMap<>();
+
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder digests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    public synchronized boolean offer(String category, String player, String source, String detected, int count,
+                                      long now, long windowMillis) {
+        Window window = windows.get(category);
+
+        if (window != null && now - window.start >= windowMillis && !window.needsDigest()) {
+            windows.remove(category);
+            window = null;
+        }
+
+        if (window == null) {
+            window = new Window(now);
+            windows.put(category, window);
+            window.add(player, source, detected, count);
+            emitted.increment();
+            if (count > 1) suppressed.add(count - 1);
+            return true;
+        }
+
+        window.add(player, source, detected, count);
+        window.suppressed += count;
+        suppressed.add(count);
+        return false;
+    }
+
+    public synchronized List<Digest> drainExpired(long now, long windowMillis) {
+        List<Digest> ready = new ArrayList<>();
+
+        Iterator<Map.Entry<String, Window>> it = windows.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Window> e = it.next();
+            Window window = e.getValue();
+            if (now - window.start < windowMillis) continue;
+
+            it.remove();
+            if (!window.needsDigest()) continue;
+
+            List<Entry> entries = window.entries.values().stream()
+                .map(m -> new Entry(m.player, m.source, m.detected, m.count))
+                .sorted(Comparator.comparingInt(Entry::count).reversed())
+                .toList();
+
+            ready.add(new Digest(e.getKey(), window.total, window.players.size(), windowMillis, entries));
+            digests.increment();
+        }
+
+        budgets.values().removeIf(budget -> now - budget.start >= windowMillis);
+        return ready;
+    }
+
+    public synchronized boolean tryDeliver(UUID staff, long now, long windowMillis, int maxPerStaff) {
+        if (maxPerStaff <= 0) return true;
+
+        StaffBudget budget = budgets.get(staff);
+        if (budget == null || now - budget.start >= windowMillis) {
+            budget = new StaffBudget(now);
+            budgets.put(staff, budget);
+        }
+
+        if (budget.used >= maxPerStaff) {
+            throttled.increment();
+            return false;
+        }
+        budget.used++;
+        return true;
+    }
+
+    public synchronized void deferThrottled(String category, Entry alert, boolean recorded, long now) {
+        Window window = windows.get(category);
+        if (window == null) {
+            window = new Window(now);
+            windows.put(category, window);
+            recorded = false;
+        }
+
+        if (!recorded) window.add(alert.player(), alert.source(), alert.detected(), alert.count());
+        window.throttled += alert.count();
+    }
+
+    public synchronized void clear() {
+        windows.clear();
+        budgets.clear();
+    }
+
+    public AlertMetrics metrics() {
+        return new AlertMetrics(emitted.sum(), suppressed.sum(), digests.sum(), throttled.sum());
+    }
+
+    private static final class Window {
+        private final long start;
+        private final Map<String, MutableEntry> entries = new LinkedHashMap<>();
+        private final Set<String> players = new HashSet<>();
+        private int total;
+        private int suppressed;
+        private int throttled;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private boolean needsDigest() {
+            return suppressed > 0 || throttled > 0;
+        }
+
+        private void add(String player, String source, String detected, int count) {
+            total += count;
+            players.add(player);
+            entries.computeIfAbsent(player + "|" + source, k -> new MutableEntry(player, source))
+                .record(detected, count);
+        }
+    }
+
+    private static final class MutableEntry {
+        private final String player;
+        private final String source;
+        private String detected;
+        private int count;
+
+        private MutableEntry(String player, String source) {
+            this.player = player;
+            this.source = source;
+        }
+
+        private void record(String detected, int count) {
+            this.detected = detected;
+            this.count += count;
+        }
+    }
+
+    private static final class StaffBudget {
+        private final long start;
+        private int used;
+
+        private StaffBudget(long start) {
+            this.start = start;
+        }
+    }
+
+    public record Entry(String player, String source, String detected, int count) {
+    }
+
+    public record Digest(String category, int total, int players, long spanMillis, List<Entry> entries) {
+    }
+
+    public record AlertMetrics(long emitted, long suppressed, long digests, long throttled) {
+    }
+}
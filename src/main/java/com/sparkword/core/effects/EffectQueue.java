@@ -0,0 +1,189 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.effects;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class EffectQueue {
+
+    private final BlockingQueue<Runnable> queue;
+    private final int maxBatch;
+    private final long coalesceWindowNanos;
+    private final Logger logger;
+    private final Thread consumer;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public EffectQueue(String name, int capacity, int maxBatch, long coalesceWindowMillis, Logger logger) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.coalesceWindowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMillis);
+        this.logger = logger;
+        this.consumer = new Thread(this::drainLoop, name);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public boolean submit(Runnable effect) {
+        if (!running || Thread.currentThread() == consumer) {
+            runSafely(effect);
+            return true;
+        }
+        submitted.increment();
+        if (queue.offer(effect)) return true;
+
+        dropped.increment();
+        return false;
+    }
+
+    public void submitCritical(Runnable effect) {
+        if (!running || Thread.currentThread() == consumer) {
+            runSafely(effect);
+            return;
+        }
+        submitted.increment();
+        if (queue.offer(effect)) return;
+
+        callerRuns.increment();
+        runSafely(effect);
+    }
+
+    public void shutdown(long timeoutMillis) {
+        running = false;
+        consumer.interrupt();
+        try {
+            consumer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Runnable> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        process(remaining);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    public EffectMetrics metrics() {
+        return new EffectMetrics(
+            submitted.sum(), executed.sum(), coalesced.sum(), dropped.sum(), callerRuns.sum(), batches.sum(), queue.size()
+        );
+    }
+
+    private void drainLoop() {
+        List<Runnable> drained = new ArrayList<>(maxBatch);
+        Map<String, CoalescingEffect> merged = new LinkedHashMap<>();
+
+        while (running) {
+            try {
+                Runnable first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batches.increment();
+                accept(first, merged);
+                int taken = 1;
+
+                long deadline = System.nanoTime() + coalesceWindowNanos;
+                while (taken < maxBatch) {
+                    int count = queue.drainTo(drained, maxBatch - taken);
+                    if (count > 0) {
+                        for (Runnable effect : drained) accept(effect, merged);
+                        drained.clear();
+                        taken += count;
+                        continue;
+                    }
+
+                    long wait = deadline - System.nanoTime();
+                    if (wait <= 0) break;
+
+                    Runnable next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    accept(next, merged);
+                    taken++;
+                }
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } finally {
+                flush(merged);
+            }
+        }
+    }
+
+    private void process(List<Runnable> effects) {
+        if (effects.isEmpty()) return;
+        batches.increment();
+
+        Map<String, CoalescingEffect> merged = new LinkedHashMap<>();
+        for (Runnable effect : effects) {
+            accept(effect, merged);
+        }
+        flush(merged);
+    }
+
+    private void accept(Runnable effect, Map<String, CoalescingEffect> merged) {
+        if (effect instanceof CoalescingEffect coalescing) {
+            CoalescingEffect existing = merged.putIfAbsent(coalescing.key(), coalescing);
+            if (existing != null) {
+                existing.absorb(coalescing);
+                coalesced.increment();
+            }
+            return;
+        }
+        runSafely(effect);
+    }
+
+    private void flush(Map<String, CoalescingEffect> merged) {
+        if (merged.isEmpty()) return;
+        for (CoalescingEffect effect : merged.values()) {
+            runSafely(effect);
+        }
+        merged.clear();
+    }
+
+    private void runSafely(Runnable effect) {
+        try {
+            effect.run();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Moderation side effect failed", e);
+        } finally {
+            executed.increment();
+        }
+    }
+
+    public record EffectMetrics(long submitted, long executed, long coalesced, long dropped, long callerRuns,
+                                long batches, int pending) {
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.evidence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class EvidenceStore {
+
+    private static final int MAGIC = 0x53574556;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 4 + 4;
+    private static final String SEGMENT_PREFIX = "evidence-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path folder;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final Logger logger;
+
+    private final Map<String, Pointer> index = new ConcurrentHashMap<>();
+    private final Map<String, EvidenceRecord> pending = new ConcurrentHashMap<>();
+    private final Cache<String, EvidenceRecord> recent;
+    private final Deque<Integer> segments = new ArrayDeque<>();
+    private final ExecutorService writer;
+
+    private FileChannel current;
+    private int currentSegment;
+    private long currentSize;
+
+    public EvidenceStore(Path folder, long segmentBytes, int maxSegments, int recentBooks, Logger logger) {
+        this.folder = folder;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.logger = logger;
+        this.recent = Caffeine.newBuilder().maximumSize(recentBooks).build();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SparkWord-Evidence");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void open() {
+        try {
+            Files.createDirectories(folder);
+
+            List<Integer> found = new ArrayList<>();
+            try (Stream<Path> files = Files.list(folder)) {
+                files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX))
+                    .map(EvidenceStore::parseSegmentNumber)
+                    .filter(n -> n > 0)
+                    .sorted()
+                    .forEach(found::add);
+            }
+
+            long lastValidEnd = 0;
+            for (int number : found) {
+                lastValidEnd = scanSegment(number);
+                segments.addLast(number);
+            }
+
+            if (found.isEmpty()) {
+                openSegment(1, 0);
+            } else {
+                openSegment(found.get(found.size() - 1), lastValidEnd);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not open evidence store in " + folder, e);
+        }
+    }
+
+    public String store(String playerName, List<String> pages) {
+        String id;
+        do {
+            id = UUID.randomUUID().toString().substring(0, 8);
+        } while (index.containsKey(id) || pending.containsKey(id));
+
+        EvidenceRecord record = new EvidenceRecord(id, playerName, System.currentTimeMillis(), List.copyOf(pages));
+        pending.put(id, record);
+
+        try {
+            writer.execute(() -> {
+                try {
+                    append(record);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Could not persist evidence " + record.id(), e);
+                    recent.put(record.id(), record);
+                } finally {
+                    pending.remove(record.id());
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(id);
+            recent.put(id, record);
+        }
+        return id;
+    }
+
+    @Nullable
+    public EvidenceRecord peek(String id) {
+        EvidenceRecord record = recent.getIfPresent(id);
+        return record != null ? record : pending.get(id);
+    }
+
+    @Nullable
+    public EvidenceRecord load(String id) {
+        EvidenceRecord record = peek(id);
+        if (record != null) return record;
+
+        Pointer pointer = index.get(id);
+        if (pointer == null) return null;
+
+        try (FileChannel channel = FileChannel.open(segmentPath(pointer.segment()), StandardOpenOption.READ)) {
+            ByteBuffer payload = ByteBuffer.allocate(pointer.length());
+            while (payload.hasRemaining()) {
+                if (channel.read(payload, pointer.offset() + payload.position()) < 0) throw new EOFException();
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != pointer.crc()) {
+                logger.warning("Evidence " + id + " failed its checksum and was skipped.");
+                return null;
+            }
+
+            record = decode(id, pointer.createdAt(), payload.array());
+            recent.put(id, record);
+            return record;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public int size() {
+        return index.size() + pending.size();
+    }
+
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) writer.shutdownNow();
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (current != null) current.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void append(EvidenceRecord record) throws IOException {
+        if (current == null) throw new IOException("Evidence store is not open");
+
+        byte[] payload = encode(record);
+        byte[] id = record.id().getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        int recordBytes = HEADER_BYTES + id.length + payload.length;
+        if (currentSize > 0 && currentSize + recordBytes > segmentBytes) {
+            rotate();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(recordBytes);
+        buffer.putInt(MAGIC)
+            .putShort((short) id.length)
+            .put(id)
+            .putLong(record.createdAt())
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .put(payload)
+            .flip();
+
+        long start = currentSize;
+        while (buffer.hasRemaining()) {
+            current.write(buffer, currentSize + buffer.position());
+        }
+        currentSize += recordBytes;
+
+        index.put(record.id(), new Pointer(currentSegment, start + recordBytes - payload.length, payload.length,
+            (int) crc.getValue(), record.createdAt()));
+    }
+
+    private void rotate() throws IOException {
+        current.force(false);
+        current.close();
+        openSegment(currentSegment + 1, 0);
+
+        while (segments.size() > maxSegments) {
+            int oldest = segments.pollFirst();
+            index.values().removeIf(p -> p.segment() == oldest);
+            Files.deleteIfExists(segmentPath(oldest));
+        }
+    }
+
+    private void openSegment(int number, long size) throws IOException {
+        current = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (current.size() > size) current.truncate(size);
+        currentSegment = number;
+        currentSize = size;
+        if (!segments.contains(number)) segments.addLast(number);
+    }
+
+    private long scanSegment(int number) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + 64);
+
+            while (position + HEADER_BYTES <= size) {
+                header.clear().limit(6);
+                channel.read(header, position);
+                header.flip();
+                if (header.remaining() < 6 || header.getInt() != MAGIC) break;
+
+                int idLength = header.getShort();
+                if (idLength <= 0 || idLength > 64 || position + HEADER_BYTES + idLength > size) break;
+
+                header.clear().limit(idLength + 16);
+                channel.read(header, position + 6);
+                header.flip();
+                if (header.remaining() < idLength + 16) break;
+
+                byte[] id = new byte[idLength];
+                header.get(id);
+                long createdAt = header.getLong();
+                int length = header.getInt();
+                int crc = header.getInt();
+
+                long payloadStart = position + HEADER_BYTES + idLength;
+                if (length < 0 || payloadStart + length > size) break;
+
+                index.put(new String(id, StandardCharsets.US_ASCII), new Pointer(number, payloadStart, length, crc, createdAt));
+                position = payloadStart + length;
+            }
+            return position;
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return folder.resolve(SEGMENT_PREFIX + String.format("%06d", number) + SEGMENT_SUFFIX);
+    }
+
+    private static int parseSegmentNumber(String name) {
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] encode(EvidenceRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writeString(out, record.playerName());
+            out.writeInt(record.pages().size());
+            for (String page : record.pages()) {
+                writeString(out, page);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static EvidenceRecord decode(String id, long createdAt, byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            String playerName = readString(in);
+            int count = in.readInt();
+            List<String> pages = new ArrayList<>(Math.min(count, 128));
+            for (int i = 0; i < count; i++) {
+                pages.add(readString(in));
+            }
+            return new EvidenceRecord(id, playerName, createdAt, List.copyOf(pages));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > (1 << 20)) throw new IOException("Corrupt evidence entry");
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private record Pointer(int segment, long offset, int length, int crc, long createdAt) {
+    }
+}
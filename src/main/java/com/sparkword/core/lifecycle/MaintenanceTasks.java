@@ -18,14 +18,32 @@
 package com.sparkword.core.lifecycle;
 
 import com.sparkword.SparkWord;
+import com.sparkword.core.config.StorageSettings;
 import com.sparkword.core.storage.StorageManager;
 import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class MaintenanceTasks {
 
+    private static final String PURGE = "purge";
+    private static final long CHECK_PERIOD_TICKS = 20L * 60;
+
     private final SparkWord plugin;
     private final StorageManager storage;
-    private boolean hasRunStartupPurge = false;
+    private final Map<String, TaskStats> stats = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private BukkitTask task;
+    private volatile boolean stopped;
+    private volatile long lastRunMillis;
+    private volatile int nextTask;
 
     public MaintenanceTasks(SparkWord plugin, StorageManager storage) {
         this.plugin = plugin;
@@ -33,36 +51,150 @@ public MaintenanceTasks(SparkWord plugin, StorageManager storage) {
     }
 
     public void startPurgeTask() {
-        if (hasRunStartupPurge) {
-            return;
+        stopPurgeTask();
+        if (storage == null) return;
+
+        stopped = false;
+        StorageSettings settings = plugin.getEnvironment().getConfigManager().getStorageSettings();
+        if (settings.isMaintenanceEnabled()) {
+            task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::tick, 20L, CHECK_PERIOD_TICKS);
+        } else if (lastRunMillis == 0) {
+            task = Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> runMaintenance(List.of(PURGE), settings));
         }
-        hasRunStartupPurge = true;
+    }
 
-        long purgeHours = plugin.getConfig().getInt("suggestion.purge-hours", 72);
+    public void stopPurgeTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
 
-        int historyDays = plugin.getEnvironment().getConfigManager().getGeneralSettings().getHistoryPlayerDays();
+    public void stopAll() {
+        stopped = true;
+        stopPurgeTask();
+    }
 
-        if ((purgeHours > 0 || historyDays > 0) && storage != null) {
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                int totalDeleted = 0;
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
 
-                if (purgeHours > 0) {
-                    totalDeleted += storage.purgeData("sg", purgeHours / 24);
-                }
-                if (historyDays > 0) {
-                    totalDeleted += storage.purgeData("hp", historyDays);
+    public List<TaskMetrics> getMetrics() {
+        List<TaskMetrics> metrics = new ArrayList<>();
+        for (TaskStats taskStats : stats.values()) {
+            metrics.add(taskStats.snapshot());
+        }
+        metrics.sort(Comparator.comparing(TaskMetrics::task));
+        return metrics;
+    }
+
+    private void tick() {
+        StorageSettings settings = plugin.getEnvironment().getConfigManager().getStorageSettings();
+        long since = System.currentTimeMillis() - lastRunMillis;
+        if (since < TimeUnit.MINUTES.toMillis(settings.getMaintenanceIntervalMinutes())) return;
+
+        boolean offPeak = Bukkit.getOnlinePlayers().size() <= settings.getMaintenanceOffPeakPlayers();
+        boolean overdue = lastRunMillis == 0 || since >= TimeUnit.HOURS.toMillis(settings.getMaintenanceMaxDelayHours());
+        if (!offPeak && !overdue) return;
+
+        List<String> tasks = new ArrayList<>();
+        tasks.add(PURGE);
+        if (storage.getMaintenance() != null) tasks.addAll(storage.getMaintenance().getTasks());
+        runMaintenance(tasks, settings);
+    }
+
+    private void runMaintenance(List<String> tasks, StorageSettings settings) {
+        if (!running.compareAndSet(false, true)) return;
+
+        try {
+            lastRunMillis = System.currentTimeMillis();
+            long runDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getMaintenanceRunBudgetMillis());
+            long taskBudget = TimeUnit.MILLISECONDS.toNanos(settings.getMaintenanceTaskBudgetMillis());
+            int start = nextTask % tasks.size();
+            StringBuilder summary = new StringBuilder();
+
+            for (int i = 0; i < tasks.size(); i++) {
+                int index = (start + i) % tasks.size();
+                if (stopped || System.nanoTime() >= runDeadline) {
+                    nextTask = index;
+                    break;
                 }
 
-                if (plugin.isDebugMode() && totalDeleted > 0) {
-                    plugin.getLogger().info("Startup purge complete. Removed " + totalDeleted + " expired records.");
+                String name = tasks.get(index);
+                long begin = System.nanoTime();
+                boolean finished;
+                try {
+                    finished = runTask(name, Math.min(runDeadline, begin + taskBudget));
+                } catch (RuntimeException e) {
+                    finished = false;
+                    plugin.getLogger().warning("Maintenance task '" + name + "' failed: " + e.getMessage());
                 }
-            });
+
+                long elapsed = System.nanoTime() - begin;
+                stats.computeIfAbsent(name, TaskStats::new).record(elapsed, finished);
+                summary.append(' ').append(name).append('=').append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms");
+                if (!finished) summary.append('*');
+            }
+
+            if (plugin.isDebugMode()) {
+                plugin.getLogger().info("Maintenance run finished:" + summary);
+            }
+        } finally {
+            running.set(false);
         }
     }
 
-    public void stopPurgeTask() {
+    private boolean runTask(String name, long deadlineNanos) {
+        if (name.equals(PURGE)) return purgeExpired(deadlineNanos);
+        return storage.getMaintenance().runTaskAsync(name, deadlineNanos).join();
     }
 
-    public void stopAll() {
+    private boolean purgeExpired(long deadlineNanos) {
+        long purgeHours = plugin.getConfig().getInt("suggestion.purge-hours", 72);
+        int historyDays = plugin.getEnvironment().getConfigManager().getGeneralSettings().getHistoryPlayerDays();
+
+        int totalDeleted = 0;
+        if (purgeHours > 0) {
+            totalDeleted += storage.purgeData("sg", purgeHours / 24, deadlineNanos);
+        }
+        if (historyDays > 0 && System.nanoTime() < deadlineNanos) {
+            totalDeleted += storage.purgeData("hp", historyDays, deadlineNanos);
+        }
+
+        if (plugin.isDebugMode() && totalDeleted > 0) {
+            plugin.getLogger().info("Maintenance purge complete. Removed " + totalDeleted + " expired records.");
+        }
+        return System.nanoTime() < deadlineNanos;
+    }
+
+    public record TaskMetrics(String task, long runs, long overBudget, long lastMillis, long maxMillis, long avgMillis) {
+    }
+
+    private static final class TaskStats {
+        private final String task;
+        private long runs;
+        private long overBudget;
+        private long lastNanos;
+        private long maxNanos;
+        private long totalNanos;
+
+        private TaskStats(String task) {
+            this.task = task;
+        }
+
+        private synchronized void record(long nanos, boolean finished) {
+            runs++;
+            if (!finished) overBudget++;
+            lastNanos = nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalNanos += nanos;
+        }
+
+        private synchronized TaskMetrics snapshot() {
+            return new TaskMetrics(task, runs, overBudget,
+                TimeUnit.NANOSECONDS.toMillis(lastNanos),
+                TimeUnit.NANOSECONDS.toMillis(maxNanos),
+                runs == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / runs));
+        }
     }
 }
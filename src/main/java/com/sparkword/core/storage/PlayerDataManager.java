@@ -113,6 +113,10 @@ public void updateMuteDirectly(int playerId, MuteInfo info) {
         muteCache.update(playerId, info);
     }
 
+    public void shutdown() {
+        muteCache.shutdown();
+    }
+
     public void invalidateAll() {
         onlinePlayerIds.clear();
         muteCache.clear();
@@ -22,15 +22,21 @@
 import com.sparkword.core.config.FilterSettings;
 import com.sparkword.core.storage.impl.StorageFactory;
 import com.sparkword.core.storage.model.MuteInfo;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.core.storage.model.PlayerLogin;
 import com.sparkword.core.storage.spi.StorageProvider;
+import com.sparkword.core.storage.spi.WriteMetrics;
 import com.sparkword.core.storage.spi.dao.*;
 import org.bukkit.Bukkit;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class StorageManager {
 
@@ -46,6 +52,7 @@ public class StorageManager {
     private AuditDAO audit;
     private SuggestionDAO suggestions;
     private ReportDAO reports;
+    private MaintenanceDAO maintenance;
 
     public StorageManager(SparkWord plugin, ConfigManager config) {
         this.plugin = plugin;
@@ -67,6 +74,7 @@ private void init(ConfigManager config) {
         this.audit = provider.getAuditDAO();
         this.suggestions = provider.getSuggestionDAO();
         this.reports = provider.getReportDAO();
+        this.maintenance = provider.getMaintenanceDAO();
     }
 
     public void close() {
@@ -108,16 +116,31 @@ public ReportDAO getReports() {
         return reports;
     }
 
+    public MaintenanceDAO getMaintenance() {
+        return maintenance;
+    }
+
     public Executor getAsyncExecutor() {
         return provider.getAsyncExecutor();
     }
 
+    public WriteMetrics getWriteMetrics() {
+        return provider.getWriteMetrics();
+    }
+
     public void checkAndLog(String playerName, String content, String category, String source, String detectedWord) {
         if (shouldLog(category)) {
             monitor.addLogAsync(playerName, content, category, source, detectedWord);
         }
     }
 
+    public void checkAndLog(String playerName, Supplier<String> content, String category, String source, String detectedWord) {
+        if (shouldLog(category)) {
+            String resolved = content.get();
+            monitor.addLogAsync(playerName, resolved != null ? resolved : "", category, source, detectedWord);
+        }
+    }
+
     private boolean shouldLog(String category) {
         if (category == null) return false;
 
@@ -139,6 +162,10 @@ public int getPlayerIdBlocking(UUID uuid, String name) {
         return players.getPlayerIdBlocking(uuid, name);
     }
 
+    public Map<UUID, PlayerLogin> resolveLoginsBlocking(Map<UUID, String> logins) {
+        return players.resolveLoginsBlocking(logins);
+    }
+
     public CompletableFuture<Integer> getPlayerIdAsync(UUID uuid, String name) {
         return players.getPlayerIdAsync(uuid, name);
     }
@@ -204,6 +231,15 @@ public CompletableFuture<Void> unmute(int playerId) {
         return unmute(playerId, SYSTEM_ACTOR, "Expired/Manual");
     }
 
+    public CompletableFuture<Void> expireMutes(List<Integer> playerIds) {
+        return mutes.expireMutesAsync(playerIds).thenAccept(expired -> {
+            for (int playerId : expired) {
+                players.getPlayerNameAsync(playerId).thenAccept(targetName ->
+                    audit.logAuditAsync(SYSTEM_ACTOR, "UNMUTE", "Player: " + targetName + " | Reason: Expired"));
+            }
+        });
+    }
+
     public void addWarning(int playerId, String reason, String moderator) {
         warnings.addWarningAsync(playerId, reason, moderator).thenCompose(v ->
                 players.getPlayerNameAsync(playerId)
@@ -242,20 +278,28 @@ public CompletableFuture<List<String>> getPlayerReportAsync(int playerId, int pa
         return reports.getPlayerScanReportAsync(playerId, page);
     }
 
+    public CompletableFuture<Page<String>> getPlayerReportPageAsync(int playerId, PageCursor warningsAfter, PageCursor mutesAfter) {
+        return reports.getPlayerScanPageAsync(playerId, warningsAfter, mutesAfter);
+    }
+
     public int purgeData(String type, long days) {
+        return purgeData(type, days, Long.MAX_VALUE);
+    }
+
+    public int purgeData(String type, long days, long deadlineNanos) {
         if (type.equalsIgnoreCase("all")) {
-            CompletableFuture<Integer> sg = suggestions.purgeAsync(days);
-            CompletableFuture<Integer> bl = monitor.purgeAsync(days);
-            CompletableFuture<Integer> au = audit.purgeAsync(days);
-            CompletableFuture<Integer> mh = mutes.purgeHistoryAsync(days);
+            CompletableFuture<Integer> sg = suggestions.purgeAsync(days, deadlineNanos);
+            CompletableFuture<Integer> bl = monitor.purgeAsync(days, deadlineNanos);
+            CompletableFuture<Integer> au = audit.purgeAsync(days, deadlineNanos);
+            CompletableFuture<Integer> mh = mutes.purgeHistoryAsync(days, deadlineNanos);
             return sg.join() + bl.join() + au.join() + mh.join();
         }
 
         CompletableFuture<Integer> future = switch (type) {
-            case "sg" -> suggestions.purgeAsync(days);
-            case "b" -> monitor.purgeAsync(days);
-            case "a" -> audit.purgeAsync(days);
-            case "hp" -> mutes.purgeHistoryAsync(days);
+            case "sg" -> suggestions.purgeAsync(days, deadlineNanos);
+            case "b" -> monitor.purgeAsync(days, deadlineNanos);
+            case "a" -> audit.purgeAsync(days, deadlineNanos);
+            case "hp" -> mutes.purgeHistoryAsync(days, deadlineNanos);
             default -> CompletableFuture.completedFuture(0);
         };
         return future.join();
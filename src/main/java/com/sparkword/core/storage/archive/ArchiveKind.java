@@ -0,0 +1,50 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.archive;
+
+public enum ArchiveKind {
+    LOGS("logs", new boolean[]{true, true, true, false, false}),
+    AUDIT("audit", new boolean[]{true, true, false});
+
+    private final String id;
+    private final boolean[] dictionary;
+
+    ArchiveKind(String id, boolean[] dictionary) {
+        this.id = id;
+        this.dictionary = dictionary;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public int columns() {
+        return dictionary.length;
+    }
+
+    public boolean isDictionary(int column) {
+        return dictionary[column];
+    }
+
+    public static ArchiveKind byId(String id) {
+        for (ArchiveKind kind : values()) {
+            if (kind.id.equals(id)) return kind;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.archive;
+
+import com.sparkword.core.storage.model.PageCursor;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class ArchiveSegment {
+
+    private static final int MAGIC = 0x53574152;
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 1;
+    private static final int TRAILER_BYTES = 8 + 4;
+    private static final int BLOCK_ENTRY_BYTES = 8 + 4 + 4 + 8 + 8 + 8 + 8;
+
+    private final Path file;
+    private final ArchiveKind kind;
+    private final long from;
+    private final long upTo;
+    private final long rows;
+    private final long bytes;
+    private final List<Block> blocks;
+
+    private ArchiveSegment(Path file, ArchiveKind kind, long from, long upTo, long rows, long bytes, List<Block> blocks) {
+        this.file = file;
+        this.kind = kind;
+        this.from = from;
+        this.upTo = upTo;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.blocks = blocks;
+    }
+
+    public static ArchiveSegment write(Path file, ArchiveKind kind, List<ArchivedRow> rows, long from, long upTo, int blockRows) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<Block> blocks = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putShort(VERSION).put((byte) kind.ordinal()).flip();
+            writeFully(channel, header);
+
+            long offset = HEADER_BYTES;
+            int step = Math.max(1, blockRows);
+            for (int start = 0; start < rows.size(); start += step) {
+                List<ArchivedRow> slice = rows.subList(start, Math.min(rows.size(), start + step));
+                byte[] compressed = encodeBlock(kind, slice);
+                writeFully(channel, ByteBuffer.wrap(compressed));
+
+                ArchivedRow first = slice.get(0);
+                ArchivedRow last = slice.get(slice.size() - 1);
+                blocks.add(new Block(offset, compressed.length, slice.size(), first.timestamp(), first.id(), last.timestamp(), last.id()));
+                offset += compressed.length;
+            }
+
+            ByteBuffer footer = ByteBuffer.allocate(4 + blocks.size() * BLOCK_ENTRY_BYTES + 8 + 8 + 8 + TRAILER_BYTES);
+            footer.putInt(blocks.size());
+            for (Block block : blocks) {
+                footer.putLong(block.offset).putInt(block.length).putInt(block.rows)
+                    .putLong(block.maxTimestamp).putLong(block.maxId).putLong(block.minTimestamp).putLong(block.minId);
+            }
+            footer.putLong(from).putLong(upTo).putLong(rows.size());
+            footer.putLong(offset).putInt(MAGIC).flip();
+            writeFully(channel, footer);
+            channel.force(true);
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new ArchiveSegment(file, kind, from, upTo, rows.size(), Files.size(file), List.copyOf(blocks));
+    }
+
+    public static ArchiveSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES) throw new IOException("Truncated archive segment " + file);
+
+            ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) throw new IOException("Not an archive segment " + file);
+            int ordinal = header.get();
+            if (ordinal < 0 || ordinal >= ArchiveKind.values().length) throw new IOException("Unknown archive kind in " + file);
+
+            ByteBuffer trailer = readFully(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || footerOffset < HEADER_BYTES || footerOffset > size - TRAILER_BYTES) {
+                throw new IOException("Corrupt archive segment trailer " + file);
+            }
+
+            ByteBuffer footer = readFully(channel, footerOffset, (int) (size - TRAILER_BYTES - footerOffset));
+            int count = footer.getInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                blocks.add(new Block(footer.getLong(), footer.getInt(), footer.getInt(),
+                    footer.getLong(), footer.getLong(), footer.getLong(), footer.getLong()));
+            }
+            long from = footer.getLong();
+            long upTo = footer.getLong();
+            long rows = footer.getLong();
+            return new ArchiveSegment(file, ArchiveKind.values()[ordinal], from, upTo, rows, size, List.copyOf(blocks));
+        }
+    }
+
+    public int scan(PageCursor after, Predicate<ArchivedRow> filter, int limit, List<ArchivedRow> out) throws IOException {
+        int added = 0;
+        if (blocks.isEmpty() || limit <= 0) return 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (Block block : blocks) {
+                if (after != null && !block.hasRowsBefore(after)) continue;
+
+                try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(readFully(channel, block.offset, block.length).array()))) {
+                    for (ArchivedRow row : decodeBlock(kind, new DataInputStream(new BufferedInputStream(in)))) {
+                        if (after != null && !row.isBefore(after.timestamp(), after.id())) continue;
+                        if (filter != null && !filter.test(row)) continue;
+
+                        out.add(row);
+                        if (++added == limit) return added;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    public boolean hasRowsBefore(PageCursor after) {
+        return after == null || (!blocks.isEmpty() && blocks.get(blocks.size() - 1).hasRowsBefore(after));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public ArchiveKind kind() {
+        return kind;
+    }
+
+    public long from() {
+        return from;
+    }
+
+    public long upTo() {
+        return upTo;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public int blockCount() {
+        return blocks.size();
+    }
+
+    private static byte[] encodeBlock(ArchiveKind kind, List<ArchivedRow> rows) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer, deflater))) {
+            writeVarLong(out, rows.size());
+
+            ArchivedRow first = rows.get(0);
+            out.writeLong(first.id());
+            out.writeLong(first.timestamp());
+            for (int i = 1; i < rows.size(); i++) {
+                writeVarLong(out, zigzag(rows.get(i - 1).id() - rows.get(i).id()));
+                writeVarLong(out, zigzag(rows.get(i - 1).timestamp() - rows.get(i).timestamp()));
+            }
+
+            for (int column = 0; column < kind.columns(); column++) {
+                if (kind.isDictionary(column)) {
+                    Map<String, Integer> codes = new HashMap<>();
+                    List<String> dictionary = new ArrayList<>();
+                    int[] encoded = new int[rows.size()];
+                    for (int i = 0; i < rows.size(); i++) {
+                        String value = rows.get(i).value(column);
+                        if (value == null) continue;
+                        Integer code = codes.get(value);
+                        if (code == null) {
+                            dictionary.add(value);
+                            code = dictionary.size();
+                            codes.put(value, code);
+                        }
+                        encoded[i] = code;
+                    }
+
+                    writeVarLong(out, dictionary.size());
+                    for (String value : dictionary) writeString(out, value);
+                    for (int code : encoded) writeVarLong(out, code);
+                } else {
+                    for (ArchivedRow row : rows) writeString(out, row.value(column));
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static List<ArchivedRow> decodeBlock(ArchiveKind kind, DataInputStream in) throws IOException {
+        int count = (int) readVarLong(in);
+        long[] ids = new long[count];
+        long[] timestamps = new long[count];
+        if (count > 0) {
+            ids[0] = in.readLong();
+            timestamps[0] = in.readLong();
+            for (int i = 1; i < count; i++) {
+                ids[i] = ids[i - 1] - unzigzag(readVarLong(in));
+                timestamps[i] = timestamps[i - 1] - unzigzag(readVarLong(in));
+            }
+        }
+
+        String[][] values = new String[count][kind.columns()];
+        for (int column = 0; column < kind.columns(); column++) {
+            if (kind.isDictionary(column)) {
+                int size = (int) readVarLong(in);
+                String[] dictionary = new String[size + 1];
+                for (int i = 1; i <= size; i++) dictionary[i] = readString(in);
+                for (int i = 0; i < count; i++) values[i][column] = dictionary[(int) readVarLong(in)];
+            } else {
+                for (int i = 0; i < count; i++) values[i][column] = readString(in);
+            }
+        }
+
+        List<ArchivedRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) rows.add(new ArchivedRow(ids[i], timestamps[i], values[i]));
+        return rows;
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) return null;
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new EOFException();
+        }
+        return buffer.flip();
+    }
+
+    private record Block(long offset, int length, int rows, long maxTimestamp, long maxId, long minTimestamp, long minId) {
+
+        private boolean hasRowsBefore(PageCursor after) {
+            return minTimestamp < after.timestamp() || (minTimestamp == after.timestamp() && minId < after.id());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.archive;
+
+import com.sparkword.core.storage.model.PageCursor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class ColdArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path folder;
+    private final int blockRows;
+    private final Logger logger;
+    private final Map<ArchiveKind, NavigableMap<Long, ArchiveSegment>> segments = new EnumMap<>(ArchiveKind.class);
+
+    public ColdArchive(Path folder, int blockRows, Logger logger) {
+        this.folder = folder;
+        this.blockRows = Math.max(1, blockRows);
+        this.logger = logger;
+        for (ArchiveKind kind : ArchiveKind.values()) {
+            segments.put(kind, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public void open() {
+        try {
+            Files.createDirectories(folder);
+            try (Stream<Path> files = Files.list(folder)) {
+                files.filter(p -> p.getFileName().toString().endsWith(".tmp")).forEach(this::deleteQuietly);
+            }
+            try (Stream<Path> files = Files.list(folder)) {
+                files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).forEach(file -> {
+                    try {
+                        ArchiveSegment segment = ArchiveSegment.open(file);
+                        segments.get(segment.kind()).put(segment.upTo(), segment);
+                    } catch (IOException e) {
+                        logger.warning("Skipping unreadable archive segment " + file.getFileName() + ": " + e.getMessage());
+                    }
+                });
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not open log archive in " + folder, e);
+        }
+    }
+
+    public long coveredUpTo(ArchiveKind kind) {
+        NavigableMap<Long, ArchiveSegment> bySpan = segments.get(kind);
+        return bySpan.isEmpty() ? 0 : bySpan.lastKey();
+    }
+
+    public synchronized ArchiveSegment append(ArchiveKind kind, List<ArchivedRow> rows, long from, long upTo) throws IOException {
+        Path file = folder.resolve(kind.id() + "-" + from + "-" + upTo + SEGMENT_SUFFIX);
+        ArchiveSegment segment = ArchiveSegment.write(file, kind, rows, from, upTo, blockRows);
+        segments.get(kind).put(upTo, segment);
+        return segment;
+    }
+
+    public List<ArchivedRow> scan(ArchiveKind kind, PageCursor after, Predicate<ArchivedRow> filter, int limit) {
+        List<ArchivedRow> out = new ArrayList<>();
+        if (limit <= 0) return out;
+
+        for (ArchiveSegment segment : segments.get(kind).descendingMap().values()) {
+            if (!segment.hasRowsBefore(after)) continue;
+            try {
+                segment.scan(after, filter, limit - out.size(), out);
+            } catch (IOException e) {
+                logger.warning("Could not read archive segment " + segment.file().getFileName() + ": " + e.getMessage());
+            }
+            if (out.size() >= limit) break;
+        }
+        return out;
+    }
+
+    public synchronized int dropBefore(ArchiveKind kind, long cutoff) {
+        int removed = 0;
+        NavigableMap<Long, ArchiveSegment> expired = segments.get(kind).headMap(cutoff, true);
+        for (ArchiveSegment segment : new ArrayList<>(expired.values())) {
+            try {
+                Files.deleteIfExists(segment.file());
+                expired.remove(segment.upTo());
+                removed += (int) segment.rows();
+            } catch (IOException e) {
+                logger.warning("Could not delete archive segment " + segment.file().getFileName() + ": " + e.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    public int segmentCount(ArchiveKind kind) {
+        return segments.get(kind).size();
+    }
+
+    public long rowCount(ArchiveKind kind) {
+        long rows = 0;
+        for (ArchiveSegment segment : segments.get(kind).values()) rows += segment.rows();
+        return rows;
+    }
+
+    public long byteCount(ArchiveKind kind) {
+        long bytes = 0;
+        for (ArchiveSegment segment : segments.get(kind).values()) bytes += segment.bytes();
+        return bytes;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.cache;
+
+import com.sparkword.core.storage.model.PlayerLogin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class LoginBatcher {
+
+    private final Function<Map<UUID, String>, Map<UUID, PlayerLogin>> loader;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final long timeoutMillis;
+
+    private final Object lock = new Object();
+    private List<Request> pending = new ArrayList<>();
+    private boolean leaderActive;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public LoginBatcher(Function<Map<UUID, String>, Map<UUID, PlayerLogin>> loader, int maxBatch, long windowMillis, long timeoutMillis) {
+        this.loader = loader;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMillis));
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public PlayerLogin resolve(UUID uuid, String name) throws InterruptedException, ExecutionException, TimeoutException {
+        Request request = new Request(uuid, name, new CompletableFuture<>());
+        requests.increment();
+
+        boolean leader;
+        synchronized (lock) {
+            pending.add(request);
+            leader = !leaderActive;
+            if (leader) leaderActive = true;
+            if (pending.size() >= maxBatch) lock.notifyAll();
+        }
+
+        if (leader) lead();
+
+        return request.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long batches() {
+        return batches.sum();
+    }
+
+    private void lead() {
+        List<Request> batch;
+        boolean interrupted = false;
+        synchronized (lock) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining;
+            while (pending.size() < maxBatch && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+            leaderActive = false;
+        }
+
+        Map<UUID, String> players = new HashMap<>(batch.size() * 2);
+        for (Request request : batch) players.put(request.uuid(), request.name());
+
+        batches.increment();
+        try {
+            Map<UUID, PlayerLogin> loaded = loader.apply(players);
+            for (Request request : batch) {
+                request.result().complete(loaded.getOrDefault(request.uuid(), PlayerLogin.UNKNOWN));
+            }
+        } catch (RuntimeException e) {
+            for (Request request : batch) request.result().completeExceptionally(e);
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private record Request(UUID uuid, String name, CompletableFuture<PlayerLogin> result) {
+    }
+}
@@ -18,56 +18,40 @@
 package com.sparkword.core.storage.cache;
 
 import com.sparkword.SparkWord;
+import com.sparkword.core.storage.cache.MuteExpiryScheduler.Deadline;
 import com.sparkword.core.storage.model.MuteInfo;
 import org.bukkit.Bukkit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class MuteCache {
 
     private final SparkWord plugin;
     private final Map<Integer, MuteInfo> cache = new ConcurrentHashMap<>();
-    private final Set<Integer> pendingUnmutes = ConcurrentHashMap.newKeySet();
+    private final MuteExpiryScheduler expiry;
 
     public MuteCache(SparkWord plugin) {
         this.plugin = plugin;
+        this.expiry = new MuteExpiryScheduler("SparkWord-MuteExpiry", this::expire, plugin.getLogger());
     }
 
     public MuteInfo get(int playerId) {
         MuteInfo info = cache.get(playerId);
-
-        if (info != null && info.hasExpired()) {
-
-            if (pendingUnmutes.add(playerId)) {
-
-                update(playerId, MuteInfo.NOT_MUTED);
-
-                plugin.getEnvironment().getStorage().unmute(playerId)
-                    .whenComplete((v, ex) -> {
-                        if (ex != null) {
-                            plugin.getLogger().warning("Error unmuting ID " + playerId + ": " + ex.getMessage());
-
-                            invalidate(playerId);
-                        }
-                        pendingUnmutes.remove(playerId);
-                    });
-            }
-            return MuteInfo.NOT_MUTED;
-        }
-
         return info != null ? info : MuteInfo.NOT_MUTED;
     }
 
     public void update(int playerId, MuteInfo info) {
         cache.put(playerId, info);
-        pendingUnmutes.remove(playerId);
+        if (info.isMuted() && info.expiry() != 0) {
+            expiry.schedule(playerId, info.expiry());
+        }
     }
 
     public void remove(int playerId) {
         cache.remove(playerId);
-        pendingUnmutes.remove(playerId);
     }
 
     public void invalidate(int playerId) {
@@ -79,6 +63,38 @@ public void invalidate(int playerId) {
 
     public void clear() {
         cache.clear();
-        pendingUnmutes.clear();
+        expiry.clear();
+    }
+
+    public int pendingExpiries() {
+        return expiry.pending();
+    }
+
+    public void shutdown() {
+        expiry.shutdown();
+    }
+
+    private void expire(List<Deadline> due) {
+        List<Integer> expired = new ArrayList<>(due.size());
+
+        for (Deadline deadline : due) {
+            boolean[] replaced = new boolean[1];
+            cache.computeIfPresent(deadline.playerId(), (id, current) -> {
+                if (current.isMuted() && current.expiry() == deadline.expiry()) {
+                    replaced[0] = true;
+                    return MuteInfo.NOT_MUTED;
+                }
+                return current;
+            });
+            if (replaced[0]) expired.add(deadline.playerId());
+        }
+
+        if (expired.isEmpty()) return;
+
+        plugin.getEnvironment().getStorage().expireMutes(expired)
+            .exceptionally(ex -> {
+                plugin.getLogger().warning("Error expiring " + expired.size() + " mutes: " + ex.getMessage());
+                return null;
+            });
     }
 }
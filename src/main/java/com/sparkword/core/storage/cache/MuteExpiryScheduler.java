@@ -0,0 +1,126 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class MuteExpiryScheduler {
+
+    private static final int MAX_BATCH = 500;
+
+    private final PriorityQueue<Deadline> heap = new PriorityQueue<>(Comparator.comparingLong(Deadline::expiry));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Consumer<List<Deadline>> handler;
+    private final Logger logger;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public MuteExpiryScheduler(String name, Consumer<List<Deadline>> handler, Logger logger) {
+        this.handler = handler;
+        this.logger = logger;
+        this.thread = new Thread(this::runLoop, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public void schedule(int playerId, long expiry) {
+        Deadline deadline = new Deadline(playerId, expiry);
+        lock.lock();
+        try {
+            heap.add(deadline);
+            if (heap.peek() == deadline) changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            heap.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        thread.interrupt();
+    }
+
+    private void runLoop() {
+        List<Deadline> due = new ArrayList<>();
+
+        while (running) {
+            lock.lock();
+            try {
+                Deadline head = heap.peek();
+                if (head == null) {
+                    changed.await();
+                    continue;
+                }
+
+                long wait = head.expiry() - System.currentTimeMillis();
+                if (wait >= 0) {
+                    changed.await(wait + 1, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                while (due.size() < MAX_BATCH && !heap.isEmpty() && heap.peek().expiry() < now) {
+                    due.add(heap.poll());
+                }
+            } catch (InterruptedException e) {
+                if (!running) break;
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                handler.accept(due);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Mute expiry batch failed", e);
+            }
+            due = new ArrayList<>();
+        }
+    }
+
+    public record Deadline(int playerId, long expiry) {
+    }
+}
@@ -18,32 +18,42 @@
 package com.sparkword.core.storage.cache;
 
 import com.sparkword.SparkWord;
-import com.sparkword.core.storage.model.MuteInfo;
+import com.sparkword.core.storage.model.PlayerLogin;
 
 import java.util.UUID;
 
 public class PlayerLoginSync {
 
+    private static final int MAX_BATCH = 200;
+    private static final long BATCH_WINDOW_MILLIS = 2;
+    private static final long LOGIN_TIMEOUT_MILLIS = 10_000;
+
     private final SparkWord plugin;
     private final MuteCache muteCache;
+    private final LoginBatcher batcher;
 
     public PlayerLoginSync(SparkWord plugin, MuteCache muteCache) {
         this.plugin = plugin;
         this.muteCache = muteCache;
+        this.batcher = new LoginBatcher(
+            players -> plugin.getEnvironment().getStorage().resolveLoginsBlocking(players),
+            MAX_BATCH, BATCH_WINDOW_MILLIS, LOGIN_TIMEOUT_MILLIS
+        );
     }
 
     public int handleLogin(UUID uuid, String name) {
         try {
+            PlayerLogin login = batcher.resolve(uuid, name);
 
-            int playerId = plugin.getEnvironment().getStorage().getPlayerIdBlocking(uuid, name);
-
-            if (playerId != -1) {
-
-                MuteInfo info = plugin.getEnvironment().getStorage().fetchMuteInfoBlocking(playerId);
-                muteCache.update(playerId, info);
+            if (login.playerId() != -1) {
+                muteCache.update(login.playerId(), login.mute());
             }
 
-            return playerId;
+            return login.playerId();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            plugin.getLogger().severe("Interrupted while loading player data " + name);
+            return -1;
         } catch (Exception e) {
             plugin.getLogger().severe("Error loading player data " + name + ": " + e.getMessage());
             return -1;
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.archive.ArchiveKind;
+import com.sparkword.core.storage.archive.ArchivedRow;
+import com.sparkword.core.storage.archive.ColdArchive;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.search.LogSearchIndex;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+public class ArchiveMover {
+
+    private static final Comparator<ArchivedRow> NEWEST_FIRST = Comparator.comparingLong(ArchivedRow::timestamp)
+        .thenComparingLong(ArchivedRow::id).reversed();
+
+    private static final String OLDEST = "SELECT MIN(timestamp) FROM %s WHERE timestamp >= ? AND timestamp < ?";
+    private static final String SELECT_LOGS = "SELECT id, player_name, source, category, content, detected_word, timestamp FROM %s WHERE timestamp >= ? AND timestamp < ?";
+    private static final String SELECT_AUDIT = "SELECT id, staff_name, action, detail, timestamp FROM audit WHERE timestamp >= ? AND timestamp < ?";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final Executor writer;
+    private final LogPartitions partitions;
+    private final ChunkedPurger purger;
+    private final ColdArchive archive;
+    private final LogSearchIndex search;
+    private final long afterMillis;
+    private final long retentionMillis;
+    private final Logger logger;
+
+    public ArchiveMover(SQLConnectionFactory connectionFactory, Executor writer, LogPartitions partitions, ChunkedPurger purger,
+                        ColdArchive archive, LogSearchIndex search, long afterMillis, long retentionMillis, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.writer = writer;
+        this.partitions = partitions;
+        this.purger = purger;
+        this.archive = archive;
+        this.search = search;
+        this.afterMillis = afterMillis;
+        this.retentionMillis = retentionMillis;
+        this.logger = logger;
+    }
+
+    public boolean archive(long deadlineNanos) {
+        long now = System.currentTimeMillis();
+        long cutoff = Math.floorDiv(now - afterMillis, LogPartitions.DAY_MILLIS) * LogPartitions.DAY_MILLIS;
+
+        boolean finished = move(ArchiveKind.LOGS, cutoff, deadlineNanos);
+        finished &= move(ArchiveKind.AUDIT, cutoff, deadlineNanos);
+
+        archive.dropBefore(ArchiveKind.LOGS, now - retentionMillis);
+        archive.dropBefore(ArchiveKind.AUDIT, now - retentionMillis);
+        return finished;
+    }
+
+    private boolean move(ArchiveKind kind, long cutoff, long deadlineNanos) {
+        boolean finished = true;
+        try {
+            long start = archive.coveredUpTo(kind);
+            long oldest = start < cutoff ? oldest(kind, start, cutoff) : Long.MAX_VALUE;
+            if (oldest != Long.MAX_VALUE) {
+                start = Math.max(start, Math.floorDiv(oldest, LogPartitions.DAY_MILLIS) * LogPartitions.DAY_MILLIS);
+            } else {
+                start = cutoff;
+            }
+
+            while (start < cutoff) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    finished = false;
+                    break;
+                }
+                long end = Math.min(start + LogPartitions.DAY_MILLIS, cutoff);
+                List<ArchivedRow> rows = read(kind, start, end);
+                if (!rows.isEmpty()) archive.append(kind, rows, start, end);
+                start = end;
+            }
+        } catch (SQLException | IOException e) {
+            logger.warning("Could not archive " + kind.id() + ": " + e.getMessage());
+            finished = false;
+        }
+
+        long covered = archive.coveredUpTo(kind);
+        if (covered > 0) removeArchived(kind, covered);
+        return finished;
+    }
+
+    private void removeArchived(ArchiveKind kind, long covered) {
+        if (kind == ArchiveKind.LOGS) {
+            CompletableFuture.supplyAsync(() -> partitions.dropOlderThan(covered), writer).join();
+            purger.purge(partitions.partialTables(covered), "timestamp", covered).join();
+            if (search != null) search.purgeOlderThan(covered).join();
+        } else {
+            purger.purge("audit", "timestamp", covered).join();
+        }
+    }
+
+    private long oldest(ArchiveKind kind, long from, long upTo) throws SQLException {
+        long oldest = Long.MAX_VALUE;
+        try (Connection conn = connectionFactory.getReadConnection()) {
+            for (String table : tables(kind, upTo)) {
+                try (PreparedStatement ps = conn.prepareStatement(OLDEST.formatted(table))) {
+                    ps.setLong(1, from);
+                    ps.setLong(2, upTo);
+                    ResultSet rs = ps.executeQuery();
+                    if (rs.next()) {
+                        long value = rs.getLong(1);
+                        if (!rs.wasNull()) oldest = Math.min(oldest, value);
+                    }
+                }
+            }
+        }
+        return oldest;
+    }
+
+    private List<ArchivedRow> read(ArchiveKind kind, long from, long upTo) throws SQLException {
+        List<ArchivedRow> rows = new ArrayList<>();
+        try (Connection conn = connectionFactory.getReadConnection()) {
+            for (String table : tables(kind, upTo)) {
+                String sql = kind == ArchiveKind.LOGS ? SELECT_LOGS.formatted(table) : SELECT_AUDIT;
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setLong(1, from);
+                    ps.setLong(2, upTo);
+                    ResultSet rs = ps.executeQuery();
+                    while (rs.next()) {
+                        String[] values = new String[kind.columns()];
+                        for (int column = 0; column < values.length; column++) {
+                            values[column] = rs.getString(column + 2);
+                        }
+                        rows.add(new ArchivedRow(rs.getLong("id"), rs.getLong("timestamp"), values));
+                    }
+                }
+            }
+        }
+        rows.sort(NEWEST_FIRST);
+        return rows;
+    }
+
+    private List<String> tables(ArchiveKind kind, long upTo) {
+        return kind == ArchiveKind.LOGS ? partitions.tablesNewestFirst(upTo - 1) : List.of("audit");
+    }
+}
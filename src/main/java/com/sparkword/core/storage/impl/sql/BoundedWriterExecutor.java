@@ -0,0 +1,65 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BoundedWriterExecutor extends ThreadPoolExecutor {
+
+    private final long blockTimeoutMillis;
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedWriterExecutor(String name, int capacity, long blockTimeoutMillis) {
+        super(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, capacity)), r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(false);
+            return t;
+        });
+        this.blockTimeoutMillis = Math.max(0, blockTimeoutMillis);
+        setRejectedExecutionHandler((task, executor) -> {
+            if (executor.isShutdown()) throw new RejectedExecutionException("Writer is shut down");
+
+            blocked.increment();
+            try {
+                if (executor.getQueue().offer(task, this.blockTimeoutMillis, TimeUnit.MILLISECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            rejected.increment();
+            throw new RejectedExecutionException("Writer queue is full");
+        });
+    }
+
+    public int depth() {
+        return getQueue().size();
+    }
+
+    public long blocked() {
+        return blocked.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ChunkedPurger {
+
+    private final SQLConnectionFactory connectionFactory;
+    private final Executor writer;
+    private final QueryAdapter queryAdapter;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final ExecutorService loop = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+    private volatile boolean closed;
+
+    public ChunkedPurger(SQLConnectionFactory connectionFactory, Executor writer, QueryAdapter queryAdapter, int chunkSize, long pauseMillis) {
+        this.connectionFactory = connectionFactory;
+        this.writer = writer;
+        this.queryAdapter = queryAdapter;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    public CompletableFuture<Integer> purge(String table, String column, long cutoff) {
+        return purge(List.of(table), column, cutoff);
+    }
+
+    public CompletableFuture<Integer> purge(List<String> tables, String column, long cutoff) {
+        return purge(tables, column, cutoff, Long.MAX_VALUE);
+    }
+
+    public CompletableFuture<Integer> purge(String table, String column, long cutoff, long deadlineNanos) {
+        return purge(List.of(table), column, cutoff, deadlineNanos);
+    }
+
+    public CompletableFuture<Integer> purge(List<String> tables, String column, long cutoff, long deadlineNanos) {
+        return inChunks(tables, (conn, table, limit) -> {
+            try (PreparedStatement ps = conn.prepareStatement(queryAdapter.getChunkedDeleteQuery(table, column))) {
+                ps.setLong(1, cutoff);
+                ps.setInt(2, limit);
+                int deleted = ps.executeUpdate();
+                purged.add(deleted);
+                return deleted;
+            }
+        }, deadlineNanos);
+    }
+
+    public CompletableFuture<Integer> inChunks(List<String> tables, Chunk chunk) {
+        return inChunks(tables, chunk, Long.MAX_VALUE);
+    }
+
+    public CompletableFuture<Integer> inChunks(List<String> tables, Chunk chunk, long deadlineNanos) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                int total = 0;
+                for (String table : tables) {
+                    if (System.nanoTime() >= deadlineNanos) break;
+                    total += runTable(table, chunk, deadlineNanos);
+                }
+                return total;
+            }, loop);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(0);
+        }
+    }
+
+    public long chunks() {
+        return chunks.sum();
+    }
+
+    public long purged() {
+        return purged.sum();
+    }
+
+    public void close() {
+        closed = true;
+        loop.shutdown();
+        try {
+            if (!loop.awaitTermination(5, TimeUnit.SECONDS)) loop.shutdownNow();
+        } catch (InterruptedException e) {
+            loop.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int runTable(String table, Chunk chunk, long deadlineNanos) {
+        int total = 0;
+        while (!closed) {
+            int done;
+            try {
+                done = CompletableFuture.supplyAsync(() -> runChunk(table, chunk), writer).join();
+            } catch (CompletionException | RejectedExecutionException e) {
+                break;
+            }
+
+            total += done;
+            chunks.increment();
+            if (done < chunkSize || System.nanoTime() >= deadlineNanos) break;
+
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    private int runChunk(String table, Chunk chunk) {
+        try (Connection conn = connectionFactory.getConnection()) {
+            return chunk.run(conn, table, chunkSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Chunk {
+        int run(Connection conn, String table, int limit) throws SQLException;
+    }
+}
@@ -0,0 +1,621 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.spi.WriteMetrics;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+public class GroupCommitWriter {
+
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long REPLAY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final SQLConnectionFactory connectionFactory;
+    private final ExecutorService writer;
+    private final Logger logger;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final OverflowPolicy policy;
+    private final long blockTimeoutNanos;
+    private final SpillJournal journal;
+    private final Thread thread;
+    private volatile WriteAheadJournal wal;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<PendingRow> high = new ArrayDeque<>();
+    private final ArrayDeque<PendingRow> low = new ArrayDeque<>();
+    private final int highCapacity;
+    private final int lowCapacity;
+
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder quarantined = new LongAdder();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong largestBatch = new AtomicLong();
+    private final AtomicLong commitNanos = new AtomicLong();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running = true;
+    private volatile boolean spillPending;
+    private volatile boolean journalFull;
+    private volatile long nextReplayAt;
+
+    public GroupCommitWriter(SQLConnectionFactory connectionFactory, ExecutorService writer, Logger logger,
+                             int capacity, int maxBatch, long maxDelayMillis,
+                             OverflowPolicy policy, long blockTimeoutMillis, SpillJournal journal, WriteAheadJournal wal) {
+        this.connectionFactory = connectionFactory;
+        this.writer = writer;
+        this.logger = logger;
+        this.lowCapacity = Math.max(1, capacity);
+        this.highCapacity = Math.max(64, lowCapacity / 4);
+        this.maxBatch = Math.max(1, maxBatch);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+        this.policy = journal == null && policy == OverflowPolicy.SPILL ? OverflowPolicy.BLOCK : policy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockTimeoutMillis));
+        this.journal = journal;
+        this.wal = wal;
+        this.spillPending = journal != null && !journal.isEmpty();
+        this.nextReplayAt = System.nanoTime();
+        this.thread = new Thread(this::runLoop, "SparkWord-DB-Batch");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public int recover() {
+        WriteAheadJournal journalled = wal;
+        if (journalled == null) return 0;
+
+        List<PendingRow> pending;
+        try {
+            pending = journalled.open();
+        } catch (IOException e) {
+            logger.warning("Could not open write-ahead journal, writes will not be journaled: " + e.getMessage());
+            wal = null;
+            return 0;
+        }
+
+        List<PendingRow> leftovers = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i += maxBatch) {
+            List<PendingRow> chunk = pending.subList(i, Math.min(pending.size(), i + maxBatch));
+            List<PendingRow> unwritten = write(chunk).pending();
+            if (unwritten.isEmpty() || spill(unwritten)) {
+                recovered.add(chunk.size());
+            } else {
+                recovered.add(chunk.size() - unwritten.size());
+                leftovers.addAll(unwritten);
+            }
+        }
+
+        journalled.truncate();
+        for (PendingRow row : leftovers) {
+            admit(journal(row));
+        }
+        return pending.size();
+    }
+
+    public void enqueue(Priority priority, String sql, Object... params) {
+        admit(journal(new PendingRow(priority, sql, params, 0L, null)));
+    }
+
+    public CompletableFuture<Void> submit(Priority priority, String sql, Object... params) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        admit(journal(new PendingRow(priority, sql, params, 0L, done)));
+        return done;
+    }
+
+    private PendingRow journal(PendingRow row) {
+        WriteAheadJournal journalled = wal;
+        if (journalled == null) return row;
+
+        long seq;
+        try {
+            seq = journalled.append(row);
+        } catch (IOException e) {
+            logger.warning("Could not append to write-ahead journal: " + e.getMessage());
+            return row;
+        }
+        if (seq == 0) {
+            if (!journalFull) {
+                journalFull = true;
+                logger.warning("Write-ahead journal is full: " + journalled.pending() + " uncommitted rows hold the checkpoint at seq "
+                    + journalled.checkpoint() + ". New writes are not journaled until they commit.");
+            }
+            return row;
+        }
+
+        journalFull = false;
+        return new PendingRow(row.priority(), row.sql(), row.params(), seq, row.done());
+    }
+
+    private void admit(PendingRow row) {
+        if (!running) {
+            writeDirect(row);
+            return;
+        }
+        if (offer(row, 0)) return;
+
+        overflow.increment();
+        if (policy == OverflowPolicy.SPILL && row.priority() == Priority.LOW && spill(List.of(row))) {
+            settle(List.of(row));
+            return;
+        }
+        if (policy == OverflowPolicy.DROP && row.priority() == Priority.LOW) {
+            dropped.increment();
+            settle(List.of(row));
+            return;
+        }
+        if (offer(row, blockTimeoutNanos)) return;
+
+        if (row.priority() == Priority.LOW && policy != OverflowPolicy.BLOCK) {
+            dropped.increment();
+            settle(List.of(row));
+            return;
+        }
+        writeDirect(row);
+    }
+
+    public int depth() {
+        lock.lock();
+        try {
+            return high.size() + low.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public OverflowPolicy policy() {
+        return policy;
+    }
+
+    public WriteMetrics metrics() {
+        long batchCount = batches.get();
+        WriteAheadJournal journalled = wal;
+        int writerDepth = 0;
+        long writerBlocked = 0;
+        long writerRefused = 0;
+        if (writer instanceof BoundedWriterExecutor bounded) {
+            writerDepth = bounded.depth();
+            writerBlocked = bounded.blocked();
+            writerRefused = bounded.rejected();
+        }
+
+        return new WriteMetrics(
+            depth(),
+            batchCount,
+            rows.get(),
+            (int) largestBatch.get(),
+            batchCount == 0 ? 0 : commitNanos.get() / batchCount / 1000,
+            maxCommitNanos.get() / 1000,
+            overflow.sum(),
+            dropped.sum(),
+            spilled.sum(),
+            replayed.sum(),
+            failed.get(),
+            quarantined.sum(),
+            writerDepth,
+            writerBlocked,
+            writerRefused,
+            journalled != null ? journalled.appended() : 0,
+            journalled != null ? journalled.pending() : 0,
+            journalled != null ? journalled.bypassed() : 0,
+            recovered.sum()
+        );
+    }
+
+    public void close() {
+        running = false;
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingRow> rest = new ArrayList<>();
+        while (drainTo(rest, maxBatch) > 0) {
+            flush(rest);
+            rest = new ArrayList<>();
+        }
+
+        if (journal != null) journal.close();
+    }
+
+    private void runLoop() {
+        while (running || depth() > 0) {
+            List<PendingRow> batch = new ArrayList<>();
+            try {
+                PendingRow first = poll(IDLE_POLL_NANOS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatch) {
+                    drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0 || !running) break;
+
+                    PendingRow next = poll(remaining);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            if (!batch.isEmpty()) flush(batch);
+            if (depth() < maxBatch) replaySpill();
+        }
+    }
+
+    private void flush(List<PendingRow> batch) {
+        if (spillPending) {
+            replaySpill();
+            if (spillPending && spill(batch)) {
+                settle(batch);
+                return;
+            }
+        }
+
+        BatchResult result = null;
+        while (result == null) {
+            try {
+                result = CompletableFuture.supplyAsync(() -> write(batch), writer).join();
+            } catch (RejectedExecutionException e) {
+                if (!running || writer.isShutdown()) {
+                    result = BatchResult.unwritten(batch);
+                } else {
+                    LockSupport.parkNanos(IDLE_POLL_NANOS);
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Batched write failed: " + e.getMessage());
+                result = BatchResult.unwritten(batch);
+            }
+        }
+        complete(result);
+    }
+
+    private void writeDirect(PendingRow row) {
+        List<PendingRow> single = List.of(row);
+        try {
+            writer.execute(() -> {
+                if (spillPending && spill(single)) {
+                    settle(single);
+                } else {
+                    complete(write(single));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            handleFailure(single);
+        }
+    }
+
+    private void complete(BatchResult result) {
+        settle(result.committed());
+        reject(result.rejected());
+        if (!result.pending().isEmpty()) handleFailure(result.pending());
+    }
+
+    private void reject(List<PendingRow> rows) {
+        if (rows.isEmpty()) return;
+        SQLException cause = new SQLException("Row was rejected by the database");
+        for (PendingRow row : rows) {
+            if (row.done() != null) row.done().completeExceptionally(cause);
+        }
+        release(rows);
+    }
+
+    private void handleFailure(List<PendingRow> batch) {
+        nextReplayAt = System.nanoTime() + REPLAY_BACKOFF_NANOS;
+        if ((policy == OverflowPolicy.SPILL || wal != null) && spill(batch)) {
+            settle(batch);
+            return;
+        }
+
+        List<PendingRow> lost = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            if (!running && row.seq() > 0) {
+                if (row.done() != null) row.done().complete(null);
+            } else {
+                lost.add(row);
+            }
+        }
+        if (lost.isEmpty()) return;
+
+        failed.addAndGet(lost.size());
+        SQLException cause = new SQLException("Write could not be committed");
+        for (PendingRow row : lost) {
+            if (row.done() != null) row.done().completeExceptionally(cause);
+        }
+        release(lost);
+    }
+
+    private void settle(List<PendingRow> batch) {
+        for (PendingRow row : batch) {
+            if (row.done() != null) row.done().complete(null);
+        }
+        release(batch);
+    }
+
+    private void release(List<PendingRow> batch) {
+        WriteAheadJournal journalled = wal;
+        if (journalled == null) return;
+
+        List<Long> seqs = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            if (row.seq() > 0) seqs.add(row.seq());
+        }
+        if (!seqs.isEmpty()) journalled.applied(seqs);
+    }
+
+    private boolean spill(List<PendingRow> batch) {
+        if (journal == null) return false;
+        try {
+            journal.append(batch);
+            spilled.add(batch.size());
+            spillPending = true;
+            return true;
+        } catch (IOException e) {
+            logger.warning("Could not spill " + batch.size() + " rows to journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void replaySpill() {
+        if (!spillPending || !running || System.nanoTime() - nextReplayAt < 0) return;
+
+        try {
+            int count = journal.replay(maxBatch, chunk -> {
+                try {
+                    BatchResult result = CompletableFuture.supplyAsync(() -> write(chunk), writer).join();
+                    return chunk.size() - result.pending().size();
+                } catch (RuntimeException e) {
+                    return 0;
+                }
+            });
+            replayed.add(count);
+            spillPending = !journal.isEmpty();
+            if (spillPending) nextReplayAt = System.nanoTime() + REPLAY_BACKOFF_NANOS;
+        } catch (IOException e) {
+            logger.warning("Could not replay spill journal: " + e.getMessage());
+            nextReplayAt = System.nanoTime() + REPLAY_BACKOFF_NANOS;
+        }
+    }
+
+    private BatchResult write(List<PendingRow> batch) {
+        try {
+            commit(batch);
+            return new BatchResult(batch, List.of(), List.of());
+        } catch (SQLException e) {
+            logger.warning("Error committing batch of " + batch.size() + " rows: " + e.getMessage());
+            if (isTransient(e)) return BatchResult.unwritten(batch);
+            if (batch.size() == 1) {
+                quarantined.increment();
+                return new BatchResult(List.of(), batch, List.of());
+            }
+        }
+
+        List<PendingRow> committed = new ArrayList<>(batch.size());
+        List<PendingRow> rejected = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRow row = batch.get(i);
+            try {
+                commit(List.of(row));
+                committed.add(row);
+            } catch (SQLException e) {
+                if (isTransient(e)) return new BatchResult(committed, rejected, batch.subList(i, batch.size()));
+                logger.warning("Rejected row that fails on its own (" + row.sql() + "): " + e.getMessage());
+                rejected.add(row);
+                quarantined.increment();
+            }
+        }
+        return new BatchResult(committed, rejected, List.of());
+    }
+
+    private void commit(List<PendingRow> batch) throws SQLException {
+        Map<String, PreparedStatement> statements = new HashMap<>();
+
+        long start = System.nanoTime();
+        try (Connection conn = connect()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                PreparedStatement current = null;
+                for (PendingRow row : batch) {
+                    PreparedStatement ps = statements.get(row.sql());
+                    if (ps == null) {
+                        ps = conn.prepareStatement(row.sql());
+                        statements.put(row.sql(), ps);
+                    }
+                    if (current != null && current != ps) current.executeBatch();
+                    current = ps;
+
+                    Object[] params = row.params();
+                    for (int i = 0; i < params.length; i++) {
+                        ps.setObject(i + 1, params[i]);
+                    }
+                    ps.addBatch();
+                }
+                if (current != null) current.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                for (PreparedStatement ps : statements.values()) ps.close();
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        batches.incrementAndGet();
+        rows.addAndGet(batch.size());
+        largestBatch.accumulateAndGet(batch.size(), Math::max);
+        commitNanos.addAndGet(elapsed);
+        maxCommitNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private Connection connect() throws SQLException {
+        try {
+            return connectionFactory.getConnection();
+        } catch (SQLException e) {
+            throw new SQLTransientConnectionException(e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+        }
+    }
+
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+            || e instanceof SQLNonTransientConnectionException) return true;
+
+        String state = e.getSQLState();
+        if (state != null) return state.startsWith("08") || state.startsWith("40") || state.startsWith("HYT");
+
+        return switch (e.getErrorCode()) {
+            case 5, 6, 10, 13, 14 -> true;
+            default -> false;
+        };
+    }
+
+    private boolean offer(PendingRow row, long timeoutNanos) {
+        lock.lock();
+        try {
+            ArrayDeque<PendingRow> queue = row.priority() == Priority.HIGH ? high : low;
+            int capacity = row.priority() == Priority.HIGH ? highCapacity : lowCapacity;
+            long nanos = timeoutNanos;
+            while (queue.size() >= capacity) {
+                if (nanos <= 0 || !running) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            queue.addLast(row);
+            notEmpty.signal();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PendingRow poll(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeoutNanos;
+            while (high.isEmpty() && low.isEmpty()) {
+                if (nanos <= 0 || !running) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            PendingRow row = high.isEmpty() ? low.pollFirst() : high.pollFirst();
+            notFull.signalAll();
+            return row;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int drainTo(List<PendingRow> batch, int max) {
+        lock.lock();
+        try {
+            int moved = 0;
+            while (moved < max && !high.isEmpty()) {
+                batch.add(high.pollFirst());
+                moved++;
+            }
+            while (moved < max && !low.isEmpty()) {
+                batch.add(low.pollFirst());
+                moved++;
+            }
+            if (moved > 0) notFull.signalAll();
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP,
+        SPILL;
+
+        public static OverflowPolicy parse(String value) {
+            if (value == null) return SPILL;
+            String normalized = value.trim().toUpperCase(Locale.ROOT);
+            if (normalized.startsWith("DROP")) return DROP;
+            try {
+                return valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                return SPILL;
+            }
+        }
+    }
+
+    private record BatchResult(List<PendingRow> committed, List<PendingRow> rejected, List<PendingRow> pending) {
+
+        static BatchResult unwritten(List<PendingRow> batch) {
+            return new BatchResult(List.of(), List.of(), batch);
+        }
+    }
+
+    record PendingRow(Priority priority, String sql, Object[] params, long seq, CompletableFuture<Void> done) {
+    }
+}
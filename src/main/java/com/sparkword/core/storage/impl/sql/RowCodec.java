@@ -0,0 +1,95 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.PendingRow;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+final class RowCodec {
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INT = 3;
+
+    private RowCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static byte[] encode(PendingRow row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, row.sql());
+        out.writeByte(row.priority().ordinal());
+        out.writeShort(row.params().length);
+        for (Object param : row.params()) {
+            switch (param) {
+                case null -> out.writeByte(TYPE_NULL);
+                case Long l -> {
+                    out.writeByte(TYPE_LONG);
+                    out.writeLong(l);
+                }
+                case Integer i -> {
+                    out.writeByte(TYPE_INT);
+                    out.writeInt(i);
+                }
+                default -> {
+                    out.writeByte(TYPE_STRING);
+                    writeString(out, param.toString());
+                }
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static PendingRow decode(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        String sql = readString(in);
+        Priority priority = Priority.values()[in.readByte()];
+        Object[] params = new Object[in.readShort()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = switch (in.readByte()) {
+                case TYPE_LONG -> in.readLong();
+                case TYPE_INT -> in.readInt();
+                case TYPE_STRING -> readString(in);
+                default -> null;
+            };
+        }
+        return new PendingRow(priority, sql, params, 0L, null);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -29,8 +29,11 @@
 
 public class SQLConnectionFactory {
 
+    private static final int SQLITE_OPEN_READONLY = 0x00000001;
+
     private final SparkWord plugin;
     private HikariDataSource dataSource;
+    private HikariDataSource readDataSource;
 
     public SQLConnectionFactory(SparkWord plugin) {
         this.plugin = plugin;
@@ -44,7 +47,7 @@ public void init(ConfigManager cfg) {
             if (type.equalsIgnoreCase("mysql") || type.equalsIgnoreCase("mariadb")) {
                 initMySQL(settings);
             } else {
-                initSQLite();
+                initSQLite(settings);
             }
 
             try (Connection ignored = dataSource.getConnection()) {
@@ -57,7 +60,7 @@ public void init(ConfigManager cfg) {
         }
     }
 
-    private void initSQLite() {
+    private void initSQLite(StorageSettings settings) {
         File file = new File(plugin.getDataFolder(), "database/data.db");
         if (!file.getParentFile().exists()) file.getParentFile().mkdirs();
 
@@ -70,8 +73,27 @@ private void initSQLite() {
         config.addDataSourceProperty("journal_mode", "WAL");
         config.addDataSourceProperty("synchronous", "NORMAL");
         config.addDataSourceProperty("busy_timeout", "3000");
+        config.addDataSourceProperty("auto_vacuum", "INCREMENTAL");
 
         this.dataSource = new HikariDataSource(config);
+
+        if (settings.getReadPoolSize() > 0) {
+            this.readDataSource = new HikariDataSource(readOnlyConfig(file, settings.getReadPoolSize()));
+        }
+    }
+
+    private HikariConfig readOnlyConfig(File file, int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:" + file.getPath());
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setMaximumPoolSize(poolSize);
+        config.setPoolName("SparkWord-SQLite-Read");
+
+        config.addDataSourceProperty("open_mode", String.valueOf(SQLITE_OPEN_READONLY));
+        config.addDataSourceProperty("query_only", "true");
+        config.addDataSourceProperty("busy_timeout", "3000");
+
+        return config;
     }
 
     private void initMySQL(StorageSettings settings) {
@@ -118,7 +140,19 @@ public Connection getConnection() throws SQLException {
         return dataSource.getConnection();
     }
 
+    public Connection getReadConnection() throws SQLException {
+        if (readDataSource == null) return getConnection();
+        return readDataSource.getConnection();
+    }
+
     public void close() {
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            try {
+                readDataSource.close();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error closing read DataSource: " + e.getMessage());
+            }
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             try {
                 dataSource.close();
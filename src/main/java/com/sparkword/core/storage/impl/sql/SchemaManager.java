@@ -20,8 +20,16 @@
 import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 public class SchemaManager {
@@ -29,11 +37,24 @@ public class SchemaManager {
     private final SQLConnectionFactory pool;
     private final Logger logger;
     private final QueryAdapter queryAdapter;
+    private final List<IndexDefinition> indexes;
 
     public SchemaManager(SQLConnectionFactory pool, Logger logger, QueryAdapter queryAdapter) {
         this.pool = pool;
         this.logger = logger;
         this.queryAdapter = queryAdapter;
+        this.indexes = List.of(
+            new IndexDefinition("idx_logs_timestamp", "monitor_logs", "timestamp"),
+            new IndexDefinition("idx_logs_category_time", "monitor_logs", "category, timestamp, id"),
+            new IndexDefinition("idx_logs_player_time", "monitor_logs", "player_name, timestamp, id"),
+            new IndexDefinition("idx_audit_time", "audit", "timestamp, id"),
+            new IndexDefinition("idx_audit_staff_time", "audit", queryAdapter.getCaseInsensitiveColumn("staff_name") + ", timestamp, id"),
+            new IndexDefinition("idx_warnings_player_time", "warnings", "player_id, created_at, id"),
+            new IndexDefinition("idx_mute_history_player_time", "mute_history", "player_id, created_at, id"),
+            new IndexDefinition("idx_mute_history_created", "mute_history", "created_at"),
+            new IndexDefinition("idx_suggestions_created", "suggestions", "created_at"),
+            new IndexDefinition("idx_players_uuid", "players", "uuid")
+        );
     }
 
     public void runMigrations() {
@@ -55,25 +76,52 @@ public void runMigrations() {
         }
     }
 
-    private void createIndices(Statement stmt) throws SQLException {
-        try {
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_logs_timestamp ON monitor_logs(timestamp)");
-        } catch (SQLException ignored) {
+    public int repairIndices() {
+        int repaired = 0;
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            DatabaseMetaData meta = conn.getMetaData();
+            Map<String, Set<String>> existing = new HashMap<>();
+
+            for (IndexDefinition index : indexes) {
+                Set<String> names = existing.computeIfAbsent(index.table(), table -> listIndexes(meta, conn, table));
+                if (names.contains(index.name().toLowerCase(Locale.ROOT))) continue;
+
+                createIndex(stmt, index);
+                repaired++;
+                logger.warning("Recreated missing index " + index.name() + " on " + index.table() + ".");
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not check database indexes: " + e.getMessage());
         }
+        return repaired;
+    }
 
-        try {
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_warnings_player ON warnings(player_id)");
-        } catch (SQLException ignored) {
+    private Set<String> listIndexes(DatabaseMetaData meta, Connection conn, String table) {
+        Set<String> names = new HashSet<>();
+        try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name != null) names.add(name.toLowerCase(Locale.ROOT));
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not list indexes of " + table + ": " + e.getMessage());
         }
+        return names;
+    }
 
-        try {
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_mute_history_player ON mute_history(player_id)");
-        } catch (SQLException ignored) {
+    private void createIndices(Statement stmt) {
+        for (IndexDefinition index : indexes) {
+            createIndex(stmt, index);
         }
+    }
 
+    private void createIndex(Statement stmt, IndexDefinition index) {
         try {
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_players_uuid ON players(uuid)");
+            stmt.execute(queryAdapter.getIndexCreationQuery(index.name(), index.table(), index.columns()));
         } catch (SQLException ignored) {
         }
     }
+
+    private record IndexDefinition(String name, String table, String columns) {
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.PendingRow;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SpillJournal {
+
+    private final File file;
+    private FileChannel channel;
+
+    public SpillJournal(File file) {
+        this.file = file;
+    }
+
+    synchronized void append(List<PendingRow> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (PendingRow row : rows) {
+            byte[] record = RowCodec.encode(row);
+            out.writeInt(record.length);
+            out.write(record);
+        }
+        out.flush();
+
+        FileChannel ch = channel();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) ch.write(buffer);
+    }
+
+    public synchronized boolean isEmpty() {
+        return !file.exists() || file.length() == 0;
+    }
+
+    public synchronized long sizeBytes() {
+        return file.exists() ? file.length() : 0;
+    }
+
+    synchronized int replay(int chunkSize, ChunkWriter writer) throws IOException {
+        if (isEmpty()) return 0;
+        closeChannel();
+
+        int replayed = 0;
+        long consumed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            List<Integer> sizes = new ArrayList<>(chunkSize);
+
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > file.length()) break;
+
+                byte[] record = new byte[length];
+                try {
+                    in.readFully(record);
+                } catch (EOFException e) {
+                    break;
+                }
+                chunk.add(RowCodec.decode(record));
+                sizes.add(4 + length);
+
+                if (chunk.size() >= chunkSize) {
+                    int handled = writer.write(chunk);
+                    replayed += handled;
+                    consumed += bytes(sizes, handled);
+                    if (handled < chunk.size()) {
+                        compact(consumed);
+                        return replayed;
+                    }
+                    chunk = new ArrayList<>(chunkSize);
+                    sizes.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                int handled = writer.write(chunk);
+                replayed += handled;
+                consumed += bytes(sizes, handled);
+                if (handled < chunk.size()) {
+                    compact(consumed);
+                    return replayed;
+                }
+            }
+        }
+
+        Files.deleteIfExists(file.toPath());
+        return replayed;
+    }
+
+    private static long bytes(List<Integer> sizes, int records) {
+        long total = 0;
+        for (int i = 0; i < records; i++) total += sizes.get(i);
+        return total;
+    }
+
+    public synchronized void close() {
+        closeChannel();
+    }
+
+    private void compact(long offset) throws IOException {
+        if (offset == 0) return;
+
+        File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileChannel src = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             FileChannel dst = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = offset;
+            long size = src.size();
+            while (position < size) {
+                position += src.transferTo(position, size - position, dst);
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            File parent = file.getParentFile();
+            if (parent != null && !parent.exists()) parent.mkdirs();
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    @FunctionalInterface
+    interface ChunkWriter {
+        int write(List<PendingRow> rows);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql;
+
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.PendingRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+public class WriteAheadJournal {
+
+    private static final int MAGIC = 0x53574A31;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final int CHECKPOINT_OFFSET = 8;
+
+    private final File directory;
+    private final int segmentBytes;
+    private final Segment[] segments = new Segment[2];
+    private final TreeSet<Long> unapplied = new TreeSet<>();
+
+    private int active;
+    private long lastSeq;
+    private long checkpoint;
+    private long appended;
+    private long bypassed;
+
+    public WriteAheadJournal(File directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+    }
+
+    public synchronized List<PendingRow> open() throws IOException {
+        if (!directory.exists()) directory.mkdirs();
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(new File(directory, "journal-" + i + ".wal"), segmentBytes);
+            checkpoint = Math.max(checkpoint, segments[i].readCheckpoint());
+            segments[i].scan(entries);
+        }
+
+        lastSeq = checkpoint;
+        List<PendingRow> pending = new ArrayList<>();
+        entries.sort(Comparator.comparingLong(Entry::seq));
+        for (Entry entry : entries) {
+            lastSeq = Math.max(lastSeq, entry.seq());
+            if (entry.seq() > checkpoint) pending.add(RowCodec.decode(entry.payload()));
+        }
+        return pending;
+    }
+
+    public synchronized long append(PendingRow row) throws IOException {
+        byte[] payload = RowCodec.encode(row);
+        int needed = RECORD_HEADER_BYTES + payload.length + 4;
+
+        Segment segment = segments[active];
+        if (segment.remaining() < needed) {
+            Segment other = segments[1 - active];
+            if (other.maxSeq > checkpoint || other.capacity() < needed) {
+                bypassed++;
+                return 0;
+            }
+            other.reset(checkpoint);
+            active = 1 - active;
+            segment = other;
+        }
+
+        long seq = ++lastSeq;
+        segment.write(seq, payload);
+        unapplied.add(seq);
+        appended++;
+        return seq;
+    }
+
+    public synchronized void applied(Collection<Long> seqs) {
+        for (Long seq : seqs) {
+            if (seq > 0) unapplied.remove(seq);
+        }
+
+        long next = unapplied.isEmpty() ? lastSeq : unapplied.first() - 1;
+        if (next <= checkpoint) return;
+        checkpoint = next;
+
+        if (unapplied.isEmpty()) {
+            for (Segment segment : segments) segment.reset(checkpoint);
+        } else {
+            for (Segment segment : segments) segment.writeCheckpoint(checkpoint);
+        }
+    }
+
+    public synchronized void truncate() {
+        unapplied.clear();
+        checkpoint = lastSeq;
+        for (Segment segment : segments) {
+            if (segment != null) segment.reset(checkpoint);
+        }
+    }
+
+    public synchronized int pending() {
+        return unapplied.size();
+    }
+
+    public synchronized long appended() {
+        return appended;
+    }
+
+    public synchronized long bypassed() {
+        return bypassed;
+    }
+
+    public synchronized long checkpoint() {
+        return checkpoint;
+    }
+
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            if (segment == null) continue;
+            if (unapplied.isEmpty()) segment.reset(checkpoint);
+            segment.close();
+        }
+    }
+
+    private record Entry(long seq, byte[] payload) {
+    }
+
+    private static final class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position = HEADER_BYTES;
+        private long maxSeq;
+
+        private Segment(File file, int size) throws IOException {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                buffer.putInt(0, MAGIC);
+                buffer.putLong(CHECKPOINT_OFFSET, 0L);
+                buffer.putInt(HEADER_BYTES, 0);
+            }
+        }
+
+        private long readCheckpoint() {
+            return buffer.getLong(CHECKPOINT_OFFSET);
+        }
+
+        private void writeCheckpoint(long checkpoint) {
+            buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        }
+
+        private void scan(List<Entry> entries) {
+            int pos = HEADER_BYTES;
+            while (pos + RECORD_HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(pos);
+                if (length <= 0 || pos + RECORD_HEADER_BYTES + length > buffer.capacity()) break;
+
+                int crc = buffer.getInt(pos + 4);
+                long seq = buffer.getLong(pos + 8);
+                byte[] payload = new byte[length];
+                buffer.get(pos + RECORD_HEADER_BYTES, payload);
+                if (crc != checksum(payload)) break;
+
+                entries.add(new Entry(seq, payload));
+                maxSeq = Math.max(maxSeq, seq);
+                pos += RECORD_HEADER_BYTES + length;
+            }
+            position = pos;
+        }
+
+        private void write(long seq, byte[] payload) {
+            int pos = position;
+            buffer.putInt(pos + 4, checksum(payload));
+            buffer.putLong(pos + 8, seq);
+            buffer.put(pos + RECORD_HEADER_BYTES, payload);
+
+            int end = pos + RECORD_HEADER_BYTES + payload.length;
+            if (end + 4 <= buffer.capacity()) buffer.putInt(end, 0);
+            buffer.putInt(pos, payload.length);
+
+            position = end;
+            maxSeq = seq;
+        }
+
+        private void reset(long checkpoint) {
+            buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+            buffer.putInt(HEADER_BYTES, 0);
+            position = HEADER_BYTES;
+            maxSeq = 0;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private int capacity() {
+            return buffer.capacity() - HEADER_BYTES;
+        }
+
+        private void close() {
+            buffer.force();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private static int checksum(byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue();
+        }
+    }
+}
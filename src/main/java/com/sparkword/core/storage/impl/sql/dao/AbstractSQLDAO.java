@@ -19,7 +19,10 @@
 
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 public abstract class AbstractSQLDAO {
 
@@ -32,4 +35,20 @@ public AbstractSQLDAO(SQLConnectionFactory connectionFactory, ExecutorService wr
         this.writer = writer;
         this.reader = reader;
     }
+
+    protected <T> CompletableFuture<T> supplyOnWriter(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, writer);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    protected CompletableFuture<Void> runOnWriter(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, writer);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.dao;
+
+import com.sparkword.core.storage.impl.sql.ArchiveMover;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.SchemaManager;
+import com.sparkword.core.storage.spi.dao.MaintenanceDAO;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+public class MySQLMaintenanceDAO extends AbstractSQLDAO implements MaintenanceDAO {
+
+    private static final List<String> TASKS = List.of("analyze", "indexes");
+    private static final List<String> TASKS_WITH_ARCHIVE = List.of("archive", "analyze", "indexes");
+    private static final List<String> TABLES = List.of("players", "muted", "mute_history", "warnings", "suggestions", "audit", "monitor_logs");
+
+    private final SchemaManager schemaManager;
+    private final ArchiveMover archiver;
+    private int nextTable;
+
+    public MySQLMaintenanceDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, SchemaManager schemaManager,
+                               ArchiveMover archiver) {
+        super(connectionFactory, writer, reader);
+        this.schemaManager = schemaManager;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public List<String> getTasks() {
+        return archiver != null ? TASKS_WITH_ARCHIVE : TASKS;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> runTaskAsync(String task, long deadlineNanos) {
+        return CompletableFuture.supplyAsync(() -> switch (task) {
+            case "archive" -> archiver == null || archiver.archive(deadlineNanos);
+            case "analyze" -> analyze(deadlineNanos);
+            case "indexes" -> {
+                schemaManager.repairIndices();
+                yield true;
+            }
+            default -> true;
+        }, reader);
+    }
+
+    private synchronized boolean analyze(long deadlineNanos) {
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement()) {
+            for (int done = 0; done < TABLES.size(); done++) {
+                if (System.nanoTime() >= deadlineNanos) return false;
+
+                try (ResultSet ignored = stmt.executeQuery("ANALYZE TABLE " + TABLES.get(nextTable))) {
+                }
+                nextTable = (nextTable + 1) % TABLES.size();
+            }
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        }
+        return true;
+    }
+}
@@ -17,8 +17,17 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.sparkword.core.storage.archive.ArchiveKind;
+import com.sparkword.core.storage.archive.ArchivedRow;
+import com.sparkword.core.storage.archive.ColdArchive;
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
 import com.sparkword.core.storage.model.AuditEntry;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
 import com.sparkword.core.storage.spi.dao.AuditDAO;
 
 import java.sql.Connection;
@@ -29,51 +38,75 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 
 public class SQLAuditDAO extends AbstractSQLDAO implements AuditDAO {
 
     private static final String INSERT_AUDIT = "INSERT INTO audit (staff_name, action, detail, timestamp) VALUES (?, ?, ?, ?)";
-    private static final String SELECT_AUDIT_ALL = "SELECT id, staff_name, action, detail, timestamp FROM audit ORDER BY timestamp DESC LIMIT ?";
-    private static final String SELECT_AUDIT_BY_STAFF = "SELECT id, staff_name, action, detail, timestamp FROM audit WHERE staff_name LIKE ? ORDER BY timestamp DESC LIMIT ?";
-    private static final String PURGE_AUDIT = "DELETE FROM audit WHERE timestamp < ?";
+    private static final String AUDIT_COLUMNS = "SELECT id, staff_name, action, detail, timestamp FROM audit";
+    private static final String AUDIT_ORDER = " ORDER BY timestamp DESC, id DESC LIMIT ?";
+    private static final String AFTER = "timestamp <= ? AND (timestamp < ? OR id < ?)";
 
-    public SQLAuditDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader) {
+    private final GroupCommitWriter batchWriter;
+    private final ChunkedPurger purger;
+    private final ColdArchive archive;
+    private final String selectAll;
+    private final String selectAllAfter;
+    private final String selectByStaff;
+    private final String selectByStaffAfter;
+
+    public SQLAuditDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, QueryAdapter queryAdapter, GroupCommitWriter batchWriter,
+                       ChunkedPurger purger, ColdArchive archive) {
         super(connectionFactory, writer, reader);
+        this.batchWriter = batchWriter;
+        this.purger = purger;
+        this.archive = archive;
+
+        String staffMatch = queryAdapter.getCaseInsensitiveColumn("staff_name") + " = ?";
+        this.selectAll = AUDIT_COLUMNS + AUDIT_ORDER;
+        this.selectAllAfter = AUDIT_COLUMNS + " WHERE " + AFTER + AUDIT_ORDER;
+        this.selectByStaff = AUDIT_COLUMNS + " WHERE " + staffMatch + AUDIT_ORDER;
+        this.selectByStaffAfter = AUDIT_COLUMNS + " WHERE " + staffMatch + " AND " + AFTER + AUDIT_ORDER;
     }
 
     @Override
     public void logAuditAsync(String staffName, String action, String detail) {
-        CompletableFuture.runAsync(() -> {
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(INSERT_AUDIT)) {
-                ps.setString(1, staffName);
-                ps.setString(2, action);
-                ps.setString(3, detail);
-                ps.setLong(4, System.currentTimeMillis());
-                ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }, writer);
+        batchWriter.enqueue(Priority.HIGH, INSERT_AUDIT, staffName, action, detail, System.currentTimeMillis());
     }
 
     @Override
     public CompletableFuture<List<AuditEntry>> getAuditLogsStructAsync(String staffTarget, int limit) {
+        return getAuditLogsPageAsync(staffTarget, null, limit).thenApply(Page::entries);
+    }
+
+    @Override
+    public CompletableFuture<Page<AuditEntry>> getAuditLogsPageAsync(String staffTarget, PageCursor after, int limit) {
         return CompletableFuture.supplyAsync(() -> {
+            if (after != null && after.isEnd()) return Page.<AuditEntry>empty();
+
             List<AuditEntry> list = new ArrayList<>();
-            String sql = (staffTarget == null) ? SELECT_AUDIT_ALL : SELECT_AUDIT_BY_STAFF;
+            boolean more = false;
+            String sql = (staffTarget == null)
+                ? (after == null ? selectAll : selectAllAfter)
+                : (after == null ? selectByStaff : selectByStaffAfter);
 
-            try (Connection conn = connectionFactory.getConnection();
+            try (Connection conn = connectionFactory.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
-                if (staffTarget == null) {
-                    ps.setInt(1, limit);
-                } else {
-                    ps.setString(1, staffTarget);
-                    ps.setInt(2, limit);
+                int index = 1;
+                if (staffTarget != null) ps.setString(index++, staffTarget);
+                if (after != null) {
+                    ps.setLong(index++, after.timestamp());
+                    ps.setLong(index++, after.timestamp());
+                    ps.setLong(index++, after.id());
                 }
+                ps.setInt(index, limit + 1);
 
                 ResultSet rs = ps.executeQuery();
                 while (rs.next()) {
+                    if (list.size() == limit) {
+                        more = true;
+                        break;
+                    }
                     list.add(new AuditEntry(
                         rs.getInt("id"),
                         rs.getString("staff_name"),
@@ -85,10 +118,28 @@ public CompletableFuture<List<AuditEntry>> getAuditLogsStructAsync(String staffT
             } catch (SQLException e) {
                 e.printStackTrace();
             }
-            return list;
+
+            if (!more && archive != null) {
+                PageCursor tail = list.isEmpty() ? after : cursorOf(list.get(list.size() - 1));
+                Predicate<ArchivedRow> filter = staffTarget == null ? null : row -> staffTarget.equalsIgnoreCase(row.value(0));
+                for (ArchivedRow row : archive.scan(ArchiveKind.AUDIT, tail, filter, limit + 1 - list.size())) {
+                    if (list.size() == limit) {
+                        more = true;
+                        break;
+                    }
+                    list.add(new AuditEntry((int) row.id(), row.value(0), row.value(1), row.value(2), row.timestamp()));
+                }
+            }
+
+            if (!more || list.isEmpty()) return new Page<>(list, null);
+            return new Page<>(list, cursorOf(list.get(list.size() - 1)).encode());
         }, reader);
     }
 
+    private PageCursor cursorOf(AuditEntry entry) {
+        return new PageCursor(entry.timestamp(), entry.id());
+    }
+
     @Override
     public CompletableFuture<List<String>> getAuditLogsAsync(String staffTarget, int limit) {
         return getAuditLogsStructAsync(staffTarget, limit).thenApply(entries -> {
@@ -99,17 +150,9 @@ public CompletableFuture<List<String>> getAuditLogsAsync(String staffTarget, int
     }
 
     @Override
-    public CompletableFuture<Integer> purgeAsync(long daysOld) {
-        return CompletableFuture.supplyAsync(() -> {
-            long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(PURGE_AUDIT)) {
-                ps.setLong(1, timeLimit);
-                return ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return 0;
-            }
-        }, writer);
+    public CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos) {
+        long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
+        return purger.purge("audit", "timestamp", timeLimit, deadlineNanos)
+            .thenApply(deleted -> deleted + (archive != null ? archive.dropBefore(ArchiveKind.AUDIT, timeLimit) : 0));
     }
 }
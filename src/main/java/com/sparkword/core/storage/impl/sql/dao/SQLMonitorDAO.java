@@ -17,54 +17,61 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.sparkword.core.storage.archive.ArchiveKind;
+import com.sparkword.core.storage.archive.ColdArchive;
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.search.LogSearchIndex;
 import com.sparkword.core.storage.spi.dao.MonitorDAO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 public class SQLMonitorDAO extends AbstractSQLDAO implements MonitorDAO {
 
-    private static final String INSERT_LOG = "INSERT INTO monitor_logs (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
-    private static final String PURGE_LOGS = "DELETE FROM monitor_logs WHERE timestamp < ?";
+    private static final String INSERT_LOG = "INSERT INTO %s (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
 
-    public SQLMonitorDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader) {
+    private final GroupCommitWriter batchWriter;
+    private final LogPartitions partitions;
+    private final ChunkedPurger purger;
+    private final ColdArchive archive;
+    private final LogSearchIndex search;
+    private final Map<String, String> insertByTable = new ConcurrentHashMap<>();
+
+    public SQLMonitorDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, GroupCommitWriter batchWriter,
+                         LogPartitions partitions, ChunkedPurger purger, ColdArchive archive, LogSearchIndex search) {
         super(connectionFactory, writer, reader);
+        this.batchWriter = batchWriter;
+        this.partitions = partitions;
+        this.purger = purger;
+        this.archive = archive;
+        this.search = search;
     }
 
     @Override
     public void addLogAsync(String playerName, String content, String category, String source, String detectedWord) {
-        CompletableFuture.runAsync(() -> {
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(INSERT_LOG)) {
-                ps.setString(1, playerName);
-                ps.setString(2, content);
-                ps.setString(3, category);
-                ps.setString(4, source);
-                ps.setString(5, detectedWord);
-                ps.setLong(6, System.currentTimeMillis());
-                ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }, writer);
+        long now = System.currentTimeMillis();
+        String sql = insertByTable.computeIfAbsent(partitions.tableFor(now), table -> INSERT_LOG.formatted(table));
+        batchWriter.enqueue(Priority.LOW, sql, playerName, content, category, source, detectedWord, now);
+        if (search != null) search.index(playerName, content, category, source, detectedWord, now);
     }
 
     @Override
-    public CompletableFuture<Integer> purgeAsync(long daysOld) {
-        return CompletableFuture.supplyAsync(() -> {
-            long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(PURGE_LOGS)) {
-                ps.setLong(1, timeLimit);
-                return ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return 0;
-            }
-        }, writer);
+    public CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos) {
+        long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
+        return supplyOnWriter(() -> dropArchived(timeLimit) + partitions.dropOlderThan(timeLimit))
+            .thenCompose(dropped -> purger.purge(partitions.partialTables(timeLimit), "timestamp", timeLimit, deadlineNanos)
+                .thenApply(deleted -> dropped + deleted))
+            .thenCompose(removed -> search == null || System.nanoTime() >= deadlineNanos ? CompletableFuture.completedFuture(removed)
+                : search.purgeOlderThan(timeLimit).thenApply(ignored -> removed));
+    }
+
+    private int dropArchived(long timeLimit) {
+        return archive != null ? archive.dropBefore(ArchiveKind.LOGS, timeLimit) : 0;
     }
 }
@@ -17,6 +17,9 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
 import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
 import com.sparkword.core.storage.model.MuteInfo;
@@ -27,6 +30,9 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
@@ -34,66 +40,75 @@
 public class SQLMuteDAO extends AbstractSQLDAO implements MuteDAO {
 
     private static final String DELETE_MUTE = "DELETE FROM muted WHERE player_id = ?";
+    private static final String DELETE_EXPIRED_MUTE = "DELETE FROM muted WHERE player_id = ? AND expires_at != 0 AND expires_at <= ?";
     private static final String SELECT_MUTE = "SELECT reason, muted_by, expires_at, created_at, scope FROM muted WHERE player_id = ?";
-    private static final String PURGE_HISTORY = "DELETE FROM mute_history WHERE created_at < ?";
     private final QueryAdapter queryAdapter;
+    private final GroupCommitWriter batchWriter;
+    private final ChunkedPurger purger;
 
-    public SQLMuteDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, QueryAdapter queryAdapter) {
+    public SQLMuteDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, QueryAdapter queryAdapter, GroupCommitWriter batchWriter,
+                      ChunkedPurger purger) {
         super(connectionFactory, writer, reader);
         this.queryAdapter = queryAdapter;
+        this.batchWriter = batchWriter;
+        this.purger = purger;
     }
 
     @Override
     public CompletableFuture<Void> muteAsync(int playerId, String reason, String by, long durationSeconds, MuteScope scope) {
-        return CompletableFuture.runAsync(() -> {
-            long now = System.currentTimeMillis();
-            long expires = durationSeconds > 0 ? now + (durationSeconds * 1000) : 0;
-
-            String upsertSql = queryAdapter.getMuteUpsertQuery();
-            String historySql = queryAdapter.getMuteHistoryInsertQuery();
-
-            try (Connection conn = connectionFactory.getConnection()) {
-                try (PreparedStatement ps = conn.prepareStatement(upsertSql)) {
-                    ps.setInt(1, playerId);
-                    ps.setString(2, reason);
-                    ps.setString(3, by);
-                    ps.setLong(4, expires);
-                    ps.setLong(5, now);
-                    ps.setString(6, scope.name());
-                    ps.executeUpdate();
-                }
-
-                try (PreparedStatement ps = conn.prepareStatement(historySql)) {
-                    ps.setInt(1, playerId);
-                    ps.setString(2, reason);
-                    ps.setString(3, by);
-                    ps.setLong(4, durationSeconds);
-                    ps.setLong(5, now);
-                    ps.setString(6, scope.name());
-                    ps.executeUpdate();
-                }
-            } catch (SQLException e) {
-                throw new CompletionException(e);
-            }
-        }, writer);
+        long now = System.currentTimeMillis();
+        long expires = durationSeconds > 0 ? now + (durationSeconds * 1000) : 0;
+
+        CompletableFuture<Void> upsert = batchWriter.submit(Priority.HIGH, queryAdapter.getMuteUpsertQuery(),
+            playerId, reason, by, expires, now, scope.name());
+        CompletableFuture<Void> history = batchWriter.submit(Priority.HIGH, queryAdapter.getMuteHistoryInsertQuery(),
+            playerId, reason, by, durationSeconds, now, scope.name());
+        return CompletableFuture.allOf(upsert, history);
     }
 
     @Override
     public CompletableFuture<Void> unmuteAsync(int playerId) {
-        return CompletableFuture.runAsync(() -> {
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(DELETE_MUTE)) {
-                ps.setInt(1, playerId);
-                ps.executeUpdate();
+        return batchWriter.submit(Priority.HIGH, DELETE_MUTE, playerId);
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> expireMutesAsync(List<Integer> playerIds) {
+        return supplyOnWriter(() -> {
+            long now = System.currentTimeMillis();
+            List<Integer> removed = new ArrayList<>(playerIds.size());
+
+            try (Connection conn = connectionFactory.getConnection()) {
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement(DELETE_EXPIRED_MUTE)) {
+                    for (int playerId : playerIds) {
+                        ps.setInt(1, playerId);
+                        ps.setLong(2, now);
+                        ps.addBatch();
+                    }
+
+                    int[] counts = ps.executeBatch();
+                    conn.commit();
+
+                    for (int i = 0; i < counts.length; i++) {
+                        if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) removed.add(playerIds.get(i));
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
             } catch (SQLException e) {
                 throw new CompletionException(e);
             }
-        }, writer);
+            return removed;
+        });
     }
 
     @Override
     public MuteInfo fetchMuteInfoBlocking(int playerId) {
-        try (Connection conn = connectionFactory.getConnection();
+        try (Connection conn = connectionFactory.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_MUTE)) {
             ps.setInt(1, playerId);
             ResultSet rs = ps.executeQuery();
@@ -105,17 +120,7 @@ public MuteInfo fetchMuteInfoBlocking(int playerId) {
                     return MuteInfo.NOT_MUTED;
                 }
 
-                String scopeStr = rs.getString("scope");
-                MuteScope scope = MuteScope.CHAT;
-                try {
-                    if (scopeStr != null) scope = MuteScope.valueOf(scopeStr);
-                } catch (IllegalArgumentException ignored) {
-                }
-
-                long createdAt = rs.getLong("created_at");
-                if (createdAt == 0) createdAt = System.currentTimeMillis();
-
-                return new MuteInfo(true, rs.getString("muted_by"), rs.getString("reason"), expires, createdAt, scope);
+                return readMute(rs);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -132,17 +137,21 @@ public CompletableFuture<Long> getMuteExpiryAsync(int playerId) {
     }
 
     @Override
-    public CompletableFuture<Integer> purgeHistoryAsync(long daysOld) {
-        return CompletableFuture.supplyAsync(() -> {
-            long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(PURGE_HISTORY)) {
-                ps.setLong(1, timeLimit);
-                return ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return 0;
-            }
-        }, writer);
+    public CompletableFuture<Integer> purgeHistoryAsync(long daysOld, long deadlineNanos) {
+        return purger.purge("mute_history", "created_at", System.currentTimeMillis() - (daysOld * 86400000L), deadlineNanos);
+    }
+
+    static MuteInfo readMute(ResultSet rs) throws SQLException {
+        String scopeStr = rs.getString("scope");
+        MuteScope scope = MuteScope.CHAT;
+        try {
+            if (scopeStr != null) scope = MuteScope.valueOf(scopeStr);
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        long createdAt = rs.getLong("created_at");
+        if (createdAt == 0) createdAt = System.currentTimeMillis();
+
+        return new MuteInfo(true, rs.getString("muted_by"), rs.getString("reason"), rs.getLong("expires_at"), createdAt, scope);
     }
 }
@@ -17,25 +17,44 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
-import com.sparkword.core.storage.impl.sql.query.MySQLQueryAdapter;
 import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
+import com.sparkword.core.storage.model.MuteInfo;
+import com.sparkword.core.storage.model.PlayerLogin;
 import com.sparkword.core.storage.spi.dao.PlayerDAO;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
 public class SQLPlayerDAO extends AbstractSQLDAO implements PlayerDAO {
 
-    private static final String SELECT_ID = "SELECT id FROM players WHERE uuid = ?";
+    private static final String SELECT_ID = "SELECT id, name FROM players WHERE uuid = ?";
     private static final String SELECT_NAME = "SELECT name FROM players WHERE id = ?";
     private static final String SELECT_ID_BY_NAME = "SELECT id FROM players WHERE LOWER(name) = LOWER(?) LIMIT 1";
+    private static final String SELECT_LOGINS = "SELECT p.id, p.uuid, p.name, m.player_id AS muted_id, m.reason, m.muted_by, m.expires_at, m.created_at, m.scope " +
+        "FROM players p LEFT JOIN muted m ON m.player_id = p.id WHERE p.uuid IN (";
+    private static final int MAX_IN_PARAMS = 500;
+    private static final int CACHE_SIZE = 10_000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
     private final QueryAdapter queryAdapter;
+    private final Cache<UUID, CachedPlayer> byUuid = Caffeine.newBuilder()
+        .maximumSize(CACHE_SIZE)
+        .expireAfterAccess(CACHE_TTL)
+        .build();
 
     public SQLPlayerDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, QueryAdapter queryAdapter) {
         super(connectionFactory, writer, reader);
@@ -44,11 +63,18 @@ public SQLPlayerDAO(SQLConnectionFactory connectionFactory, ExecutorService writ
 
     @Override
     public int getPlayerIdBlocking(UUID uuid, String name) {
+        CachedPlayer cached = byUuid.getIfPresent(uuid);
+        if (cached != null && cached.name().equals(name)) return cached.id();
+
         try (Connection conn = connectionFactory.getConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_ID)) {
             ps.setString(1, uuid.toString());
             ResultSet rs = ps.executeQuery();
-            if (rs.next()) return rs.getInt("id");
+            if (rs.next() && name.equals(rs.getString("name"))) {
+                int id = rs.getInt("id");
+                byUuid.put(uuid, new CachedPlayer(id, name));
+                return id;
+            }
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -58,13 +84,59 @@ public int getPlayerIdBlocking(UUID uuid, String name) {
 
     @Override
     public CompletableFuture<Integer> getPlayerIdAsync(UUID uuid, String name) {
-        return CompletableFuture.supplyAsync(() -> getPlayerIdBlocking(uuid, name), writer);
+        CachedPlayer cached = byUuid.getIfPresent(uuid);
+        if (cached != null && cached.name().equals(name)) return CompletableFuture.completedFuture(cached.id());
+
+        return supplyOnWriter(() -> getPlayerIdBlocking(uuid, name));
+    }
+
+    @Override
+    public Map<UUID, PlayerLogin> resolveLoginsBlocking(Map<UUID, String> players) {
+        Map<UUID, PlayerLogin> result = new HashMap<>(players.size() * 2);
+        List<UUID> uuids = new ArrayList<>(players.keySet());
+
+        try (Connection conn = connectionFactory.getConnection()) {
+            for (int from = 0; from < uuids.size(); from += MAX_IN_PARAMS) {
+                List<UUID> chunk = uuids.subList(from, Math.min(uuids.size(), from + MAX_IN_PARAMS));
+                try (PreparedStatement ps = conn.prepareStatement(SELECT_LOGINS + "?,".repeat(chunk.size() - 1) + "?)")) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setString(i + 1, chunk.get(i).toString());
+                    }
+
+                    ResultSet rs = ps.executeQuery();
+                    while (rs.next()) {
+                        UUID uuid = UUID.fromString(rs.getString("uuid"));
+                        int id = rs.getInt("id");
+                        rs.getInt("muted_id");
+                        MuteInfo mute = rs.wasNull() ? MuteInfo.NOT_MUTED : SQLMuteDAO.readMute(rs);
+                        result.put(uuid, new PlayerLogin(id, rs.getString("name"), mute));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
+        for (Map.Entry<UUID, String> entry : players.entrySet()) {
+            UUID uuid = entry.getKey();
+            String name = entry.getValue();
+            PlayerLogin known = result.get(uuid);
+
+            if (known != null && name.equals(known.name())) {
+                byUuid.put(uuid, new CachedPlayer(known.playerId(), name));
+                continue;
+            }
+
+            int id = upsertPlayer(uuid, name);
+            result.put(uuid, new PlayerLogin(id, name, known != null ? known.mute() : MuteInfo.NOT_MUTED));
+        }
+        return result;
     }
 
     @Override
     public CompletableFuture<String> getPlayerNameAsync(int id) {
         return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = connectionFactory.getConnection();
+            try (Connection conn = connectionFactory.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement(SELECT_NAME)) {
                 ps.setInt(1, id);
                 ResultSet rs = ps.executeQuery();
@@ -79,7 +151,7 @@ public CompletableFuture<String> getPlayerNameAsync(int id) {
     @Override
     public CompletableFuture<Integer> getPlayerIdByNameAsync(String name) {
         return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = connectionFactory.getConnection();
+            try (Connection conn = connectionFactory.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement(SELECT_ID_BY_NAME)) {
                 ps.setString(1, name);
                 ResultSet rs = ps.executeQuery();
@@ -94,32 +166,34 @@ public CompletableFuture<Integer> getPlayerIdByNameAsync(String name) {
     private int upsertPlayer(UUID uuid, String name) {
         String sql = queryAdapter.getPlayerUpsertQuery();
         long now = System.currentTimeMillis();
+        int id = -1;
 
         try (Connection conn = connectionFactory.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+             PreparedStatement ps = queryAdapter.supportsReturning()
+                 ? conn.prepareStatement(sql)
+                 : conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, uuid.toString());
+            ps.setString(2, name);
+            ps.setLong(3, now);
 
-            if (queryAdapter instanceof MySQLQueryAdapter) {
-                ps.setString(1, uuid.toString());
-                ps.setString(2, name);
-                ps.setLong(3, now);
+            if (queryAdapter.supportsReturning()) {
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) id = rs.getInt(1);
+                }
             } else {
-                ps.setString(1, uuid.toString());
-                ps.setString(2, uuid.toString());
-                ps.setString(3, name);
-                ps.setLong(4, now);
-            }
-
-            ps.executeUpdate();
-
-            try (PreparedStatement fetch = conn.prepareStatement(SELECT_ID)) {
-                fetch.setString(1, uuid.toString());
-                ResultSet rs = fetch.executeQuery();
-                if (rs.next()) return rs.getInt("id");
+                ps.executeUpdate();
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    if (rs.next()) id = rs.getInt(1);
+                }
             }
-
         } catch (SQLException e) {
             throw new RuntimeException("Failed to upsert player " + name + " (UUID: " + uuid + ")", e);
         }
-        return -1;
+
+        if (id != -1) byUuid.put(uuid, new CachedPlayer(id, name));
+        return id;
+    }
+
+    private record CachedPlayer(int id, String name) {
     }
 }
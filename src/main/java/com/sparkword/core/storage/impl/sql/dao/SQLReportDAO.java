@@ -17,8 +17,16 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.sparkword.core.storage.archive.ArchiveKind;
+import com.sparkword.core.storage.archive.ArchivedRow;
+import com.sparkword.core.storage.archive.ColdArchive;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.search.LogSearchIndex;
 import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.core.storage.search.SearchQuery;
 import com.sparkword.core.storage.spi.dao.ReportDAO;
 import com.sparkword.util.TimeUtil;
 
@@ -27,100 +35,295 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 public class SQLReportDAO extends AbstractSQLDAO implements ReportDAO {
 
-    public SQLReportDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader) {
+    private static final int PAGE_SIZE = 10;
+
+    private static final Comparator<LogEntry> NEWEST_FIRST = Comparator.comparingLong(LogEntry::timestamp)
+        .thenComparingLong(LogEntry::id).reversed();
+
+    private static final String LOG_COLUMNS = "SELECT id, player_name, source, category, content, detected_word, timestamp FROM %s ";
+    private static final String SELECT_LOGS_FIRST = LOG_COLUMNS + "ORDER BY timestamp DESC, id DESC LIMIT ?";
+    private static final String SELECT_LOGS_AFTER = LOG_COLUMNS + "WHERE timestamp <= ? AND (timestamp < ? OR id < ?) ORDER BY timestamp DESC, id DESC LIMIT ?";
+
+    private static final String SELECT_WARNINGS_FIRST = "SELECT id, reason, created_at, moderator FROM warnings WHERE player_id = ? ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String SELECT_WARNINGS_AFTER = "SELECT id, reason, created_at, moderator FROM warnings WHERE player_id = ? AND created_at <= ? AND (created_at < ? OR id < ?) ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String SELECT_WARNINGS_BOUNDARY = "SELECT created_at, id FROM warnings WHERE player_id = ? ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?";
+
+    private static final String SELECT_MUTES_FIRST = "SELECT id, reason, created_at, moderator, duration, scope FROM mute_history WHERE player_id = ? ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String SELECT_MUTES_AFTER = "SELECT id, reason, created_at, moderator, duration, scope FROM mute_history WHERE player_id = ? AND created_at <= ? AND (created_at < ? OR id < ?) ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String SELECT_MUTES_BOUNDARY = "SELECT created_at, id FROM mute_history WHERE player_id = ? ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?";
+
+    private static final String SELECT_ACTIVE_MUTE = "SELECT reason, expires_at FROM muted WHERE player_id = ?";
+
+    private final LogPartitions partitions;
+    private final ColdArchive archive;
+    private final LogSearchIndex search;
+    private final Map<String, String> firstByTable = new ConcurrentHashMap<>();
+    private final Map<String, String> afterByTable = new ConcurrentHashMap<>();
+
+    public SQLReportDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, LogPartitions partitions, ColdArchive archive,
+                        LogSearchIndex search) {
         super(connectionFactory, writer, reader);
+        this.partitions = partitions;
+        this.archive = archive;
+        this.search = search;
     }
 
     @Override
     public CompletableFuture<List<LogEntry>> getGlobalLogsStructAsync(String type, int page) {
         return CompletableFuture.supplyAsync(() -> {
-            List<LogEntry> list = new ArrayList<>();
-            int offset = (page - 1) * 10;
+            if (!isGlobal(type)) return new ArrayList<LogEntry>();
 
-            try (Connection conn = connectionFactory.getConnection()) {
-                if (type.equals("b") || type.equals("all")) {
-                    String sql = "SELECT player_name, source, category, content, detected_word, timestamp FROM monitor_logs ORDER BY timestamp DESC LIMIT 10 OFFSET ?";
-                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                        ps.setInt(1, offset);
-                        ResultSet rs = ps.executeQuery();
-                        while (rs.next()) {
-                            list.add(new LogEntry(
-                                rs.getString("player_name"),
-                                rs.getString("source") != null ? rs.getString("source") : "Unknown",
-                                rs.getString("category"),
-                                rs.getString("content"),
-                                rs.getString("detected_word"),
-                                rs.getLong("timestamp")
-                            ));
-                        }
-                    }
+            try (Connection conn = connectionFactory.getReadConnection()) {
+                PageCursor after = null;
+                if (page > 1) {
+                    after = logBoundary(conn, (page - 1) * PAGE_SIZE - 1);
+                    if (after.isEnd()) return new ArrayList<LogEntry>();
                 }
+                return readLogs(conn, after).entries();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            return new ArrayList<LogEntry>();
+        }, reader);
+    }
+
+    @Override
+    public CompletableFuture<Page<LogEntry>> getGlobalLogsPageAsync(String type, PageCursor after) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isGlobal(type) || (after != null && after.isEnd())) return Page.<LogEntry>empty();
+
+            try (Connection conn = connectionFactory.getReadConnection()) {
+                return readLogs(conn, after);
             } catch (SQLException e) {
                 e.printStackTrace();
             }
-            return list;
+            return Page.<LogEntry>empty();
         }, reader);
     }
 
+    @Override
+    public CompletableFuture<Page<LogEntry>> searchLogsAsync(SearchQuery query, int page) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (search == null || query.isEmpty() || page < 1) return Page.<LogEntry>empty();
+
+            try {
+                List<LogEntry> list = search.search(query, (page - 1) * PAGE_SIZE, PAGE_SIZE + 1);
+                if (list.size() <= PAGE_SIZE) return new Page<>(list, null);
+                return new Page<>(new ArrayList<>(list.subList(0, PAGE_SIZE)), String.valueOf(page + 1));
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            return Page.<LogEntry>empty();
+        }, reader);
+    }
+
+    @Override
+    public boolean isSearchIndexing() {
+        return search != null && search.indexing();
+    }
+
     @Override
     public CompletableFuture<List<String>> getPlayerScanReportAsync(int playerId, int page) {
         return CompletableFuture.supplyAsync(() -> {
-            List<String> report = new ArrayList<>();
-            int limit = 10;
-            int offset = (page - 1) * limit;
-
-            long timeLimit = System.currentTimeMillis() - (365 * 86400000L);
-
-            try (Connection conn = connectionFactory.getConnection()) {
-                try (PreparedStatement ps = conn.prepareStatement("SELECT reason, created_at, moderator FROM warnings WHERE player_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?")) {
-                    ps.setInt(1, playerId);
-                    ps.setInt(2, limit);
-                    ps.setInt(3, offset);
-                    ResultSet rs = ps.executeQuery();
-                    while (rs.next()) {
-                        report.add("§e[WARN] §7" + TimeUtil.formatShortDate(rs.getLong("created_at")) +
-                            " (" + rs.getString("moderator") + "): " + rs.getString("reason"));
-                    }
+            try (Connection conn = connectionFactory.getReadConnection()) {
+                PageCursor warningsAfter = null;
+                PageCursor mutesAfter = null;
+                if (page > 1) {
+                    int offset = (page - 1) * PAGE_SIZE - 1;
+                    warningsAfter = boundary(conn, SELECT_WARNINGS_BOUNDARY, playerId, offset);
+                    mutesAfter = boundary(conn, SELECT_MUTES_BOUNDARY, playerId, offset);
                 }
+                return readScan(conn, playerId, warningsAfter, mutesAfter).entries();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            return new ArrayList<String>();
+        }, reader);
+    }
+
+    @Override
+    public CompletableFuture<Page<String>> getPlayerScanPageAsync(int playerId, PageCursor warningsAfter, PageCursor mutesAfter) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Connection conn = connectionFactory.getReadConnection()) {
+                return readScan(conn, playerId, warningsAfter, mutesAfter);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            return Page.<String>empty();
+        }, reader);
+    }
+
+    private boolean isGlobal(String type) {
+        return type.equals("b") || type.equals("all");
+    }
+
+    private Page<LogEntry> readLogs(Connection conn, PageCursor after) throws SQLException {
+        List<LogEntry> list = collectLogs(conn, after, PAGE_SIZE + 1);
+        if (list.size() <= PAGE_SIZE) return new Page<>(list, null);
+
+        list = new ArrayList<>(list.subList(0, PAGE_SIZE));
+        LogEntry last = list.get(list.size() - 1);
+        return new Page<>(list, new PageCursor(last.timestamp(), last.id()).encode());
+    }
 
-                try (PreparedStatement ps = conn.prepareStatement("SELECT reason, created_at, moderator, duration, scope FROM mute_history WHERE player_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?")) {
-                    ps.setInt(1, playerId);
-                    ps.setInt(2, limit);
-                    ps.setInt(3, offset);
-                    ResultSet rs = ps.executeQuery();
-                    while (rs.next()) {
-                        long duration = rs.getLong("duration");
-                        String timeStr = (duration == 0) ? "Perm" : TimeUtil.formatDuration(duration);
-                        String prefix = "§c[MUTE]";
-
-                        report.add(prefix + " §7" + TimeUtil.formatShortDate(rs.getLong("created_at")) +
-                            " (" + rs.getString("moderator") + "): " + rs.getString("reason") + " §8[" + timeStr + "]");
+    private List<LogEntry> collectLogs(Connection conn, PageCursor after, int want) throws SQLException {
+        List<LogEntry> list = new ArrayList<>();
+        for (String table : partitions.tablesNewestFirst(after == null ? Long.MAX_VALUE : after.timestamp())) {
+            if (table.equals(LogPartitions.BASE_TABLE)) continue;
+            readLogTable(conn, table, after, want - list.size(), list);
+            if (list.size() >= want) break;
+        }
+
+        int fromPartitions = list.size();
+        readLogTable(conn, LogPartitions.BASE_TABLE, after, want, list);
+        if (list.size() > fromPartitions) {
+            list.sort(NEWEST_FIRST);
+            if (list.size() > want) list = new ArrayList<>(list.subList(0, want));
+        }
+
+        if (archive != null && list.size() < want) {
+            LogEntry last = list.isEmpty() ? null : list.get(list.size() - 1);
+            PageCursor tail = last == null ? after : new PageCursor(last.timestamp(), last.id());
+            for (ArchivedRow row : archive.scan(ArchiveKind.LOGS, tail, null, want - list.size())) {
+                list.add(new LogEntry(
+                    row.value(0),
+                    row.value(1) != null ? row.value(1) : "Unknown",
+                    row.value(2),
+                    row.value(3),
+                    row.value(4),
+                    row.timestamp(),
+                    row.id()
+                ));
+            }
+        }
+        return list;
+    }
+
+    private void readLogTable(Connection conn, String table, PageCursor after, int limit, List<LogEntry> out) throws SQLException {
+        String sql = after == null
+            ? firstByTable.computeIfAbsent(table, t -> SELECT_LOGS_FIRST.formatted(t))
+            : afterByTable.computeIfAbsent(table, t -> SELECT_LOGS_AFTER.formatted(t));
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            int index = bindAfter(ps, 1, after);
+            ps.setInt(index, limit);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                out.add(new LogEntry(
+                    rs.getString("player_name"),
+                    rs.getString("source") != null ? rs.getString("source") : "Unknown",
+                    rs.getString("category"),
+                    rs.getString("content"),
+                    rs.getString("detected_word"),
+                    rs.getLong("timestamp"),
+                    rs.getLong("id")
+                ));
+            }
+        }
+    }
+
+    private PageCursor logBoundary(Connection conn, int offset) throws SQLException {
+        List<LogEntry> list = collectLogs(conn, null, offset + 1);
+        if (list.size() <= offset) return PageCursor.END;
+        LogEntry entry = list.get(offset);
+        return new PageCursor(entry.timestamp(), entry.id());
+    }
+
+    private Page<String> readScan(Connection conn, int playerId, PageCursor warningsAfter, PageCursor mutesAfter) throws SQLException {
+        List<String> report = new ArrayList<>();
+        PageCursor warningsNext = PageCursor.END;
+        PageCursor mutesNext = PageCursor.END;
+
+        if (warningsAfter == null || !warningsAfter.isEnd()) {
+            try (PreparedStatement ps = conn.prepareStatement(warningsAfter == null ? SELECT_WARNINGS_FIRST : SELECT_WARNINGS_AFTER)) {
+                ps.setInt(1, playerId);
+                int index = bindAfter(ps, 2, warningsAfter);
+                ps.setInt(index, PAGE_SIZE + 1);
+                ResultSet rs = ps.executeQuery();
+                int rows = 0;
+                long lastCreated = 0;
+                long lastId = 0;
+                while (rs.next()) {
+                    if (rows++ == PAGE_SIZE) {
+                        warningsNext = new PageCursor(lastCreated, lastId);
+                        break;
                     }
+                    lastCreated = rs.getLong("created_at");
+                    lastId = rs.getLong("id");
+                    report.add("§e[WARN] §7" + TimeUtil.formatShortDate(lastCreated) +
+                        " (" + rs.getString("moderator") + "): " + rs.getString("reason"));
                 }
+            }
+        }
 
-                if (page == 1) {
-                    try (PreparedStatement ps = conn.prepareStatement("SELECT reason, expires_at FROM muted WHERE player_id = ?")) {
-                        ps.setInt(1, playerId);
-                        ResultSet rs = ps.executeQuery();
-                        if (rs.next()) {
-                            long exp = rs.getLong("expires_at");
-                            String timeLeft = (exp == 0) ? "Perm" : TimeUtil.formatDuration((exp - System.currentTimeMillis()) / 1000);
-                            report.add(0, "§c[ACTIVE STATUS] §7" + rs.getString("reason") + " | Expires: §e" + timeLeft);
-                        }
+        if (mutesAfter == null || !mutesAfter.isEnd()) {
+            try (PreparedStatement ps = conn.prepareStatement(mutesAfter == null ? SELECT_MUTES_FIRST : SELECT_MUTES_AFTER)) {
+                ps.setInt(1, playerId);
+                int index = bindAfter(ps, 2, mutesAfter);
+                ps.setInt(index, PAGE_SIZE + 1);
+                ResultSet rs = ps.executeQuery();
+                int rows = 0;
+                long lastCreated = 0;
+                long lastId = 0;
+                while (rs.next()) {
+                    if (rows++ == PAGE_SIZE) {
+                        mutesNext = new PageCursor(lastCreated, lastId);
+                        break;
                     }
+                    lastCreated = rs.getLong("created_at");
+                    lastId = rs.getLong("id");
+                    long duration = rs.getLong("duration");
+                    String timeStr = (duration == 0) ? "Perm" : TimeUtil.formatDuration(duration);
+                    String prefix = "§c[MUTE]";
+
+                    report.add(prefix + " §7" + TimeUtil.formatShortDate(lastCreated) +
+                        " (" + rs.getString("moderator") + "): " + rs.getString("reason") + " §8[" + timeStr + "]");
                 }
+            }
+        }
 
-            } catch (SQLException e) {
-                e.printStackTrace();
+        if (warningsAfter == null && mutesAfter == null) {
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_ACTIVE_MUTE)) {
+                ps.setInt(1, playerId);
+                ResultSet rs = ps.executeQuery();
+                if (rs.next()) {
+                    long exp = rs.getLong("expires_at");
+                    String timeLeft = (exp == 0) ? "Perm" : TimeUtil.formatDuration((exp - System.currentTimeMillis()) / 1000);
+                    report.add(0, "§c[ACTIVE STATUS] §7" + rs.getString("reason") + " | Expires: §e" + timeLeft);
+                }
             }
-            return report;
-        }, reader);
+        }
+
+        if (warningsNext.isEnd() && mutesNext.isEnd()) return new Page<>(report, null);
+        return new Page<>(report, PageCursor.encode(warningsNext, mutesNext));
+    }
+
+    private int bindAfter(PreparedStatement ps, int index, PageCursor after) throws SQLException {
+        if (after == null) return index;
+        ps.setLong(index, after.timestamp());
+        ps.setLong(index + 1, after.timestamp());
+        ps.setLong(index + 2, after.id());
+        return index + 3;
+    }
+
+    private PageCursor boundary(Connection conn, String sql, int playerId, int offset) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (playerId != -1) ps.setInt(index++, playerId);
+            ps.setInt(index, offset);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) return new PageCursor(rs.getLong(1), rs.getLong(2));
+        }
+        return PageCursor.END;
     }
 
     @Override
@@ -128,7 +331,7 @@ public CompletableFuture<List<String>> getPendingSuggestionsReportAsync(int page
         return CompletableFuture.supplyAsync(() -> {
             List<String> results = new ArrayList<>();
             int offset = (page - 1) * 10;
-            try (Connection conn = connectionFactory.getConnection();
+            try (Connection conn = connectionFactory.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement("SELECT id, suggestion, reason FROM suggestions WHERE status = 'pending' ORDER BY id ASC LIMIT 10 OFFSET ?")) {
                 ps.setInt(1, offset);
                 ResultSet rs = ps.executeQuery();
@@ -17,6 +17,7 @@
  */
 package com.sparkword.core.storage.impl.sql.dao;
 
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
 import com.sparkword.core.storage.spi.dao.SuggestionDAO;
 
@@ -34,15 +35,17 @@ public class SQLSuggestionDAO extends AbstractSQLDAO implements SuggestionDAO {
     private static final String INSERT_SUGGESTION = "INSERT INTO suggestions (player_id, suggestion, reason, created_at) VALUES (?, ?, ?, ?)";
     private static final String SELECT_AND_JOIN = "SELECT s.suggestion, p.uuid FROM suggestions s JOIN players p ON s.player_id = p.id WHERE s.id = ? AND s.status = 'pending'";
     private static final String UPDATE_STATUS = "UPDATE suggestions SET status = ? WHERE id = ?";
-    private static final String PURGE_SUGGESTIONS = "DELETE FROM suggestions WHERE created_at < ?";
 
-    public SQLSuggestionDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader) {
+    private final ChunkedPurger purger;
+
+    public SQLSuggestionDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, ChunkedPurger purger) {
         super(connectionFactory, writer, reader);
+        this.purger = purger;
     }
 
     @Override
     public CompletableFuture<Boolean> addSuggestionAsync(int playerId, String word, String reason) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyOnWriter(() -> {
             try (Connection conn = connectionFactory.getConnection()) {
                 try (PreparedStatement check = conn.prepareStatement(SELECT_DUPLICATE)) {
                     check.setString(1, word);
@@ -61,12 +64,12 @@ public CompletableFuture<Boolean> addSuggestionAsync(int playerId, String word,
                 e.printStackTrace();
                 return false;
             }
-        }, writer);
+        });
     }
 
     @Override
     public CompletableFuture<SuggestionInfo> processSuggestionAsync(int id, boolean accept) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyOnWriter(() -> {
             try (Connection conn = connectionFactory.getConnection()) {
                 SuggestionInfo info = null;
 
@@ -94,21 +97,11 @@ public CompletableFuture<SuggestionInfo> processSuggestionAsync(int id, boolean
                 e.printStackTrace();
                 return null;
             }
-        }, writer);
+        });
     }
 
     @Override
-    public CompletableFuture<Integer> purgeAsync(long daysOld) {
-        return CompletableFuture.supplyAsync(() -> {
-            long timeLimit = System.currentTimeMillis() - (daysOld * 86400000L);
-            try (Connection conn = connectionFactory.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(PURGE_SUGGESTIONS)) {
-                ps.setLong(1, timeLimit);
-                return ps.executeUpdate();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                return 0;
-            }
-        }, writer);
+    public CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos) {
+        return purger.purge("suggestions", "created_at", System.currentTimeMillis() - (daysOld * 86400000L), deadlineNanos);
     }
 }
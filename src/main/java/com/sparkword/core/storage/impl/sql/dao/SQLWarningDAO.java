@@ -36,7 +36,7 @@ public SQLWarningDAO(SQLConnectionFactory connectionFactory, ExecutorService wri
 
     @Override
     public CompletableFuture<Void> addWarningAsync(int playerId, String reason, String moderator) {
-        return CompletableFuture.runAsync(() -> {
+        return runOnWriter(() -> {
             try (Connection conn = connectionFactory.getConnection();
                  PreparedStatement ps = conn.prepareStatement(INSERT_WARNING)) {
                 ps.setInt(1, playerId);
@@ -47,6 +47,6 @@ public CompletableFuture<Void> addWarningAsync(int playerId, String reason, Stri
             } catch (SQLException e) {
                 e.printStackTrace();
             }
-        }, writer);
+        });
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.dao;
+
+import com.sparkword.core.storage.impl.sql.ArchiveMover;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.SchemaManager;
+import com.sparkword.core.storage.spi.dao.MaintenanceDAO;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class SQLiteMaintenanceDAO extends AbstractSQLDAO implements MaintenanceDAO {
+
+    private static final List<String> TASKS = List.of("checkpoint", "vacuum", "optimize", "indexes");
+    private static final List<String> TASKS_WITH_ARCHIVE = List.of("archive", "checkpoint", "vacuum", "optimize", "indexes");
+    private static final int VACUUM_PAGES = 256;
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+    private static final int ANALYSIS_LIMIT = 400;
+
+    private final SchemaManager schemaManager;
+    private final ArchiveMover archiver;
+
+    public SQLiteMaintenanceDAO(SQLConnectionFactory connectionFactory, ExecutorService writer, ExecutorService reader, SchemaManager schemaManager,
+                                ArchiveMover archiver) {
+        super(connectionFactory, writer, reader);
+        this.schemaManager = schemaManager;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public List<String> getTasks() {
+        return archiver != null ? TASKS_WITH_ARCHIVE : TASKS;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> runTaskAsync(String task, long deadlineNanos) {
+        return CompletableFuture.supplyAsync(() -> switch (task) {
+            case "archive" -> archiver == null || archiver.archive(deadlineNanos);
+            case "checkpoint" -> onWriter(this::checkpoint);
+            case "vacuum" -> vacuum(deadlineNanos);
+            case "optimize" -> onWriter(this::optimize);
+            case "indexes" -> onWriter(() -> {
+                schemaManager.repairIndices();
+                return true;
+            });
+            default -> true;
+        }, reader);
+    }
+
+    private boolean vacuum(long deadlineNanos) {
+        if (onWriter(() -> pragmaInt("auto_vacuum")) != AUTO_VACUUM_INCREMENTAL) return true;
+
+        int free = onWriter(() -> pragmaInt("freelist_count"));
+        while (free > 0) {
+            if (System.nanoTime() >= deadlineNanos) return false;
+
+            int before = free;
+            free = onWriter(() -> {
+                try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement()) {
+                    if (stmt.execute("PRAGMA incremental_vacuum(" + VACUUM_PAGES + ")")) {
+                        try (ResultSet rs = stmt.getResultSet()) {
+                            while (rs.next()) {
+                            }
+                        }
+                    }
+                }
+                return pragmaInt("freelist_count");
+            });
+            if (free >= before) return false;
+        }
+        return true;
+    }
+
+    private boolean checkpoint() throws SQLException {
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA wal_checkpoint(TRUNCATE)")) {
+            return !rs.next() || rs.getInt(1) == 0;
+        }
+    }
+
+    private boolean optimize() throws SQLException {
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA analysis_limit = " + ANALYSIS_LIMIT);
+            stmt.execute("PRAGMA optimize");
+        }
+        return true;
+    }
+
+    private int pragmaInt(String pragma) throws SQLException {
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private <T> T onWriter(SQLTask<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.run();
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }, writer).join();
+        } catch (RejectedExecutionException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SQLTask<T> {
+        T run() throws SQLException;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.partition;
+
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+public class MySQLLogPartitions implements LogPartitions {
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final List<String> TABLES = List.of(BASE_TABLE);
+    private static final String LIST_PARTITIONS = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + BASE_TABLE + "' AND PARTITION_NAME IS NOT NULL";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final Executor writer;
+    private final Logger logger;
+    private final AtomicLong ensuredThrough = new AtomicLong(Long.MIN_VALUE);
+    private volatile boolean partitioned;
+    private volatile int partitionCount;
+
+    public MySQLLogPartitions(SQLConnectionFactory connectionFactory, Executor writer, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.writer = writer;
+        this.logger = logger;
+    }
+
+    @Override
+    public void init() {
+        try (Connection conn = connectionFactory.getConnection()) {
+            partitioned = isPartitioned(conn) || convertIfEmpty(conn);
+        } catch (SQLException e) {
+            logger.warning("Could not inspect " + BASE_TABLE + " partitions: " + e.getMessage());
+            partitioned = false;
+        }
+
+        if (!partitioned) {
+            logger.warning(BASE_TABLE + " already holds rows and is not partitioned; log purges will use chunked deletes. "
+                + "Partition it manually (PRIMARY KEY (id, timestamp), PARTITION BY RANGE (timestamp)) to purge by dropping days.");
+            return;
+        }
+        ensure(Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS) + 1);
+    }
+
+    @Override
+    public String tableFor(long timestamp) {
+        if (!partitioned) return BASE_TABLE;
+
+        long next = Math.floorDiv(timestamp, DAY_MILLIS) + 1;
+        long current = ensuredThrough.get();
+        if (next > current && ensuredThrough.compareAndSet(current, next)) {
+            try {
+                writer.execute(() -> ensure(next));
+            } catch (RejectedExecutionException e) {
+                ensuredThrough.compareAndSet(next, current);
+            }
+        }
+        return BASE_TABLE;
+    }
+
+    @Override
+    public List<String> tablesNewestFirst(long maxTimestamp) {
+        return TABLES;
+    }
+
+    @Override
+    public synchronized int dropOlderThan(long cutoff) {
+        if (!partitioned) return 0;
+
+        int removed = 0;
+        try (Connection conn = connectionFactory.getConnection()) {
+            List<String> expired = new ArrayList<>();
+            for (Map.Entry<Long, String> partition : listPartitions(conn).entrySet()) {
+                if (partition.getKey() > cutoff) break;
+                expired.add(partition.getValue());
+            }
+            if (expired.isEmpty()) return 0;
+
+            try (Statement stmt = conn.createStatement()) {
+                try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + BASE_TABLE + " PARTITION (" + String.join(", ", expired) + ")")) {
+                    if (rs.next()) removed = rs.getInt(1);
+                }
+                stmt.execute("ALTER TABLE " + BASE_TABLE + " DROP PARTITION " + String.join(", ", expired));
+            }
+            partitionCount = listPartitions(conn).size();
+        } catch (SQLException e) {
+            logger.warning("Could not drop log partitions: " + e.getMessage());
+            return 0;
+        }
+        return removed;
+    }
+
+    @Override
+    public List<String> partialTables(long cutoff) {
+        return TABLES;
+    }
+
+    @Override
+    public int partitionCount() {
+        return partitionCount;
+    }
+
+    private synchronized void ensure(long throughDay) {
+        try (Connection conn = connectionFactory.getConnection()) {
+            TreeMap<Long, String> partitions = listPartitions(conn);
+            long highest = partitions.isEmpty() ? Long.MIN_VALUE : partitions.lastKey();
+            long today = Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS);
+
+            List<String> definitions = new ArrayList<>();
+            for (long day = Math.max(today, Math.floorDiv(highest, DAY_MILLIS)); day <= throughDay; day++) {
+                long upper = (day + 1) * DAY_MILLIS;
+                if (upper <= highest) continue;
+                definitions.add("PARTITION p" + LocalDate.ofEpochDay(day).format(DateTimeFormatter.BASIC_ISO_DATE) + " VALUES LESS THAN (" + upper + ")");
+            }
+
+            if (!definitions.isEmpty()) {
+                definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("ALTER TABLE " + BASE_TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" + String.join(", ", definitions) + ")");
+                }
+            }
+            partitionCount = listPartitions(conn).size();
+            ensuredThrough.accumulateAndGet(throughDay, Math::max);
+        } catch (SQLException e) {
+            logger.warning("Could not create log partitions: " + e.getMessage());
+        }
+    }
+
+    private boolean convertIfEmpty(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT 1 FROM " + BASE_TABLE + " LIMIT 1")) {
+                if (rs.next()) return false;
+            }
+            stmt.execute("ALTER TABLE " + BASE_TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp)");
+            stmt.execute("ALTER TABLE " + BASE_TABLE + " PARTITION BY RANGE (timestamp) (PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+        }
+        return true;
+    }
+
+    private boolean isPartitioned(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(LIST_PARTITIONS);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    private TreeMap<Long, String> listPartitions(Connection conn) throws SQLException {
+        TreeMap<Long, String> partitions = new TreeMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(LIST_PARTITIONS);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String name = rs.getString(1);
+                if (MAX_PARTITION.equals(name)) continue;
+                try {
+                    partitions.put(Long.parseLong(rs.getString(2)), name);
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.partition;
+
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+public class SQLiteLogPartitions implements LogPartitions {
+
+    private static final String PREFIX = BASE_TABLE + "_p";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String LIST_PARTITIONS = "SELECT name FROM sqlite_master WHERE type = 'table' AND name LIKE '" + BASE_TABLE + "\\_p%' ESCAPE '\\'";
+    private static final String SEED_SEQUENCE = "INSERT INTO sqlite_sequence (name, seq) SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM sqlite_sequence WHERE name = ?)";
+    private static final String DROP_SEQUENCE = "DELETE FROM sqlite_sequence WHERE name = ?";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final Executor writer;
+    private final QueryAdapter queryAdapter;
+    private final Logger logger;
+    private final NavigableSet<Long> days = new ConcurrentSkipListSet<>();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public SQLiteLogPartitions(SQLConnectionFactory connectionFactory, Executor writer, QueryAdapter queryAdapter, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.writer = writer;
+        this.queryAdapter = queryAdapter;
+        this.logger = logger;
+    }
+
+    @Override
+    public void init() {
+        try (Connection conn = connectionFactory.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(LIST_PARTITIONS)) {
+            while (rs.next()) {
+                long day = parseDay(rs.getString(1));
+                if (day != Long.MIN_VALUE) days.add(day);
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not list log partitions: " + e.getMessage());
+        }
+
+        long today = Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS);
+        ensure(today);
+        ensure(today + 1);
+    }
+
+    @Override
+    public String tableFor(long timestamp) {
+        long day = Math.floorDiv(timestamp, DAY_MILLIS);
+        if (!days.contains(day) && !ensure(day)) return BASE_TABLE;
+
+        long next = day + 1;
+        if (!days.contains(next) && pending.add(next)) {
+            try {
+                writer.execute(() -> {
+                    ensure(next);
+                    pending.remove(next);
+                });
+            } catch (RejectedExecutionException e) {
+                pending.remove(next);
+            }
+        }
+        return name(day);
+    }
+
+    @Override
+    public List<String> tablesNewestFirst(long maxTimestamp) {
+        List<String> tables = new ArrayList<>();
+        for (long day : days.headSet(Math.floorDiv(maxTimestamp, DAY_MILLIS), true).descendingSet()) {
+            tables.add(name(day));
+        }
+        tables.add(BASE_TABLE);
+        return tables;
+    }
+
+    @Override
+    public synchronized int dropOlderThan(long cutoff) {
+        long firstKept = Math.floorDiv(cutoff, DAY_MILLIS);
+        int removed = 0;
+
+        try (Connection conn = connectionFactory.getConnection()) {
+            for (long day : new ArrayList<>(days.headSet(firstKept, false))) {
+                String table = name(day);
+                try (Statement stmt = conn.createStatement()) {
+                    try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                        if (rs.next()) removed += rs.getInt(1);
+                    }
+                    stmt.execute("DROP TABLE IF EXISTS " + table);
+                }
+                try (PreparedStatement ps = conn.prepareStatement(DROP_SEQUENCE)) {
+                    ps.setString(1, table);
+                    ps.executeUpdate();
+                }
+                days.remove(day);
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not drop log partitions: " + e.getMessage());
+        }
+        return removed;
+    }
+
+    @Override
+    public List<String> partialTables(long cutoff) {
+        long day = Math.floorDiv(cutoff, DAY_MILLIS);
+        return days.contains(day) ? List.of(name(day), BASE_TABLE) : List.of(BASE_TABLE);
+    }
+
+    @Override
+    public int partitionCount() {
+        return days.size();
+    }
+
+    private synchronized boolean ensure(long day) {
+        if (days.contains(day)) return true;
+
+        String table = name(day);
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(queryAdapter.getLogTableCreationQuery(table));
+            stmt.execute(queryAdapter.getIndexCreationQuery("idx_" + table + "_time", table, "timestamp"));
+            stmt.execute(queryAdapter.getIndexCreationQuery("idx_" + table + "_category", table, "category, timestamp, id"));
+            stmt.execute(queryAdapter.getIndexCreationQuery("idx_" + table + "_player", table, "player_name, timestamp, id"));
+
+            try (PreparedStatement ps = conn.prepareStatement(SEED_SEQUENCE)) {
+                ps.setString(1, table);
+                ps.setLong(2, day << 32);
+                ps.setString(3, table);
+                ps.executeUpdate();
+            }
+            days.add(day);
+            return true;
+        } catch (SQLException e) {
+            logger.warning("Could not create log partition " + table + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    static String name(long day) {
+        return PREFIX + LocalDate.ofEpochDay(day).format(DAY_FORMAT);
+    }
+
+    static long parseDay(String table) {
+        if (table == null || !table.startsWith(PREFIX)) return Long.MIN_VALUE;
+        try {
+            return LocalDate.parse(table.substring(PREFIX.length()), DAY_FORMAT).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.partition;
+
+import java.util.List;
+
+public class SingleTableLogPartitions implements LogPartitions {
+
+    private static final List<String> TABLES = List.of(BASE_TABLE);
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public String tableFor(long timestamp) {
+        return BASE_TABLE;
+    }
+
+    @Override
+    public List<String> tablesNewestFirst(long maxTimestamp) {
+        return TABLES;
+    }
+
+    @Override
+    public int dropOlderThan(long cutoff) {
+        return 0;
+    }
+
+    @Override
+    public List<String> partialTables(long cutoff) {
+        return TABLES;
+    }
+
+    @Override
+    public int partitionCount() {
+        return 0;
+    }
+}
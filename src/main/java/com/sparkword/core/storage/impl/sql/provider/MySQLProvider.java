@@ -19,25 +19,51 @@
 
 import com.sparkword.SparkWord;
 import com.sparkword.core.ConfigManager;
+import com.sparkword.core.config.StorageSettings;
+import com.sparkword.core.storage.archive.ColdArchive;
+import com.sparkword.core.storage.impl.sql.ArchiveMover;
+import com.sparkword.core.storage.impl.sql.BoundedWriterExecutor;
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.OverflowPolicy;
 import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
 import com.sparkword.core.storage.impl.sql.SchemaManager;
+import com.sparkword.core.storage.impl.sql.SpillJournal;
+import com.sparkword.core.storage.impl.sql.WriteAheadJournal;
 import com.sparkword.core.storage.impl.sql.dao.*;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.partition.MySQLLogPartitions;
+import com.sparkword.core.storage.impl.sql.partition.SingleTableLogPartitions;
+import com.sparkword.core.storage.impl.sql.search.LogSearchIndex;
+import com.sparkword.core.storage.impl.sql.search.MySQLFulltextLogIndex;
+import com.sparkword.core.storage.impl.sql.search.SegmentLogIndex;
 import com.sparkword.core.storage.impl.sql.query.MySQLQueryAdapter;
+import com.sparkword.core.storage.search.InvertedIndex;
 import com.sparkword.core.storage.spi.StorageProvider;
+import com.sparkword.core.storage.spi.WriteMetrics;
 import com.sparkword.core.storage.spi.dao.*;
 
+import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class MySQLProvider implements StorageProvider {
 
+    private static final long WRITER_SHUTDOWN_SECONDS = 10;
+
     private final SparkWord plugin;
     private SQLConnectionFactory connectionFactory;
     private SchemaManager schemaManager;
 
     private ExecutorService writer;
     private ExecutorService reader;
+    private GroupCommitWriter batchWriter;
+    private WriteAheadJournal journal;
+    private LogPartitions partitions;
+    private ChunkedPurger purger;
+    private LogSearchIndex search;
 
     private PlayerDAO playerDAO;
     private MuteDAO muteDAO;
@@ -46,6 +72,7 @@ public class MySQLProvider implements StorageProvider {
     private AuditDAO auditDAO;
     private SuggestionDAO suggestionDAO;
     private ReportDAO reportDAO;
+    private MaintenanceDAO maintenanceDAO;
 
     public MySQLProvider(SparkWord plugin) {
         this.plugin = plugin;
@@ -56,29 +83,76 @@ public void init(ConfigManager config) {
         this.connectionFactory = new SQLConnectionFactory(plugin);
         this.connectionFactory.init(config);
 
-        this.writer = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "SparkWord-DB-Writer");
-            t.setDaemon(false);
-            return t;
-        });
+        StorageSettings settings = config.getStorageSettings();
+        this.writer = new BoundedWriterExecutor("SparkWord-DB-Writer", settings.getWriterQueueCapacity(), settings.getWriterBlockTimeoutMillis());
         this.reader = Executors.newVirtualThreadPerTaskExecutor();
 
+        this.journal = settings.isJournalEnabled()
+            ? new WriteAheadJournal(new File(plugin.getDataFolder(), "database"), settings.getJournalSegmentBytes())
+            : null;
+        this.batchWriter = new GroupCommitWriter(connectionFactory, writer, plugin.getLogger(),
+            settings.getBatchQueueCapacity(), settings.getBatchMaxRows(), settings.getBatchMaxDelayMillis(),
+            OverflowPolicy.parse(settings.getBatchOverflowPolicy()), settings.getWriterBlockTimeoutMillis(),
+            new SpillJournal(new File(plugin.getDataFolder(), "database/spill.journal")), journal);
+
         this.schemaManager = new SchemaManager(connectionFactory, plugin.getLogger(), new MySQLQueryAdapter());
         this.schemaManager.runMigrations();
 
         MySQLQueryAdapter adapter = new MySQLQueryAdapter();
+        this.partitions = settings.isPartitioningEnabled()
+            ? new MySQLLogPartitions(connectionFactory, writer, plugin.getLogger())
+            : new SingleTableLogPartitions();
+        this.partitions.init();
+        this.purger = new ChunkedPurger(connectionFactory, writer, adapter, settings.getPurgeChunkSize(), settings.getPurgePauseMillis());
+
+        int recovered = batchWriter.recover();
+        if (recovered > 0) plugin.getLogger().info("Replayed " + recovered + " journaled writes from the last session.");
+
+        if (settings.isSearchEnabled()) {
+            this.search = new MySQLFulltextLogIndex(connectionFactory, batchWriter, adapter, purger, plugin.getLogger());
+            if (!search.init()) {
+                this.search = new SegmentLogIndex(connectionFactory, partitions,
+                    new InvertedIndex(new File(plugin.getDataFolder(), "database/search").toPath(), settings.getSearchSegmentRows(), plugin.getLogger()),
+                    plugin.getLogger());
+                this.search.init();
+            }
+        }
+
+        ColdArchive archive = null;
+        ArchiveMover archiver = null;
+        if (settings.isArchiveEnabled()) {
+            archive = new ColdArchive(new File(plugin.getDataFolder(), "database/archive").toPath(), settings.getArchiveBlockRows(), plugin.getLogger());
+            archive.open();
+            archiver = new ArchiveMover(connectionFactory, writer, partitions, purger, archive, search,
+                TimeUnit.DAYS.toMillis(settings.getArchiveAfterDays()), TimeUnit.DAYS.toMillis(settings.getArchiveRetentionDays()), plugin.getLogger());
+        }
+
         this.playerDAO = new SQLPlayerDAO(connectionFactory, writer, reader, adapter);
-        this.muteDAO = new SQLMuteDAO(connectionFactory, writer, reader, adapter);
+        this.muteDAO = new SQLMuteDAO(connectionFactory, writer, reader, adapter, batchWriter, purger);
         this.warningDAO = new SQLWarningDAO(connectionFactory, writer, reader);
-        this.monitorDAO = new SQLMonitorDAO(connectionFactory, writer, reader);
-        this.auditDAO = new SQLAuditDAO(connectionFactory, writer, reader);
-        this.suggestionDAO = new SQLSuggestionDAO(connectionFactory, writer, reader);
-        this.reportDAO = new SQLReportDAO(connectionFactory, writer, reader);
+        this.monitorDAO = new SQLMonitorDAO(connectionFactory, writer, reader, batchWriter, partitions, purger, archive, search);
+        this.auditDAO = new SQLAuditDAO(connectionFactory, writer, reader, adapter, batchWriter, purger, archive);
+        this.suggestionDAO = new SQLSuggestionDAO(connectionFactory, writer, reader, purger);
+        this.reportDAO = new SQLReportDAO(connectionFactory, writer, reader, partitions, archive, search);
+        this.maintenanceDAO = new MySQLMaintenanceDAO(connectionFactory, writer, reader, schemaManager, archiver);
     }
 
     @Override
     public void shutdown() {
-        if (writer != null) writer.shutdown();
+        if (purger != null) purger.close();
+        if (batchWriter != null) batchWriter.close();
+        if (search != null) search.close();
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(WRITER_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                    plugin.getLogger().warning("Database writer did not finish in time; pending writes stay in the journal.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal != null) journal.close();
         if (connectionFactory != null) connectionFactory.close();
     }
 
@@ -87,6 +161,11 @@ public Executor getAsyncExecutor() {
         return writer;
     }
 
+    @Override
+    public WriteMetrics getWriteMetrics() {
+        return batchWriter != null ? batchWriter.metrics() : WriteMetrics.EMPTY;
+    }
+
     @Override
     public PlayerDAO getPlayerDAO() {
         return playerDAO;
@@ -121,4 +200,9 @@ public SuggestionDAO getSuggestionDAO() {
     public ReportDAO getReportDAO() {
         return reportDAO;
     }
+
+    @Override
+    public MaintenanceDAO getMaintenanceDAO() {
+        return maintenanceDAO;
+    }
 }
@@ -21,9 +21,28 @@ public class MySQLQueryAdapter implements QueryAdapter {
 
     @Override
     public String getPlayerUpsertQuery() {
-
         return "INSERT INTO players (uuid, name, last_seen) VALUES (?, ?, ?) " +
-            "ON DUPLICATE KEY UPDATE name = VALUES(name), last_seen = VALUES(last_seen)";
+            "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id), name = VALUES(name), last_seen = VALUES(last_seen)";
+    }
+
+    @Override
+    public boolean supportsReturning() {
+        return false;
+    }
+
+    @Override
+    public String getCaseInsensitiveColumn(String column) {
+        return column;
+    }
+
+    @Override
+    public String getIndexCreationQuery(String name, String table, String columns) {
+        return "CREATE INDEX " + name + " ON " + table + "(" + columns + ")";
+    }
+
+    @Override
+    public String getChunkedDeleteQuery(String table, String column) {
+        return "DELETE FROM " + table + " WHERE " + column + " < ? LIMIT ?";
     }
 
     @Override
@@ -84,15 +103,20 @@ public String getTableCreationQuery(String tableName) {
                 "action VARCHAR(64), " +
                 "detail TEXT, " +
                 "timestamp BIGINT) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
-            case "monitor_logs" -> "CREATE TABLE IF NOT EXISTS monitor_logs (" +
-                "id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
-                "player_name VARCHAR(64), " +
-                "content TEXT, " +
-                "category VARCHAR(64), " +
-                "source VARCHAR(64) DEFAULT 'Unknown', " +
-                "detected_word VARCHAR(128), " +
-                "timestamp BIGINT) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+            case "monitor_logs" -> getLogTableCreationQuery("monitor_logs");
             default -> "";
         };
     }
+
+    @Override
+    public String getLogTableCreationQuery(String table) {
+        return "CREATE TABLE IF NOT EXISTS " + table + " (" +
+            "id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
+            "player_name VARCHAR(64), " +
+            "content TEXT, " +
+            "category VARCHAR(64), " +
+            "source VARCHAR(64) DEFAULT 'Unknown', " +
+            "detected_word VARCHAR(128), " +
+            "timestamp BIGINT) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+    }
 }
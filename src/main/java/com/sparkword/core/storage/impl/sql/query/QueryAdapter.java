@@ -21,9 +21,19 @@ public interface QueryAdapter {
 
     String getPlayerUpsertQuery();
 
+    boolean supportsReturning();
+
+    String getCaseInsensitiveColumn(String column);
+
+    String getIndexCreationQuery(String name, String table, String columns);
+
+    String getChunkedDeleteQuery(String table, String column);
+
     String getMuteUpsertQuery();
 
     String getMuteHistoryInsertQuery();
 
     String getTableCreationQuery(String tableName);
+
+    String getLogTableCreationQuery(String table);
 }
@@ -21,9 +21,28 @@ public class SQLiteQueryAdapter implements QueryAdapter {
 
     @Override
     public String getPlayerUpsertQuery() {
-        return "INSERT OR REPLACE INTO players (id, uuid, name, last_seen) VALUES " +
-            "((SELECT id FROM players WHERE uuid = ?), ?, ?, ?)";
+        return "INSERT INTO players (uuid, name, last_seen) VALUES (?, ?, ?) " +
+            "ON CONFLICT(uuid) DO UPDATE SET name = excluded.name, last_seen = excluded.last_seen RETURNING id";
+    }
+
+    @Override
+    public boolean supportsReturning() {
+        return true;
+    }
+
+    @Override
+    public String getCaseInsensitiveColumn(String column) {
+        return column + " COLLATE NOCASE";
+    }
+
+    @Override
+    public String getIndexCreationQuery(String name, String table, String columns) {
+        return "CREATE INDEX IF NOT EXISTS " + name + " ON " + table + "(" + columns + ")";
+    }
 
+    @Override
+    public String getChunkedDeleteQuery(String table, String column) {
+        return "DELETE FROM " + table + " WHERE rowid IN (SELECT rowid FROM " + table + " WHERE " + column + " < ? LIMIT ?)";
     }
 
     @Override
@@ -83,15 +102,20 @@ public String getTableCreationQuery(String tableName) {
                 "action TEXT, " +
                 "detail TEXT, " +
                 "timestamp INTEGER)";
-            case "monitor_logs" -> "CREATE TABLE IF NOT EXISTS monitor_logs (" +
-                "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                "player_name TEXT, " +
-                "content TEXT, " +
-                "category TEXT, " +
-                "source TEXT DEFAULT 'Unknown', " +
-                "detected_word TEXT, " +
-                "timestamp INTEGER)";
+            case "monitor_logs" -> getLogTableCreationQuery("monitor_logs");
             default -> "";
         };
     }
+
+    @Override
+    public String getLogTableCreationQuery(String table) {
+        return "CREATE TABLE IF NOT EXISTS " + table + " (" +
+            "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "player_name TEXT, " +
+            "content TEXT, " +
+            "category TEXT, " +
+            "source TEXT DEFAULT 'Unknown', " +
+            "detected_word TEXT, " +
+            "timestamp INTEGER)";
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.search;
+
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.SearchQuery;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface LogSearchIndex {
+
+    boolean init();
+
+    void index(String playerName, String content, String category, String source, String detectedWord, long timestamp);
+
+    List<LogEntry> search(SearchQuery query, int offset, int limit) throws SQLException;
+
+    CompletableFuture<Integer> purgeOlderThan(long cutoff);
+
+    String mode();
+
+    boolean indexing();
+
+    void close();
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.search;
+
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.query.QueryAdapter;
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.SearchQuery;
+import com.sparkword.core.storage.search.SearchQuery.Term;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+public class MySQLFulltextLogIndex implements LogSearchIndex {
+
+    static final String SIDE_TABLE = "monitor_logs_search";
+
+    private static final long IN_PLACE_ROWS = 100_000;
+
+    private static final String TABLE_ROWS = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+    private static final String HAS_FULLTEXT = "SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_TYPE = 'FULLTEXT'";
+    private static final String ADD_FULLTEXT = "ALTER TABLE %1$s ADD FULLTEXT INDEX ft_%1$s_content (content)";
+    private static final String INSERT = "INSERT INTO " + SIDE_TABLE + " (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String LAST_INDEXED = "SELECT MAX(timestamp) FROM " + SIDE_TABLE;
+    private static final String BOUNDARY = "SELECT timestamp FROM %s WHERE timestamp > ? AND timestamp < ? AND content IS NOT NULL ORDER BY timestamp LIMIT 1 OFFSET ?";
+    private static final String BACKFILL = "INSERT INTO " + SIDE_TABLE + " (player_name, content, category, source, detected_word, timestamp) "
+        + "SELECT player_name, content, category, source, detected_word, timestamp FROM %s"
+        + " WHERE timestamp > ? AND timestamp < ? AND content IS NOT NULL ORDER BY timestamp, id";
+    private static final String SEARCH = "SELECT id, player_name, source, category, content, detected_word, timestamp, "
+        + "MATCH (content) AGAINST (? IN BOOLEAN MODE) AS score FROM %s WHERE MATCH (content) AGAINST (? IN BOOLEAN MODE) "
+        + "AND timestamp >= ? AND timestamp < ? %sORDER BY score DESC, timestamp DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String PLAYER_FILTER = "AND player_name = ? ";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final GroupCommitWriter batchWriter;
+    private final QueryAdapter queryAdapter;
+    private final ChunkedPurger purger;
+    private final Logger logger;
+    private final SearchBackfill backfill;
+    private volatile String table = LogPartitions.BASE_TABLE;
+    private volatile boolean sideTable;
+
+    public MySQLFulltextLogIndex(SQLConnectionFactory connectionFactory, GroupCommitWriter batchWriter, QueryAdapter queryAdapter,
+                                 ChunkedPurger purger, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.batchWriter = batchWriter;
+        this.queryAdapter = queryAdapter;
+        this.purger = purger;
+        this.logger = logger;
+        this.backfill = new SearchBackfill(purger, batchWriter, logger, INSERT, BOUNDARY, BACKFILL);
+    }
+
+    @Override
+    public boolean init() {
+        try (Connection conn = connectionFactory.getConnection()) {
+            if (hasFulltext(conn, LogPartitions.BASE_TABLE)) return true;
+
+            boolean inPlace = tableRows(conn, SIDE_TABLE) < 0;
+            if (inPlace) {
+                long rows = tableRows(conn, LogPartitions.BASE_TABLE);
+                if (rows > IN_PLACE_ROWS) {
+                    inPlace = false;
+                    logger.info(LogPartitions.BASE_TABLE + " holds about " + rows + " rows; indexing into " + SIDE_TABLE + " in the background instead of rebuilding it.");
+                }
+            }
+            if (inPlace) {
+                try {
+                    ensureFulltext(conn, LogPartitions.BASE_TABLE);
+                    return true;
+                } catch (SQLException e) {
+                    logger.info(LogPartitions.BASE_TABLE + " cannot carry a FULLTEXT index (" + e.getMessage() + "); indexing into " + SIDE_TABLE + " instead.");
+                }
+            }
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(queryAdapter.getLogTableCreationQuery(SIDE_TABLE));
+                try {
+                    stmt.execute(queryAdapter.getIndexCreationQuery("idx_" + SIDE_TABLE + "_time", SIDE_TABLE, "timestamp"));
+                } catch (SQLException ignored) {
+                }
+            }
+            ensureFulltext(conn, SIDE_TABLE);
+            table = SIDE_TABLE;
+            sideTable = true;
+            startBackfill(conn);
+            return true;
+        } catch (SQLException e) {
+            logger.warning("FULLTEXT search is not available (" + e.getMessage() + "); log search falls back to local index segments.");
+            return false;
+        }
+    }
+
+    @Override
+    public void index(String playerName, String content, String category, String source, String detectedWord, long timestamp) {
+        if (!sideTable || content == null || backfill.hold(playerName, content, category, source, detectedWord, timestamp)) return;
+        batchWriter.enqueue(Priority.LOW, INSERT, playerName, content, category, source, detectedWord, timestamp);
+    }
+
+    @Override
+    public List<LogEntry> search(SearchQuery query, int offset, int limit) throws SQLException {
+        List<LogEntry> results = new ArrayList<>();
+        if (query.isEmpty() || limit <= 0) return results;
+
+        String against = booleanExpression(query);
+        String sql = SEARCH.formatted(table, query.player() != null ? PLAYER_FILTER : "");
+        try (Connection conn = connectionFactory.getReadConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+            int index = 1;
+            ps.setString(index++, against);
+            ps.setString(index++, against);
+            ps.setLong(index++, query.since());
+            ps.setLong(index++, query.until());
+            if (query.player() != null) ps.setString(index++, query.player());
+            ps.setInt(index++, limit);
+            ps.setInt(index, offset);
+
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                results.add(new LogEntry(
+                    rs.getString("player_name"),
+                    rs.getString("source") != null ? rs.getString("source") : "Unknown",
+                    rs.getString("category"),
+                    rs.getString("content"),
+                    rs.getString("detected_word"),
+                    rs.getLong("timestamp"),
+                    rs.getLong("id")
+                ));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<Integer> purgeOlderThan(long cutoff) {
+        return sideTable ? purger.purge(SIDE_TABLE, "timestamp", cutoff) : CompletableFuture.completedFuture(0);
+    }
+
+    @Override
+    public String mode() {
+        return sideTable ? "fulltext (" + SIDE_TABLE + ")" : "fulltext";
+    }
+
+    @Override
+    public boolean indexing() {
+        return backfill.running();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    static String booleanExpression(SearchQuery query) {
+        StringJoiner expression = new StringJoiner(" ");
+        for (Term term : query.terms()) {
+            if (term.isPhrase()) {
+                expression.add("+\"" + String.join(" ", term.tokens()) + "\"");
+            } else {
+                expression.add("+" + term.tokens().get(0) + (term.prefix() ? "*" : ""));
+            }
+        }
+        return expression.toString();
+    }
+
+    private boolean hasFulltext(Connection conn, String target) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(HAS_FULLTEXT)) {
+            ps.setString(1, target);
+            ResultSet rs = ps.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    private long tableRows(Connection conn, String target) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(TABLE_ROWS)) {
+            ps.setString(1, target);
+            ResultSet rs = ps.executeQuery();
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    private void ensureFulltext(Connection conn, String target) throws SQLException {
+        if (hasFulltext(conn, target)) return;
+
+        logger.info("Adding a FULLTEXT index to " + target + ", this may take a while on large tables.");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(ADD_FULLTEXT.formatted(target));
+        }
+    }
+
+    private void startBackfill(Connection conn) throws SQLException {
+        long after = 0;
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(LAST_INDEXED)) {
+            if (rs.next()) after = rs.getLong(1);
+        }
+        backfill.start(List.of(LogPartitions.BASE_TABLE), after);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.search;
+
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.SearchQuery;
+import com.sparkword.core.storage.search.SearchQuery.Term;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+public class SQLiteFtsLogIndex implements LogSearchIndex {
+
+    static final String TABLE = "monitor_logs_fts";
+
+    private static final String EXISTS = "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + TABLE + "'";
+    private static final String CREATE = "CREATE VIRTUAL TABLE " + TABLE + " USING fts5(content, player_name UNINDEXED, source UNINDEXED, "
+        + "category UNINDEXED, detected_word UNINDEXED, timestamp UNINDEXED, tokenize = 'unicode61 remove_diacritics 2')";
+    private static final String INSERT = "INSERT INTO " + TABLE + " (content, player_name, source, category, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String LAST_INDEXED = "SELECT timestamp FROM " + TABLE + " ORDER BY rowid DESC LIMIT 1";
+    private static final String BOUNDARY = "SELECT timestamp FROM %s WHERE timestamp > ? AND timestamp < ? AND content IS NOT NULL ORDER BY timestamp LIMIT 1 OFFSET ?";
+    private static final String BACKFILL = "INSERT INTO " + TABLE + " (content, player_name, source, category, detected_word, timestamp) "
+        + "SELECT content, player_name, source, category, detected_word, timestamp FROM %s WHERE timestamp > ? AND timestamp < ? AND content IS NOT NULL ORDER BY timestamp, id";
+    private static final String SEARCH = "SELECT rowid AS id, player_name, source, category, content, detected_word, timestamp FROM " + TABLE
+        + " WHERE " + TABLE + " MATCH ? AND timestamp >= ? AND timestamp < ? %sORDER BY rank, timestamp DESC LIMIT ? OFFSET ?";
+    private static final String PLAYER_FILTER = "AND player_name = ? COLLATE NOCASE ";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final GroupCommitWriter batchWriter;
+    private final LogPartitions partitions;
+    private final ChunkedPurger purger;
+    private final Logger logger;
+    private final SearchBackfill backfill;
+
+    public SQLiteFtsLogIndex(SQLConnectionFactory connectionFactory, GroupCommitWriter batchWriter, LogPartitions partitions,
+                             ChunkedPurger purger, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.batchWriter = batchWriter;
+        this.partitions = partitions;
+        this.purger = purger;
+        this.logger = logger;
+        this.backfill = new SearchBackfill(purger, batchWriter, logger, INSERT, BOUNDARY, BACKFILL);
+    }
+
+    @Override
+    public boolean init() {
+        try (Connection conn = connectionFactory.getConnection(); Statement stmt = conn.createStatement()) {
+            boolean exists;
+            try (ResultSet rs = stmt.executeQuery(EXISTS)) {
+                exists = rs.next();
+            }
+            if (!exists) stmt.execute(CREATE);
+        } catch (SQLException e) {
+            logger.warning("FTS5 is not available (" + e.getMessage() + "); log search falls back to local index segments.");
+            return false;
+        }
+
+        startBackfill();
+        return true;
+    }
+
+    @Override
+    public void index(String playerName, String content, String category, String source, String detectedWord, long timestamp) {
+        if (content == null || backfill.hold(content, playerName, source, category, detectedWord, timestamp)) return;
+        batchWriter.enqueue(Priority.LOW, INSERT, content, playerName, source, category, detectedWord, timestamp);
+    }
+
+    @Override
+    public List<LogEntry> search(SearchQuery query, int offset, int limit) throws SQLException {
+        List<LogEntry> results = new ArrayList<>();
+        if (query.isEmpty() || limit <= 0) return results;
+
+        String sql = SEARCH.formatted(query.player() != null ? PLAYER_FILTER : "");
+        try (Connection conn = connectionFactory.getReadConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+            int index = 1;
+            ps.setString(index++, matchExpression(query));
+            ps.setLong(index++, query.since());
+            ps.setLong(index++, query.until());
+            if (query.player() != null) ps.setString(index++, query.player());
+            ps.setInt(index++, limit);
+            ps.setInt(index, offset);
+
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                results.add(new LogEntry(
+                    rs.getString("player_name"),
+                    rs.getString("source") != null ? rs.getString("source") : "Unknown",
+                    rs.getString("category"),
+                    rs.getString("content"),
+                    rs.getString("detected_word"),
+                    rs.getLong("timestamp"),
+                    rs.getLong("id")
+                ));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<Integer> purgeOlderThan(long cutoff) {
+        return purger.purge(TABLE, "timestamp", cutoff);
+    }
+
+    @Override
+    public String mode() {
+        return "fts5";
+    }
+
+    @Override
+    public boolean indexing() {
+        return backfill.running();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    static String matchExpression(SearchQuery query) {
+        StringJoiner expression = new StringJoiner(" ");
+        for (Term term : query.terms()) {
+            expression.add("\"" + String.join(" ", term.tokens()) + "\"" + (term.prefix() ? "*" : ""));
+        }
+        return expression.toString();
+    }
+
+    private void startBackfill() {
+        long after = 0;
+        try (Connection conn = connectionFactory.getReadConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(LAST_INDEXED)) {
+            if (rs.next()) after = rs.getLong(1);
+        } catch (SQLException e) {
+            logger.warning("Could not backfill the log search index: " + e.getMessage());
+            return;
+        }
+
+        List<String> tables = new ArrayList<>(partitions.tablesNewestFirst(Long.MAX_VALUE));
+        Collections.reverse(tables);
+        backfill.start(tables, after);
+    }
+}
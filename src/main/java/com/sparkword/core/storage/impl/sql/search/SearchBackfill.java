@@ -0,0 +1,117 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.search;
+
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+final class SearchBackfill {
+
+    private static final int MAX_HELD = 10_000;
+
+    private final ChunkedPurger chunks;
+    private final GroupCommitWriter batchWriter;
+    private final Logger logger;
+    private final String insert;
+    private final String boundary;
+    private final String copy;
+    private final List<Object[]> held = new ArrayList<>();
+
+    private volatile boolean running;
+    private volatile long upTo;
+    private long after;
+    private long indexed;
+
+    SearchBackfill(ChunkedPurger chunks, GroupCommitWriter batchWriter, Logger logger, String insert, String boundary, String copy) {
+        this.chunks = chunks;
+        this.batchWriter = batchWriter;
+        this.logger = logger;
+        this.insert = insert;
+        this.boundary = boundary;
+        this.copy = copy;
+    }
+
+    void start(List<String> tables, long after) {
+        this.after = after;
+        this.upTo = System.currentTimeMillis();
+        this.running = true;
+        chunks.inChunks(tables, this::copyChunk).whenComplete((total, ex) -> finish());
+    }
+
+    boolean running() {
+        return running;
+    }
+
+    boolean hold(Object... params) {
+        if (!running) return false;
+        synchronized (held) {
+            if (!running) return false;
+            if (held.size() >= MAX_HELD) {
+                held.clear();
+                upTo = System.currentTimeMillis() + 1;
+            }
+            held.add(params);
+            return true;
+        }
+    }
+
+    private int copyChunk(Connection conn, String table, int limit) throws SQLException {
+        long bound = upTo;
+        long last = -1;
+        try (PreparedStatement ps = conn.prepareStatement(boundary.formatted(table))) {
+            ps.setLong(1, after);
+            ps.setLong(2, bound);
+            ps.setInt(3, limit - 1);
+            ResultSet rs = ps.executeQuery();
+            if (rs.next()) last = rs.getLong(1);
+        }
+
+        int copied;
+        try (PreparedStatement ps = conn.prepareStatement(copy.formatted(table))) {
+            ps.setLong(1, after);
+            ps.setLong(2, last >= 0 ? last + 1 : bound);
+            copied = ps.executeUpdate();
+        }
+        indexed += copied;
+        if (last < 0) return Math.min(copied, limit - 1);
+
+        after = last;
+        return Math.max(copied, limit);
+    }
+
+    private void finish() {
+        synchronized (held) {
+            running = false;
+            long bound = upTo;
+            for (Object[] params : held) {
+                if ((long) params[params.length - 1] >= bound) batchWriter.enqueue(Priority.LOW, insert, params);
+            }
+            held.clear();
+        }
+        if (indexed > 0) logger.info("Indexed " + indexed + " log entries for search.");
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.impl.sql.search;
+
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.InvertedIndex;
+import com.sparkword.core.storage.search.SearchQuery;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+public class SegmentLogIndex implements LogSearchIndex {
+
+    private static final String SELECT_NEWER = "SELECT id, player_name, source, category, content, detected_word, timestamp FROM %s "
+        + "WHERE timestamp > ? AND timestamp <= ? AND content IS NOT NULL";
+
+    private final SQLConnectionFactory connectionFactory;
+    private final LogPartitions partitions;
+    private final InvertedIndex index;
+    private final Logger logger;
+    private final ExecutorService background = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private volatile boolean backfilling;
+
+    public SegmentLogIndex(SQLConnectionFactory connectionFactory, LogPartitions partitions, InvertedIndex index, Logger logger) {
+        this.connectionFactory = connectionFactory;
+        this.partitions = partitions;
+        this.index = index;
+        this.logger = logger;
+    }
+
+    @Override
+    public boolean init() {
+        index.open();
+        long after = index.indexedUpTo();
+        long upTo = System.currentTimeMillis();
+        backfilling = true;
+        try {
+            background.execute(() -> backfill(after, upTo));
+        } catch (RejectedExecutionException e) {
+            backfilling = false;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void index(String playerName, String content, String category, String source, String detectedWord, long timestamp) {
+        if (content == null) return;
+        if (index.add(new LogEntry(playerName, source != null ? source : "Unknown", category, content, detectedWord, timestamp)) && flushQueued.compareAndSet(false, true)) {
+            try {
+                background.execute(() -> {
+                    flushQueued.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    @Override
+    public List<LogEntry> search(SearchQuery query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    @Override
+    public CompletableFuture<Integer> purgeOlderThan(long cutoff) {
+        try {
+            return CompletableFuture.supplyAsync(() -> index.purgeBefore(cutoff), background);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(0);
+        }
+    }
+
+    @Override
+    public String mode() {
+        return "segments";
+    }
+
+    @Override
+    public boolean indexing() {
+        return backfilling;
+    }
+
+    @Override
+    public void close() {
+        background.shutdown();
+        try {
+            if (!background.awaitTermination(10, TimeUnit.SECONDS)) background.shutdownNow();
+        } catch (InterruptedException e) {
+            background.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void backfill(long after, long upTo) {
+        int indexed = 0;
+        try (Connection conn = connectionFactory.getReadConnection()) {
+            for (String table : partitions.tablesNewestFirst(upTo)) {
+                try (PreparedStatement ps = conn.prepareStatement(SELECT_NEWER.formatted(table))) {
+                    ps.setLong(1, after);
+                    ps.setLong(2, upTo);
+                    ResultSet rs = ps.executeQuery();
+                    while (rs.next()) {
+                        LogEntry entry = new LogEntry(
+                            rs.getString("player_name"),
+                            rs.getString("source") != null ? rs.getString("source") : "Unknown",
+                            rs.getString("category"),
+                            rs.getString("content"),
+                            rs.getString("detected_word"),
+                            rs.getLong("timestamp"),
+                            rs.getLong("id")
+                        );
+                        if (index.add(entry)) flush();
+                        indexed++;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not backfill the log search index: " + e.getMessage());
+        }
+        backfilling = false;
+        if (indexed > 0) logger.info("Indexed " + indexed + " log entries for search.");
+    }
+
+    private void flush() {
+        try {
+            index.flush();
+        } catch (IOException e) {
+            logger.warning("Could not write a log search segment: " + e.getMessage());
+        }
+    }
+}
@@ -23,6 +23,11 @@ public record LogEntry(
     String violation,
     String content,
     String detectedWord,
-    long timestamp
+    long timestamp,
+    long id
 ) {
+
+    public LogEntry(String player, String source, String violation, String content, String detectedWord, long timestamp) {
+        this(player, source, violation, content, detectedWord, timestamp, 0L);
+    }
 }
@@ -31,7 +31,6 @@ public boolean isPermanent() {
 
     public boolean blocks(MuteScope requiredScope) {
         if (!isMuted) return false;
-        if (hasExpired()) return false;
 
         if (this.scope == MuteScope.GLOBAL) return true;
 
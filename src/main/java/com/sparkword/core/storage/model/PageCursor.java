@@ -0,0 +1,73 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.model;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public record PageCursor(long timestamp, long id) {
+
+    public static final PageCursor END = new PageCursor(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private static final String PREFIX = ".";
+    private static final int KEY_BYTES = Long.BYTES * 2;
+
+    public static boolean isToken(String arg) {
+        return arg != null && arg.startsWith(PREFIX) && arg.length() > PREFIX.length();
+    }
+
+    public static String encode(PageCursor... cursors) {
+        ByteBuffer buffer = ByteBuffer.allocate(cursors.length * KEY_BYTES);
+        for (PageCursor cursor : cursors) {
+            buffer.putLong(cursor.timestamp).putLong(cursor.id);
+        }
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PageCursor[] decode(String token, int parts) {
+        if (!isToken(token)) return null;
+
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (raw.length != parts * KEY_BYTES) return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        PageCursor[] cursors = new PageCursor[parts];
+        for (int i = 0; i < parts; i++) {
+            cursors[i] = new PageCursor(buffer.getLong(), buffer.getLong());
+        }
+        return cursors;
+    }
+
+    public static PageCursor decode(String token) {
+        PageCursor[] cursors = decode(token, 1);
+        return cursors != null ? cursors[0] : null;
+    }
+
+    public boolean isEnd() {
+        return equals(END);
+    }
+
+    public String encode() {
+        return encode(this);
+    }
+}
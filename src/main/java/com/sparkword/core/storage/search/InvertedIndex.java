@@ -0,0 +1,463 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.search;
+
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.SearchQuery.Term;
+import com.sparkword.core.storage.search.SearchSegment.Postings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class InvertedIndex {
+
+    private static final String SEGMENT_SUFFIX = ".idx";
+    private static final String WATERMARK_FILE = "purged-before";
+    private static final int MERGE_FACTOR = 4;
+    private static final int MAX_MERGE_DOCS = 1 << 20;
+    private static final int MAX_EXPANSIONS = 128;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score)
+        .thenComparingLong(Hit::timestamp).reversed();
+
+    private final Path folder;
+    private final int flushRows;
+    private final Logger logger;
+    private final Object writeLock = new Object();
+
+    private volatile List<SearchSegment> segments = List.of();
+    private volatile long purgedBefore;
+    private List<Pending> memtable = new ArrayList<>();
+    private List<Pending> flushing = List.of();
+    private long nextSequence;
+
+    public InvertedIndex(Path folder, int flushRows, Logger logger) {
+        this.folder = folder;
+        this.flushRows = Math.max(1, flushRows);
+        this.logger = logger;
+    }
+
+    public void open() {
+        try {
+            Files.createDirectories(folder);
+            try (Stream<Path> files = Files.list(folder)) {
+                files.filter(p -> p.getFileName().toString().endsWith(".tmp")).forEach(this::deleteQuietly);
+            }
+
+            Path watermark = folder.resolve(WATERMARK_FILE);
+            if (Files.exists(watermark)) {
+                try {
+                    purgedBefore = Long.parseLong(Files.readString(watermark).trim());
+                } catch (NumberFormatException e) {
+                    logger.warning("Ignoring unreadable search index watermark: " + e.getMessage());
+                }
+            }
+
+            List<SearchSegment> opened = new ArrayList<>();
+            try (Stream<Path> files = Files.list(folder)) {
+                for (Path file : files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList()) {
+                    try {
+                        opened.add(SearchSegment.open(file));
+                        nextSequence = Math.max(nextSequence, sequenceOf(file) + 1);
+                    } catch (IOException e) {
+                        logger.warning("Skipping unreadable search segment " + file.getFileName() + ": " + e.getMessage());
+                    }
+                }
+            }
+            segments = List.copyOf(opened);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not open search index in " + folder, e);
+        }
+    }
+
+    public synchronized boolean add(LogEntry doc) {
+        if (doc.content() == null || doc.timestamp() < purgedBefore) return false;
+        memtable.add(new Pending(doc, Tokenizer.tokens(doc.content())));
+        return memtable.size() >= flushRows;
+    }
+
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            List<Pending> sealed;
+            synchronized (this) {
+                if (memtable.isEmpty()) return;
+                sealed = memtable;
+                flushing = sealed;
+                memtable = new ArrayList<>();
+            }
+
+            try {
+                List<LogEntry> docs = new ArrayList<>(sealed.size());
+                for (Pending pending : sealed) {
+                    if (pending.doc().timestamp() >= purgedBefore) docs.add(pending.doc());
+                }
+                if (!docs.isEmpty()) {
+                    List<SearchSegment> next = new ArrayList<>(segments);
+                    next.add(SearchSegment.write(nextFile(), docs));
+                    segments = List.copyOf(next);
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    sealed.addAll(memtable);
+                    memtable = sealed;
+                    flushing = List.of();
+                }
+                throw e;
+            }
+            synchronized (this) {
+                flushing = List.of();
+            }
+            merge();
+        }
+    }
+
+    public int purgeBefore(long cutoff) {
+        synchronized (writeLock) {
+            if (cutoff <= purgedBefore) return 0;
+            purgedBefore = cutoff;
+            writeWatermark(cutoff);
+
+            int removed;
+            synchronized (this) {
+                int before = memtable.size();
+                memtable.removeIf(pending -> pending.doc().timestamp() < cutoff);
+                removed = before - memtable.size();
+            }
+
+            List<SearchSegment> kept = new ArrayList<>();
+            for (SearchSegment segment : segments) {
+                if (segment.maxTimestamp() < cutoff && deleteQuietly(segment.file())) {
+                    removed += segment.docCount();
+                } else if (segment.minTimestamp() < cutoff) {
+                    SearchSegment rewritten = rewrite(segment, cutoff);
+                    if (rewritten != segment) removed += segment.docCount() - rewritten.docCount();
+                    kept.add(rewritten);
+                } else {
+                    kept.add(segment);
+                }
+            }
+            segments = List.copyOf(kept);
+            return removed;
+        }
+    }
+
+    public List<LogEntry> search(SearchQuery query, int offset, int limit) {
+        List<LogEntry> out = new ArrayList<>();
+        if (query.isEmpty() || limit <= 0) return out;
+
+        long since = Math.max(query.since(), purgedBefore);
+        List<SearchSegment> snapshot = segments;
+        List<Pending> recent;
+        synchronized (this) {
+            recent = new ArrayList<>(flushing);
+            recent.addAll(memtable);
+        }
+
+        List<QueryToken> tokens = new ArrayList<>();
+        for (Term term : query.terms()) {
+            for (int i = 0; i < term.tokens().size(); i++) {
+                tokens.add(new QueryToken(term.tokens().get(i), term.prefix() && i == term.tokens().size() - 1));
+            }
+        }
+
+        long docCount = recent.size();
+        long totalLength = 0;
+        for (Pending pending : recent) totalLength += pending.tokens().size();
+        for (SearchSegment segment : snapshot) {
+            docCount += segment.docCount();
+            totalLength += segment.totalLength();
+        }
+        double averageLength = docCount == 0 ? 1 : Math.max(1, (double) totalLength / docCount);
+
+        Map<SearchSegment, List<Map<String, Postings>>> lookups = new IdentityHashMap<>();
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (SearchSegment segment : snapshot) {
+            if (segment.maxTimestamp() < since || segment.minTimestamp() >= query.until()) continue;
+            try {
+                List<Map<String, Postings>> perToken = new ArrayList<>(tokens.size());
+                for (QueryToken token : tokens) {
+                    Map<String, Postings> found = segment.lookup(token.text(), token.prefix(), MAX_EXPANSIONS);
+                    if (found.isEmpty()) {
+                        perToken = null;
+                        break;
+                    }
+                    perToken.add(found);
+                }
+                if (perToken == null) continue;
+                lookups.put(segment, perToken);
+                for (Map<String, Postings> found : perToken) {
+                    found.forEach((term, postings) -> documentFrequency.merge(term, postings.size(), Integer::sum));
+                }
+            } catch (IOException e) {
+                logger.warning("Could not read search segment " + segment.file().getFileName() + ": " + e.getMessage());
+            }
+        }
+        for (Pending pending : recent) {
+            for (String token : pending.distinctTokens()) {
+                for (QueryToken queryToken : tokens) {
+                    if (queryToken.matches(token)) documentFrequency.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Map.Entry<SearchSegment, List<Map<String, Postings>>> entry : lookups.entrySet()) {
+            SearchSegment segment = entry.getKey();
+            Map<Integer, Double> scores = null;
+            for (Map<String, Postings> found : entry.getValue()) {
+                Map<Integer, Double> tokenScores = new HashMap<>();
+                for (Map.Entry<String, Postings> term : found.entrySet()) {
+                    double idf = idf(docCount, documentFrequency.getOrDefault(term.getKey(), 1));
+                    Postings postings = term.getValue();
+                    for (int i = 0; i < postings.size(); i++) {
+                        int doc = postings.docs()[i];
+                        if (scores != null && !scores.containsKey(doc)) continue;
+                        tokenScores.merge(doc, weight(idf, postings.frequencies()[i], segment.length(doc), averageLength), Double::sum);
+                    }
+                }
+                if (scores != null) {
+                    Map<Integer, Double> previous = scores;
+                    tokenScores.replaceAll((doc, score) -> score + previous.get(doc));
+                }
+                scores = tokenScores;
+                if (scores.isEmpty()) break;
+            }
+            if (scores == null) continue;
+
+            for (Map.Entry<Integer, Double> scored : scores.entrySet()) {
+                long timestamp = segment.timestamp(scored.getKey());
+                if (timestamp >= since && timestamp < query.until()) {
+                    hits.add(new Hit(scored.getValue(), timestamp, segment, scored.getKey(), null));
+                }
+            }
+        }
+
+        for (Pending pending : recent) {
+            LogEntry doc = pending.doc();
+            if (doc.timestamp() < since || doc.timestamp() >= query.until()) continue;
+
+            double score = 0;
+            boolean matched = true;
+            for (QueryToken queryToken : tokens) {
+                Map<String, Integer> frequencies = new HashMap<>();
+                for (String token : pending.tokens()) {
+                    if (queryToken.matches(token)) frequencies.merge(token, 1, Integer::sum);
+                }
+                if (frequencies.isEmpty()) {
+                    matched = false;
+                    break;
+                }
+                for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                    double idf = idf(docCount, documentFrequency.getOrDefault(term.getKey(), 1));
+                    score += weight(idf, term.getValue(), pending.tokens().size(), averageLength);
+                }
+            }
+            if (matched) hits.add(new Hit(score, doc.timestamp(), null, 0, pending));
+        }
+
+        hits.sort(BEST_FIRST);
+        Map<SearchSegment, Map<Integer, List<LogEntry>>> blocks = new IdentityHashMap<>();
+        int skipped = 0;
+        for (Hit hit : hits) {
+            LogEntry doc;
+            try {
+                doc = hit.segment() == null ? hit.pending().doc()
+                    : hit.segment().doc(hit.ordinal(), blocks.computeIfAbsent(hit.segment(), s -> new HashMap<>()));
+            } catch (IOException e) {
+                logger.warning("Could not read search segment " + hit.segment().file().getFileName() + ": " + e.getMessage());
+                continue;
+            }
+            if (!verify(query, doc, hit.pending())) continue;
+            if (skipped++ < offset) continue;
+
+            out.add(doc);
+            if (out.size() >= limit) break;
+        }
+        return out;
+    }
+
+    public synchronized long indexedUpTo() {
+        long upTo = 0;
+        for (SearchSegment segment : segments) upTo = Math.max(upTo, segment.maxTimestamp());
+        for (Pending pending : flushing) upTo = Math.max(upTo, pending.doc().timestamp());
+        for (Pending pending : memtable) upTo = Math.max(upTo, pending.doc().timestamp());
+        return upTo;
+    }
+
+    public synchronized long docCount() {
+        long docs = flushing.size() + memtable.size();
+        for (SearchSegment segment : segments) docs += segment.docCount();
+        return docs;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long byteCount() {
+        long bytes = 0;
+        for (SearchSegment segment : segments) bytes += segment.bytes();
+        return bytes;
+    }
+
+    private boolean verify(SearchQuery query, LogEntry doc, Pending pending) {
+        if (query.player() != null && !query.player().equalsIgnoreCase(doc.player())) return false;
+        if (!query.hasPhrase()) return true;
+
+        List<String> tokens = pending != null ? pending.tokens() : Tokenizer.tokens(doc.content());
+        for (Term term : query.terms()) {
+            if (term.isPhrase() && !term.matches(tokens)) return false;
+        }
+        return true;
+    }
+
+    private void merge() throws IOException {
+        while (true) {
+            List<SearchSegment> group = mergeCandidates();
+            if (group == null) return;
+
+            List<LogEntry> docs = new ArrayList<>();
+            for (SearchSegment segment : group) {
+                for (LogEntry doc : segment.docs()) {
+                    if (doc.timestamp() >= purgedBefore) docs.add(doc);
+                }
+            }
+
+            List<SearchSegment> next = new ArrayList<>(segments);
+            int position = next.indexOf(group.get(0));
+            next.removeAll(group);
+            if (!docs.isEmpty()) next.add(Math.min(position, next.size()), SearchSegment.write(nextFile(), docs));
+            segments = List.copyOf(next);
+            for (SearchSegment segment : group) deleteQuietly(segment.file());
+        }
+    }
+
+    private SearchSegment rewrite(SearchSegment segment, long cutoff) {
+        int expired = 0;
+        for (int i = 0; i < segment.docCount(); i++) {
+            if (segment.timestamp(i) < cutoff) expired++;
+        }
+        if (expired * 2 < segment.docCount()) return segment;
+
+        try {
+            List<LogEntry> docs = new ArrayList<>(segment.docCount() - expired);
+            for (LogEntry doc : segment.docs()) {
+                if (doc.timestamp() >= cutoff) docs.add(doc);
+            }
+            SearchSegment rewritten = SearchSegment.write(nextFile(), docs);
+            deleteQuietly(segment.file());
+            return rewritten;
+        } catch (IOException e) {
+            logger.warning("Could not compact search segment " + segment.file().getFileName() + ": " + e.getMessage());
+            return segment;
+        }
+    }
+
+    private List<SearchSegment> mergeCandidates() {
+        Map<Integer, List<SearchSegment>> byLevel = new HashMap<>();
+        for (SearchSegment segment : segments) {
+            List<SearchSegment> level = byLevel.computeIfAbsent(level(segment.docCount()), l -> new ArrayList<>());
+            level.add(segment);
+            if (level.size() == MERGE_FACTOR) {
+                long docs = 0;
+                for (SearchSegment member : level) docs += member.docCount();
+                if (docs <= MAX_MERGE_DOCS) return level;
+                level.remove(0);
+            }
+        }
+        return null;
+    }
+
+    private int level(int docs) {
+        int level = 0;
+        for (long size = (long) flushRows * MERGE_FACTOR; docs >= size; size *= MERGE_FACTOR) level++;
+        return level;
+    }
+
+    private Path nextFile() {
+        return folder.resolve(String.format("%012d", nextSequence++) + SEGMENT_SUFFIX);
+    }
+
+    private void writeWatermark(long cutoff) {
+        Path watermark = folder.resolve(WATERMARK_FILE);
+        Path tmp = folder.resolve(WATERMARK_FILE + ".tmp");
+        try {
+            Files.writeString(tmp, Long.toString(cutoff));
+            Files.move(tmp, watermark, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("Could not persist search index watermark: " + e.getMessage());
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static double idf(long docCount, int documentFrequency) {
+        return Math.log(1 + (docCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double weight(double idf, int frequency, int length, double averageLength) {
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private boolean deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            return true;
+        } catch (IOException e) {
+            logger.warning("Could not delete " + file.getFileName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private record Pending(LogEntry doc, List<String> tokens) {
+
+        private List<String> distinctTokens() {
+            return tokens.stream().distinct().toList();
+        }
+    }
+
+    private record QueryToken(String text, boolean prefix) {
+
+        private boolean matches(String token) {
+            return prefix ? token.startsWith(text) : token.equals(text);
+        }
+    }
+
+    private record Hit(double score, long timestamp, SearchSegment segment, int ordinal, Pending pending) {
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.search;
+
+import com.sparkword.util.TimeUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record SearchQuery(List<Term> terms, String player, long since, long until) {
+
+    private static final Pattern PART = Pattern.compile("\"([^\"]*)(\"\\*?)?|(\\S+)");
+
+    public static SearchQuery of(String text) {
+        return parse(text, System.currentTimeMillis());
+    }
+
+    public static SearchQuery parse(String text, long now) {
+        List<Term> terms = new ArrayList<>();
+        String player = null;
+        long since = 0;
+        long until = Long.MAX_VALUE;
+
+        Matcher matcher = PART.matcher(text == null ? "" : text);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                addTerm(terms, matcher.group(1), "\"*".equals(matcher.group(2)));
+                continue;
+            }
+
+            String word = matcher.group(3);
+            int colon = word.indexOf(':');
+            if (colon > 0 && colon < word.length() - 1) {
+                String value = word.substring(colon + 1);
+                switch (word.substring(0, colon).toLowerCase(Locale.ROOT)) {
+                    case "player" -> {
+                        player = value;
+                        continue;
+                    }
+                    case "since" -> {
+                        long seconds = TimeUtil.parseDuration(value);
+                        if (seconds > 0) {
+                            since = now - seconds * 1000;
+                            continue;
+                        }
+                    }
+                    case "until" -> {
+                        long seconds = TimeUtil.parseDuration(value);
+                        if (seconds >= 0) {
+                            until = now - seconds * 1000;
+                            continue;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            addTerm(terms, word, word.endsWith("*"));
+        }
+        return new SearchQuery(List.copyOf(terms), player, since, until);
+    }
+
+    private static void addTerm(List<Term> terms, String text, boolean prefix) {
+        List<String> tokens = Tokenizer.tokens(text);
+        if (!tokens.isEmpty()) terms.add(new Term(List.copyOf(tokens), prefix));
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public boolean hasPhrase() {
+        for (Term term : terms) {
+            if (term.isPhrase()) return true;
+        }
+        return false;
+    }
+
+    public record Term(List<String> tokens, boolean prefix) {
+
+        public boolean isPhrase() {
+            return tokens.size() > 1;
+        }
+
+        public boolean matches(List<String> text) {
+            int last = tokens.size() - 1;
+            for (int start = 0; start + last < text.size(); start++) {
+                int i = 0;
+                while (i <= last && matchesToken(i, text.get(start + i))) i++;
+                if (i > last) return true;
+            }
+            return false;
+        }
+
+        public boolean matchesToken(int index, String token) {
+            String expected = tokens.get(index);
+            return prefix && index == tokens.size() - 1 ? token.startsWith(expected) : token.equals(expected);
+        }
+    }
+}
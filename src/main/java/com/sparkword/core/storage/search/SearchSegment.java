@@ -0,0 +1,494 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.search;
+
+import com.sparkword.core.storage.model.LogEntry;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class SearchSegment {
+
+    private static final int MAGIC = 0x53574958;
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2;
+    private static final int TRAILER_BYTES = 8 + 4;
+    private static final int DOC_BLOCK = 128;
+    private static final int TERM_BLOCK = 64;
+
+    private final Path file;
+    private final long bytes;
+    private final long totalLength;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final long[] timestamps;
+    private final int[] lengths;
+    private final List<Range> docBlocks;
+    private final List<TermBlock> termBlocks;
+
+    private SearchSegment(Path file, long bytes, long totalLength, long minTimestamp, long maxTimestamp,
+                          long[] timestamps, int[] lengths, List<Range> docBlocks, List<TermBlock> termBlocks) {
+        this.file = file;
+        this.bytes = bytes;
+        this.totalLength = totalLength;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.timestamps = timestamps;
+        this.lengths = lengths;
+        this.docBlocks = docBlocks;
+        this.termBlocks = termBlocks;
+    }
+
+    public static SearchSegment write(Path file, List<LogEntry> docs) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        TreeMap<String, PostingsBuilder> terms = new TreeMap<>();
+        int[] lengths = new int[docs.size()];
+        long totalLength = 0;
+        long minTimestamp = docs.isEmpty() ? 0 : Long.MAX_VALUE;
+        long maxTimestamp = docs.isEmpty() ? 0 : Long.MIN_VALUE;
+        for (int i = 0; i < docs.size(); i++) {
+            LogEntry doc = docs.get(i);
+            List<String> tokens = Tokenizer.tokens(doc.content());
+            lengths[i] = tokens.size();
+            totalLength += tokens.size();
+            minTimestamp = Math.min(minTimestamp, doc.timestamp());
+            maxTimestamp = Math.max(maxTimestamp, doc.timestamp());
+
+            Map<String, Integer> frequencies = new LinkedHashMap<>();
+            for (String token : tokens) frequencies.merge(token, 1, Integer::sum);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), t -> new PostingsBuilder()).add(i, entry.getValue());
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putShort(VERSION).flip();
+            writeFully(channel, header);
+            long offset = HEADER_BYTES;
+
+            List<Range> docBlocks = new ArrayList<>();
+            for (int start = 0; start < docs.size(); start += DOC_BLOCK) {
+                byte[] block = encodeDocs(docs.subList(start, Math.min(docs.size(), start + DOC_BLOCK)));
+                writeFully(channel, ByteBuffer.wrap(block));
+                docBlocks.add(new Range(offset, block.length));
+                offset += block.length;
+            }
+
+            ByteArrayOutputStream postings = new ByteArrayOutputStream();
+            List<TermEntry> entries = new ArrayList<>(terms.size());
+            for (Map.Entry<String, PostingsBuilder> entry : terms.entrySet()) {
+                int before = postings.size();
+                entry.getValue().writeTo(postings);
+                entries.add(new TermEntry(entry.getKey(), entry.getValue().size, offset + before, postings.size() - before));
+            }
+            writeFully(channel, ByteBuffer.wrap(postings.toByteArray()));
+            offset += postings.size();
+
+            byte[] meta = encodeMeta(docs, lengths);
+            writeFully(channel, ByteBuffer.wrap(meta));
+            Range metaRange = new Range(offset, meta.length);
+            offset += meta.length;
+
+            List<TermBlock> termBlocks = new ArrayList<>();
+            for (int start = 0; start < entries.size(); start += TERM_BLOCK) {
+                List<TermEntry> slice = entries.subList(start, Math.min(entries.size(), start + TERM_BLOCK));
+                byte[] block = encodeTerms(slice);
+                writeFully(channel, ByteBuffer.wrap(block));
+                termBlocks.add(new TermBlock(slice.get(0).term(), offset, block.length));
+                offset += block.length;
+            }
+
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            try (DataOutputStream footer = new DataOutputStream(footerBytes)) {
+                footer.writeInt(docs.size());
+                footer.writeLong(totalLength);
+                footer.writeLong(minTimestamp);
+                footer.writeLong(maxTimestamp);
+                footer.writeInt(docBlocks.size());
+                for (Range block : docBlocks) {
+                    footer.writeLong(block.offset());
+                    footer.writeInt(block.length());
+                }
+                footer.writeLong(metaRange.offset());
+                footer.writeInt(metaRange.length());
+                footer.writeInt(termBlocks.size());
+                for (TermBlock block : termBlocks) {
+                    footer.writeUTF(block.firstTerm());
+                    footer.writeLong(block.offset());
+                    footer.writeInt(block.length());
+                }
+                footer.writeLong(offset);
+                footer.writeInt(MAGIC);
+            }
+            writeFully(channel, ByteBuffer.wrap(footerBytes.toByteArray()));
+            channel.force(true);
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return open(file);
+    }
+
+    public static SearchSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES) throw new IOException("Truncated search segment " + file);
+
+            ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) throw new IOException("Not a search segment " + file);
+
+            ByteBuffer trailer = readFully(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || footerOffset < HEADER_BYTES || footerOffset > size - TRAILER_BYTES) {
+                throw new IOException("Corrupt search segment trailer " + file);
+            }
+
+            DataInputStream footer = new DataInputStream(new ByteArrayInputStream(
+                readFully(channel, footerOffset, (int) (size - TRAILER_BYTES - footerOffset)).array()));
+            int docCount = footer.readInt();
+            long totalLength = footer.readLong();
+            long minTimestamp = footer.readLong();
+            long maxTimestamp = footer.readLong();
+
+            int docBlockCount = footer.readInt();
+            List<Range> docBlocks = new ArrayList<>(docBlockCount);
+            for (int i = 0; i < docBlockCount; i++) docBlocks.add(new Range(footer.readLong(), footer.readInt()));
+            Range metaRange = new Range(footer.readLong(), footer.readInt());
+
+            int termBlockCount = footer.readInt();
+            List<TermBlock> termBlocks = new ArrayList<>(termBlockCount);
+            for (int i = 0; i < termBlockCount; i++) termBlocks.add(new TermBlock(footer.readUTF(), footer.readLong(), footer.readInt()));
+
+            long[] timestamps = new long[docCount];
+            int[] lengths = new int[docCount];
+            try (DataInputStream in = inflate(readFully(channel, metaRange.offset(), metaRange.length()))) {
+                long previous = 0;
+                for (int i = 0; i < docCount; i++) {
+                    previous += unzigzag(readVarLong(in));
+                    timestamps[i] = previous;
+                    lengths[i] = (int) readVarLong(in);
+                }
+            }
+            return new SearchSegment(file, size, totalLength, minTimestamp, maxTimestamp, timestamps, lengths,
+                List.copyOf(docBlocks), List.copyOf(termBlocks));
+        }
+    }
+
+    public Map<String, Postings> lookup(String token, boolean prefix, int maxExpansions) throws IOException {
+        Map<String, Postings> found = new LinkedHashMap<>();
+        int index = blockFor(token);
+        if (index < 0 && !prefix) return found;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i = Math.max(0, index); i < termBlocks.size(); i++) {
+                for (TermEntry entry : readTermBlock(channel, termBlocks.get(i))) {
+                    int compare = entry.term().compareTo(token);
+                    if (compare < 0) continue;
+                    if (compare == 0 || (prefix && entry.term().startsWith(token))) {
+                        found.put(entry.term(), readPostings(channel, entry));
+                        if (!prefix || found.size() >= maxExpansions) return found;
+                    } else {
+                        return found;
+                    }
+                }
+                if (!prefix) return found;
+            }
+        }
+        return found;
+    }
+
+    public LogEntry doc(int ordinal, Map<Integer, List<LogEntry>> cache) throws IOException {
+        int block = ordinal / DOC_BLOCK;
+        List<LogEntry> docs = cache.get(block);
+        if (docs == null) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                docs = readDocBlock(channel, docBlocks.get(block));
+            }
+            cache.put(block, docs);
+        }
+        return docs.get(ordinal % DOC_BLOCK);
+    }
+
+    public List<LogEntry> docs() throws IOException {
+        List<LogEntry> docs = new ArrayList<>(timestamps.length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (Range block : docBlocks) docs.addAll(readDocBlock(channel, block));
+        }
+        return docs;
+    }
+
+    public long timestamp(int ordinal) {
+        return timestamps[ordinal];
+    }
+
+    public int length(int ordinal) {
+        return lengths[ordinal];
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public int docCount() {
+        return timestamps.length;
+    }
+
+    public long totalLength() {
+        return totalLength;
+    }
+
+    public long minTimestamp() {
+        return minTimestamp;
+    }
+
+    public long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    private int blockFor(String token) {
+        int low = 0;
+        int high = termBlocks.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (termBlocks.get(mid).firstTerm().compareTo(token) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private static byte[] encodeDocs(List<LogEntry> docs) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer, deflater))) {
+            writeVarLong(out, docs.size());
+            for (LogEntry doc : docs) {
+                writeVarLong(out, zigzag(doc.id()));
+                writeVarLong(out, zigzag(doc.timestamp()));
+                writeString(out, doc.player());
+                writeString(out, doc.source());
+                writeString(out, doc.violation());
+                writeString(out, doc.content());
+                writeString(out, doc.detectedWord());
+            }
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static List<LogEntry> readDocBlock(FileChannel channel, Range block) throws IOException {
+        try (DataInputStream in = inflate(readFully(channel, block.offset(), block.length()))) {
+            int count = (int) readVarLong(in);
+            List<LogEntry> docs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = unzigzag(readVarLong(in));
+                long timestamp = unzigzag(readVarLong(in));
+                docs.add(new LogEntry(readString(in), readString(in), readString(in), readString(in), readString(in), timestamp, id));
+            }
+            return docs;
+        }
+    }
+
+    private static byte[] encodeMeta(List<LogEntry> docs, int[] lengths) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer, deflater))) {
+            long previous = 0;
+            for (int i = 0; i < docs.size(); i++) {
+                long timestamp = docs.get(i).timestamp();
+                writeVarLong(out, zigzag(timestamp - previous));
+                writeVarLong(out, lengths[i]);
+                previous = timestamp;
+            }
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] encodeTerms(List<TermEntry> entries) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer, deflater))) {
+            writeVarLong(out, entries.size());
+            for (TermEntry entry : entries) {
+                writeString(out, entry.term());
+                writeVarLong(out, entry.frequency());
+                writeVarLong(out, entry.offset());
+                writeVarLong(out, entry.length());
+            }
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static List<TermEntry> readTermBlock(FileChannel channel, TermBlock block) throws IOException {
+        try (DataInputStream in = inflate(readFully(channel, block.offset(), block.length()))) {
+            int count = (int) readVarLong(in);
+            List<TermEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new TermEntry(readString(in), (int) readVarLong(in), readVarLong(in), (int) readVarLong(in)));
+            }
+            return entries;
+        }
+    }
+
+    private static Postings readPostings(FileChannel channel, TermEntry entry) throws IOException {
+        InputStream in = new ByteArrayInputStream(readFully(channel, entry.offset(), entry.length()).array());
+        int[] docs = new int[entry.frequency()];
+        int[] frequencies = new int[entry.frequency()];
+        int previous = 0;
+        for (int i = 0; i < docs.length; i++) {
+            previous += (int) readVarLong(in);
+            docs[i] = previous;
+            frequencies[i] = (int) readVarLong(in);
+        }
+        return new Postings(docs, frequencies);
+    }
+
+    private static DataInputStream inflate(ByteBuffer buffer) {
+        return new DataInputStream(new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(buffer.array()))));
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) return null;
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new EOFException();
+        }
+        return buffer.flip();
+    }
+
+    public record Postings(int[] docs, int[] frequencies) {
+
+        public int size() {
+            return docs.length;
+        }
+    }
+
+    private record Range(long offset, int length) {
+    }
+
+    private record TermBlock(String firstTerm, long offset, int length) {
+    }
+
+    private record TermEntry(String term, int frequency, long offset, int length) {
+    }
+
+    private static final class PostingsBuilder {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int size;
+        private int last;
+
+        private void add(int doc, int frequency) {
+            try {
+                writeVarLong(bytes, doc - last);
+                writeVarLong(bytes, frequency);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            last = doc;
+            size++;
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+}
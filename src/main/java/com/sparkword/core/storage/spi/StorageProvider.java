@@ -30,6 +30,8 @@ public interface StorageProvider {
 
     Executor getAsyncExecutor();
 
+    WriteMetrics getWriteMetrics();
+
     PlayerDAO getPlayerDAO();
 
     MuteDAO getMuteDAO();
@@ -43,4 +45,6 @@ public interface StorageProvider {
     SuggestionDAO getSuggestionDAO();
 
     ReportDAO getReportDAO();
+
+    MaintenanceDAO getMaintenanceDAO();
 }
@@ -0,0 +1,30 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.core.storage.spi;
+
+public record WriteMetrics(long queued, long batches, long rows, int largestBatch, long avgCommitMicros,
+                           long maxCommitMicros, long overflow, long dropped, long spilled, long replayed,
+                           long failed, long quarantined, int writerQueued, long writerBlocked, long writerRefused,
+                           long journaled, int journalPending, long journalBypassed, long recovered) {
+
+    public static final WriteMetrics EMPTY = new WriteMetrics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    public double avgBatchSize() {
+        return batches == 0 ? 0 : (double) rows / batches;
+    }
+}
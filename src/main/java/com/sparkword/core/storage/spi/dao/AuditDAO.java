@@ -18,6 +18,8 @@
 package com.sparkword.core.storage.spi.dao;
 
 import com.sparkword.core.storage.model.AuditEntry;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -28,7 +30,9 @@ public interface AuditDAO {
 
     CompletableFuture<List<AuditEntry>> getAuditLogsStructAsync(String staffTarget, int limit);
 
+    CompletableFuture<Page<AuditEntry>> getAuditLogsPageAsync(String staffTarget, PageCursor after, int limit);
+
     CompletableFuture<List<String>> getAuditLogsAsync(String staffTarget, int limit);
 
-    CompletableFuture<Integer> purgeAsync(long daysOld);
+    CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos);
 }
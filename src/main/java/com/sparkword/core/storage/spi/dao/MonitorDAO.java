@@ -23,5 +23,5 @@ public interface MonitorDAO {
 
     void addLogAsync(String playerName, String content, String category, String source, String detectedWord);
 
-    CompletableFuture<Integer> purgeAsync(long daysOld);
+    CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos);
 }
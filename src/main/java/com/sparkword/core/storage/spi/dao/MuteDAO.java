@@ -20,6 +20,7 @@
 import com.sparkword.core.storage.model.MuteInfo;
 import com.sparkword.core.storage.model.MuteInfo.MuteScope;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface MuteDAO {
@@ -28,9 +29,11 @@ public interface MuteDAO {
 
     CompletableFuture<Void> unmuteAsync(int playerId);
 
+    CompletableFuture<List<Integer>> expireMutesAsync(List<Integer> playerIds);
+
     MuteInfo fetchMuteInfoBlocking(int playerId);
 
     CompletableFuture<Long> getMuteExpiryAsync(int playerId);
 
-    CompletableFuture<Integer> purgeHistoryAsync(long daysOld);
+    CompletableFuture<Integer> purgeHistoryAsync(long daysOld, long deadlineNanos);
 }
@@ -17,6 +17,9 @@
  */
 package com.sparkword.core.storage.spi.dao;
 
+import com.sparkword.core.storage.model.PlayerLogin;
+
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,6 +29,8 @@ public interface PlayerDAO {
 
     CompletableFuture<Integer> getPlayerIdAsync(UUID uuid, String name);
 
+    Map<UUID, PlayerLogin> resolveLoginsBlocking(Map<UUID, String> players);
+
     CompletableFuture<String> getPlayerNameAsync(int id);
 
     CompletableFuture<Integer> getPlayerIdByNameAsync(String name);
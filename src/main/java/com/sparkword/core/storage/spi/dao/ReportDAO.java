@@ -18,6 +18,9 @@
 package com.sparkword.core.storage.spi.dao;
 
 import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.core.storage.search.SearchQuery;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -26,7 +29,15 @@ public interface ReportDAO {
 
     CompletableFuture<List<LogEntry>> getGlobalLogsStructAsync(String type, int page);
 
+    CompletableFuture<Page<LogEntry>> getGlobalLogsPageAsync(String type, PageCursor after);
+
+    CompletableFuture<Page<LogEntry>> searchLogsAsync(SearchQuery query, int page);
+
+    boolean isSearchIndexing();
+
     CompletableFuture<List<String>> getPlayerScanReportAsync(int playerId, int page);
 
+    CompletableFuture<Page<String>> getPlayerScanPageAsync(int playerId, PageCursor warningsAfter, PageCursor mutesAfter);
+
     CompletableFuture<List<String>> getPendingSuggestionsReportAsync(int page);
 }
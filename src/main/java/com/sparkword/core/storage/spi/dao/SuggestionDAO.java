@@ -26,7 +26,7 @@ public interface SuggestionDAO {
 
     CompletableFuture<SuggestionInfo> processSuggestionAsync(int id, boolean accept);
 
-    CompletableFuture<Integer> purgeAsync(long daysOld);
+    CompletableFuture<Integer> purgeAsync(long daysOld, long deadlineNanos);
 
     record SuggestionInfo(String word, UUID playerUUID) {
     }
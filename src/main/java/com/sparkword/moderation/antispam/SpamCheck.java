@@ -20,8 +20,16 @@
 import com.sparkword.moderation.antispam.SpamManager.SpamResult;
 import org.bukkit.entity.Player;
 
+import java.util.UUID;
+
 @FunctionalInterface
 public interface SpamCheck {
 
     SpamResult check(Player player, SpamContext context);
+
+    default void reload() {
+    }
+
+    default void cleanupPlayer(UUID uuid) {
+    }
 }
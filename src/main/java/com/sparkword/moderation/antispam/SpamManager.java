@@ -22,21 +22,31 @@
 import com.sparkword.SparkWord;
 import com.sparkword.core.config.AntiSpamSettings;
 import com.sparkword.core.config.FilterSettings;
+import com.sparkword.core.effects.EffectQueue;
 import com.sparkword.core.storage.StorageManager;
 import com.sparkword.core.storage.model.MuteInfo;
+import com.sparkword.moderation.antispam.antiflood.HierarchicalRateLimiter;
+import com.sparkword.moderation.antispam.antiflood.HierarchicalRateLimiter.OverloadAction;
+import com.sparkword.moderation.antispam.antiflood.HierarchicalRateLimiter.Verdict;
 import com.sparkword.moderation.antispam.checks.*;
 import com.sparkword.moderation.antispam.security.InputSanitizer;
 import com.sparkword.util.TimeUtil;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 
+import java.net.InetSocketAddress;
 import java.text.Normalizer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 public class SpamManager {
@@ -44,54 +54,104 @@ public class SpamManager {
     private static final int MAX_SAFE_LENGTH = 1000;
     private static final Pattern INVISIBLE_CHARS = Pattern.compile("[\\p{Cc}\\p{Cs}\\p{Co}\\p{Cf}&&[^\\n\\u200D\\u200C]]");
     private final SparkWord plugin;
-    private final List<SpamCheck> activeChecks = new ArrayList<>();
+    private final List<SpamCheck> builtInChecks = new ArrayList<>();
+    private final Map<String, ExternalCheck> externalChecks = new LinkedHashMap<>();
+    private volatile List<SpamCheck> activeChecks = List.of();
+    private CustomRuleCheck customRuleCheck;
     private final InputSanitizer inputSanitizer;
     private final Cache<UUID, Long> autoMuteCooldown;
+    private final Cache<String, Long> rateLimitAlertCooldown;
+    private final HierarchicalRateLimiter rateLimiter;
 
     public SpamManager(SparkWord plugin) {
         this.plugin = plugin;
         this.inputSanitizer = new InputSanitizer(plugin);
+        this.rateLimiter = new HierarchicalRateLimiter();
 
         this.autoMuteCooldown = Caffeine.newBuilder()
             .expireAfterWrite(Duration.ofSeconds(10))
             .build();
 
+        this.rateLimitAlertCooldown = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .maximumSize(500)
+            .build();
+
         initChecks();
         reload();
     }
 
-    private void initChecks() {
-        activeChecks.clear();
+    private synchronized void initChecks() {
+        builtInChecks.clear();
+
+        builtInChecks.add(new AntiFloodCheck(plugin));
 
-        activeChecks.add(new AntiFloodCheck(plugin));
+        builtInChecks.add(new IPCheck(plugin));
+        builtInChecks.add(new IPSplitCheck(plugin));
+        builtInChecks.add(new DomainCheck(plugin));
+        builtInChecks.add(new DigitsLimitCheck(plugin));
+        builtInChecks.add(new CharSpamCheck(plugin));
 
-        activeChecks.add(new IPCheck(plugin));
-        activeChecks.add(new IPSplitCheck(plugin));
-        activeChecks.add(new DomainCheck(plugin));
-        activeChecks.add(new DigitsLimitCheck(plugin));
-        activeChecks.add(new CharSpamCheck(plugin));
+        builtInChecks.add(new AntiRepeatCheck(plugin));
+        builtInChecks.add(new CampaignCheck(plugin));
 
-        activeChecks.add(new AntiRepeatCheck(plugin));
+        builtInChecks.add(new CapsCheck(plugin));
 
-        activeChecks.add(new CapsCheck(plugin));
+        this.customRuleCheck = new CustomRuleCheck(plugin);
+        builtInChecks.add(customRuleCheck);
+
+        rebuildPipeline();
     }
 
     public void reload() {
-        for (SpamCheck check : activeChecks) {
-            if (check instanceof AntiFloodCheck f) f.reload();
-            if (check instanceof CharSpamCheck c) c.reload();
+        rateLimiter.reload(plugin.getEnvironment().getConfigManager().getAntiSpamSettings());
 
+        for (SpamCheck check : activeChecks) {
+            check.reload();
         }
     }
 
     public void cleanupPlayer(UUID uuid) {
         autoMuteCooldown.invalidate(uuid);
         for (SpamCheck check : activeChecks) {
-            if (check instanceof IPCheck ip) ip.cleanupPlayer(uuid);
-            if (check instanceof IPSplitCheck ips) ips.clearHistory(uuid);
+            check.cleanupPlayer(uuid);
         }
     }
 
+    public synchronized void registerCheck(Plugin owner, String id, SpamCheck check) {
+        String key = checkKey(owner, id);
+        externalChecks.put(key, new ExternalCheck(owner, key, check, plugin.getLogger()));
+        rebuildPipeline();
+        plugin.getLogger().info("Registered spam check " + key);
+    }
+
+    public synchronized boolean unregisterCheck(Plugin owner, String id) {
+        boolean removed = externalChecks.remove(checkKey(owner, id)) != null;
+        if (removed) rebuildPipeline();
+        return removed;
+    }
+
+    public synchronized void unregisterChecks(Plugin owner) {
+        if (externalChecks.values().removeIf(check -> check.owner().equals(owner))) {
+            rebuildPipeline();
+        }
+    }
+
+    public CustomRuleCheck getCustomRuleCheck() {
+        return customRuleCheck;
+    }
+
+    private void rebuildPipeline() {
+        List<SpamCheck> pipeline = new ArrayList<>(builtInChecks.size() + externalChecks.size());
+        pipeline.addAll(builtInChecks);
+        pipeline.addAll(externalChecks.values());
+        this.activeChecks = List.copyOf(pipeline);
+    }
+
+    private static String checkKey(Plugin owner, String id) {
+        return owner.getName().toLowerCase(Locale.ROOT) + ":" + id.toLowerCase(Locale.ROOT);
+    }
+
     public void triggerAutoMute(Player p, String configPath, String defaultTime, String reason, PunishmentType type) {
         if (type == PunishmentType.NONE) return;
 
@@ -101,10 +161,12 @@ public void triggerAutoMute(Player p, String configPath, String defaultTime, Str
         final String actionType = (type == PunishmentType.PERMUTE) ? "PERMUTE" : "MUTE";
         final MuteInfo.MuteScope scope = (type == PunishmentType.PERMUTE) ? MuteInfo.MuteScope.GLOBAL : MuteInfo.MuteScope.CHAT;
 
-        String muteTimeStr = plugin.getConfig().getString(configPath, defaultTime);
-        long muteSeconds = TimeUtil.parseDuration(muteTimeStr);
+        Runnable muteEffect = () -> {
+            String muteTimeStr = plugin.getConfig().getString(configPath, defaultTime);
+            long muteSeconds = TimeUtil.parseDuration(muteTimeStr);
+
+            if (muteSeconds < 0) return;
 
-        if (muteSeconds >= 0) {
             int cachedId = plugin.getEnvironment().getPlayerDataManager().getPlayerId(p.getUniqueId(), p.getName());
 
             if (cachedId != -1) {
@@ -117,6 +179,13 @@ public void triggerAutoMute(Player p, String configPath, String defaultTime, Str
                         }
                     });
             }
+        };
+
+        EffectQueue effects = plugin.getEnvironment().getEffectQueue();
+        if (effects != null) {
+            effects.submitCritical(muteEffect);
+        } else {
+            muteEffect.run();
         }
     }
 
@@ -150,6 +219,21 @@ public SpamResult checkSpam(Player player, String message, String source, boolea
             return SpamResult.BLOCKED_WITH_REASON("spam.chars", false);
         }
 
+        boolean degraded = false;
+        if (checkTraffic && !isWritable) {
+            Verdict verdict = rateLimiter.acquire(player);
+            if (verdict == Verdict.IP || verdict == Verdict.SUBNET) {
+                notifyRateLimit(player, source, message, verdict);
+                return SpamResult.BLOCKED_WITH_REASON("spam.flood", false);
+            }
+            if (verdict == Verdict.GLOBAL) {
+                if (rateLimiter.getOverloadAction() == OverloadAction.SHED) {
+                    return SpamResult.BLOCKED_WITH_REASON("spam.flood", false);
+                }
+                degraded = true;
+            }
+        }
+
         String sanitizedMsg = INVISIBLE_CHARS.matcher(message).replaceAll("");
         sanitizedMsg = Normalizer.normalize(sanitizedMsg, Normalizer.Form.NFKC);
         String cleanMsg = stripTags(sanitizedMsg);
@@ -160,7 +244,7 @@ public SpamResult checkSpam(Player player, String message, String source, boolea
         String finalMessage = sanitizedMsg;
 
         if (spamSettings.isAntiInjectionEnabled() && !player.hasPermission("sparkword.bypass.injection")) {
-            String safe = inputSanitizer.sanitize(finalMessage, player);
+            String safe = inputSanitizer.sanitize(finalMessage, player, true);
             if (!safe.equals(finalMessage)) {
                 plugin.getEnvironment().getNotifyManager().notifyInjection(player, source, message);
                 if (filterSettings.isReplacementEnabled()) {
@@ -174,6 +258,7 @@ public SpamResult checkSpam(Player player, String message, String source, boolea
         }
 
         for (SpamCheck check : activeChecks) {
+            if (degraded && !(check instanceof AntiFloodCheck)) continue;
             SpamResult result = check.check(player, context);
             if (result.blocked()) return result;
             if (result.modified()) {
@@ -188,6 +273,21 @@ public SpamResult checkSpam(Player player, String message, String source, boolea
         return SpamResult.PASSED;
     }
 
+    private void notifyRateLimit(Player player, String source, String message, Verdict verdict) {
+        InetSocketAddress socket = player.getAddress();
+        if (socket == null || socket.getAddress() == null) return;
+
+        String target = (verdict == Verdict.IP)
+            ? socket.getAddress().getHostAddress()
+            : HierarchicalRateLimiter.describeSubnet(socket.getAddress());
+
+        if (rateLimitAlertCooldown.getIfPresent(target) != null) return;
+        rateLimitAlertCooldown.put(target, System.currentTimeMillis());
+
+        String category = (verdict == Verdict.IP) ? "Anti-Flood (IP)" : "Anti-Flood (Subnet)";
+        plugin.getEnvironment().getNotifyManager().notifyStaff(player, source, category, message, target);
+    }
+
     private String stripTags(String text) {
         if (text == null) return "";
         return MiniMessage.miniMessage().stripTags(text);
@@ -215,4 +315,37 @@ public String modifiedMessage() {
             return message;
         }
     }
+
+    private record ExternalCheck(Plugin owner, String id, SpamCheck delegate, Logger logger) implements SpamCheck {
+
+        @Override
+        public SpamResult check(Player player, SpamContext context) {
+            if (!owner.isEnabled()) return SpamResult.PASSED;
+            try {
+                SpamResult result = delegate.check(player, context);
+                return result != null ? result : SpamResult.PASSED;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Spam check " + id + " failed", e);
+                return SpamResult.PASSED;
+            }
+        }
+
+        @Override
+        public void reload() {
+            try {
+                delegate.reload();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Spam check " + id + " failed to reload", e);
+            }
+        }
+
+        @Override
+        public void cleanupPlayer(UUID uuid) {
+            try {
+                delegate.cleanupPlayer(uuid);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Spam check " + id + " failed to clean up", e);
+            }
+        }
+    }
 }
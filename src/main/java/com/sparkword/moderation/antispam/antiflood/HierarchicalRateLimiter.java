@@ -0,0 +1,143 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.antiflood;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparkword.core.config.AntiSpamSettings;
+import org.bukkit.entity.Player;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+public class HierarchicalRateLimiter {
+
+    private final Cache<InetAddress, SlidingWindowCounter> ipCounters;
+    private final Cache<Long, SlidingWindowCounter> subnetCounters;
+
+    private volatile SlidingWindowCounter globalCounter;
+    private volatile boolean enabled;
+    private volatile int ipLimit;
+    private volatile Duration ipWindow = Duration.ofSeconds(1);
+    private volatile int subnetLimit;
+    private volatile Duration subnetWindow = Duration.ofSeconds(1);
+    private volatile int globalLimit;
+    private volatile OverloadAction overloadAction = OverloadAction.FILTER_ONLY;
+
+    public HierarchicalRateLimiter() {
+        this.ipCounters = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(2))
+            .maximumSize(5000)
+            .executor(Runnable::run)
+            .build();
+
+        this.subnetCounters = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(2))
+            .maximumSize(2000)
+            .executor(Runnable::run)
+            .build();
+
+        this.globalCounter = new SlidingWindowCounter(Duration.ofSeconds(1));
+    }
+
+    public void reload(AntiSpamSettings settings) {
+        this.enabled = settings.isRateLimitEnabled();
+        this.ipLimit = settings.getRateLimitIpMessages();
+        this.ipWindow = Duration.ofMillis(Math.max(1, settings.getRateLimitIpWindow()));
+        this.subnetLimit = settings.getRateLimitSubnetMessages();
+        this.subnetWindow = Duration.ofMillis(Math.max(1, settings.getRateLimitSubnetWindow()));
+        this.globalLimit = settings.getRateLimitGlobalMessages();
+        this.globalCounter = new SlidingWindowCounter(Duration.ofMillis(Math.max(1, settings.getRateLimitGlobalWindow())));
+        this.overloadAction = OverloadAction.parse(settings.getRateLimitOverloadAction());
+
+        ipCounters.invalidateAll();
+        subnetCounters.invalidateAll();
+    }
+
+    public Verdict acquire(Player player) {
+        if (!enabled) return Verdict.ALLOWED;
+
+        InetSocketAddress socket = player.getAddress();
+        InetAddress address = socket != null ? socket.getAddress() : null;
+
+        if (address != null) {
+            if (ipLimit > 0) {
+                Duration window = ipWindow;
+                SlidingWindowCounter counter = ipCounters.get(address, k -> new SlidingWindowCounter(window));
+                if (!counter.tryAcquire(ipLimit)) return Verdict.IP;
+            }
+
+            if (subnetLimit > 0) {
+                Duration window = subnetWindow;
+                SlidingWindowCounter counter = subnetCounters.get(subnetKey(address), k -> new SlidingWindowCounter(window));
+                if (!counter.tryAcquire(subnetLimit)) return Verdict.SUBNET;
+            }
+        }
+
+        if (globalLimit > 0 && !globalCounter.tryAcquire(globalLimit)) {
+            return Verdict.GLOBAL;
+        }
+
+        return Verdict.ALLOWED;
+    }
+
+    public OverloadAction getOverloadAction() {
+        return overloadAction;
+    }
+
+    public static String describeSubnet(InetAddress address) {
+        byte[] raw = address.getAddress();
+        if (raw.length == 4) {
+            return (raw[0] & 0xFF) + "." + (raw[1] & 0xFF) + "." + (raw[2] & 0xFF) + ".0/24";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 8; i += 2) {
+            if (i > 0) sb.append(':');
+            sb.append(Integer.toHexString(((raw[i] & 0xFF) << 8) | (raw[i + 1] & 0xFF)));
+        }
+        return sb.append("::/64").toString();
+    }
+
+    private static long subnetKey(InetAddress address) {
+        byte[] raw = address.getAddress();
+        if (raw.length == 4) {
+            return (1L << 32) | ((raw[0] & 0xFFL) << 16) | ((raw[1] & 0xFFL) << 8) | (raw[2] & 0xFFL);
+        }
+        long key = 0;
+        for (int i = 0; i < 8; i++) {
+            key = (key << 8) | (raw[i] & 0xFFL);
+        }
+        return key;
+    }
+
+    public enum Verdict {ALLOWED, IP, SUBNET, GLOBAL}
+
+    public enum OverloadAction {
+        SHED, FILTER_ONLY;
+
+        static OverloadAction parse(String value) {
+            if (value == null) return FILTER_ONLY;
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                return FILTER_ONLY;
+            }
+        }
+    }
+}
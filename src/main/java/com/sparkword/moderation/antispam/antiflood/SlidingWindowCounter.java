@@ -0,0 +1,65 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.antiflood;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SlidingWindowCounter {
+    private final long windowNanos;
+    private final AtomicReference<WindowState> state;
+
+    public SlidingWindowCounter(Duration window) {
+        this.windowNanos = Math.max(1L, window.toNanos());
+        this.state = new AtomicReference<>(new WindowState(System.nanoTime() / windowNanos, 0, 0));
+    }
+
+    public boolean tryAcquire(int limit) {
+        if (limit <= 0) return true;
+
+        WindowState current;
+        WindowState next;
+        do {
+            current = state.get();
+            long now = System.nanoTime();
+            long windowIndex = now / windowNanos;
+
+            int previous;
+            int count;
+            if (windowIndex == current.windowIndex()) {
+                previous = current.previousCount();
+                count = current.currentCount();
+            } else if (windowIndex == current.windowIndex() + 1) {
+                previous = current.currentCount();
+                count = 0;
+            } else {
+                previous = 0;
+                count = 0;
+            }
+
+            double elapsed = (double) (now % windowNanos) / windowNanos;
+            double estimate = previous * (1.0 - elapsed) + count;
+
+            if (estimate >= limit) return false;
+
+            next = new WindowState(windowIndex, previous, count + 1);
+        } while (!state.compareAndSet(current, next));
+
+        return true;
+    }
+}
@@ -58,6 +58,7 @@ public AntiFloodCheck(SparkWord plugin) {
         reload();
     }
 
+    @Override
     public void reload() {
         this.cachedEnabled = plugin.getEnvironment().getConfigManager().isAntiFloodEnabled();
 
@@ -97,10 +98,10 @@ public SpamResult check(Player player, SpamContext context) {
                 PunishmentType.MUTE
                                                    );
 
-            String floodContext = String.join(" | ", history);
+            String[] floodHistory = history.toArray(String[]::new);
             history.clear();
 
-            plugin.getEnvironment().getNotifyManager().notifyStaff(player, "Chat", "Anti-Flood", floodContext, "Rate Limit");
+            plugin.getEnvironment().getNotifyManager().notifyStaff(player, "Chat", "Anti-Flood", () -> String.join(" | ", floodHistory), "Rate Limit");
 
             return SpamResult.BLOCKED_WITH_REASON("spam.flood", false);
         }
@@ -23,18 +23,18 @@
 import com.sparkword.moderation.antispam.SpamCheck;
 import com.sparkword.moderation.antispam.SpamContext;
 import com.sparkword.moderation.antispam.SpamManager.SpamResult;
+import com.sparkword.moderation.antispam.similarity.RepeatHistory;
+import com.sparkword.util.EditDistance;
 import org.bukkit.entity.Player;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.UUID;
 
 public class AntiRepeatCheck implements SpamCheck {
 
     private static final int HISTORY_BUFFER_SIZE = 5;
     private final SparkWord plugin;
-    private final Cache<UUID, UserHistory> historyCache;
+    private final Cache<UUID, RepeatHistory> historyCache;
 
     public AntiRepeatCheck(SparkWord plugin) {
         this.plugin = plugin;
@@ -54,7 +54,7 @@ public SpamResult check(Player player, SpamContext context) {
         if (cleanMsg.length() < 2) return SpamResult.PASSED;
 
         UUID uuid = player.getUniqueId();
-        UserHistory history = historyCache.get(uuid, k -> new UserHistory());
+        RepeatHistory history = historyCache.get(uuid, k -> new RepeatHistory(HISTORY_BUFFER_SIZE));
 
         long now = System.currentTimeMillis();
         int similarityThreshold = plugin.getEnvironment().getConfigManager().getRepeatSimilarity();
@@ -62,65 +62,58 @@ public SpamResult check(Player player, SpamContext context) {
         long cooldownSec = Math.max(1, plugin.getEnvironment().getConfigManager().getRepeatCooldown());
 
         synchronized (history) {
-            Iterator<MessageStat> it = history.messages.iterator();
-            MessageStat match = null;
+            int match = -1;
             double matchScore = 0.0;
 
-            while (it.hasNext()) {
-                MessageStat stat = it.next();
+            for (int i = 0; i < history.size(); i++) {
+                String content = history.content(i);
 
-                if (stat.content.equalsIgnoreCase(cleanMsg)) {
-                    match = stat;
+                if (content.equalsIgnoreCase(cleanMsg)) {
+                    match = i;
                     matchScore = 100.0;
-                    it.remove();
                     break;
                 }
 
-                double similarity = calculateSimilarity(cleanMsg, stat.content);
+                double similarity = calculateSimilarity(cleanMsg, content, similarityThreshold);
                 if (similarity >= similarityThreshold) {
-                    match = stat;
+                    match = i;
                     matchScore = similarity;
-                    it.remove();
                     break;
                 }
             }
 
-            if (plugin.isDebugMode() && match != null) {
-                plugin.getLogger().info("[AntiRepeat] Matched '" + cleanMsg + "' with '" + match.content + "' (Score: " + String.format("%.2f", matchScore) + ")");
+            if (plugin.isDebugMode() && match != -1) {
+                plugin.getLogger().info("[AntiRepeat] Matched '" + cleanMsg + "' with '" + history.content(match) + "' (Score: " + String.format("%.2f", matchScore) + ")");
             }
 
-            if (match != null) {
-                if (match.blockedUntil > now) {
-                    history.messages.addFirst(match);
+            if (match != -1) {
+                history.moveToFront(match);
+
+                if (history.blockedUntil(0) > now) {
                     return SpamResult.BLOCKED_WITH_REASON("spam.repeat", false);
                 }
 
-                long timeSinceLast = now - match.lastSeen;
-                boolean shouldReset = (match.blockedUntil != 0 && match.blockedUntil <= now)
+                long timeSinceLast = now - history.lastSeen(0);
+                boolean shouldReset = (history.blockedUntil(0) != 0 && history.blockedUntil(0) <= now)
                     || (timeSinceLast > (cooldownSec * 1000L + 30000L));
 
                 if (shouldReset) {
                     if (plugin.isDebugMode())
-                        plugin.getLogger().info("[AntiRepeat] Resetting count for '" + match.content + "' (Expired/Decayed)");
-                    match.count = 0;
-                    match.blockedUntil = 0;
+                        plugin.getLogger().info("[AntiRepeat] Resetting count for '" + history.content(0) + "' (Expired/Decayed)");
+                    history.resetFirst();
                 }
 
-                match.count++;
-                match.content = cleanMsg;
-                match.lastSeen = now;
-                history.messages.addFirst(match);
+                int count = history.touchFirst(cleanMsg, now);
 
                 if (plugin.isDebugMode()) {
-                    plugin.getLogger().info("[AntiRepeat] Count: " + match.count + " / Limit: " + maxRepeats);
+                    plugin.getLogger().info("[AntiRepeat] Count: " + count + " / Limit: " + maxRepeats);
                 }
 
-                if (match.count > maxRepeats) {
-                    match.blockedUntil = now + (cooldownSec * 1000L);
-                    match.count = 0;
+                if (count > maxRepeats) {
+                    history.blockFirst(now + (cooldownSec * 1000L));
 
                     if (plugin.isDebugMode())
-                        plugin.getLogger().info("[AntiRepeat] Blocking '" + match.content + "' until " + match.blockedUntil);
+                        plugin.getLogger().info("[AntiRepeat] Blocking '" + history.content(0) + "' until " + history.blockedUntil(0));
 
                     return SpamResult.BLOCKED_WITH_REASON("spam.repeat", false);
                 }
@@ -128,61 +121,26 @@ public SpamResult check(Player player, SpamContext context) {
             } else {
                 if (plugin.isDebugMode()) plugin.getLogger().info("[AntiRepeat] New message: " + cleanMsg);
 
-                MessageStat newStat = new MessageStat(cleanMsg, now);
-                history.messages.addFirst(newStat);
-
-                if (history.messages.size() > HISTORY_BUFFER_SIZE) {
-                    history.messages.removeLast();
-                }
+                history.addFirst(cleanMsg, now);
             }
         }
 
         return SpamResult.PASSED;
     }
 
-    private double calculateSimilarity(String s1, String s2) {
+    private double calculateSimilarity(String s1, String s2, int threshold) {
         if (s1 == null || s2 == null) return 0.0;
         if (s1.equalsIgnoreCase(s2)) return 100.0;
 
-        String l1 = s1.toLowerCase();
-        String l2 = s2.toLowerCase();
-
-        int longer = Math.max(l1.length(), l2.length());
+        int longer = Math.max(s1.length(), s2.length());
         if (longer == 0) return 100.0;
 
-        if (Math.abs(l1.length() - l2.length()) > longer * 0.4) return 0.0;
-
-        int dist = getLevenshteinDistance(l1, l2);
-        return (longer - dist) / (double) longer * 100.0;
-    }
-
-    private int getLevenshteinDistance(String x, String y) {
-        int[][] dp = new int[x.length() + 1][y.length() + 1];
-        for (int i = 0; i <= x.length(); i++) dp[i][0] = i;
-        for (int j = 0; j <= y.length(); j++) dp[0][j] = j;
-        for (int i = 1; i <= x.length(); i++) {
-            for (int j = 1; j <= y.length(); j++) {
-                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + (x.charAt(i - 1) == y.charAt(j - 1) ? 0 : 1));
-            }
-        }
-        return dp[x.length()][y.length()];
-    }
+        if (Math.abs(s1.length() - s2.length()) > longer * 0.4) return 0.0;
 
-    private static class UserHistory {
-        final LinkedList<MessageStat> messages = new LinkedList<>();
-    }
+        int maxDistance = longer * (100 - Math.max(0, Math.min(100, threshold))) / 100;
+        int dist = EditDistance.boundedIgnoreCase(s1, s2, maxDistance);
+        if (dist > maxDistance) return 0.0;
 
-    private static class MessageStat {
-        String content;
-        int count;
-        long blockedUntil;
-        long lastSeen;
-
-        MessageStat(String content, long now) {
-            this.content = content;
-            this.count = 1;
-            this.blockedUntil = 0;
-            this.lastSeen = now;
-        }
+        return (longer - dist) / (double) longer * 100.0;
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.checks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparkword.SparkWord;
+import com.sparkword.core.config.AntiSpamSettings;
+import com.sparkword.moderation.antispam.SpamCheck;
+import com.sparkword.moderation.antispam.SpamContext;
+import com.sparkword.moderation.antispam.SpamManager.SpamResult;
+import com.sparkword.moderation.antispam.similarity.NearDuplicateIndex;
+import com.sparkword.moderation.antispam.similarity.SimHash;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class CampaignCheck implements SpamCheck {
+
+    private final SparkWord plugin;
+    private volatile NearDuplicateIndex index;
+    private final Cache<UUID, Long> alertCooldown;
+
+    private volatile boolean enabled;
+    private volatile boolean blockEnabled;
+    private volatile int playerThreshold;
+    private volatile long windowMillis;
+    private volatile int maxDistance;
+    private volatile int minLength;
+
+    public CampaignCheck(SparkWord plugin) {
+        this.plugin = plugin;
+        this.index = new NearDuplicateIndex(1024, NearDuplicateIndex.waysFor(0));
+        this.alertCooldown = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .maximumSize(1000)
+            .build();
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        AntiSpamSettings settings = plugin.getEnvironment().getConfigManager().getAntiSpamSettings();
+        this.playerThreshold = settings.getCampaignPlayers();
+        this.windowMillis = Math.max(1, settings.getCampaignWindow()) * 1000L;
+        this.maxDistance = Math.max(0, Math.min(8, settings.getCampaignMaxDistance()));
+        this.minLength = Math.max(8, settings.getCampaignMinLength());
+        this.blockEnabled = !"FLAG".equalsIgnoreCase(settings.getCampaignAction());
+        this.enabled = settings.isCampaignEnabled() && playerThreshold > 0;
+        int ways = NearDuplicateIndex.waysFor(playerThreshold);
+        if (index.ways() != ways) {
+            index = new NearDuplicateIndex(1024, ways);
+        } else {
+            index.clear();
+        }
+    }
+
+    @Override
+    public SpamResult check(Player player, SpamContext context) {
+        if (!enabled) return SpamResult.PASSED;
+        if (!context.isChat() || !context.checkTraffic()) return SpamResult.PASSED;
+
+        String msg = context.cleanMessage();
+        if (msg.length() < minLength) return SpamResult.PASSED;
+
+        long signature = SimHash.compute(msg);
+        if (signature == 0L) return SpamResult.PASSED;
+
+        UUID uuid = player.getUniqueId();
+        long owner = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+
+        int players = index.record(signature, owner, System.currentTimeMillis(), windowMillis, maxDistance);
+        if (players <= playerThreshold) return SpamResult.PASSED;
+
+        if (alertCooldown.getIfPresent(uuid) == null) {
+            alertCooldown.put(uuid, System.currentTimeMillis());
+            plugin.getEnvironment().getNotifyManager().notifyStaff(player, "Chat", "Spam Campaign", context.message(), players + " players");
+        }
+
+        if (blockEnabled) {
+            return SpamResult.BLOCKED_WITH_REASON("spam.campaign", false);
+        }
+        return SpamResult.PASSED;
+    }
+}
@@ -34,6 +34,7 @@ public CharSpamCheck(SparkWord plugin) {
         reload();
     }
 
+    @Override
     public void reload() {
         this.charLimit = Math.max(3, plugin.getEnvironment().getConfigManager().getCharLimit());
         this.wordLimit = Math.max(2, plugin.getEnvironment().getConfigManager().getWordLimit());
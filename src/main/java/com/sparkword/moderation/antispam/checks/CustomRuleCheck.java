@@ -0,0 +1,77 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.checks;
+
+import com.sparkword.SparkWord;
+import com.sparkword.core.config.AntiSpamSettings;
+import com.sparkword.moderation.antispam.SpamCheck;
+import com.sparkword.moderation.antispam.SpamContext;
+import com.sparkword.moderation.antispam.SpamManager.SpamResult;
+import com.sparkword.moderation.antispam.rules.CustomRule;
+import com.sparkword.moderation.antispam.rules.RuleCompiler;
+import com.sparkword.moderation.antispam.rules.RuleInput;
+import com.sparkword.moderation.antispam.rules.RuleStats;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+public class CustomRuleCheck implements SpamCheck {
+
+    private final SparkWord plugin;
+    private volatile List<CustomRule> rules = List.of();
+
+    public CustomRuleCheck(SparkWord plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        AntiSpamSettings settings = plugin.getEnvironment().getConfigManager().getAntiSpamSettings();
+        if (!settings.isCustomRulesEnabled()) {
+            this.rules = List.of();
+            return;
+        }
+        this.rules = List.copyOf(RuleCompiler.compile(settings.getCustomRules(), plugin.getLogger()));
+    }
+
+    @Override
+    public SpamResult check(Player player, SpamContext context) {
+        List<CustomRule> snapshot = rules;
+        if (snapshot.isEmpty()) return SpamResult.PASSED;
+
+        RuleInput input = new RuleInput(context);
+        for (CustomRule rule : snapshot) {
+            if (!rule.evaluate(input)) continue;
+
+            if (rule.isNotify()) {
+                plugin.getEnvironment().getNotifyManager().notifyStaff(
+                    player, context.source(), "Custom Rule", context.cleanMessage(), "Rule: " + rule.getId()
+                                                                      );
+            }
+            if (rule.isBlock()) {
+                return SpamResult.BLOCKED_WITH_REASON(rule.getReason(), false);
+            }
+        }
+        return SpamResult.PASSED;
+    }
+
+    public List<RuleStats> getStats() {
+        return rules.stream().map(CustomRule::snapshot).toList();
+    }
+}
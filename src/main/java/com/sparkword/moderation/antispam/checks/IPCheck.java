@@ -21,17 +21,13 @@
 import com.sparkword.moderation.antispam.SpamCheck;
 import com.sparkword.moderation.antispam.SpamContext;
 import com.sparkword.moderation.antispam.SpamManager.SpamResult;
+import com.sparkword.moderation.antispam.ip.IpScanner;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class IPCheck implements SpamCheck {
 
-    private static final Pattern IP_PATTERN = Pattern.compile(
-        "(?<![0-9])((?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?))(?![0-9])"
-                                                             );
     private final SparkWord plugin;
 
     public IPCheck(SparkWord plugin) {
@@ -43,16 +39,16 @@ public SpamResult check(Player player, SpamContext context) {
         if (player.hasPermission("sparkword.bypass.ip")) return SpamResult.PASSED;
 
         String message = context.cleanMessage();
-        Matcher matcher = IP_PATTERN.matcher(message);
+        long match = IpScanner.find(message);
 
-        if (matcher.find()) {
+        if (match != IpScanner.NO_MATCH) {
 
             plugin.getEnvironment().getNotifyManager().notifyStaff(
                 player,
                 context.source(),
                 "Anti-Ip",
                 message,
-                matcher.group(1)
+                message.substring(IpScanner.start(match), IpScanner.end(match))
                                                                   );
             return SpamResult.BLOCKED_WITH_REASON("spam.ip", false);
         }
@@ -60,6 +56,7 @@ public SpamResult check(Player player, SpamContext context) {
         return SpamResult.PASSED;
     }
 
+    @Override
     public void cleanupPlayer(UUID uuid) {
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.domain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparkword.moderation.filters.word.engine.AhoCorasickEngine;
+
+import java.net.IDN;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public final class DomainMatcher {
+
+    private static final int MAX_TLD_LENGTH = 10;
+    private static final int MAX_HOST_LENGTH = 253;
+    private static final int CANONICAL_CACHE_SIZE = 4096;
+    private static final String INVALID = "";
+    private static final ThreadLocal<StringBuilder> NORMALIZED = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final ThreadLocal<StringBuilder> HOST = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final AhoCorasickEngine blacklist;
+    private final DomainTrie blockedTlds;
+    private final DomainTrie whitelist;
+    private final DotNormalizer dots;
+    private final PublicSuffixList suffixes;
+    private final Cache<String, String> canonicalCache;
+
+    private DomainMatcher(AhoCorasickEngine blacklist, DomainTrie blockedTlds, DomainTrie whitelist,
+                          DotNormalizer dots, PublicSuffixList suffixes) {
+        this.blacklist = blacklist;
+        this.blockedTlds = blockedTlds;
+        this.whitelist = whitelist;
+        this.dots = dots;
+        this.suffixes = suffixes;
+        this.canonicalCache = Caffeine.newBuilder()
+            .maximumSize(CANONICAL_CACHE_SIZE)
+            .build();
+    }
+
+    public static DomainMatcher compile(Collection<String> blacklist, Collection<String> blockedTlds,
+                                        Collection<String> whitelist, List<String> dotEntries) {
+        return compile(blacklist, blockedTlds, whitelist, dotEntries, PublicSuffixList.bundled());
+    }
+
+    public static DomainMatcher compile(Collection<String> blacklist, Collection<String> blockedTlds,
+                                        Collection<String> whitelist, List<String> dotEntries,
+                                        PublicSuffixList suffixes) {
+        List<String> cleaned = blacklist.stream()
+            .map(s -> s.replaceAll("[^a-zA-Z0-9]", ""))
+            .filter(s -> !s.isEmpty())
+            .toList();
+
+        List<String> canonicalWhitelist = whitelist.stream()
+            .map(s -> {
+                String canonical = toAscii(s);
+                return canonical != null ? canonical : s;
+            })
+            .toList();
+
+        AhoCorasickEngine engine = cleaned.isEmpty() ? null : AhoCorasickEngine.fromWords(cleaned);
+        return new DomainMatcher(engine, new DomainTrie(blockedTlds), new DomainTrie(canonicalWhitelist),
+            DotNormalizer.compile(dotEntries), suffixes);
+    }
+
+    public String findBlacklisted(CharSequence text) {
+        return blacklist != null ? blacklist.findFirstAlphanumeric(text) : null;
+    }
+
+    public String findLink(CharSequence text) {
+        if (blockedTlds.isEmpty()) return null;
+
+        StringBuilder normalized = NORMALIZED.get();
+        dots.normalize(text, normalized);
+
+        int len = normalized.length();
+        StringBuilder host = HOST.get();
+
+        int i = 0;
+        while (i < len) {
+            if (!isHostChar(normalized.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int next = readHost(normalized, i, host);
+            i = Math.max(next, i + 1);
+
+            String link = resolve(host);
+            if (link != null) return link;
+        }
+        return null;
+    }
+
+    public long canonicalCacheSize() {
+        return canonicalCache.estimatedSize();
+    }
+
+    private String resolve(StringBuilder host) {
+        int end = host.length();
+        while (true) {
+            int dot = host.lastIndexOf(".", end - 1);
+            if (dot <= 0) return null;
+            if (dot < end - 1 && blockedTlds.contains(host, dot + 1, end)) {
+                String link = link(host.substring(0, end));
+                if (link != null) return link;
+            }
+            end = dot;
+        }
+    }
+
+    private String link(String host) {
+        String canonical = canonicalize(host);
+        if (canonical == null) return null;
+        if (whitelist.containsSuffix(canonical, 0, canonical.length())) return null;
+
+        int registrable = suffixes.registrableStart(canonical, 0, canonical.length());
+        return registrable < 0 ? canonical : canonical.substring(registrable);
+    }
+
+    private int readHost(CharSequence text, int start, StringBuilder host) {
+        host.setLength(0);
+        int len = text.length();
+        int i = readLabel(text, start, host, false);
+
+        while (i < len && host.length() < MAX_HOST_LENGTH) {
+            int dot = skipWhitespace(text, i);
+            if (dot >= len || text.charAt(dot) != '.') break;
+
+            int label = skipWhitespace(text, dot + 1);
+            if (label >= len || !isHostChar(text.charAt(label))) break;
+
+            host.append('.');
+            i = readLabel(text, label, host, true);
+        }
+        return i;
+    }
+
+    private int readLabel(CharSequence text, int start, StringBuilder host, boolean spaced) {
+        int len = text.length();
+        int labelStart = host.length();
+        int i = start;
+
+        while (i < len && host.length() < MAX_HOST_LENGTH) {
+            char c = text.charAt(i);
+
+            if (isHostChar(c)) {
+                host.append(Character.toLowerCase(c));
+                i++;
+                continue;
+            }
+
+            if (!spaced || !Character.isWhitespace(c)) break;
+            if (host.length() - labelStart >= MAX_TLD_LENGTH) break;
+
+            int resume = skipWhitespace(text, i);
+            if (resume >= len || !Character.isLetter(text.charAt(resume))) break;
+            if (blockedTlds.contains(host, labelStart, host.length()) && !isSingleLetter(text, resume)) break;
+            i = resume;
+        }
+        return i;
+    }
+
+    private String canonicalize(String candidate) {
+        String cached = canonicalCache.get(candidate, key -> {
+            String ascii = toAscii(key);
+            return ascii != null ? ascii : INVALID;
+        });
+        return cached.isEmpty() ? null : cached;
+    }
+
+    private static String toAscii(String candidate) {
+        try {
+            String canonical = IDN.toASCII(candidate, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+            if (canonical.endsWith(".")) canonical = canonical.substring(0, canonical.length() - 1);
+            return canonical;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int skipWhitespace(CharSequence text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static boolean isSingleLetter(CharSequence text, int index) {
+        return index + 1 >= text.length() || !isHostChar(text.charAt(index + 1));
+    }
+
+    private static boolean isHostChar(char c) {
+        return (c >= 'a' && c <= 'z') ||
+            (c >= 'A' && c <= 'Z') ||
+            (c >= '0' && c <= '9') ||
+            c == '-' ||
+            c == '_' ||
+            (c > 0x7F && Character.isLetterOrDigit(c));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+public final class DomainTrie {
+
+    static final int TERMINAL = 1;
+    static final int WILDCARD = 2;
+    static final int EXCEPTION = 4;
+
+    static final int ROOT = 0;
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] targets;
+    private byte[] flags;
+    private int mask;
+    private int edges;
+    private int nodes = 1;
+
+    public DomainTrie(Collection<String> domains) {
+        this(expectedChars(domains));
+
+        for (String domain : domains) {
+            insert(domain);
+        }
+    }
+
+    DomainTrie(int expectedChars) {
+        int expected = 16 + expectedChars;
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.targets = new int[capacity];
+        this.flags = new byte[expected + 1];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public boolean isEmpty() {
+        return nodes == 1;
+    }
+
+    public boolean contains(CharSequence text, int start, int end) {
+        int node = ROOT;
+        for (int i = end - 1; i >= start; i--) {
+            node = child(node, Character.toLowerCase(text.charAt(i)));
+            if (node < 0) return false;
+        }
+        return (flags[node] & TERMINAL) != 0;
+    }
+
+    public boolean containsSuffix(CharSequence text, int start, int end) {
+        int node = ROOT;
+        for (int i = end - 1; i >= start; i--) {
+            node = child(node, Character.toLowerCase(text.charAt(i)));
+            if (node < 0) return false;
+            if ((flags[node] & TERMINAL) != 0 && (i == start || text.charAt(i - 1) == '.')) return true;
+        }
+        return false;
+    }
+
+    int flags(int node) {
+        return flags[node];
+    }
+
+    void add(String normalized, int flag) {
+        int node = ROOT;
+        for (int i = normalized.length() - 1; i >= 0; i--) {
+            char c = normalized.charAt(i);
+            int next = child(node, c);
+            if (next < 0) {
+                next = addChild(node, c);
+            }
+            node = next;
+        }
+        flags[node] |= (byte) flag;
+    }
+
+    int child(int node, char c) {
+        long key = ((long) node << 16) | c;
+        int idx = slot(key);
+        while (keys[idx] != EMPTY) {
+            if (keys[idx] == key) return targets[idx];
+            idx = (idx + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(String domain) {
+        String normalized = domain.trim().toLowerCase(Locale.ROOT);
+        while (normalized.startsWith("*.") || normalized.startsWith(".")) {
+            normalized = normalized.substring(normalized.indexOf('.') + 1);
+        }
+        while (normalized.endsWith(".")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        if (normalized.isEmpty()) return;
+
+        add(normalized, TERMINAL);
+    }
+
+    private int addChild(int node, char c) {
+        if ((edges + 1) * 2 > keys.length) grow();
+        if (nodes >= flags.length) flags = Arrays.copyOf(flags, flags.length * 2);
+
+        long key = ((long) node << 16) | c;
+        int idx = slot(key);
+        while (keys[idx] != EMPTY) idx = (idx + 1) & mask;
+
+        int id = nodes++;
+        keys[idx] = key;
+        targets[idx] = id;
+        edges++;
+        return id;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldTargets = targets;
+
+        keys = new long[oldKeys.length * 2];
+        targets = new int[oldTargets.length * 2];
+        mask = keys.length - 1;
+        Arrays.fill(keys, EMPTY);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int idx = slot(oldKeys[i]);
+            while (keys[idx] != EMPTY) idx = (idx + 1) & mask;
+            keys[idx] = oldKeys[i];
+            targets[idx] = oldTargets[i];
+        }
+    }
+
+    private static int expectedChars(Collection<String> domains) {
+        int expected = 0;
+        for (String domain : domains) expected += domain.length();
+        return expected;
+    }
+
+    private int slot(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class DotNormalizer {
+
+    private static final String PUNCTUATION_CLASS = "[\\p{P}\\p{S}]";
+
+    private final boolean punctuation;
+    private final String[] words;
+    private final Pattern fallback;
+
+    private DotNormalizer(boolean punctuation, String[] words, Pattern fallback) {
+        this.punctuation = punctuation;
+        this.words = words;
+        this.fallback = fallback;
+    }
+
+    public static DotNormalizer compile(List<String> entries) {
+        boolean punctuation = false;
+        List<String> words = new ArrayList<>();
+        List<String> regex = new ArrayList<>();
+
+        for (String entry : entries) {
+            if (entry == null || entry.isEmpty()) continue;
+            if (entry.contains("\\")) {
+                if (entry.trim().equals(PUNCTUATION_CLASS)) {
+                    punctuation = true;
+                } else {
+                    regex.add(entry);
+                }
+            } else {
+                words.add(entry.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        if (entries.isEmpty()) punctuation = true;
+
+        Pattern fallback = regex.isEmpty() ? null : Pattern.compile(String.join("|", regex), Pattern.CASE_INSENSITIVE);
+        return new DotNormalizer(punctuation, words.toArray(new String[0]), fallback);
+    }
+
+    public void normalize(CharSequence input, StringBuilder out) {
+        out.setLength(0);
+        CharSequence text = (fallback != null) ? fallback.matcher(input).replaceAll(".") : input;
+        int len = text.length();
+        int i = 0;
+
+        while (i < len) {
+            char c = text.charAt(i);
+
+            int consumed = matchBracketedWord(text, i);
+            if (consumed == 0 && (i == 0 || !isWordChar(text.charAt(i - 1)))) {
+                consumed = matchWord(text, i);
+            }
+
+            if (consumed > 0) {
+                appendDot(out);
+                i += consumed;
+                continue;
+            }
+
+            if (c == '.' || (punctuation && isPunctuationOrSymbol(c))) {
+                appendDot(out);
+            } else {
+                out.append(c);
+            }
+            i++;
+        }
+    }
+
+    private int matchWord(CharSequence text, int pos) {
+        for (String word : words) {
+            int end = pos + word.length();
+            if (end > text.length()) continue;
+            if (!regionMatches(text, pos, word)) continue;
+            if (end < text.length() && isWordChar(text.charAt(end))) continue;
+            if (!isWordChar(word.charAt(0)) || !isWordChar(word.charAt(word.length() - 1))) continue;
+            return word.length();
+        }
+        return 0;
+    }
+
+    private int matchBracketedWord(CharSequence text, int pos) {
+        char open = text.charAt(pos);
+        char close = closingBracket(open);
+        if (close == 0 || words.length == 0) return 0;
+
+        int len = text.length();
+        int start = pos + 1;
+        while (start < len && Character.isWhitespace(text.charAt(start))) start++;
+
+        for (String word : words) {
+            int end = start + word.length();
+            if (end > len || !regionMatches(text, start, word)) continue;
+            while (end < len && Character.isWhitespace(text.charAt(end))) end++;
+            if (end < len && text.charAt(end) == close) return end + 1 - pos;
+        }
+        return 0;
+    }
+
+    private static boolean regionMatches(CharSequence text, int pos, String word) {
+        for (int k = 0; k < word.length(); k++) {
+            if (Character.toLowerCase(text.charAt(pos + k)) != word.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    private static void appendDot(StringBuilder out) {
+        int last = out.length() - 1;
+        if (last < 0 || out.charAt(last) != '.') out.append('.');
+    }
+
+    private static char closingBracket(char c) {
+        return switch (c) {
+            case '[' -> ']';
+            case '(' -> ')';
+            case '{' -> '}';
+            case '<' -> '>';
+            default -> 0;
+        };
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isPunctuationOrSymbol(char c) {
+        return switch (Character.getType(c)) {
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION, Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL,
+                 Character.MODIFIER_SYMBOL, Character.OTHER_SYMBOL -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.IDN;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class PublicSuffixList {
+
+    private static final String RESOURCE = "/public_suffix_list.dat";
+
+    private final DomainTrie rules;
+
+    private PublicSuffixList(DomainTrie rules) {
+        this.rules = rules;
+    }
+
+    public static PublicSuffixList bundled() {
+        return Holder.INSTANCE;
+    }
+
+    public static PublicSuffixList parse(Reader source) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int chars = 0;
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("//")) continue;
+
+                int space = indexOfWhitespace(line);
+                if (space >= 0) line = line.substring(0, space);
+
+                lines.add(line);
+                chars += line.length();
+            }
+        }
+
+        DomainTrie trie = new DomainTrie(chars);
+        for (String rule : lines) {
+            int flag = DomainTrie.TERMINAL;
+            if (rule.startsWith("!")) {
+                flag = DomainTrie.EXCEPTION;
+                rule = rule.substring(1);
+            } else if (rule.startsWith("*.")) {
+                flag = DomainTrie.WILDCARD;
+                rule = rule.substring(2);
+            }
+
+            String ascii = toAscii(rule);
+            if (ascii != null && !ascii.isEmpty()) {
+                trie.add(ascii, flag);
+            }
+        }
+        return new PublicSuffixList(trie);
+    }
+
+    public int suffixStart(CharSequence host, int start, int end) {
+        int lastLabel = labelStart(host, start, end);
+        int suffix = lastLabel;
+
+        int node = DomainTrie.ROOT;
+        for (int i = end - 1; i >= start; i--) {
+            node = rules.child(node, Character.toLowerCase(host.charAt(i)));
+            if (node < 0) break;
+            if (i != start && host.charAt(i - 1) != '.') continue;
+
+            int flags = rules.flags(node);
+            if ((flags & DomainTrie.EXCEPTION) != 0) {
+                return labelEnd(host, i, end) + 1;
+            }
+            if ((flags & DomainTrie.TERMINAL) != 0) {
+                suffix = i;
+            }
+            if ((flags & DomainTrie.WILDCARD) != 0 && i > start) {
+                suffix = labelStart(host, start, i - 1);
+            }
+        }
+        return suffix;
+    }
+
+    public int registrableStart(CharSequence host, int start, int end) {
+        int suffix = suffixStart(host, start, end);
+        if (suffix <= start) return -1;
+        return labelStart(host, start, suffix - 1);
+    }
+
+    private static int labelStart(CharSequence host, int start, int end) {
+        int i = end;
+        while (i > start && host.charAt(i - 1) != '.') i--;
+        return i;
+    }
+
+    private static int labelEnd(CharSequence host, int from, int end) {
+        int i = from;
+        while (i < end && host.charAt(i) != '.') i++;
+        return i;
+    }
+
+    private static int indexOfWhitespace(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    private static String toAscii(String rule) {
+        try {
+            return IDN.toASCII(rule, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Holder {
+        private static final PublicSuffixList INSTANCE = load();
+
+        private static PublicSuffixList load() {
+            InputStream in = PublicSuffixList.class.getResourceAsStream(RESOURCE);
+            if (in == null) {
+                throw new IllegalStateException("Missing bundled resource " + RESOURCE);
+            }
+            try {
+                return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
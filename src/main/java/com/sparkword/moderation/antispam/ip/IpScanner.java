@@ -0,0 +1,291 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.ip;
+
+public final class IpScanner {
+
+    public static final long NO_MATCH = -1L;
+
+    private static final int MIN_DIGITS = 4;
+    private static final int MAX_SEPARATOR = 7;
+    private static final long MIN_INTEGER_IP = 0x0100_0000L;
+    private static final long MAX_INTEGER_IP = 0xFFFF_FFFFL;
+
+    private IpScanner() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static int start(long match) {
+        return (int) (match >>> 32);
+    }
+
+    public static int end(long match) {
+        return (int) match;
+    }
+
+    public static long find(CharSequence text) {
+        int len = text.length();
+
+        int digits = 0;
+        int colons = 0;
+        boolean hexPrefix = false;
+        for (int i = 0; i < len; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+            } else if (c == ':') {
+                colons++;
+            } else if ((c == 'x' || c == 'X') && i > 0 && text.charAt(i - 1) == '0') {
+                hexPrefix = true;
+            }
+        }
+        if (digits < MIN_DIGITS && colons < 2 && !hexPrefix) return NO_MATCH;
+
+        int i = 0;
+        while (i < len) {
+            char c = text.charAt(i);
+            char prev = i > 0 ? text.charAt(i - 1) : ' ';
+
+            if (isDigit(c) && !isDigit(prev)) {
+                int end = matchDotted(text, i);
+                if (end < 0) end = matchSplit(text, i);
+                if (end < 0 && !isAlnum(prev)) end = matchInteger(text, i);
+                if (end > 0) return pack(i, end);
+            }
+
+            if (colons >= 2 && (isHex(c) || c == ':') && !isHex(prev) && prev != ':' && !isAlnum(prev)) {
+                int runEnd = hexRunEnd(text, i);
+                if (matchIpv6(text, i, runEnd)) return pack(i, runEnd);
+            }
+
+            i++;
+        }
+        return NO_MATCH;
+    }
+
+    private static int matchDotted(CharSequence text, int pos) {
+        int len = text.length();
+        for (int part = 0; part < 4; part++) {
+            if (part > 0) {
+                if (pos >= len || text.charAt(pos) != '.') return -1;
+                pos++;
+            }
+            pos = octetEnd(text, pos);
+            if (pos < 0) return -1;
+        }
+        return pos;
+    }
+
+    private static int matchSplit(CharSequence text, int pos) {
+        int firstEnd = octetEnd(text, pos);
+        if (firstEnd < 0) return -1;
+
+        int sepStart = firstEnd;
+        int sepEnd = separatorEnd(text, sepStart);
+        if (sepEnd < 0) return -1;
+        int sepLength = sepEnd - sepStart;
+
+        int o1 = octetValue(text, pos, firstEnd);
+        int cursor = sepEnd;
+        int end = octetEnd(text, cursor);
+        if (end < 0) return -1;
+        int o2 = octetValue(text, cursor, end);
+
+        cursor = end;
+        if (!sameSeparator(text, sepStart, cursor, sepLength)) return -1;
+        cursor += sepLength;
+        end = octetEnd(text, cursor);
+        if (end < 0) return -1;
+        int o3 = octetValue(text, cursor, end);
+
+        cursor = end;
+        if (!sameSeparator(text, sepStart, cursor, sepLength)) return -1;
+        cursor += sepLength;
+        end = octetEnd(text, cursor);
+        if (end < 0) return -1;
+        int o4 = octetValue(text, cursor, end);
+
+        if (isCountingSequence(o1, o2, o3, o4)) return -1;
+        return end;
+    }
+
+    private static int matchInteger(CharSequence text, int pos) {
+        int len = text.length();
+
+        if (text.charAt(pos) == '0' && pos + 1 < len && (text.charAt(pos + 1) == 'x' || text.charAt(pos + 1) == 'X')) {
+            int cursor = pos + 2;
+            long value = 0;
+            while (cursor < len && isHex(text.charAt(cursor)) && cursor - pos - 2 < 9) {
+                value = (value << 4) | Character.digit(text.charAt(cursor), 16);
+                cursor++;
+            }
+            int hexDigits = cursor - pos - 2;
+            if (hexDigits < 7 || hexDigits > 8) return -1;
+            if (cursor < len && isAlnum(text.charAt(cursor))) return -1;
+            return value >= MIN_INTEGER_IP ? cursor : -1;
+        }
+
+        int cursor = pos;
+        long value = 0;
+        while (cursor < len && isDigit(text.charAt(cursor))) {
+            if (cursor - pos >= 10) return -1;
+            value = value * 10 + (text.charAt(cursor) - '0');
+            cursor++;
+        }
+        if (cursor - pos < 8) return -1;
+        if (value < MIN_INTEGER_IP || value > MAX_INTEGER_IP) return -1;
+        if (cursor < len && Character.isLetter(text.charAt(cursor))) return -1;
+
+        boolean hasPort = cursor + 1 < len && text.charAt(cursor) == ':' && isDigit(text.charAt(cursor + 1));
+        boolean hasScheme = pos >= 2 && text.charAt(pos - 1) == '/' && text.charAt(pos - 2) == '/';
+        boolean hasUserInfo = pos >= 1 && text.charAt(pos - 1) == '@';
+
+        return (hasPort || hasScheme || hasUserInfo) ? cursor : -1;
+    }
+
+    private static boolean matchIpv6(CharSequence text, int start, int end) {
+        if (end - start < 3) return false;
+        if (end < text.length() && (isAlnum(text.charAt(end)) || text.charAt(end) == '.')) return false;
+
+        int groups = 0;
+        int groupLength = 0;
+        int compressions = 0;
+        int longestGroup = 0;
+        boolean hasDigit = false;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == ':') {
+                if (groupLength > 0) {
+                    groups++;
+                    longestGroup = Math.max(longestGroup, groupLength);
+                }
+                if (i + 1 < end && text.charAt(i + 1) == ':') {
+                    if (i + 2 < end && text.charAt(i + 2) == ':') return false;
+                    compressions++;
+                    i++;
+                } else if (groupLength == 0) {
+                    return false;
+                }
+                groupLength = 0;
+            } else {
+                if (++groupLength > 4) return false;
+                if (isDigit(c)) hasDigit = true;
+            }
+        }
+        if (groupLength > 0) {
+            groups++;
+            longestGroup = Math.max(longestGroup, groupLength);
+        } else if (text.charAt(end - 1) == ':' && text.charAt(end - 2) != ':') {
+            return false;
+        }
+
+        if (!hasDigit || longestGroup < 3 || compressions > 1) return false;
+        if (compressions == 1) return groups >= 2 && groups <= 7;
+        return groups == 8;
+    }
+
+    private static int hexRunEnd(CharSequence text, int pos) {
+        int len = text.length();
+        while (pos < len && (isHex(text.charAt(pos)) || text.charAt(pos) == ':')) pos++;
+        return pos;
+    }
+
+    private static int octetEnd(CharSequence text, int pos) {
+        int len = text.length();
+        int value = 0;
+        int cursor = pos;
+        while (cursor < len && isDigit(text.charAt(cursor))) {
+            if (cursor - pos >= 3) return -1;
+            value = value * 10 + (text.charAt(cursor) - '0');
+            cursor++;
+        }
+        if (cursor == pos || value > 255) return -1;
+        return cursor;
+    }
+
+    private static int octetValue(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) value = value * 10 + (text.charAt(i) - '0');
+        return value;
+    }
+
+    private static int separatorEnd(CharSequence text, int pos) {
+        int len = text.length();
+        int cursor = pos;
+        int letters = 0;
+        boolean dotLike = false;
+
+        while (cursor < len && !isDigit(text.charAt(cursor))) {
+            if (cursor - pos >= MAX_SEPARATOR) return -1;
+            char c = text.charAt(cursor);
+            if (Character.isLetter(c)) {
+                if (letters >= 3 || Character.toLowerCase(c) != "dot".charAt(letters)) return -1;
+                letters++;
+            } else if (isDotLike(c)) {
+                dotLike = true;
+            } else if (!Character.isWhitespace(c) && !isBracket(c)) {
+                return -1;
+            }
+            cursor++;
+        }
+
+        if (cursor == pos || cursor >= len) return -1;
+        if (letters == 3) return cursor;
+        return (letters == 0 && dotLike) ? cursor : -1;
+    }
+
+    private static boolean sameSeparator(CharSequence text, int sepStart, int pos, int length) {
+        if (pos + length > text.length()) return false;
+        for (int k = 0; k < length; k++) {
+            if (Character.toLowerCase(text.charAt(sepStart + k)) != Character.toLowerCase(text.charAt(pos + k))) return false;
+        }
+        return pos + length < text.length() && isDigit(text.charAt(pos + length));
+    }
+
+    private static boolean isCountingSequence(int a, int b, int c, int d) {
+        int diff = b - a;
+        if (Math.abs(diff) > 10 || diff == 0) return false;
+        return c - b == diff && d - c == diff;
+    }
+
+    private static boolean isDotLike(char c) {
+        return c == '.' || c == '·' || c == '•' || c == '。' || c == '-' || c == '_'
+            || c == '/' || c == '\\' || c == '|' || c == '*' || c == '#';
+    }
+
+    private static boolean isBracket(char c) {
+        return c == '(' || c == ')' || c == '[' || c == ']' || c == '{' || c == '}' || c == '<' || c == '>';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isAlnum(char c) {
+        return isDigit(c) || Character.isLetter(c);
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+}
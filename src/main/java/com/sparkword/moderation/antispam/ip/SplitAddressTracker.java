@@ -0,0 +1,161 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.ip;
+
+public final class SplitAddressTracker {
+
+    private static final int OCTETS = 4;
+    private static final int MAX_TOKENS = 32;
+
+    private final int capacity;
+    private final String[] texts;
+    private final int[][] starts;
+    private final int[][] ends;
+    private final int[] tokenCounts;
+    private final int[] windowTokens;
+    private final int[] windowValues;
+    private int head;
+    private int size;
+
+    public SplitAddressTracker(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.texts = new String[this.capacity];
+        this.starts = new int[this.capacity][MAX_TOKENS];
+        this.ends = new int[this.capacity][MAX_TOKENS];
+        this.tokenCounts = new int[this.capacity];
+        int maxWindow = this.capacity * MAX_TOKENS;
+        this.windowTokens = new int[maxWindow];
+        this.windowValues = new int[maxWindow];
+    }
+
+    public String lastText() {
+        return size == 0 ? null : texts[(head - 1 + capacity) % capacity];
+    }
+
+    public String push(String text) {
+        int slot = head;
+        texts[slot] = text;
+        tokenCounts[slot] = tokenize(text, starts[slot], ends[slot]);
+        head = (head + 1) % capacity;
+        if (size < capacity) size++;
+        return scan();
+    }
+
+    public void clear() {
+        size = 0;
+        head = 0;
+    }
+
+    private String scan() {
+        int count = 0;
+        String lastText = null;
+        int lastStart = 0;
+        int lastEnd = 0;
+        int runCount = 0;
+
+        for (int m = size; m >= 1; m--) {
+            int slot = (head - m + capacity) % capacity;
+            String text = texts[slot];
+            for (int t = 0; t < tokenCounts[slot]; t++) {
+                int start = starts[slot][t];
+                int end = ends[slot][t];
+
+                if (lastText != null && sameToken(lastText, lastStart, lastEnd, text, start, end)) {
+                    runCount++;
+                } else {
+                    lastText = text;
+                    lastStart = start;
+                    lastEnd = end;
+                    runCount = 1;
+                }
+                if (runCount > 2) continue;
+
+                windowTokens[count] = slot * MAX_TOKENS + t;
+                windowValues[count] = octet(text, start, end);
+                count++;
+            }
+        }
+
+        for (int i = 0; i + OCTETS <= count; i++) {
+            boolean address = true;
+            for (int k = 0; k < OCTETS; k++) {
+                if (windowValues[i + k] < 0) {
+                    address = false;
+                    break;
+                }
+            }
+            if (!address) continue;
+
+            if (isCountingSequence(i)) return null;
+            return describe(i);
+        }
+        return null;
+    }
+
+    private boolean isCountingSequence(int from) {
+        int firstDiff = windowValues[from + 1] - windowValues[from];
+        if (Math.abs(firstDiff) > 10 || firstDiff == 0) return false;
+
+        for (int k = 1; k < OCTETS - 1; k++) {
+            if (windowValues[from + k + 1] - windowValues[from + k] != firstDiff) return false;
+        }
+        return true;
+    }
+
+    private String describe(int from) {
+        StringBuilder sb = new StringBuilder(16);
+        for (int k = 0; k < OCTETS; k++) {
+            if (k > 0) sb.append(' ');
+            int slot = windowTokens[from + k] / MAX_TOKENS;
+            int token = windowTokens[from + k] % MAX_TOKENS;
+            sb.append(texts[slot], starts[slot][token], ends[slot][token]);
+        }
+        return sb.toString();
+    }
+
+    private static int tokenize(String text, int[] starts, int[] ends) {
+        int count = 0;
+        int len = text.length();
+        int i = 0;
+        while (i < len && count < MAX_TOKENS) {
+            if (!isDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            starts[count] = i;
+            while (i < len && isDigit(text.charAt(i))) i++;
+            ends[count++] = i;
+        }
+        return count;
+    }
+
+    private static boolean sameToken(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        return aEnd - aStart == bEnd - bStart && a.regionMatches(aStart, b, bStart, aEnd - aStart);
+    }
+
+    private static int octet(String text, int start, int end) {
+        if (end - start > 3) return -1;
+        int value = 0;
+        for (int i = start; i < end; i++) value = value * 10 + (text.charAt(i) - '0');
+        return value <= 255 ? value : -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
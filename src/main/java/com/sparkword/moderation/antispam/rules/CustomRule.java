@@ -0,0 +1,72 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.rules;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CustomRule {
+
+    private final String id;
+    private final RuleCondition condition;
+    private final boolean block;
+    private final boolean notify;
+    private final String reason;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    public CustomRule(String id, RuleCondition condition, boolean block, boolean notify, String reason) {
+        this.id = id;
+        this.condition = condition;
+        this.block = block;
+        this.notify = notify;
+        this.reason = reason;
+    }
+
+    public boolean evaluate(RuleInput input) {
+        long start = System.nanoTime();
+        boolean hit = condition.test(input);
+        nanos.add(System.nanoTime() - start);
+        evaluations.increment();
+        if (hit) hits.increment();
+        return hit;
+    }
+
+    public RuleStats snapshot() {
+        long evaluated = evaluations.sum();
+        long avg = evaluated == 0 ? 0 : nanos.sum() / evaluated;
+        return new RuleStats(id, evaluated, hits.sum(), avg);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isBlock() {
+        return block;
+    }
+
+    public boolean isNotify() {
+        return notify;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
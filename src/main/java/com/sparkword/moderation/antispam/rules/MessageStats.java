@@ -0,0 +1,80 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.rules;
+
+public record MessageStats(
+    int length,
+    int words,
+    int letters,
+    int uppercase,
+    int digits,
+    int symbols,
+    int maxRun
+) {
+
+    public static MessageStats of(CharSequence text) {
+        int len = text.length();
+        int words = 0;
+        int letters = 0;
+        int uppercase = 0;
+        int digits = 0;
+        int symbols = 0;
+        int maxRun = 0;
+        int run = 0;
+        char previous = 0;
+        boolean inWord = false;
+
+        for (int i = 0; i < len; i++) {
+            char c = text.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                inWord = false;
+            } else {
+                if (!inWord) words++;
+                inWord = true;
+
+                if (Character.isLetter(c)) {
+                    letters++;
+                    if (Character.isUpperCase(c)) uppercase++;
+                } else if (Character.isDigit(c)) {
+                    digits++;
+                } else {
+                    symbols++;
+                }
+            }
+
+            run = (i > 0 && Character.toLowerCase(c) == Character.toLowerCase(previous)) ? run + 1 : 1;
+            if (run > maxRun) maxRun = run;
+            previous = c;
+        }
+
+        return new MessageStats(len, words, letters, uppercase, digits, symbols, maxRun);
+    }
+
+    public int capsRatio() {
+        return letters == 0 ? 0 : uppercase * 100 / letters;
+    }
+
+    public int digitRatio() {
+        return length == 0 ? 0 : digits * 100 / length;
+    }
+
+    public int symbolRatio() {
+        return length == 0 ? 0 : symbols * 100 / length;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.rules;
+
+import com.sparkword.moderation.antispam.rules.RuleConditions.Comparison;
+import com.sparkword.moderation.filters.word.engine.AhoCorasickEngine;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public final class RuleCompiler {
+
+    private static final Map<String, ToIntFunction<MessageStats>> STATS = Map.ofEntries(
+        Map.entry("length", MessageStats::length),
+        Map.entry("words", MessageStats::words),
+        Map.entry("letters", MessageStats::letters),
+        Map.entry("uppercase", MessageStats::uppercase),
+        Map.entry("digits", MessageStats::digits),
+        Map.entry("symbols", MessageStats::symbols),
+        Map.entry("max-run", MessageStats::maxRun),
+        Map.entry("caps-ratio", MessageStats::capsRatio),
+        Map.entry("digit-ratio", MessageStats::digitRatio),
+        Map.entry("symbol-ratio", MessageStats::symbolRatio)
+                                                                                      );
+
+    private RuleCompiler() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<CustomRule> compile(ConfigurationSection rules, Logger logger) {
+        List<CustomRule> compiled = new ArrayList<>();
+        if (rules == null) return compiled;
+
+        for (String id : rules.getKeys(false)) {
+            ConfigurationSection rule = rules.getConfigurationSection(id);
+            if (rule == null || !rule.getBoolean("enabled", true)) continue;
+
+            try {
+                compiled.add(compileRule(id, rule));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping custom rule '" + id + "': " + e.getMessage());
+            }
+        }
+        return compiled;
+    }
+
+    public static CustomRule compileRule(String id, ConfigurationSection rule) {
+        Object when = rule.get("when");
+        if (when == null) throw new IllegalArgumentException("missing 'when' block");
+
+        RuleCondition condition = compileBlock(when);
+
+        String action = rule.getString("action", "BLOCK");
+        boolean block;
+        if ("BLOCK".equalsIgnoreCase(action)) {
+            block = true;
+        } else if ("FLAG".equalsIgnoreCase(action)) {
+            block = false;
+        } else {
+            throw new IllegalArgumentException("unknown action '" + action + "'");
+        }
+
+        return new CustomRule(id, condition, block, rule.getBoolean("notify", true), rule.getString("reason", "spam.custom"));
+    }
+
+    private static RuleCondition compileBlock(Object block) {
+        Map<String, Object> conditions = asMap(block);
+        if (conditions.isEmpty()) throw new IllegalArgumentException("empty condition block");
+
+        List<RuleCondition> compiled = new ArrayList<>(conditions.size());
+        for (Map.Entry<String, Object> entry : conditions.entrySet()) {
+            compiled.add(compileCondition(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue()));
+        }
+        return RuleConditions.all(compiled);
+    }
+
+    private static RuleCondition compileCondition(String name, Object value) {
+        return switch (name) {
+            case "all" -> RuleConditions.all(compileList(value));
+            case "any" -> RuleConditions.any(compileList(value));
+            case "not" -> RuleConditions.not(compileBlock(value));
+            case "regex" -> compileRegex(value);
+            case "contains" -> compileContains(value);
+            case "source" -> compileSource(value);
+            default -> compileStat(name, value);
+        };
+    }
+
+    private static List<RuleCondition> compileList(Object value) {
+        List<RuleCondition> compiled = new ArrayList<>();
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                compiled.add(compileBlock(element));
+            }
+        } else {
+            for (Map.Entry<String, Object> entry : asMap(value).entrySet()) {
+                compiled.add(compileCondition(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue()));
+            }
+        }
+        if (compiled.isEmpty()) throw new IllegalArgumentException("empty condition list");
+        return compiled;
+    }
+
+    private static RuleCondition compileRegex(Object value) {
+        List<RuleCondition> compiled = new ArrayList<>();
+        for (String regex : asStrings(value)) {
+            try {
+                compiled.add(RuleConditions.regex(Pattern.compile(regex)));
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("invalid regex '" + regex + "': " + e.getDescription());
+            }
+        }
+        return RuleConditions.any(compiled);
+    }
+
+    private static RuleCondition compileContains(Object value) {
+        List<String> words = asStrings(value).stream()
+            .filter(s -> !s.isEmpty())
+            .toList();
+        if (words.isEmpty()) throw new IllegalArgumentException("'contains' needs at least one word");
+        return RuleConditions.contains(AhoCorasickEngine.fromWords(words));
+    }
+
+    private static RuleCondition compileSource(Object value) {
+        Set<String> sources = new HashSet<>();
+        for (String source : asStrings(value)) {
+            sources.add(source.toLowerCase(Locale.ROOT));
+        }
+        return RuleConditions.source(sources);
+    }
+
+    private static RuleCondition compileStat(String name, Object value) {
+        ToIntFunction<MessageStats> stat = STATS.get(name);
+        if (stat == null) throw new IllegalArgumentException("unknown condition '" + name + "'");
+
+        if (value instanceof Number number) {
+            return RuleConditions.stat(stat, Comparison.GREATER_OR_EQUAL, number.intValue());
+        }
+
+        String expression = String.valueOf(value).trim();
+        int split = 0;
+        while (split < expression.length() && "<>=".indexOf(expression.charAt(split)) >= 0) split++;
+
+        Comparison comparison = split == 0 ? Comparison.GREATER_OR_EQUAL : Comparison.fromSymbol(expression.substring(0, split));
+        if (comparison == null) {
+            throw new IllegalArgumentException("unknown operator in '" + name + ": " + expression + "'");
+        }
+
+        try {
+            return RuleConditions.stat(stat, comparison, Integer.parseInt(expression.substring(split).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid number in '" + name + ": " + expression + "'");
+        }
+    }
+
+    private static Map<String, Object> asMap(Object value) {
+        if (value instanceof ConfigurationSection section) {
+            return section.getValues(false);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> converted = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                converted.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            return converted;
+        }
+        throw new IllegalArgumentException("expected a block of conditions but found '" + value + "'");
+    }
+
+    private static List<String> asStrings(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        if (value instanceof String string) {
+            return List.of(string);
+        }
+        throw new IllegalArgumentException("expected text or a list but found '" + value + "'");
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.rules;
+
+import com.sparkword.moderation.filters.word.engine.AhoCorasickEngine;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+public final class RuleConditions {
+
+    private static final int STAT_COST = 1;
+    private static final int SOURCE_COST = 1;
+    private static final int AUTOMATON_COST = 10;
+    private static final int REGEX_COST = 100;
+
+    private RuleConditions() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static RuleCondition all(List<RuleCondition> conditions) {
+        if (conditions.size() == 1) return conditions.get(0);
+        return new All(sortByCost(conditions));
+    }
+
+    public static RuleCondition any(List<RuleCondition> conditions) {
+        if (conditions.size() == 1) return conditions.get(0);
+        return new Any(sortByCost(conditions));
+    }
+
+    public static RuleCondition not(RuleCondition condition) {
+        return new Not(condition);
+    }
+
+    public static RuleCondition regex(Pattern pattern) {
+        return new Regex(pattern);
+    }
+
+    public static RuleCondition contains(AhoCorasickEngine automaton) {
+        return new Contains(automaton);
+    }
+
+    public static RuleCondition source(Set<String> sources) {
+        return new Source(sources);
+    }
+
+    public static RuleCondition stat(ToIntFunction<MessageStats> stat, Comparison comparison, int value) {
+        return new Stat(stat, comparison, value);
+    }
+
+    private static RuleCondition[] sortByCost(List<RuleCondition> conditions) {
+        return conditions.stream()
+            .sorted(Comparator.comparingInt(RuleCondition::cost))
+            .toArray(RuleCondition[]::new);
+    }
+
+    public enum Comparison {
+        LESS("<"),
+        LESS_OR_EQUAL("<="),
+        EQUAL("=="),
+        GREATER_OR_EQUAL(">="),
+        GREATER(">");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public static Comparison fromSymbol(String symbol) {
+            for (Comparison comparison : values()) {
+                if (comparison.symbol.equals(symbol)) return comparison;
+            }
+            return null;
+        }
+
+        public boolean apply(int left, int right) {
+            return switch (this) {
+                case LESS -> left < right;
+                case LESS_OR_EQUAL -> left <= right;
+                case EQUAL -> left == right;
+                case GREATER_OR_EQUAL -> left >= right;
+                case GREATER -> left > right;
+            };
+        }
+    }
+
+    private record All(RuleCondition[] children) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            for (RuleCondition child : children) {
+                if (!child.test(input)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int cost() {
+            int cost = 0;
+            for (RuleCondition child : children) cost += child.cost();
+            return cost;
+        }
+    }
+
+    private record Any(RuleCondition[] children) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            for (RuleCondition child : children) {
+                if (child.test(input)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int cost() {
+            int cost = 0;
+            for (RuleCondition child : children) cost += child.cost();
+            return cost;
+        }
+    }
+
+    private record Not(RuleCondition child) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            return !child.test(input);
+        }
+
+        @Override
+        public int cost() {
+            return child.cost();
+        }
+    }
+
+    private record Regex(Pattern pattern) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            return pattern.matcher(input.text()).find();
+        }
+
+        @Override
+        public int cost() {
+            return REGEX_COST;
+        }
+    }
+
+    private record Contains(AhoCorasickEngine automaton) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            return automaton.findFirst(input.text()) != null;
+        }
+
+        @Override
+        public int cost() {
+            return AUTOMATON_COST;
+        }
+    }
+
+    private record Source(Set<String> sources) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            return sources.contains(input.sourceKey());
+        }
+
+        @Override
+        public int cost() {
+            return SOURCE_COST;
+        }
+    }
+
+    private record Stat(ToIntFunction<MessageStats> stat, Comparison comparison, int value) implements RuleCondition {
+        @Override
+        public boolean test(RuleInput input) {
+            return comparison.apply(stat.applyAsInt(input.stats()), value);
+        }
+
+        @Override
+        public int cost() {
+            return STAT_COST;
+        }
+    }
+}
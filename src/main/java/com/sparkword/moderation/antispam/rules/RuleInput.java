@@ -0,0 +1,51 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.rules;
+
+import com.sparkword.moderation.antispam.SpamContext;
+
+import java.util.Locale;
+
+public final class RuleInput {
+
+    private final SpamContext context;
+    private MessageStats stats;
+    private String sourceKey;
+
+    public RuleInput(SpamContext context) {
+        this.context = context;
+    }
+
+    public SpamContext context() {
+        return context;
+    }
+
+    public String text() {
+        return context.cleanMessage();
+    }
+
+    public String sourceKey() {
+        if (sourceKey == null) sourceKey = context.source().toLowerCase(Locale.ROOT);
+        return sourceKey;
+    }
+
+    public MessageStats stats() {
+        if (stats == null) stats = MessageStats.of(context.cleanMessage());
+        return stats;
+    }
+}
@@ -18,26 +18,20 @@
 package com.sparkword.moderation.antispam.security;
 
 import com.sparkword.SparkWord;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
-import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
 import org.bukkit.entity.Player;
 
 import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class InputSanitizer {
 
+    private final UnicodeNormalizationStage normalizationStage = new UnicodeNormalizationStage();
     private final List<SanitizationStage> stages;
 
     public InputSanitizer(SparkWord plugin) {
         this.stages = new ArrayList<>();
 
-        this.stages.add(new UnicodeNormalizationStage());
-
         if (plugin.getEnvironment().getConfigManager().isAntiInjectionTags()) {
             this.stages.add(new MiniMessageSafeFilterStage());
         }
@@ -48,9 +42,16 @@ public InputSanitizer(SparkWord plugin) {
     }
 
     public String sanitize(String rawInput, Player source) {
-        if (source.hasPermission("sparkword.bypass.injection")) return rawInput;
+        return sanitize(rawInput, source, false);
+    }
+
+    public String sanitize(String input, Player source, boolean normalized) {
+        if (source.hasPermission("sparkword.bypass.injection")) return input;
+
+        String current = normalized
+            ? UnicodeNormalizationStage.stripControlChars(input)
+            : normalizationStage.process(input, source);
 
-        String current = rawInput;
         for (SanitizationStage stage : stages) {
             current = stage.process(current, source);
         }
@@ -58,41 +59,52 @@ public String sanitize(String rawInput, Player source) {
     }
 
     private static class UnicodeNormalizationStage implements SanitizationStage {
-        private static final Pattern CONTROL_CHARS = Pattern.compile("[\\p{C}&&[^\\n\\u00A7\\u200B]]");
+
+        static String stripControlChars(String input) {
+            if (input == null) return "";
+
+            int len = input.length();
+            int first = -1;
+            for (int i = 0; i < len; ) {
+                int cp = input.codePointAt(i);
+                if (isControl(cp)) {
+                    first = i;
+                    break;
+                }
+                i += Character.charCount(cp);
+            }
+            if (first < 0) return input;
+
+            StringBuilder sb = new StringBuilder(len);
+            sb.append(input, 0, first);
+            for (int i = first; i < len; ) {
+                int cp = input.codePointAt(i);
+                if (!isControl(cp)) sb.appendCodePoint(cp);
+                i += Character.charCount(cp);
+            }
+            return sb.toString();
+        }
+
+        private static boolean isControl(int cp) {
+            if (cp == '\n' || cp == '\u00A7' || cp == '\u200B') return false;
+            return switch (Character.getType(cp)) {
+                case Character.CONTROL, Character.FORMAT, Character.SURROGATE,
+                     Character.PRIVATE_USE, Character.UNASSIGNED -> true;
+                default -> false;
+            };
+        }
 
         @Override
         public String process(String input, Player source) {
             if (input == null) return "";
-            String normalized = Normalizer.normalize(input, Normalizer.Form.NFKC);
-            return CONTROL_CHARS.matcher(normalized).replaceAll("");
+            return stripControlChars(Normalizer.normalize(input, Normalizer.Form.NFKC));
         }
     }
 
     private static class MiniMessageSafeFilterStage implements SanitizationStage {
-        private final MiniMessage safeSerializer;
-
-        public MiniMessageSafeFilterStage() {
-            TagResolver safeTags = TagResolver.builder()
-                .resolver(StandardTags.color())
-                .resolver(StandardTags.decorations())
-                .resolver(StandardTags.rainbow())
-                .resolver(StandardTags.gradient())
-                .build();
-
-            this.safeSerializer = MiniMessage.builder()
-                .tags(safeTags)
-                .strict(false)
-                .build();
-        }
-
         @Override
         public String process(String input, Player source) {
-            try {
-                Component safeComponent = safeSerializer.deserialize(input);
-                return safeSerializer.serialize(safeComponent);
-            } catch (Exception e) {
-                return MiniMessage.miniMessage().escapeTags(input);
-            }
+            return MiniMessageTagFilter.filter(input);
         }
     }
 
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.security;
+
+import java.util.Locale;
+import java.util.Set;
+
+public final class MiniMessageTagFilter {
+
+    private static final Set<String> SAFE_TAGS = Set.of(
+        "black", "dark_blue", "dark_green", "dark_aqua", "dark_red", "dark_purple", "gold", "gray", "grey",
+        "dark_gray", "dark_grey", "blue", "green", "aqua", "red", "light_purple", "yellow", "white",
+        "color", "colour", "c",
+        "bold", "b", "italic", "em", "i", "underlined", "u", "strikethrough", "st", "obfuscated", "obf",
+        "rainbow", "gradient"
+                                                       );
+
+    private MiniMessageTagFilter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String filter(String input) {
+        int first = input.indexOf('<');
+        if (first < 0) return input;
+
+        StringBuilder out = null;
+        int copied = 0;
+        int len = input.length();
+        int i = first;
+        while (i > 0 && input.charAt(i - 1) == '\\') i--;
+
+        while (i < len) {
+            char c = input.charAt(i);
+
+            if (c == '\\' && i + 1 < len && (input.charAt(i + 1) == '<' || input.charAt(i + 1) == '\\')) {
+                i += 2;
+                continue;
+            }
+
+            if (c != '<') {
+                i++;
+                continue;
+            }
+
+            int end = tagEnd(input, i);
+            if (end < 0) {
+                i++;
+                continue;
+            }
+
+            if (!isSafe(input, i, end)) {
+                if (out == null) out = new StringBuilder(len + 8);
+                out.append(input, copied, i).append('\\');
+                copied = i;
+            }
+            i = end + 1;
+        }
+
+        if (out == null) return input;
+        return out.append(input, copied, len).toString();
+    }
+
+    private static int tagEnd(String input, int open) {
+        int len = input.length();
+        int i = open + 1;
+        if (i < len && input.charAt(i) == '/') i++;
+        if (i < len && isNamePrefix(input.charAt(i))) i++;
+
+        int nameStart = i;
+        while (i < len && isNameChar(input.charAt(i))) i++;
+        if (i == nameStart || i >= len) return -1;
+
+        char c = input.charAt(i);
+        if (c == '>') return i;
+        if (c != ':') return -1;
+
+        char quote = 0;
+        for (; i < len; i++) {
+            c = input.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && i + 1 < len) {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (c == '>') return i;
+            if (c == '<') return -1;
+            if ((c == '\'' || c == '"') && input.charAt(i - 1) == ':') quote = c;
+        }
+        return -1;
+    }
+
+    private static boolean isSafe(String input, int open, int end) {
+        int i = open + 1;
+        if (input.charAt(i) == '/') i++;
+        if (input.charAt(i) == '!') i++;
+        if (input.charAt(i) == '#') return true;
+
+        int nameEnd = i;
+        while (nameEnd < end && input.charAt(nameEnd) != ':') nameEnd++;
+
+        return SAFE_TAGS.contains(input.substring(i, nameEnd).toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isNamePrefix(char c) {
+        return c == '!' || c == '?' || c == '#';
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') ||
+            (c >= 'A' && c <= 'Z') ||
+            (c >= '0' && c <= '9') ||
+            c == '_' ||
+            c == '-';
+    }
+}
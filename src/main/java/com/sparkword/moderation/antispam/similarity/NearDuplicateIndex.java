@@ -0,0 +1,122 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.similarity;
+
+import java.util.Arrays;
+
+public class NearDuplicateIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final int STRIPES = 64;
+
+    private final int buckets;
+    private final int ways;
+    private final long[] signatures;
+    private final long[] owners;
+    private final long[] timestamps;
+    private final Object[] locks;
+    private final ThreadLocal<long[]> matches;
+
+    public NearDuplicateIndex(int bucketsPerBand, int ways) {
+        this.buckets = Integer.highestOneBit(Math.max(16, bucketsPerBand - 1) << 1);
+        this.ways = Math.max(1, ways);
+
+        int slots = BANDS * buckets * this.ways;
+        this.signatures = new long[slots];
+        this.owners = new long[slots];
+        this.timestamps = new long[slots];
+
+        this.locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) locks[i] = new Object();
+
+        int maxMatches = BANDS * this.ways + 1;
+        this.matches = ThreadLocal.withInitial(() -> new long[maxMatches]);
+    }
+
+    public static int waysFor(int playerThreshold) {
+        return Math.max(4, playerThreshold + 1);
+    }
+
+    public int ways() {
+        return ways;
+    }
+
+    public int record(long signature, long owner, long now, long windowMillis, int maxDistance) {
+        long[] found = matches.get();
+        found[0] = owner;
+        int distinct = 1;
+        long cutoff = now - windowMillis;
+
+        for (int band = 0; band < BANDS; band++) {
+            long bandValue = (signature >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+            int bucket = band * buckets + (int) (SimHash.mix(bandValue + band) & (buckets - 1));
+            int base = bucket * ways;
+
+            synchronized (locks[bucket & (STRIPES - 1)]) {
+                int victim = base;
+                long oldest = Long.MAX_VALUE;
+                boolean stored = false;
+
+                for (int slot = base; slot < base + ways; slot++) {
+                    long ts = timestamps[slot];
+
+                    if (ts > cutoff && SimHash.distance(signatures[slot], signature) <= maxDistance) {
+                        long other = owners[slot];
+                        if (other == owner) {
+                            signatures[slot] = signature;
+                            timestamps[slot] = now;
+                            stored = true;
+                            continue;
+                        }
+                        distinct = addDistinct(found, distinct, other);
+                    }
+
+                    if (ts < oldest) {
+                        oldest = ts;
+                        victim = slot;
+                    }
+                }
+
+                if (!stored) {
+                    signatures[victim] = signature;
+                    owners[victim] = owner;
+                    timestamps[victim] = now;
+                }
+            }
+        }
+
+        return distinct;
+    }
+
+    public void clear() {
+        for (int bucket = 0; bucket < BANDS * buckets; bucket++) {
+            synchronized (locks[bucket & (STRIPES - 1)]) {
+                Arrays.fill(timestamps, bucket * ways, (bucket + 1) * ways, 0L);
+            }
+        }
+    }
+
+    private static int addDistinct(long[] found, int size, long owner) {
+        for (int i = 0; i < size; i++) {
+            if (found[i] == owner) return size;
+        }
+        if (size < found.length) found[size++] = owner;
+        return size;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.similarity;
+
+public final class RepeatHistory {
+
+    private final int capacity;
+    private final String[] contents;
+    private final int[] counts;
+    private final long[] blockedUntil;
+    private final long[] lastSeen;
+    private int head = -1;
+    private int size;
+
+    public RepeatHistory(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.contents = new String[this.capacity];
+        this.counts = new int[this.capacity];
+        this.blockedUntil = new long[this.capacity];
+        this.lastSeen = new long[this.capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String content(int index) {
+        return contents[slot(index)];
+    }
+
+    public int count(int index) {
+        return counts[slot(index)];
+    }
+
+    public long blockedUntil(int index) {
+        return blockedUntil[slot(index)];
+    }
+
+    public long lastSeen(int index) {
+        return lastSeen[slot(index)];
+    }
+
+    public void addFirst(String content, long now) {
+        head = (head + 1) % capacity;
+        contents[head] = content;
+        counts[head] = 1;
+        blockedUntil[head] = 0;
+        lastSeen[head] = now;
+        if (size < capacity) size++;
+    }
+
+    public void moveToFront(int index) {
+        if (index == 0) return;
+
+        int from = slot(index);
+        String content = contents[from];
+        int count = counts[from];
+        long blocked = blockedUntil[from];
+        long seen = lastSeen[from];
+
+        for (int i = index; i > 0; i--) {
+            int dst = slot(i);
+            int src = slot(i - 1);
+            contents[dst] = contents[src];
+            counts[dst] = counts[src];
+            blockedUntil[dst] = blockedUntil[src];
+            lastSeen[dst] = lastSeen[src];
+        }
+
+        contents[head] = content;
+        counts[head] = count;
+        blockedUntil[head] = blocked;
+        lastSeen[head] = seen;
+    }
+
+    public void resetFirst() {
+        counts[head] = 0;
+        blockedUntil[head] = 0;
+    }
+
+    public int touchFirst(String content, long now) {
+        contents[head] = content;
+        lastSeen[head] = now;
+        return ++counts[head];
+    }
+
+    public void blockFirst(long until) {
+        blockedUntil[head] = until;
+        counts[head] = 0;
+    }
+
+    private int slot(int index) {
+        return (head - index + capacity) % capacity;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.moderation.antispam.similarity;
+
+import java.util.Arrays;
+
+public final class SimHash {
+
+    private static final int SHINGLE = 4;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final ThreadLocal<int[]> WEIGHTS = ThreadLocal.withInitial(() -> new int[64]);
+    private static final ThreadLocal<char[]> WINDOW = ThreadLocal.withInitial(() -> new char[SHINGLE]);
+
+    private SimHash() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static long compute(CharSequence text) {
+        int[] weights = WEIGHTS.get();
+        char[] window = WINDOW.get();
+        Arrays.fill(weights, 0);
+
+        int filled = 0;
+        int shingles = 0;
+        int len = text.length();
+
+        for (int i = 0; i < len; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) continue;
+
+            window[filled % SHINGLE] = Character.toLowerCase(c);
+            filled++;
+            if (filled < SHINGLE) continue;
+
+            long h = FNV_OFFSET;
+            for (int k = 0; k < SHINGLE; k++) {
+                h ^= window[(filled + k) % SHINGLE];
+                h *= FNV_PRIME;
+            }
+            h = mix(h);
+
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((h >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+            shingles++;
+        }
+
+        if (shingles == 0) return 0L;
+
+        long signature = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) signature |= 1L << bit;
+        }
+        return signature;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -99,6 +99,44 @@ public List<Match> findMatches(String text) {
         return matches;
     }
 
+    public String findFirst(CharSequence text) {
+        return findFirst(text, false);
+    }
+
+    public String findFirstAlphanumeric(CharSequence text) {
+        return findFirst(text, true);
+    }
+
+    private String findFirst(CharSequence text, boolean alphanumericOnly) {
+        TrieNode node = root;
+
+        for (int i = 0; i < text.length(); i++) {
+            int folded = alphanumericOnly ? foldAlphanumeric(text.charAt(i)) : Character.toLowerCase(text.charAt(i));
+            if (folded < 0) continue;
+            char c = (char) folded;
+
+            while (node != root && !node.getChildren().containsKey(c)) {
+                node = node.getFail();
+            }
+
+            TrieNode next = node.getChildren().get(c);
+            if (next != null) {
+                node = next;
+            }
+
+            if (!node.getOutputs().isEmpty()) {
+                return node.getOutputs().get(0);
+            }
+        }
+        return null;
+    }
+
+    private static int foldAlphanumeric(char c) {
+        if (c >= 'A' && c <= 'Z') return c + ('a' - 'A');
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) return c;
+        return -1;
+    }
+
     public record Match(String word, int start, int end) {
     }
 }
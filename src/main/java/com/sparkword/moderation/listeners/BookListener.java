@@ -23,6 +23,7 @@
 import com.sparkword.core.storage.model.MuteInfo;
 import com.sparkword.core.storage.model.MuteInfo.MuteScope;
 import com.sparkword.moderation.antispam.SpamManager.SpamResult;
+import com.sparkword.moderation.antispam.antiflood.SlidingWindowCounter;
 import com.sparkword.moderation.filters.util.TextNormalizer;
 import com.sparkword.moderation.filters.word.result.FilterResult;
 import com.sparkword.util.StringUtil;
@@ -44,17 +45,17 @@
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class BookListener implements Listener {
     private static final long MIN_EDIT_INTERVAL = 1500;
+    private static final int MAX_EVIDENCE_PAGES = 11;
     private final SparkWord plugin;
     private final Cache<UUID, Long> messageCooldown;
     private final Cache<UUID, Long> muteNotifyCooldown;
     private final Cache<UUID, Long> staffNotifyCooldown;
     private final Cache<UUID, Long> bookOpenCooldown;
     private final Map<UUID, Long> bookEditCooldown = new ConcurrentHashMap<>();
-    private final AtomicInteger globalEditsPerSecond = new AtomicInteger(0);
+    private final SlidingWindowCounter globalEdits = new SlidingWindowCounter(Duration.ofSeconds(1));
 
     public BookListener(SparkWord plugin) {
         this.plugin = plugin;
@@ -62,9 +63,6 @@ public BookListener(SparkWord plugin) {
         this.muteNotifyCooldown = Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(5)).build();
         this.staffNotifyCooldown = Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(2)).build();
         this.bookOpenCooldown = Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(2)).build();
-
-        plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
-            () -> globalEditsPerSecond.set(0), 20L, 20L);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -137,7 +135,7 @@ public void onBookEdit(PlayerEditBookEvent event) {
                 if (checkStaffNotifyCooldown(player)) {
                     plugin.getEnvironment().getNotifyManager().notifyBookBlocked(
                         player, "Zalgo/Unicode", "Corrupted Text", "Content Hidden (See Evidence)",
-                        createEvidenceBook(player, evidencePagesZalgo)
+                        evidencePages(evidencePagesZalgo)
                                                                                 );
                 }
                 return;
@@ -145,7 +143,7 @@ public void onBookEdit(PlayerEditBookEvent event) {
         }
 
         int maxGlobalRate = plugin.getEnvironment().getConfigManager().getBookGlobalRateLimit();
-        if (maxGlobalRate > 0 && globalEditsPerSecond.incrementAndGet() > maxGlobalRate) {
+        if (maxGlobalRate > 0 && !globalEdits.tryAcquire(maxGlobalRate)) {
             event.setCancelled(true);
             return;
         }
@@ -279,7 +277,7 @@ public void onBookEdit(PlayerEditBookEvent event) {
                 env.getMessageManager().sendMessage(player, "notification.blocked", Map.of("reason", triggerReason));
             }
             if (checkStaffNotifyCooldown(player)) {
-                plugin.getEnvironment().getNotifyManager().notifyBookBlocked(player, triggerReason, detectedWord, violatingPageContent, createEvidenceBook(player, evidencePages));
+                plugin.getEnvironment().getNotifyManager().notifyBookBlocked(player, triggerReason, detectedWord, violatingPageContent, evidencePages(evidencePages));
             }
         }
     }
@@ -304,24 +302,7 @@ private boolean isBook(ItemStack item) {
         return item != null && (item.getType() == Material.WRITABLE_BOOK || item.getType() == Material.WRITTEN_BOOK);
     }
 
-    private ItemStack createEvidenceBook(Player player, List<String> pages) {
-        ItemStack evidenceBook = new ItemStack(Material.WRITTEN_BOOK);
-        BookMeta evidenceMeta = (BookMeta) evidenceBook.getItemMeta();
-
-        Component title = plugin.getEnvironment().getMessageManager().getComponent("book.evidence-title", Map.of("player", player.getName()), false);
-        evidenceMeta.title(title);
-
-        Component author = plugin.getEnvironment().getMessageManager().getComponent("book.author-name", Collections.emptyMap(), false);
-        evidenceMeta.author(author);
-
-        List<Component> comps = new ArrayList<>();
-        int limit = 0;
-        for (String p : pages) {
-            if (limit++ > 10) break;
-            comps.add(Component.text(p));
-        }
-        evidenceMeta.pages(comps);
-        evidenceBook.setItemMeta(evidenceMeta);
-        return evidenceBook;
+    private List<String> evidencePages(List<String> pages) {
+        return pages.size() > MAX_EVIDENCE_PAGES ? pages.subList(0, MAX_EVIDENCE_PAGES) : pages;
     }
 }
@@ -126,7 +126,7 @@ public void onPlayerChat(AsyncChatEvent event) {
                             Component rendered = previousRenderer.render(source, sourceDisplayName, message, viewer);
 
                             if (viewer instanceof CommandSender sender && sender.hasPermission("sparkword.notify.icon")) {
-                                return rendered.append(plugin.getEnvironment().getMessageManager().getSpyIconComponent(plainMessage, result.detectedWords(), true));
+                                return rendered.append(plugin.getEnvironment().getMessageManager().getSpyIconComponent(sender, plainMessage, result.detectedWords(), true));
                             }
 
                             return rendered;
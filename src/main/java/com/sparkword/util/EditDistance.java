@@ -0,0 +1,173 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.util;
+
+import java.util.Arrays;
+
+public final class EditDistance {
+
+    private static final int WORD_SIZE = 64;
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private EditDistance() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static int boundedIgnoreCase(CharSequence a, CharSequence b, int maxDistance) {
+        if (maxDistance < 0) return 0;
+
+        CharSequence pattern = a.length() <= b.length() ? a : b;
+        CharSequence text = pattern == a ? b : a;
+
+        int m = pattern.length();
+        int n = text.length();
+
+        if (n - m > maxDistance) return maxDistance + 1;
+        if (m == 0) return n;
+
+        Buffers buffers = BUFFERS.get();
+        if (m <= WORD_SIZE) {
+            return myers(pattern, text, maxDistance, buffers);
+        }
+        return banded(pattern, text, maxDistance, buffers);
+    }
+
+    private static int myers(CharSequence pattern, CharSequence text, int maxDistance, Buffers buffers) {
+        int m = pattern.length();
+        int n = text.length();
+
+        buffers.resetPeq();
+        for (int i = 0; i < m; i++) {
+            buffers.addPeq(Character.toLowerCase(pattern.charAt(i)), 1L << i);
+        }
+
+        long pv = -1L;
+        long mv = 0L;
+        long highBit = 1L << (m - 1);
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long eq = buffers.peq(Character.toLowerCase(text.charAt(j)));
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+
+            if ((ph & highBit) != 0) {
+                score++;
+            } else if ((mh & highBit) != 0) {
+                score--;
+            }
+
+            if (score - (n - j - 1) > maxDistance) return maxDistance + 1;
+
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+
+        return score <= maxDistance ? score : maxDistance + 1;
+    }
+
+    private static int banded(CharSequence a, CharSequence b, int k, Buffers buffers) {
+        int la = a.length();
+        int lb = b.length();
+        int inf = k + 1;
+
+        int[] prev = buffers.row(0, lb + 2);
+        int[] cur = buffers.row(1, lb + 2);
+
+        int initHi = Math.min(lb, k);
+        for (int j = 0; j <= initHi; j++) prev[j] = j;
+        if (initHi < lb) prev[initHi + 1] = inf;
+
+        for (int i = 1; i <= la; i++) {
+            int lo = Math.max(1, i - k);
+            int hi = Math.min(lb, i + k);
+            char ca = Character.toLowerCase(a.charAt(i - 1));
+
+            cur[lo - 1] = (lo == 1) ? i : inf;
+            int rowMin = cur[lo - 1];
+
+            for (int j = lo; j <= hi; j++) {
+                int cost = (ca == Character.toLowerCase(b.charAt(j - 1))) ? 0 : 1;
+                int v = prev[j - 1] + cost;
+                int del = prev[j] + 1;
+                if (del < v) v = del;
+                int ins = cur[j - 1] + 1;
+                if (ins < v) v = ins;
+                if (v > inf) v = inf;
+                cur[j] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (hi < lb) cur[hi + 1] = inf;
+
+            if (rowMin > k) return inf;
+
+            int[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+
+        return Math.min(prev[lb], inf);
+    }
+
+    private static final class Buffers {
+        private final long[] asciiPeq = new long[128];
+        private final char[] extKeys = new char[WORD_SIZE];
+        private final long[] extMasks = new long[WORD_SIZE];
+        private final int[][] rows = new int[2][64];
+        private int extSize;
+
+        void resetPeq() {
+            Arrays.fill(asciiPeq, 0L);
+            extSize = 0;
+        }
+
+        void addPeq(char c, long bit) {
+            if (c < 128) {
+                asciiPeq[c] |= bit;
+                return;
+            }
+            for (int i = 0; i < extSize; i++) {
+                if (extKeys[i] == c) {
+                    extMasks[i] |= bit;
+                    return;
+                }
+            }
+            extKeys[extSize] = c;
+            extMasks[extSize++] = bit;
+        }
+
+        long peq(char c) {
+            if (c < 128) return asciiPeq[c];
+            for (int i = 0; i < extSize; i++) {
+                if (extKeys[i] == c) return extMasks[i];
+            }
+            return 0L;
+        }
+
+        int[] row(int index, int size) {
+            if (rows[index].length < size) {
+                rows[index] = new int[Math.max(size, rows[index].length * 2)];
+            }
+            return rows[index];
+        }
+    }
+}
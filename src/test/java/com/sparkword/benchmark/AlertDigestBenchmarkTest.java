@@ -0,0 +1,149 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.effects.AlertAggregator;
+import com.sparkword.core.effects.AlertAggregator.AlertMetrics;
+import com.sparkword.core.effects.AlertAggregator.Digest;
+import com.sparkword.core.effects.AlertAggregator.Entry;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlertDigestBenchmarkTest {
+
+    private static final long WINDOW = 5_000;
+
+    @Test
+    @DisplayName("Alert Digest: Bot Wave Folds Into One Digest")
+    void testDigestGrouping() {
+        AlertAggregator aggregator = new AlertAggregator();
+        long now = 1_000_000;
+
+        int emitted = 0;
+        for (int i = 0; i < 37; i++) {
+            if (aggregator.offer("Anti-Flood", "Bot" + (i % 12), "Chat", "Rate Limit", 1, now + i * 10L, WINDOW)) {
+                emitted++;
+            }
+        }
+        assertEquals(1, emitted, "Only the first alert of a window is shown immediately");
+
+        assertTrue(aggregator.drainExpired(now + 1_000, WINDOW).isEmpty(), "Window still open");
+
+        List<Digest> digests = aggregator.drainExpired(now + WINDOW, WINDOW);
+        assertEquals(1, digests.size());
+        Digest digest = digests.get(0);
+        assertEquals("Anti-Flood", digest.category());
+        assertEquals(37, digest.total());
+        assertEquals(12, digest.players());
+        assertEquals(12, digest.entries().size());
+        assertEquals(4, digest.entries().get(0).count(), "Heaviest offenders are listed first");
+
+        assertTrue(aggregator.offer("Anti-Flood", "Bot0", "Chat", "Rate Limit", 1, now + WINDOW + 10, WINDOW),
+            "A new window starts with an immediate alert");
+
+        AlertMetrics metrics = aggregator.metrics();
+        assertEquals(2, metrics.emitted());
+        assertEquals(36, metrics.suppressed());
+        assertEquals(1, metrics.digests());
+    }
+
+    @Test
+    @DisplayName("Alert Digest: Quiet Window Emits No Digest")
+    void testSingleAlert() {
+        AlertAggregator aggregator = new AlertAggregator();
+        assertTrue(aggregator.offer("Anti-Domain", "Steve", "Chat", "Link", 1, 0, WINDOW));
+        assertTrue(aggregator.drainExpired(WINDOW, WINDOW).isEmpty());
+        assertTrue(aggregator.offer("Anti-Domain", "Steve", "Chat", "Link", 1, WINDOW + 1, WINDOW));
+    }
+
+    @Test
+    @DisplayName("Alert Digest: Per-Staff Rate Cap")
+    void testStaffCap() {
+        AlertAggregator aggregator = new AlertAggregator();
+        UUID staff = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(aggregator.tryDeliver(staff, i, WINDOW, 20));
+        }
+        assertFalse(aggregator.tryDeliver(staff, 100, WINDOW, 20), "Cap reached for this staff member");
+        assertTrue(aggregator.tryDeliver(other, 100, WINDOW, 20), "Budgets are per staff member");
+        assertTrue(aggregator.tryDeliver(staff, WINDOW + 1, WINDOW, 20), "Budget refills on the next window");
+        assertEquals(1, aggregator.metrics().throttled());
+    }
+
+    @Test
+    @DisplayName("Alert Digest: Throttled Alerts Reach The Digest")
+    void testThrottledAlertsDigested() {
+        AlertAggregator aggregator = new AlertAggregator();
+        UUID staff = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(aggregator.tryDeliver(staff, i, WINDOW, 3));
+        }
+
+        assertTrue(aggregator.offer("Anti-Domain", "Steve", "Chat", "Link", 1, 10, WINDOW));
+        assertFalse(aggregator.tryDeliver(staff, 10, WINDOW, 3));
+        aggregator.deferThrottled("Anti-Domain", new Entry("Steve", "Chat", "Link", 1), true, 10);
+
+        assertFalse(aggregator.tryDeliver(staff, 20, WINDOW, 3));
+        aggregator.deferThrottled("Book", new Entry("Alex", "Book", "badword", 1), false, 20);
+
+        List<Digest> digests = aggregator.drainExpired(WINDOW + 20, WINDOW);
+        assertEquals(2, digests.size(), "Alerts a staff member missed must be summarised instead of dropped");
+        for (Digest digest : digests) {
+            assertEquals(1, digest.total(), "An alert already recorded in the window must not be counted twice");
+            assertEquals(1, digest.entries().size());
+        }
+        assertEquals(2, aggregator.metrics().throttled());
+    }
+
+    @Test
+    @DisplayName("Alert Digest: Offer Throughput")
+    void testThroughput() {
+        AlertAggregator aggregator = new AlertAggregator();
+        String[] categories = {"Anti-Flood", "Anti-Domain", "IP Split", "Custom Rule"};
+        int iterations = 500_000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long now = i / 50;
+            aggregator.offer(categories[i & 3], "Bot" + (i % 500), "Chat", "Rate Limit", 1, now, WINDOW);
+            if ((i & 1023) == 0) aggregator.drainExpired(now, WINDOW);
+        }
+        double avgNanos = (System.nanoTime() - start) / (double) iterations;
+
+        AlertMetrics metrics = aggregator.metrics();
+        BenchmarkReporter.log("Alert Digest", "Avg Offer", String.format("%.1f", avgNanos), "ns");
+        BenchmarkReporter.log("Alert Digest", "Emitted", metrics.emitted(), "alerts");
+        BenchmarkReporter.log("Alert Digest", "Suppressed", metrics.suppressed(), "alerts");
+        BenchmarkReporter.log("Alert Digest", "Digests", metrics.digests(), "digests");
+
+        assertTrue(metrics.emitted() < iterations / 1000, "Bulk of the wave must be folded into digests");
+        if (avgNanos > 5_000) {
+            BenchmarkReporter.alert("Alert Digest", "Slow offer path: " + String.format("%.1f", avgNanos) + "ns");
+        }
+    }
+}
@@ -30,6 +30,7 @@
 import com.sparkword.moderation.antispam.checks.AntiFloodCheck;
 import com.sparkword.moderation.antispam.checks.DomainCheck;
 import com.sparkword.moderation.antispam.checks.IPCheck;
+import com.sparkword.moderation.antispam.domain.DomainMatcher;
 import com.sparkword.util.BenchmarkReporter;
 import org.bukkit.entity.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +41,6 @@
 
 import java.util.*;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -79,7 +79,8 @@ void setUp() {
 
         when(configManager.getSecuritySettings()).thenReturn(securitySettings);
 
-        when(securitySettings.getDotPattern()).thenReturn(Pattern.compile("[\\p{P}\\p{S}]"));
+        when(securitySettings.getDomainMatcher()).thenReturn(DomainMatcher.compile(
+            List.of(), Set.of("com", "net"), Set.of(), List.of("[\\p{P}\\p{S}]")));
 
         when(configManager.isDomainEnabled()).thenReturn(true);
         when(configManager.isAntiFloodEnabled()).thenReturn(true);
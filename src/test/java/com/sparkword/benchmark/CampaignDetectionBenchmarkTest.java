@@ -0,0 +1,131 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.similarity.NearDuplicateIndex;
+import com.sparkword.moderation.antispam.similarity.SimHash;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CampaignDetectionBenchmarkTest {
+
+    private static final long WINDOW = 60_000L;
+    private static final int MAX_DISTANCE = 3;
+    private static final int THRESHOLD = 3;
+
+    @Test
+    @DisplayName("Campaign: 200 Bots Rotating One Advert Among Normal Chat")
+    void testBotCampaign() {
+        NearDuplicateIndex index = new NearDuplicateIndex(1024, 4);
+        Random r = new Random(7);
+
+        String[] adverts = {
+            "join play.cheapfactions.net now best pvp",
+            "JOIN play cheapfactions net NOW best pvp!!",
+            "join play.cheapfactions.net now, best pvp",
+            "join -> play.cheapfactions.net now best pvp"
+        };
+        String[] vocabulary = {
+            "anyone", "trade", "diamonds", "emeralds", "village", "spawn", "nether", "died",
+            "stuff", "iron", "farm", "build", "morning", "today", "castle", "sword",
+            "enchant", "creeper", "base", "help", "where", "thanks", "server", "friends"
+        };
+
+        NearDuplicateIndex warmup = new NearDuplicateIndex(64, 4);
+        for (int i = 0; i < 20_000; i++) {
+            warmup.record(SimHash.compute(adverts[i % adverts.length]), i, i, WINDOW, MAX_DISTANCE);
+        }
+
+        int campaignHits = 0;
+        int falsePositives = 0;
+        long now = System.currentTimeMillis();
+        long start = System.nanoTime();
+        int total = 0;
+
+        for (int i = 0; i < 200; i++) {
+            long bot = 10_000L + i;
+            String advert = adverts[r.nextInt(adverts.length)];
+            if (index.record(SimHash.compute(advert), bot, now, WINDOW, MAX_DISTANCE) > THRESHOLD) campaignHits++;
+            total++;
+
+            long human = i % 25;
+            StringBuilder chat = new StringBuilder();
+            for (int w = 0; w < 7; w++) {
+                chat.append(vocabulary[r.nextInt(vocabulary.length)]).append(' ');
+            }
+            if (index.record(SimHash.compute(chat), human, now, WINDOW, MAX_DISTANCE) > THRESHOLD) falsePositives++;
+            total++;
+        }
+
+        double avgNs = (double) (System.nanoTime() - start) / total;
+
+        BenchmarkReporter.log("Campaign", "avg_record_time", String.format("%.0f", avgNs), "ns");
+        BenchmarkReporter.log("Campaign", "campaign_hits", campaignHits, "msgs");
+        BenchmarkReporter.log("Campaign", "normal_flagged", falsePositives, "msgs");
+
+        assertTrue(campaignHits >= 190, "Campaign not detected. Hits: " + campaignHits);
+        assertEquals(0, falsePositives, "Unrelated chat flagged as campaign.");
+
+        if (avgNs > 50_000) {
+            BenchmarkReporter.alert("Campaign", "Near-duplicate lookup slower than 50us per message");
+        }
+    }
+
+    @Test
+    @DisplayName("Campaign: Same Player Repeating Is Not A Campaign")
+    void testSinglePlayerRepeat() {
+        NearDuplicateIndex index = new NearDuplicateIndex(256, 4);
+        long signature = SimHash.compute("join play.cheapfactions.net now best pvp");
+        long now = System.currentTimeMillis();
+
+        int players = 0;
+        for (int i = 0; i < 50; i++) {
+            players = index.record(signature, 42L, now + i, WINDOW, MAX_DISTANCE);
+        }
+        assertEquals(1, players);
+
+        assertEquals(1, index.record(signature, 43L, now + WINDOW * 2, WINDOW, MAX_DISTANCE), "Expired entries must not count.");
+    }
+
+    @Test
+    @DisplayName("Campaign: High Player Threshold Still Triggers")
+    void testHighThreshold() {
+        int threshold = 12;
+        NearDuplicateIndex index = new NearDuplicateIndex(1024, NearDuplicateIndex.waysFor(threshold));
+        long signature = SimHash.compute("join play.cheapfactions.net now best pvp");
+        long now = System.currentTimeMillis();
+
+        int firstHit = -1;
+        int maxPlayers = 0;
+        for (int bot = 0; bot < 40; bot++) {
+            int players = index.record(signature, 10_000L + bot, now + bot, WINDOW, MAX_DISTANCE);
+            maxPlayers = Math.max(maxPlayers, players);
+            if (players > threshold && firstHit < 0) firstHit = bot;
+        }
+
+        BenchmarkReporter.log("Campaign", "high_threshold_first_hit", firstHit, "bots");
+        assertEquals(threshold, firstHit, "The campaign must trigger once more than " + threshold + " players sent it");
+        assertTrue(maxPlayers > threshold, "Distinct players must not level off below the threshold: " + maxPlayers);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.storage.archive.ArchiveKind;
+import com.sparkword.core.storage.archive.ArchivedRow;
+import com.sparkword.core.storage.archive.ColdArchive;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColdArchiveBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("ColdArchiveBenchmarkTest");
+    private static final long DAY = 86_400_000L;
+    private static final String[] CATEGORIES = {"Filter", "Flood", "IP", "Zalgo", "Injection", "Caps"};
+    private static final String[] SOURCES = {"Chat", "Sign", "Book", "Anvil", "Command"};
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Archive: Round Trip, Compression and Cursor Walk")
+    void testRoundTripAndCompression() throws IOException {
+        ColdArchive archive = new ColdArchive(folder, 1024, LOGGER);
+        archive.open();
+
+        Random random = new Random(11);
+        int days = 30;
+        int perDay = 5_000;
+        List<ArchivedRow> all = new ArrayList<>();
+        long rawBytes = 0;
+        long id = 1;
+        long writeNanos = 0;
+
+        for (int day = 0; day < days; day++) {
+            long from = day * DAY;
+            List<ArchivedRow> rows = new ArrayList<>();
+            for (int i = 0; i < perDay; i++) {
+                long ts = from + (long) i * (DAY / perDay);
+                String[] values = {
+                    "Player" + random.nextInt(200),
+                    SOURCES[random.nextInt(SOURCES.length)],
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    "message number " + i + " with some repeated chat text",
+                    random.nextInt(4) == 0 ? null : "badword" + random.nextInt(20)
+                };
+                rows.add(new ArchivedRow(id++, ts, values));
+                rawBytes += 16;
+                for (String value : values) {
+                    if (value != null) rawBytes += value.getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+            rows.sort((a, b) -> Long.compare(b.timestamp(), a.timestamp()));
+            long start = System.nanoTime();
+            archive.append(ArchiveKind.LOGS, rows, from, from + DAY);
+            writeNanos += System.nanoTime() - start;
+            all.addAll(0, rows);
+        }
+
+        assertEquals(days, archive.segmentCount(ArchiveKind.LOGS));
+        assertEquals((long) days * perDay, archive.rowCount(ArchiveKind.LOGS));
+        assertEquals(days * DAY, archive.coveredUpTo(ArchiveKind.LOGS));
+        long onDisk = archive.byteCount(ArchiveKind.LOGS);
+        assertTrue(onDisk < rawBytes / 2, "Columnar segments must at least halve the raw size: " + onDisk + " vs " + rawBytes);
+
+        ColdArchive reopened = new ColdArchive(folder, 1024, LOGGER);
+        reopened.open();
+        assertEquals((long) days * perDay, reopened.rowCount(ArchiveKind.LOGS), "Segments must be found again after a restart");
+
+        Set<Long> seen = new HashSet<>();
+        PageCursor after = null;
+        int index = 0;
+        long walkStart = System.nanoTime();
+        while (true) {
+            List<ArchivedRow> page = reopened.scan(ArchiveKind.LOGS, after, null, 100);
+            if (page.isEmpty()) break;
+            for (ArchivedRow row : page) {
+                ArchivedRow expected = all.get(index++);
+                assertEquals(expected.id(), row.id());
+                assertEquals(expected.timestamp(), row.timestamp());
+                assertArrayEquals(expected.values(), row.values());
+                seen.add(row.id());
+            }
+            ArchivedRow last = page.get(page.size() - 1);
+            after = new PageCursor(last.timestamp(), last.id());
+        }
+        long walkMs = (System.nanoTime() - walkStart) / 1_000_000;
+        assertEquals(all.size(), seen.size(), "Walking the archive must return every row once, newest first");
+
+        ArchivedRow deep = all.get(all.size() - 500);
+        PageCursor deepCursor = new PageCursor(deep.timestamp(), deep.id());
+        long seekStart = System.nanoTime();
+        List<ArchivedRow> deepPage = reopened.scan(ArchiveKind.LOGS, deepCursor, null, 10);
+        long seekUs = (System.nanoTime() - seekStart) / 1000;
+        assertEquals(all.subList(all.size() - 499, all.size() - 489).stream().map(ArchivedRow::id).toList(),
+            deepPage.stream().map(ArchivedRow::id).toList(), "The sparse index must land on the right block");
+
+        List<ArchivedRow> zalgo = reopened.scan(ArchiveKind.LOGS, null, row -> "Zalgo".equals(row.value(2)), 50);
+        assertEquals(50, zalgo.size());
+        assertTrue(zalgo.stream().allMatch(row -> "Zalgo".equals(row.value(2))));
+
+        BenchmarkReporter.log("Cold Archive", "rows", all.size(), "rows");
+        BenchmarkReporter.log("Cold Archive", "raw_size", rawBytes / 1024, "KB");
+        BenchmarkReporter.log("Cold Archive", "archive_size", onDisk / 1024, "KB");
+        BenchmarkReporter.log("Cold Archive", "compression_ratio", String.format("%.1f", rawBytes / (double) onDisk), "x");
+        BenchmarkReporter.log("Cold Archive", "write_time", writeNanos / 1_000_000, "ms");
+        BenchmarkReporter.log("Cold Archive", "full_walk", walkMs, "ms");
+        BenchmarkReporter.log("Cold Archive", "deep_seek", seekUs, "us");
+    }
+
+    @Test
+    @DisplayName("Archive: Retention Drops Whole Segments")
+    void testRetention() throws IOException {
+        ColdArchive archive = new ColdArchive(folder, 256, LOGGER);
+        archive.open();
+
+        for (int day = 0; day < 10; day++) {
+            List<ArchivedRow> rows = new ArrayList<>();
+            for (int i = 99; i >= 0; i--) {
+                rows.add(new ArchivedRow(day * 100L + i, day * DAY + i, new String[]{"Staff", "MUTE", "Player: P" + i}));
+            }
+            archive.append(ArchiveKind.AUDIT, rows, day * DAY, (day + 1) * DAY);
+        }
+
+        int removed = archive.dropBefore(ArchiveKind.AUDIT, 4 * DAY + DAY / 2);
+        assertEquals(400, removed, "Only segments entirely before the cutoff are dropped");
+        assertEquals(6, archive.segmentCount(ArchiveKind.AUDIT));
+        assertEquals(6, segmentFiles());
+
+        List<ArchivedRow> oldest = archive.scan(ArchiveKind.AUDIT, new PageCursor(4 * DAY + 1, 401), null, 10);
+        assertEquals(List.of(400L), oldest.stream().map(ArchivedRow::id).toList());
+        assertTrue(Arrays.stream(oldest.get(0).values()).allMatch(v -> v != null));
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+}
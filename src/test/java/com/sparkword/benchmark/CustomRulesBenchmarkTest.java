@@ -0,0 +1,151 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.SpamContext;
+import com.sparkword.moderation.antispam.rules.CustomRule;
+import com.sparkword.moderation.antispam.rules.RuleCompiler;
+import com.sparkword.moderation.antispam.rules.RuleInput;
+import com.sparkword.moderation.antispam.rules.RuleStats;
+import com.sparkword.util.BenchmarkReporter;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomRulesBenchmarkTest {
+
+    private static final String RULES = """
+        rules:
+          discord-invite:
+            action: BLOCK
+            when:
+              contains: ["discord", "dsc.gg"]
+              regex: '(?i)(discord(app)?\\s*\\.\\s*(gg|com\\s*/\\s*invite)|dsc\\s*\\.\\s*gg)\\s*/\\s*\\w+'
+          staff-impersonation:
+            action: BLOCK
+            when:
+              source: Chat
+              regex: '(?i)^\\W*(admin|owner|mod|moderator|staff)\\W*[:>]'
+          shouting:
+            action: FLAG
+            when:
+              length: ">= 12"
+              caps-ratio: "> 80"
+          trade-format:
+            action: FLAG
+            when:
+              source: Chat
+              contains: ["wts", "wtb"]
+              not:
+                regex: '(?i)^\\[(wts|wtb)\\]'
+          broken:
+            when:
+              vowels: "> 3"
+        """;
+
+    @Test
+    @DisplayName("Custom Rules: Compile and Match")
+    void testCompileAndMatch() throws InvalidConfigurationException {
+        List<CustomRule> rules = compile();
+        assertEquals(4, rules.size(), "Invalid rule must be skipped, valid ones kept");
+
+        assertTrue(matches(rules, "discord-invite", "join discord . gg / freeranks"));
+        assertFalse(matches(rules, "discord-invite", "anyone use discord?"));
+        assertTrue(matches(rules, "staff-impersonation", "[Admin]: send me your password"));
+        assertFalse(matches(rules, "staff-impersonation", "the admin said hi"));
+        assertTrue(matches(rules, "shouting", "WHY IS NOBODY ONLINE"));
+        assertFalse(matches(rules, "shouting", "why is nobody online"));
+        assertTrue(matches(rules, "trade-format", "wts diamond sword"));
+        assertFalse(matches(rules, "trade-format", "[WTS] diamond sword"));
+    }
+
+    @Test
+    @DisplayName("Custom Rules: Evaluation Cost (50k msgs)")
+    void testEvaluationCost() throws InvalidConfigurationException {
+        List<CustomRule> rules = compile();
+        List<String> traffic = generateTraffic(50_000);
+
+        long start = System.nanoTime();
+        int blocked = 0;
+        for (String msg : traffic) {
+            RuleInput input = new RuleInput(new SpamContext(msg, msg, "Chat", false, null, -1, true));
+            for (CustomRule rule : rules) {
+                if (rule.evaluate(input) && rule.isBlock()) {
+                    blocked++;
+                    break;
+                }
+            }
+        }
+        double avgNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        BenchmarkReporter.log("CustomRules", "avg_per_message", String.format("%.0f", avgNs), "ns");
+        BenchmarkReporter.log("CustomRules", "blocked", blocked, "msgs");
+        for (CustomRule rule : rules) {
+            RuleStats stats = rule.snapshot();
+            BenchmarkReporter.log("CustomRules", stats.id() + "_avg", stats.avgNanos(), "ns");
+            BenchmarkReporter.log("CustomRules", stats.id() + "_hits", stats.hits(), "msgs");
+        }
+
+        if (avgNs > 5_000) {
+            BenchmarkReporter.alert("CustomRules", "Rule evaluation above 5us per message");
+        }
+    }
+
+    private List<CustomRule> compile() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(RULES);
+        return RuleCompiler.compile(config.getConfigurationSection("rules"), Logger.getGlobal());
+    }
+
+    private boolean matches(List<CustomRule> rules, String id, String msg) {
+        RuleInput input = new RuleInput(new SpamContext(msg, msg, "Chat", false, null, -1, true));
+        for (CustomRule rule : rules) {
+            if (rule.getId().equals(id)) return rule.evaluate(input);
+        }
+        throw new IllegalArgumentException(id);
+    }
+
+    private List<String> generateTraffic(int count) {
+        Random r = new Random(13);
+        String[] samples = {
+            "hello everyone how are you doing today",
+            "gg wp",
+            "anyone want to trade 64 diamonds for 32 emeralds",
+            "join discord.gg/freeranks for free stuff",
+            "WHY IS NOBODY ONLINE",
+            "[Owner]: give me your password",
+            "wts enchanted books cheap",
+            "lol that was insane"
+        };
+        List<String> traffic = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            traffic.add(samples[r.nextInt(samples.length)]);
+        }
+        return traffic;
+    }
+}
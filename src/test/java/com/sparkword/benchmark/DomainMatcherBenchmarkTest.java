@@ -0,0 +1,242 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.domain.DomainMatcher;
+import com.sparkword.moderation.antispam.domain.PublicSuffixList;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DomainMatcherBenchmarkTest {
+
+    private static final List<String> DOTS = List.of("[\\p{P}\\p{S}]", "dot", "point");
+    private static final Set<String> TLDS = Set.of("com", "net", "org", "gg", "xyz", "io");
+
+    @Test
+    @DisplayName("Domain Matcher: Evasion Forms")
+    void testEvasionForms() {
+        DomainMatcher matcher = DomainMatcher.compile(List.of("cheap-server.net", "hypixel"), TLDS,
+            Set.of("sparkcry.net"), DOTS);
+
+        assertEquals("cheapservernet", matcher.findBlacklisted("join c.h.e.a.p server . net now"));
+        assertEquals("hypixel", matcher.findBlacklisted("HyPiXeL is better"));
+        assertNull(matcher.findBlacklisted("hello everyone"));
+
+        assertEquals("fake.com", matcher.findLink("visit www.fake.com"));
+        assertEquals("fake.com", matcher.findLink("visit fake (dot) com"));
+        assertEquals("fake.com", matcher.findLink("visit fake [ dot ] com"));
+        assertEquals("fake.gg", matcher.findLink("visit fake,,,gg today"));
+        assertEquals("fake.xyz", matcher.findLink("visit fake point xyz"));
+        assertNotNull(matcher.findLink("visit fäke.com"));
+
+        assertNull(matcher.findLink("forum at sparkcry.net"));
+        assertNull(matcher.findLink("running version 1.20.4"));
+        assertNull(matcher.findLink("i like dots. and commas, a lot"));
+        assertNull(matcher.findLink("that is a dotcom thing"));
+        assertEquals("fake.com", matcher.findLink("visit fake . c o m"));
+
+        assertEquals("myserver.net", matcher.findLink("join myserver.net. Best server ever"));
+        assertEquals("myserver.net", matcher.findLink("myserver.net, it is good"));
+        assertEquals("myserver.com", matcher.findLink("play at myserver.com. Join now"));
+        assertEquals("myserver.net", matcher.findLink("join myserver.net.x"));
+        assertEquals("myserver.net", matcher.findLink("myserver.net!!!x"));
+        assertNull(matcher.findLink("forum at sparkcry.net. See you there"));
+    }
+
+    @Test
+    @DisplayName("Domain Matcher: Public Suffix Registrable Domains")
+    void testRegistrableDomains() {
+        DomainMatcher matcher = DomainMatcher.compile(List.of(), Set.of("uk", "br", "io", "ck", "com"),
+            Set.of("google.com"), DOTS);
+
+        assertEquals("evil.co.uk", matcher.findLink("buy at shop.evil.co.uk"));
+        assertEquals("evil.co.uk", matcher.findLink("buy at evil (dot) co (dot) uk"));
+        assertEquals("loja.com.br", matcher.findLink("promo www.loja.com.br"));
+        assertEquals("evil.github.io", matcher.findLink("free ranks evil.github.io"));
+        assertEquals("www.ck", matcher.findLink("see x.www.ck"));
+        assertEquals("a.b.ck", matcher.findLink("see a.b.ck"));
+        assertEquals("xn--fke-qla.com", matcher.findLink("visit f\u00e4ke.com"));
+        assertEquals("co.uk", matcher.findLink("the co.uk suffix"));
+        assertEquals("github.io", matcher.findLink("link github.io"));
+        assertEquals("blogspot.com", matcher.findLink("go to blogspot.com"));
+        assertNull(matcher.findLink("docs.google.com"));
+
+        PublicSuffixList suffixes = PublicSuffixList.bundled();
+        String host = "a.b.c.co.uk";
+        assertEquals(6, suffixes.suffixStart(host, 0, host.length()));
+        assertEquals(4, suffixes.registrableStart(host, 0, host.length()));
+    }
+
+    @Test
+    @DisplayName("Domain Matcher: Repeated Bot Links (IDN cache)")
+    void testRepeatedLinks() {
+        DomainMatcher matcher = DomainMatcher.compile(List.of(), TLDS, Set.of(), DOTS);
+        String[] links = {
+            "cheap ranks at b\u00fcy-now.xyz",
+            "join spam-server.gg today",
+            "free coins at c\u0430sh.io"
+        };
+
+        for (String link : links) {
+            assertNotNull(matcher.findLink(link));
+        }
+
+        int iterations = 100_000;
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (matcher.findLink(links[i % links.length]) != null) sink++;
+        }
+        double avgNs = (double) (System.nanoTime() - start) / iterations;
+
+        BenchmarkReporter.log("DomainMatcher", "repeated_link_avg", String.format("%.0f", avgNs), "ns");
+        BenchmarkReporter.log("DomainMatcher", "canonical_cache_size", matcher.canonicalCacheSize(), "entries");
+        BenchmarkReporter.log("DomainMatcher", "repeated_hits", sink, "msgs");
+
+        assertEquals(iterations, sink);
+        if (matcher.canonicalCacheSize() > links.length) {
+            BenchmarkReporter.alert("DomainMatcher", "Canonical cache grew beyond the distinct link count");
+        }
+    }
+
+    @Test
+    @DisplayName("Domain Matcher: Throughput vs Regex Chain (10k blacklist, 50k msgs)")
+    void testThroughput() {
+        List<String> blacklist = generateBlacklist(10_000);
+        List<String> traffic = generateTraffic(50_000);
+
+        long start = System.nanoTime();
+        DomainMatcher matcher = DomainMatcher.compile(blacklist, TLDS, Set.of(), DOTS);
+        long compileMatcherNs = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Pattern blacklistPattern = compileLegacyBlacklist(blacklist);
+        Pattern dotPattern = compileLegacyDots(DOTS);
+        long compileRegexNs = System.nanoTime() - start;
+
+        int regexHits = 0;
+        int matcherHits = 0;
+        for (String msg : traffic) {
+            if (legacyCheck(msg, blacklistPattern, dotPattern)) regexHits++;
+            if (matcher.findBlacklisted(msg) != null || matcher.findLink(msg) != null) matcherHits++;
+        }
+
+        start = System.nanoTime();
+        for (String msg : traffic) {
+            legacyCheck(msg, blacklistPattern, dotPattern);
+        }
+        double regexNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        start = System.nanoTime();
+        int sink = 0;
+        for (String msg : traffic) {
+            if (matcher.findBlacklisted(msg) != null || matcher.findLink(msg) != null) sink++;
+        }
+        double matcherNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        BenchmarkReporter.log("DomainMatcher", "compile_regex", compileRegexNs / 1_000_000, "ms");
+        BenchmarkReporter.log("DomainMatcher", "compile_matcher", compileMatcherNs / 1_000_000, "ms");
+        BenchmarkReporter.log("DomainMatcher", "regex_avg", String.format("%.0f", regexNs), "ns");
+        BenchmarkReporter.log("DomainMatcher", "matcher_avg", String.format("%.0f", matcherNs), "ns");
+        BenchmarkReporter.log("DomainMatcher", "regex_hits", regexHits, "msgs");
+        BenchmarkReporter.log("DomainMatcher", "matcher_hits", matcherHits, "msgs");
+        BenchmarkReporter.log("DomainMatcher", "checksum", sink, "msgs");
+
+        if (matcherNs > regexNs) {
+            BenchmarkReporter.alert("DomainMatcher", "Matcher slower than the regex chain");
+        }
+        if (matcherHits < regexHits) {
+            BenchmarkReporter.alert("DomainMatcher", "Matcher detected fewer domains than the regex chain");
+        }
+    }
+
+    private boolean legacyCheck(String raw, Pattern blacklistPattern, Pattern dotPattern) {
+        String collapsed = raw.replaceAll("[^a-zA-Z0-9]", "").toLowerCase(Locale.ROOT);
+        if (blacklistPattern.matcher(collapsed).find()) return true;
+
+        String normalized = dotPattern.matcher(raw).replaceAll(".").replaceAll("\\.+", ".");
+        int dot = normalized.indexOf('.');
+        while (dot != -1 && dot < normalized.length() - 1) {
+            int end = dot + 1;
+            while (end < normalized.length() && Character.isLetter(normalized.charAt(end))) end++;
+            if (dot > 0 && TLDS.contains(normalized.substring(dot + 1, end).toLowerCase(Locale.ROOT))) return true;
+            dot = normalized.indexOf('.', dot + 1);
+        }
+        return false;
+    }
+
+    private Pattern compileLegacyBlacklist(List<String> blacklist) {
+        String union = blacklist.stream()
+            .map(s -> s.replaceAll("[^a-zA-Z0-9]", ""))
+            .filter(s -> !s.isEmpty())
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|"));
+        return Pattern.compile("(" + union + ")", Pattern.CASE_INSENSITIVE);
+    }
+
+    private Pattern compileLegacyDots(List<String> dots) {
+        String union = dots.stream()
+            .map(s -> {
+                if (s.contains("\\")) return s;
+                String q = Pattern.quote(s);
+                return "(?:\\b" + q + "\\b|\\[\\s*" + q + "\\s*\\]|\\(\\s*" + q + "\\s*\\)|\\{\\s*" + q + "\\s*\\}|<\\s*" + q + "\\s*>)";
+            })
+            .collect(Collectors.joining("|"));
+        return Pattern.compile(union, Pattern.CASE_INSENSITIVE);
+    }
+
+    private List<String> generateBlacklist(int count) {
+        Random r = new Random(5);
+        List<String> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 6 + r.nextInt(8);
+            for (int j = 0; j < len; j++) sb.append((char) ('a' + r.nextInt(26)));
+            list.add(sb + ".net");
+        }
+        return list;
+    }
+
+    private List<String> generateTraffic(int count) {
+        Random r = new Random(7);
+        String[] samples = {
+            "hello everyone how are you doing today",
+            "gg wp",
+            "anyone want to trade 64 diamonds for 32 emeralds",
+            "minecraft server cheap www.fake.com",
+            "come to fake (dot) net for free ranks",
+            "lol that was insane, really.",
+            "1.20.4 update is out",
+            "visit fake point xyz"
+        };
+        List<String> traffic = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            traffic.add(samples[r.nextInt(samples.length)]);
+        }
+        return traffic;
+    }
+}
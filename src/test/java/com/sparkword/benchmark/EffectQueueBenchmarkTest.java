@@ -0,0 +1,148 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.effects.CoalescingEffect;
+import com.sparkword.core.effects.EffectQueue;
+import com.sparkword.core.effects.EffectQueue.EffectMetrics;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EffectQueueBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("EffectQueueBenchmarkTest");
+
+    @Test
+    @DisplayName("Effects: Repeated Alerts Coalesce Per Key")
+    void testCoalescing() throws InterruptedException {
+        EffectQueue queue = new EffectQueue("Test-Effects", 4096, 512, 200, LOGGER);
+        ConcurrentHashMap<String, AtomicInteger> delivered = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, AtomicInteger> absorbedCounts = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < 300; i++) {
+            String key = "player-" + (i % 3) + "|Anti-Flood|Chat";
+            queue.submit(new CountingAlert(key, delivered, absorbedCounts));
+        }
+
+        queue.shutdown(2000);
+        EffectMetrics metrics = queue.metrics();
+
+        int total = absorbedCounts.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertEquals(300, total, "Every alert must be accounted for in a delivered digest");
+        assertTrue(delivered.values().stream().mapToInt(AtomicInteger::get).sum() < 300, "Alerts should be merged");
+        assertEquals(300 - metrics.coalesced(), metrics.executed());
+
+        BenchmarkReporter.log("Effect Queue", "Coalesce Deliveries", metrics.executed(), "effects");
+        BenchmarkReporter.log("Effect Queue", "Coalesce Merged", metrics.coalesced(), "effects");
+        BenchmarkReporter.log("Effect Queue", "Coalesce Batches", metrics.batches(), "batches");
+    }
+
+    @Test
+    @DisplayName("Effects: Producers Never Block When Saturated")
+    void testSaturation() throws InterruptedException {
+        CountDownLatch gate = new CountDownLatch(1);
+        EffectQueue queue = new EffectQueue("Test-Effects", 64, 16, 0, LOGGER);
+        queue.submit(() -> {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        AtomicInteger criticalRuns = new AtomicInteger();
+        AtomicLong worstSubmitNanos = new AtomicLong();
+        int producers = 4;
+        int perProducer = 2_000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    long start = System.nanoTime();
+                    if (i % 10 == 0) {
+                        queue.submitCritical(criticalRuns::incrementAndGet);
+                    } else {
+                        queue.submit(() -> { });
+                    }
+                    worstSubmitNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Producers must not block on a full queue");
+        gate.countDown();
+        queue.shutdown(2000);
+
+        EffectMetrics metrics = queue.metrics();
+        assertEquals(producers * perProducer / 10, criticalRuns.get(), "Critical effects must never be dropped");
+        assertTrue(metrics.dropped() > 0, "Best-effort alerts should be shed under saturation");
+        assertTrue(metrics.callerRuns() > 0, "Critical effects should run on the caller under saturation");
+        assertEquals(0, metrics.pending());
+
+        double worstMs = worstSubmitNanos.get() / 1_000_000.0;
+        BenchmarkReporter.log("Effect Queue", "Saturation Dropped", metrics.dropped(), "effects");
+        BenchmarkReporter.log("Effect Queue", "Saturation Caller Runs", metrics.callerRuns(), "effects");
+        BenchmarkReporter.log("Effect Queue", "Saturation Worst Submit", String.format("%.3f", worstMs), "ms");
+        if (worstMs > 50) {
+            BenchmarkReporter.alert("Effect Queue", "Slow submit under saturation: " + String.format("%.3f", worstMs) + "ms");
+        }
+    }
+
+    private static final class CountingAlert implements CoalescingEffect {
+        private final String key;
+        private final ConcurrentHashMap<String, AtomicInteger> delivered;
+        private final ConcurrentHashMap<String, AtomicInteger> absorbedCounts;
+        private int count = 1;
+
+        private CountingAlert(String key, ConcurrentHashMap<String, AtomicInteger> delivered,
+                              ConcurrentHashMap<String, AtomicInteger> absorbedCounts) {
+            this.key = key;
+            this.delivered = delivered;
+            this.absorbedCounts = absorbedCounts;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public void absorb(CoalescingEffect other) {
+            count += ((CountingAlert) other).count;
+        }
+
+        @Override
+        public void run() {
+            delivered.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            absorbedCounts.computeIfAbsent(key, k -> new AtomicInteger()).addAndGet(count);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.evidence.EvidenceRecord;
+import com.sparkword.core.evidence.EvidenceStore;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvidenceStoreBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("EvidenceStoreBenchmarkTest");
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Evidence: Survives Restart and Rotates Segments")
+    void testPersistenceAndRotation() throws IOException {
+        EvidenceStore store = open(64 * 1024, 4);
+        Random random = new Random(7);
+
+        List<String> ids = new ArrayList<>();
+        long totalNanos = 0;
+        for (int i = 0; i < 2_000; i++) {
+            List<String> pages = randomPages(random, 5);
+            long start = System.nanoTime();
+            ids.add(store.store("Player" + i, pages));
+            totalNanos += System.nanoTime() - start;
+        }
+        store.close();
+
+        EvidenceStore reopened = open(64 * 1024, 4);
+        EvidenceRecord latest = reopened.load(ids.get(ids.size() - 1));
+        assertNotNull(latest, "Recent evidence must be readable after a restart");
+        assertEquals("Player1999", latest.playerName());
+        assertEquals(5, latest.pages().size());
+
+        assertNull(reopened.load(ids.get(0)), "Oldest segments are dropped once the retention limit is hit");
+        assertTrue(segmentCount() <= 4);
+
+        long onDisk = diskBytes();
+        BenchmarkReporter.log("Evidence Store", "Avg Store (caller)", String.format("%.2f", totalNanos / 2_000 / 1_000.0), "us");
+        BenchmarkReporter.log("Evidence Store", "Retained Books", reopened.size(), "books");
+        BenchmarkReporter.log("Evidence Store", "Disk Usage", onDisk / 1024, "KB");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Evidence: Torn Tail Is Discarded On Startup")
+    void testTornTail() throws IOException {
+        EvidenceStore store = open(1024 * 1024, 4);
+        String first = store.store("Steve", List.of("first page"));
+        store.close();
+
+        try (Stream<Path> files = Files.list(folder)) {
+            Path segment = files.findFirst().orElseThrow();
+            Files.write(segment, new byte[]{0x53, 0x57, 0x45}, StandardOpenOption.APPEND);
+        }
+
+        EvidenceStore recovered = open(1024 * 1024, 4);
+        String second = recovered.store("Alex", List.of("second page"));
+        recovered.close();
+
+        EvidenceStore reopened = open(1024 * 1024, 4);
+        assertEquals(List.of("first page"), reopened.load(first).pages());
+        assertEquals(List.of("second page"), reopened.load(second).pages());
+        reopened.close();
+    }
+
+    private EvidenceStore open(long segmentBytes, int maxSegments) {
+        EvidenceStore store = new EvidenceStore(folder, segmentBytes, maxSegments, 8, LOGGER);
+        store.open();
+        return store;
+    }
+
+    private List<String> randomPages(Random random, int count) {
+        List<String> pages = new ArrayList<>(count);
+        for (int p = 0; p < count; p++) {
+            StringBuilder sb = new StringBuilder(256);
+            for (int i = 0; i < 256; i++) {
+                sb.append(i % 6 == 5 ? ' ' : (char) ('a' + random.nextInt(26)));
+            }
+            pages.add(sb.toString());
+        }
+        return pages;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
+    private long diskBytes() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.mapToLong(p -> p.toFile().length()).sum();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.ip.IpScanner;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class IpScannerBenchmarkTest {
+
+    private static final Pattern IP_PATTERN = Pattern.compile(
+        "(?<![0-9])((?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?))(?![0-9])"
+                                                             );
+    private static final Pattern SPLIT_IP_PATTERN = Pattern.compile(
+        "(?:^|[^0-9])((?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)(?:[^0-9]+(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)){3})(?:$|[^0-9])"
+                                                                   );
+
+    @Test
+    @DisplayName("IP Scanner: Evasion Forms")
+    void testEvasionForms() {
+        String[] blocked = {
+            "join 192.168.1.1 now",
+            "play at 192 . 168 . 1 . 1",
+            "ip 192(dot)168(dot)1(dot)1",
+            "connect http://3232235777",
+            "3232235777:25565 best server",
+            "0xC0A80101",
+            "2001:db8:85a3:0:0:8a2e:370:7334",
+            "try fe80::1ff:fe23:4567:890a"
+        };
+        String[] allowed = {
+            "running version 1.20.4",
+            "meet at 12:30:45",
+            "i have 5, 10, 20, 100 coins",
+            "count 1-2-3-4",
+            "my score is 3232235777"
+        };
+
+        for (String msg : blocked) {
+            assertNotEquals(IpScanner.NO_MATCH, IpScanner.find(msg), "Missed: " + msg);
+        }
+        for (String msg : allowed) {
+            assertEquals(IpScanner.NO_MATCH, IpScanner.find(msg), "False positive: " + msg);
+        }
+    }
+
+    @Test
+    @DisplayName("IP Scanner: Throughput vs Regex (50k msgs)")
+    void testThroughput() {
+        List<String> traffic = generateTraffic(50_000);
+
+        int regexHits = 0;
+        int scannerHits = 0;
+        for (String msg : traffic) {
+            if (IP_PATTERN.matcher(msg).find()) regexHits++;
+            if (IpScanner.find(msg) != IpScanner.NO_MATCH) scannerHits++;
+        }
+
+        long start = System.nanoTime();
+        for (String msg : traffic) {
+            IP_PATTERN.matcher(msg).find();
+        }
+        double dottedRegexNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        start = System.nanoTime();
+        for (String msg : traffic) {
+            SPLIT_IP_PATTERN.matcher(msg).find();
+        }
+        double splitRegexNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        start = System.nanoTime();
+        long sink = 0;
+        for (String msg : traffic) {
+            sink += IpScanner.find(msg);
+        }
+        double scannerNs = (double) (System.nanoTime() - start) / traffic.size();
+
+        BenchmarkReporter.log("IpScanner", "dotted_regex_avg", String.format("%.0f", dottedRegexNs), "ns");
+        BenchmarkReporter.log("IpScanner", "split_regex_avg", String.format("%.0f", splitRegexNs), "ns");
+        BenchmarkReporter.log("IpScanner", "scanner_avg", String.format("%.0f", scannerNs), "ns");
+        BenchmarkReporter.log("IpScanner", "regex_hits", regexHits, "msgs");
+        BenchmarkReporter.log("IpScanner", "scanner_hits", scannerHits, "msgs");
+        BenchmarkReporter.log("IpScanner", "checksum", sink, "sum");
+
+        if (scannerNs > dottedRegexNs) {
+            BenchmarkReporter.alert("IpScanner", "Scanner slower than dotted-quad regex");
+        }
+        if (scannerHits < regexHits) {
+            BenchmarkReporter.alert("IpScanner", "Scanner detected fewer addresses than the regex");
+        }
+    }
+
+    private List<String> generateTraffic(int count) {
+        Random r = new Random(11);
+        String[] samples = {
+            "hello everyone how are you doing today",
+            "gg wp",
+            "anyone want to trade 64 diamonds for 32 emeralds",
+            "join 192.168.1.55 now best server",
+            "the farm is at 120 64 -300",
+            "192 . 168 . 0 . 12 pvp",
+            "lol that was insane",
+            "selling iron 10 for 1 diamond",
+            "1.20.4 update is out",
+            "connect http://3232235777"
+        };
+        List<String> traffic = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            traffic.add(samples[r.nextInt(samples.length)]);
+        }
+        return traffic;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.SparkWord;
+import com.sparkword.core.ConfigManager;
+import com.sparkword.core.MessageManager;
+import com.sparkword.core.config.GeneralSettings;
+import com.sparkword.util.BenchmarkReporter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocaleBundleBenchmarkTest {
+
+    private static final PlainTextComponentSerializer PLAIN = PlainTextComponentSerializer.plainText();
+
+    @TempDir
+    Path dataFolder;
+
+    private MessageManager messageManager;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path locale = Files.createDirectories(dataFolder.resolve("locale"));
+        Files.writeString(locale.resolve("en_US.yml"), """
+            prefix: ""
+            notification:
+              alert: "ALERT {player}"
+              blocked: "Message blocked: {reason}"
+            """);
+        Files.writeString(locale.resolve("es_LA.yml"), """
+            prefix: ""
+            notification:
+              alert: "ALERTA {player}"
+            """);
+        Files.writeString(locale.resolve("de_DE.yml"), """
+            prefix: ""
+            notification:
+              alert: "ALARM {player}"
+              blocked: "Nachricht blockiert: {reason}"
+            """);
+
+        SparkWord plugin = mock(SparkWord.class);
+        ConfigManager configManager = mock(ConfigManager.class);
+        GeneralSettings general = mock(GeneralSettings.class);
+
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        when(plugin.getLogger()).thenReturn(Logger.getGlobal());
+        when(configManager.getGeneralSettings()).thenReturn(general);
+        when(general.getLocale()).thenReturn("en_US");
+        when(general.isClientLocale()).thenReturn(true);
+
+        messageManager = new MessageManager(plugin, configManager);
+    }
+
+    @Test
+    @DisplayName("Locales: Client Locale Fallback Chain")
+    void testFallbackChain() {
+        assertEquals("ALARM Steve", render(player(Locale.GERMANY), "notification.alert"));
+        assertEquals("ALARM Steve", render(player(Locale.of("de", "AT")), "notification.alert"), "Same language, other country");
+        assertEquals("ALERTA Steve", render(player(Locale.of("es", "MX")), "notification.alert"));
+        assertEquals("ALERT Steve", render(player(Locale.JAPAN), "notification.alert"), "Unknown language uses the server locale");
+        assertEquals("Message blocked: Steve", render(player(Locale.of("es", "LA")), "notification.blocked"),
+            "Keys missing from a bundle fall back to the server locale");
+
+        CommandSender console = mock(CommandSender.class);
+        assertEquals("ALERT Steve", render(console, "notification.alert"), "Non-players use the server locale");
+    }
+
+    @Test
+    @DisplayName("Locales: Broadcast Renders Once Per Locale")
+    void testGroupedBroadcast() {
+        List<CommandSender> recipients = new ArrayList<>();
+        Locale[] locales = {Locale.US, Locale.GERMANY, Locale.of("es", "LA"), Locale.UK};
+        for (int i = 0; i < 200; i++) {
+            recipients.add(player(locales[i % locales.length]));
+        }
+        CommandSender console = mock(CommandSender.class);
+        recipients.add(console);
+
+        AtomicInteger renders = new AtomicInteger();
+        long start = System.nanoTime();
+        messageManager.broadcast(recipients, bundle -> {
+            renders.incrementAndGet();
+            return bundle.getComponent("notification.alert", Map.of("player", "Bot1"), true);
+        });
+        double micros = (System.nanoTime() - start) / 1_000.0;
+
+        assertEquals(3, renders.get(), "en_US, de_DE and es_LA are each rendered once");
+        verify(console).sendMessage(any(Component.class));
+
+        BenchmarkReporter.log("Locale Bundles", "Broadcast Renders", renders.get(), "renders/201 recipients");
+        BenchmarkReporter.log("Locale Bundles", "Broadcast Time", String.format("%.1f", micros), "us");
+    }
+
+    private String render(CommandSender recipient, String key) {
+        return PLAIN.serialize(messageManager.getComponent(recipient, key, Map.of("player", "Steve", "reason", "Steve"), true));
+    }
+
+    private static Player player(Locale locale) {
+        Player player = mock(Player.class);
+        when(player.locale()).thenReturn(locale);
+        return player;
+    }
+}
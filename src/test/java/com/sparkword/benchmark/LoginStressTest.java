@@ -18,6 +18,11 @@
 package com.sparkword.benchmark;
 
 import com.sparkword.SparkWord;
+import com.sparkword.core.storage.cache.LoginBatcher;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.dao.SQLPlayerDAO;
+import com.sparkword.core.storage.impl.sql.query.SQLiteQueryAdapter;
+import com.sparkword.core.storage.model.PlayerLogin;
 import com.sparkword.util.BenchmarkReporter;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -32,13 +37,17 @@
 import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -131,4 +140,99 @@ void testRealLoginConcurrency() {
             BenchmarkReporter.alert("RealLoginStress", "Connection errors detected (Database Locked?)");
         }
     }
+
+    @Test
+    @DisplayName("Mass Login: 200 Players (Batched Resolution + Mute Join)")
+    void testBatchedLoginResolution() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("players"));
+            stmt.execute(adapter.getTableCreationQuery("muted"));
+        }
+
+        AtomicInteger roundTrips = new AtomicInteger();
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> {
+            roundTrips.incrementAndGet();
+            return dataSource.getConnection();
+        });
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        SQLPlayerDAO players = new SQLPlayerDAO(factory, writer, writer, adapter);
+
+        int returning = 100;
+        int playerCount = 200;
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) uuids.add(UUID.randomUUID());
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement insert = conn.prepareStatement("INSERT INTO players (uuid, name, last_seen) VALUES (?, ?, ?)");
+             PreparedStatement mute = conn.prepareStatement("INSERT INTO muted (player_id, reason, muted_by, expires_at, created_at, scope) " +
+                 "VALUES ((SELECT id FROM players WHERE uuid = ?), 'spam', 'CONSOLE', 0, ?, 'CHAT')")) {
+            for (int i = 0; i < returning; i++) {
+                insert.setString(1, uuids.get(i).toString());
+                insert.setString(2, "Player_" + i);
+                insert.setLong(3, System.currentTimeMillis());
+                insert.executeUpdate();
+                if (i % 5 == 0) {
+                    mute.setString(1, uuids.get(i).toString());
+                    mute.setLong(2, System.currentTimeMillis());
+                    mute.executeUpdate();
+                }
+            }
+        }
+
+        LoginBatcher batcher = new LoginBatcher(players::resolveLoginsBlocking, 200, 2, 10_000);
+        ExecutorService loginExecutor = Executors.newFixedThreadPool(50);
+        List<CompletableFuture<PlayerLogin>> futures = new ArrayList<>();
+        AtomicInteger errors = new AtomicInteger();
+        roundTrips.set(0);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < playerCount; i++) {
+            UUID uuid = uuids.get(i);
+            String name = "Player_" + i;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return batcher.resolve(uuid, name);
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                    return PlayerLogin.UNKNOWN;
+                }
+            }, loginExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        long duration = Math.max(1, System.currentTimeMillis() - start);
+        loginExecutor.shutdown();
+
+        Set<Integer> ids = new HashSet<>();
+        int muted = 0;
+        for (CompletableFuture<PlayerLogin> future : futures) {
+            PlayerLogin login = future.join();
+            assertTrue(login.playerId() > 0, "Every login must resolve to an id");
+            ids.add(login.playerId());
+            if (login.mute().isMuted()) muted++;
+        }
+        assertEquals(0, errors.get());
+        assertEquals(playerCount, ids.size(), "Ids must be unique per player");
+        assertEquals(returning / 5, muted, "Mutes must be joined into the login lookup");
+
+        int loginTrips = roundTrips.get();
+        roundTrips.set(0);
+        for (int i = 0; i < returning; i++) {
+            assertEquals(futures.get(i).join().playerId(), players.getPlayerIdBlocking(uuids.get(i), "Player_" + i));
+        }
+        int cachedTrips = roundTrips.get();
+        writer.shutdown();
+
+        BenchmarkReporter.log("BatchedLogin", "duration", duration, "ms");
+        BenchmarkReporter.log("BatchedLogin", "throughput", String.format("%.2f", playerCount / (double) duration * 1000), "logins/sec");
+        BenchmarkReporter.log("BatchedLogin", "batches", batcher.batches(), "batches");
+        BenchmarkReporter.log("BatchedLogin", "round_trips", loginTrips, "connections");
+        BenchmarkReporter.log("BatchedLogin", "cached_lookups_round_trips", cachedTrips, "connections");
+
+        if (cachedTrips > 0) {
+            BenchmarkReporter.alert("BatchedLogin", "UUID cache missed after login resolution");
+        }
+    }
 }
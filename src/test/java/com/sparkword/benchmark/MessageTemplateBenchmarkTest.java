@@ -0,0 +1,137 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.MessageTemplate;
+import com.sparkword.util.BenchmarkReporter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageTemplateBenchmarkTest {
+
+    private static final MiniMessage MINI = MiniMessage.miniMessage();
+    private static final PlainTextComponentSerializer PLAIN = PlainTextComponentSerializer.plainText();
+    private static final String ALERT = "[<red>ALERT<white>] <gray>{player} <white>blocked for <red>{reason}";
+    private static final Map<String, String> VALUES = Map.of("player", "Steve", "reason", "Anti-Flood");
+
+    @Test
+    @DisplayName("Templates: Placeholder Substitution")
+    void testRendering() {
+        MessageTemplate alert = MessageTemplate.compile(MINI, ALERT);
+        assertTrue(alert.hasSlots());
+        assertEquals("[ALERT] Steve blocked for Anti-Flood", PLAIN.serialize(alert.render(VALUES)));
+        assertEquals("[ALERT] {player} blocked for {reason}", PLAIN.serialize(alert.render(Map.of())),
+            "Missing values keep the literal placeholder");
+
+        MessageTemplate angle = MessageTemplate.compile(MINI, "Custom rules: <white><count></white>");
+        assertEquals("Custom rules: 4", PLAIN.serialize(angle.render(Map.of("count", "4"))));
+
+        MessageTemplate injected = MessageTemplate.compile(MINI, "<gray>Detected: <red>{detected}");
+        Component rendered = injected.render(Map.of("detected", "<click:run_command:'/op me'>free"));
+        assertEquals("Detected: <click:run_command:'/op me'>free", PLAIN.serialize(rendered),
+            "Values are inserted as plain text, never parsed");
+
+        MessageTemplate hover = MessageTemplate.compile(MINI, "<hover:show_text:'<gray>{player}'>Details</hover>");
+        Component withHover = hover.render(Map.of("player", "Alex"));
+        HoverEvent<?> event = withHover.children().isEmpty() ? withHover.hoverEvent() : withHover.children().get(0).hoverEvent();
+        assertEquals("Alex", PLAIN.serialize((Component) event.value()), "Slots inside hover text are filled");
+
+        MessageTemplate plain = MessageTemplate.compile(MINI, "<red>Error: Evidence expired.");
+        assertFalse(plain.hasSlots());
+        assertSame(plain.render(VALUES), plain.render(Map.of()), "Static messages are shared, not rebuilt");
+    }
+
+    @Test
+    @DisplayName("Templates: Per-Render Allocation vs Re-Parsing")
+    void testAllocation() {
+        MessageTemplate alert = MessageTemplate.compile(MINI, ALERT);
+        int iterations = 20_000;
+
+        for (int i = 0; i < 2_000; i++) {
+            legacyRender();
+            alert.render(VALUES);
+        }
+
+        List<Component> sink = new ArrayList<>(1);
+
+        long legacyStart = System.nanoTime();
+        long legacyBytes = allocated();
+        for (int i = 0; i < iterations; i++) {
+            sink.add(legacyRender());
+            sink.clear();
+        }
+        double legacyPerRender = (allocated() - legacyBytes) / (double) iterations;
+        double legacyNanos = (System.nanoTime() - legacyStart) / (double) iterations;
+
+        long compiledStart = System.nanoTime();
+        long compiledBytes = allocated();
+        for (int i = 0; i < iterations; i++) {
+            sink.add(alert.render(VALUES));
+            sink.clear();
+        }
+        double compiledPerRender = (allocated() - compiledBytes) / (double) iterations;
+        double compiledNanos = (System.nanoTime() - compiledStart) / (double) iterations;
+
+        BenchmarkReporter.log("Message Templates", "Re-Parse Alloc", String.format("%.0f", legacyPerRender), "bytes/render");
+        BenchmarkReporter.log("Message Templates", "Compiled Alloc", String.format("%.0f", compiledPerRender), "bytes/render");
+        BenchmarkReporter.log("Message Templates", "Re-Parse Time", String.format("%.0f", legacyNanos), "ns/render");
+        BenchmarkReporter.log("Message Templates", "Compiled Time", String.format("%.0f", compiledNanos), "ns/render");
+
+        if (legacyPerRender > 0) {
+            assertTrue(compiledPerRender < legacyPerRender, "Compiled render must allocate less than re-parsing");
+        }
+        if (compiledNanos > legacyNanos) {
+            BenchmarkReporter.alert("Message Templates", "Compiled render slower than re-parse: " + compiledNanos + "ns");
+        }
+    }
+
+    private static Component legacyRender() {
+        List<TagResolver> resolvers = new ArrayList<>();
+        for (Map.Entry<String, String> entry : VALUES.entrySet()) {
+            resolvers.add(Placeholder.component(entry.getKey(), MINI.deserialize(entry.getValue())));
+        }
+        String combined = ALERT;
+        for (String k : VALUES.keySet()) {
+            combined = combined.replace("{" + k + "}", "<" + k + ">");
+        }
+        return MINI.deserialize(combined, TagResolver.resolver(resolvers));
+    }
+
+    private static long allocated() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.storage.cache.MuteExpiryScheduler;
+import com.sparkword.core.storage.cache.MuteExpiryScheduler.Deadline;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MuteExpiryBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("MuteExpiryBenchmarkTest");
+
+    @Test
+    @DisplayName("Mutes: Deadlines Fire Once In Batches")
+    void testExpiryBatching() throws InterruptedException {
+        int mutes = 5_000;
+        CountDownLatch fired = new CountDownLatch(mutes);
+        ConcurrentHashMap<Integer, AtomicInteger> hits = new ConcurrentHashMap<>();
+        AtomicInteger batches = new AtomicInteger();
+        AtomicLong worstLateness = new AtomicLong();
+
+        MuteExpiryScheduler scheduler = new MuteExpiryScheduler("Test-MuteExpiry", (List<Deadline> due) -> {
+            batches.incrementAndGet();
+            long now = System.currentTimeMillis();
+            for (Deadline deadline : due) {
+                hits.computeIfAbsent(deadline.playerId(), k -> new AtomicInteger()).incrementAndGet();
+                worstLateness.accumulateAndGet(now - deadline.expiry(), Math::max);
+                fired.countDown();
+            }
+        }, LOGGER);
+
+        long base = System.currentTimeMillis();
+        long start = System.nanoTime();
+        for (int i = 0; i < mutes; i++) {
+            scheduler.schedule(i, base + 5 + (i % 200));
+        }
+        double scheduleUs = (System.nanoTime() - start) / 1000.0 / mutes;
+
+        boolean completed = fired.await(10, TimeUnit.SECONDS);
+        scheduler.shutdown();
+
+        assertTrue(completed, "Every scheduled mute must expire");
+        assertEquals(mutes, hits.size());
+        assertTrue(hits.values().stream().allMatch(c -> c.get() == 1), "Each mute must expire exactly once");
+        assertTrue(batches.get() < mutes, "Expiries due together should be handled in one batch");
+        assertEquals(0, scheduler.pending());
+
+        BenchmarkReporter.log("Mute Expiry", "Schedule Cost", String.format("%.3f", scheduleUs), "us/op");
+        BenchmarkReporter.log("Mute Expiry", "Batches", batches.get(), "batches");
+        BenchmarkReporter.log("Mute Expiry", "Worst Lateness", worstLateness.get(), "ms");
+        if (worstLateness.get() > 250) {
+            BenchmarkReporter.alert("Mute Expiry", "Late expiry: " + worstLateness.get() + "ms");
+        }
+    }
+
+    @Test
+    @DisplayName("Mutes: Earlier Deadline Wakes The Timer")
+    void testEarlierDeadlinePreempts() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicInteger firstId = new AtomicInteger(-1);
+
+        MuteExpiryScheduler scheduler = new MuteExpiryScheduler("Test-MuteExpiry", due -> {
+            firstId.compareAndSet(-1, due.get(0).playerId());
+            fired.countDown();
+        }, LOGGER);
+
+        long now = System.currentTimeMillis();
+        scheduler.schedule(1, now + 60_000);
+        scheduler.schedule(2, now + 20);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS), "Short mute must not wait behind a long one");
+        assertEquals(2, firstId.get());
+        assertEquals(1, scheduler.pending());
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.util.BenchmarkReporter;
+import com.sparkword.util.EditDistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RepeatSpamBenchmarkTest {
+
+    private static final int SIMILARITY_THRESHOLD = 80;
+
+    @Test
+    @DisplayName("Repeat Spam: Short Messages (Myers vs Matrix)")
+    void testShortMessages() {
+        runComparison("RepeatShort", generatePairs(2000, 48), 20);
+    }
+
+    @Test
+    @DisplayName("Repeat Spam: Long Messages (Banded vs Matrix)")
+    void testLongMessages() {
+        runComparison("RepeatLong", generatePairs(60, 1000), 3);
+    }
+
+    private void runComparison(String category, List<String[]> pairs, int rounds) {
+        for (String[] pair : pairs) {
+            int limit = maxDistance(pair[0], pair[1]);
+            int expected = matrixDistance(pair[0].toLowerCase(), pair[1].toLowerCase());
+            int actual = EditDistance.boundedIgnoreCase(pair[0], pair[1], limit);
+            assertEquals(expected <= limit ? expected : limit + 1, actual, "Distance mismatch");
+        }
+
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (String[] pair : pairs) {
+                sink += matrixDistance(pair[0].toLowerCase(), pair[1].toLowerCase());
+            }
+        }
+        double matrixNs = (double) (System.nanoTime() - start) / (rounds * pairs.size());
+
+        start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (String[] pair : pairs) {
+                sink += EditDistance.boundedIgnoreCase(pair[0], pair[1], maxDistance(pair[0], pair[1]));
+            }
+        }
+        double boundedNs = (double) (System.nanoTime() - start) / (rounds * pairs.size());
+
+        BenchmarkReporter.log(category, "matrix_avg", String.format("%.0f", matrixNs), "ns");
+        BenchmarkReporter.log(category, "bounded_avg", String.format("%.0f", boundedNs), "ns");
+        BenchmarkReporter.log(category, "speedup", String.format("%.1f", matrixNs / Math.max(1.0, boundedNs)), "x");
+        BenchmarkReporter.log(category, "checksum", sink, "sum");
+
+        if (boundedNs > matrixNs) {
+            BenchmarkReporter.alert(category, "Bounded edit distance slower than full matrix");
+        }
+    }
+
+    private int maxDistance(String a, String b) {
+        int longer = Math.max(a.length(), b.length());
+        return longer * (100 - SIMILARITY_THRESHOLD) / 100;
+    }
+
+    private List<String[]> generatePairs(int count, int length) {
+        Random r = new Random(42);
+        String alphabet = "abcdefghijklmnopqrstuvwxyz      .!";
+        List<String[]> pairs = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            StringBuilder base = new StringBuilder(length);
+            for (int c = 0; c < length; c++) {
+                base.append(alphabet.charAt(r.nextInt(alphabet.length())));
+            }
+
+            StringBuilder variant = new StringBuilder(base);
+            int edits = (i % 2 == 0) ? length / 20 : length / 2;
+            for (int e = 0; e < edits; e++) {
+                int pos = r.nextInt(variant.length());
+                variant.setCharAt(pos, Character.toUpperCase(alphabet.charAt(r.nextInt(alphabet.length()))));
+            }
+            pairs.add(new String[]{base.toString(), variant.toString()});
+        }
+        return pairs;
+    }
+
+    private int matrixDistance(String x, String y) {
+        int[][] dp = new int[x.length() + 1][y.length() + 1];
+        for (int i = 0; i <= x.length(); i++) dp[i][0] = i;
+        for (int j = 0; j <= y.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= x.length(); i++) {
+            for (int j = 1; j <= y.length(); j++) {
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + (x.charAt(i - 1) == y.charAt(j - 1) ? 0 : 1));
+            }
+        }
+        return dp[x.length()][y.length()];
+    }
+}
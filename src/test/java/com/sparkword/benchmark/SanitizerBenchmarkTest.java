@@ -0,0 +1,134 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.security.MiniMessageTagFilter;
+import com.sparkword.util.BenchmarkReporter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentIteratorType;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SanitizerBenchmarkTest {
+
+    @Test
+    @DisplayName("Tag Filter: Safe and Unsafe Tags")
+    void testTagFiltering() {
+        String plain = "hello everyone, 1 < 2 and <3";
+        assertSame(plain, MiniMessageTagFilter.filter(plain));
+
+        String safe = "<red>hi</red> <b><!italic>ok <gradient:red:blue>x</gradient> <#ff00ff>y <rainbow>z";
+        assertSame(safe, MiniMessageTagFilter.filter(safe));
+
+        assertEquals("\\<click:run_command:'/op me'>x\\</click>",
+            MiniMessageTagFilter.filter("<click:run_command:'/op me'>x</click>"));
+        assertEquals("\\<hover:show_text:'<red>x'>y", MiniMessageTagFilter.filter("<hover:show_text:'<red>x'>y"));
+        assertEquals("<red>\\<insertion:x>", MiniMessageTagFilter.filter("<red><insertion:x>"));
+        assertEquals("\\<click:x>", MiniMessageTagFilter.filter("\\<click:x>"));
+
+        MiniMessage full = MiniMessage.miniMessage();
+        String filtered = MiniMessageTagFilter.filter("<red>free <click:open_url:'https://x.y'>ranks</click>");
+        for (Component part : full.deserialize(filtered).iterable(ComponentIteratorType.DEPTH_FIRST)) {
+            assertNull(part.clickEvent());
+        }
+    }
+
+    @Test
+    @DisplayName("Tag Filter: Stage Cost vs MiniMessage Round Trip (50k msgs)")
+    void testStageCost() {
+        List<String> traffic = generateTraffic(50_000);
+        MiniMessage safeSerializer = MiniMessage.builder()
+            .tags(TagResolver.builder()
+                .resolver(StandardTags.color())
+                .resolver(StandardTags.decorations())
+                .resolver(StandardTags.rainbow())
+                .resolver(StandardTags.gradient())
+                .build())
+            .strict(false)
+            .build();
+
+        for (int i = 0; i < 5_000; i++) {
+            String msg = traffic.get(i);
+            MiniMessageTagFilter.filter(msg);
+            safeSerializer.serialize(safeSerializer.deserialize(msg));
+        }
+
+        List<Long> roundTrip = new ArrayList<>(traffic.size());
+        for (String msg : traffic) {
+            long start = System.nanoTime();
+            safeSerializer.serialize(safeSerializer.deserialize(msg));
+            roundTrip.add(System.nanoTime() - start);
+        }
+
+        List<Long> tokenizer = new ArrayList<>(traffic.size());
+        int sink = 0;
+        for (String msg : traffic) {
+            long start = System.nanoTime();
+            sink += MiniMessageTagFilter.filter(msg).length();
+            tokenizer.add(System.nanoTime() - start);
+        }
+
+        double roundTripAvg = roundTrip.stream().mapToLong(Long::longValue).average().orElse(0);
+        double tokenizerAvg = tokenizer.stream().mapToLong(Long::longValue).average().orElse(0);
+        Collections.sort(roundTrip);
+        Collections.sort(tokenizer);
+        long roundTripP99 = roundTrip.get((int) (roundTrip.size() * 0.99));
+        long tokenizerP99 = tokenizer.get((int) (tokenizer.size() * 0.99));
+
+        BenchmarkReporter.log("TagFilter", "round_trip_avg", String.format("%.0f", roundTripAvg), "ns");
+        BenchmarkReporter.log("TagFilter", "round_trip_p99", roundTripP99, "ns");
+        BenchmarkReporter.log("TagFilter", "tokenizer_avg", String.format("%.0f", tokenizerAvg), "ns");
+        BenchmarkReporter.log("TagFilter", "tokenizer_p99", tokenizerP99, "ns");
+        BenchmarkReporter.log("TagFilter", "checksum", sink, "chars");
+
+        if (tokenizerP99 > roundTripP99) {
+            BenchmarkReporter.alert("TagFilter", "Tokenizer p99 slower than the MiniMessage round trip");
+        }
+    }
+
+    private List<String> generateTraffic(int count) {
+        Random r = new Random(3);
+        String[] samples = {
+            "hello everyone how are you doing today",
+            "gg wp",
+            "anyone want to trade 64 diamonds for 32 emeralds",
+            "<red>look at my colors</red>",
+            "<gradient:gold:yellow>shiny</gradient> <b>bold</b>",
+            "<click:run_command:'/op me'>free ranks</click>",
+            "i <3 this server",
+            "lol that was insane"
+        };
+        List<String> traffic = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            traffic.add(samples[r.nextInt(samples.length)]);
+        }
+        return traffic;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.search.InvertedIndex;
+import com.sparkword.core.storage.search.SearchQuery;
+import com.sparkword.core.storage.search.Tokenizer;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("SearchIndexBenchmarkTest");
+    private static final long DAY = 86_400_000L;
+    private static final String[] WORDS = {
+        "hello", "anyone", "trade", "iron", "spawn", "base", "lag", "server", "join", "team",
+        "build", "farm", "village", "nether", "portal", "sell", "buy", "cheap", "help", "where"
+    };
+    private static final String[] SOURCES = {"Chat", "Sign", "Book", "Anvil", "Command"};
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Search: Ranking, Prefix, Phrase and Filters Across Segments")
+    void testSearchAcrossSegments() throws IOException {
+        InvertedIndex index = new InvertedIndex(folder, 2_048, LOGGER);
+        index.open();
+
+        Random random = new Random(23);
+        int days = 30;
+        int perDay = 2_000;
+        int total = days * perDay;
+        Set<Long> griefIds = new HashSet<>();
+        Set<Long> phraseIds = new HashSet<>();
+        long id = 1;
+        long indexNanos = 0;
+
+        for (int day = 0; day < days; day++) {
+            for (int i = 0; i < perDay; i++) {
+                long ts = day * DAY + (long) i * (DAY / perDay);
+                StringBuilder content = new StringBuilder();
+                for (int w = 0; w < 4 + random.nextInt(8); w++) {
+                    if (w > 0) content.append(' ');
+                    content.append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                if (i % 100 == 7) {
+                    content.append(" stop griefing my base");
+                    griefIds.add(id);
+                } else if (i % 100 == 53) {
+                    content.append(" free diamonds at spawn");
+                    phraseIds.add(id);
+                } else if (i % 100 == 71) {
+                    content.append(" diamonds are never free");
+                } else if (i % 250 == 3) {
+                    content.append(" that griefer again");
+                }
+                LogEntry entry = new LogEntry("Player" + random.nextInt(100), SOURCES[random.nextInt(SOURCES.length)],
+                    "Filter", content.toString(), null, ts, id++);
+                long start = System.nanoTime();
+                if (index.add(entry)) index.flush();
+                indexNanos += System.nanoTime() - start;
+            }
+        }
+        LogEntry loud = new LogEntry("Loud", "Chat", "Filter", "griefing griefing griefing", null, 10 * DAY + 1, id++);
+        index.add(loud);
+        index.flush();
+        griefIds.add(loud.id());
+
+        assertEquals(total + 1, index.docCount());
+        assertTrue(index.segmentCount() < total / 2_048, "Flushed segments must be merged: " + index.segmentCount());
+
+        long queryStart = System.nanoTime();
+        List<LogEntry> first = index.search(SearchQuery.of("griefing"), 0, 10);
+        long firstUs = (System.nanoTime() - queryStart) / 1000;
+        assertEquals(loud.id(), first.get(0).id(), "The densest short match must rank first");
+
+        Set<Long> found = collect(index, SearchQuery.of("griefing"));
+        assertEquals(griefIds, found, "Paging must return every match exactly once");
+
+        Set<Long> prefixed = collect(index, SearchQuery.of("grief*"));
+        assertTrue(prefixed.containsAll(griefIds));
+        assertTrue(prefixed.size() > griefIds.size(), "A prefix must also match other words that start with it");
+
+        long phraseStart = System.nanoTime();
+        Set<Long> phrase = collect(index, SearchQuery.of("\"free diamonds\""));
+        long phraseMs = (System.nanoTime() - phraseStart) / 1_000_000;
+        assertEquals(phraseIds, phrase, "A phrase must only match adjacent words in order");
+        assertEquals(phraseIds.size() * 2, collect(index, SearchQuery.of("free diamonds")).size());
+
+        long since = 20 * DAY;
+        long until = 25 * DAY;
+        List<LogEntry> bounded = index.search(new SearchQuery(SearchQuery.of("griefing").terms(), null, since, until), 0, 1_000);
+        assertEquals(5 * (perDay / 100), bounded.size());
+        assertTrue(bounded.stream().allMatch(e -> e.timestamp() >= since && e.timestamp() < until));
+
+        List<LogEntry> byPlayer = index.search(SearchQuery.of("player:loud griefing"), 0, 10);
+        assertEquals(List.of(loud.id()), byPlayer.stream().map(LogEntry::id).toList());
+
+        int removed = index.purgeBefore(15 * DAY);
+        assertTrue(removed > 0, "Segments entirely before the cutoff must be dropped");
+        Set<Long> kept = collect(index, SearchQuery.of("griefing"));
+        assertEquals(15 * (perDay / 100), kept.size(), "Purged rows must never be returned");
+
+        InvertedIndex reopened = new InvertedIndex(folder, 2_048, LOGGER);
+        reopened.open();
+        assertEquals(kept, collect(reopened, SearchQuery.of("griefing")), "Segments and the purge watermark must survive a restart");
+        assertFalse(reopened.add(new LogEntry("Late", "Chat", "Filter", "griefing", null, DAY, 0)));
+
+        long latencyStart = System.nanoTime();
+        int queries = 200;
+        for (int q = 0; q < queries; q++) {
+            reopened.search(SearchQuery.of(WORDS[q % WORDS.length] + " " + WORDS[(q * 7) % WORDS.length]), 0, 10);
+        }
+        long avgUs = (System.nanoTime() - latencyStart) / 1000 / queries;
+
+        BenchmarkReporter.log("Search Index", "docs", total + 1, "docs");
+        BenchmarkReporter.log("Search Index", "segments", index.segmentCount(), "files");
+        BenchmarkReporter.log("Search Index", "index_size", index.byteCount() / 1024, "KB");
+        BenchmarkReporter.log("Search Index", "index_time", indexNanos / 1_000_000, "ms");
+        BenchmarkReporter.log("Search Index", "rare_term_first_page", firstUs, "us");
+        BenchmarkReporter.log("Search Index", "phrase_full_scan", phraseMs, "ms");
+        BenchmarkReporter.log("Search Index", "common_terms_avg", avgUs, "us");
+    }
+
+    @Test
+    @DisplayName("Search: Tokenizer Folds Case and Accents")
+    void testTokenizer() {
+        assertEquals(List.of("hola", "que", "tal", "x2"), Tokenizer.tokens("¡Hola, QUÉ tal! x2"));
+        assertEquals(List.of("uber", "straße"), Tokenizer.tokens("ÜBER straße"));
+
+        SearchQuery query = SearchQuery.parse("player:Steve \"free dia\"* since:1d grief*", 10 * DAY);
+        assertEquals("Steve", query.player());
+        assertEquals(9 * DAY, query.since());
+        assertEquals(2, query.terms().size());
+        assertTrue(query.hasPhrase());
+        assertTrue(query.terms().get(0).matches(Tokenizer.tokens("get free diamonds now")));
+        assertFalse(query.terms().get(0).matches(Tokenizer.tokens("diamonds free")));
+    }
+
+    private Set<Long> collect(InvertedIndex index, SearchQuery query) {
+        Set<Long> ids = new HashSet<>();
+        int offset = 0;
+        while (true) {
+            List<LogEntry> page = index.search(query, offset, 50);
+            for (LogEntry entry : page) {
+                assertTrue(ids.add(entry.id()), "Duplicate hit " + entry.id() + " for " + query);
+            }
+            if (page.size() < 50) return ids;
+            offset += 50;
+        }
+    }
+}
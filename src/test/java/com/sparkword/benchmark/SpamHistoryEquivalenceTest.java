@@ -0,0 +1,266 @@
+/*
+ * This file is part of SparkWord - https://github.com/SparkCry/SparkWord
+ * Copyright (C) 2026 SparkCry and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.sparkword.benchmark;
+
+import com.sparkword.moderation.antispam.ip.SplitAddressTracker;
+import com.sparkword.moderation.antispam.similarity.RepeatHistory;
+import com.sparkword.util.BenchmarkReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpamHistoryEquivalenceTest {
+
+    private static final Pattern SPLIT_IP_PATTERN = Pattern.compile(
+        "(?:^|[^0-9])((?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)(?:[^0-9]+(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)){3})(?:$|[^0-9])"
+    );
+    private static final int MAX_HISTORY_ENTRIES = 5;
+    private static final String[] SEPARATORS = {".", " ", " . ", ",", " dot ", "-", "..", "/", " y "};
+
+    @Test
+    @DisplayName("Equivalence: IP Split Tracker Matches The Regex Over Re-Joined History")
+    void testSplitTrackerMatchesRegex() {
+        Random random = new Random(29);
+        int players = 2_000;
+        int messagesPerPlayer = 200;
+        int checked = 0;
+        int detections = 0;
+        long trackerNanos = 0;
+        long regexNanos = 0;
+
+        for (int p = 0; p < players; p++) {
+            LinkedList<String> history = new LinkedList<>();
+            SplitAddressTracker tracker = new SplitAddressTracker(MAX_HISTORY_ENTRIES);
+
+            for (int m = 0; m < messagesPerPlayer; m++) {
+                String clean = randomMessage(random).trim();
+                if (clean.isEmpty() || clean.length() > 50 || !hasRelevantCharacters(clean)) continue;
+
+                long start = System.nanoTime();
+                boolean expected = regexCheck(history, clean);
+                regexNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                boolean actual = !clean.equals(tracker.lastText()) && tracker.push(clean) != null;
+                trackerNanos += System.nanoTime() - start;
+
+                assertEquals(expected, actual, "Player " + p + " diverged on '" + clean + "' after " + history);
+                checked++;
+                if (expected) {
+                    detections++;
+                    history.clear();
+                    tracker.clear();
+                }
+            }
+        }
+
+        BenchmarkReporter.log("Equivalence", "split_messages", checked, "msgs");
+        BenchmarkReporter.log("Equivalence", "split_detections", detections, "msgs");
+        BenchmarkReporter.log("Equivalence", "split_regex_avg", regexNanos / Math.max(1, checked), "ns");
+        BenchmarkReporter.log("Equivalence", "split_tracker_avg", trackerNanos / Math.max(1, checked), "ns");
+
+        assertTrue(detections > 1_000, "The generator must exercise detections: " + detections);
+        assertTrue(detections < checked / 2, "The generator must exercise passes: " + detections);
+    }
+
+    @Test
+    @DisplayName("Equivalence: Repeat Ring Buffer Matches The Linked List")
+    void testRepeatHistoryMatchesLinkedList() {
+        Random random = new Random(35);
+        int operations = 500_000;
+
+        for (int round = 0; round < 100; round++) {
+            LinkedList<MessageStat> expected = new LinkedList<>();
+            RepeatHistory actual = new RepeatHistory(MAX_HISTORY_ENTRIES);
+            long now = 0;
+
+            for (int op = 0; op < operations / 100; op++) {
+                now += random.nextInt(5_000);
+                String content = "msg" + random.nextInt(12);
+
+                if (expected.isEmpty() || random.nextInt(3) == 0) {
+                    expected.addFirst(new MessageStat(content, now));
+                    if (expected.size() > MAX_HISTORY_ENTRIES) expected.removeLast();
+                    actual.addFirst(content, now);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    MessageStat match = expected.remove(index);
+                    expected.addFirst(match);
+                    actual.moveToFront(index);
+
+                    switch (random.nextInt(4)) {
+                        case 0 -> {
+                            match.count = 0;
+                            match.blockedUntil = 0;
+                            actual.resetFirst();
+                        }
+                        case 1 -> {
+                            match.blockedUntil = now + 10_000;
+                            match.count = 0;
+                            actual.blockFirst(now + 10_000);
+                        }
+                        default -> {
+                        }
+                    }
+                    match.count++;
+                    match.content = content;
+                    match.lastSeen = now;
+                    assertEquals(match.count, actual.touchFirst(content, now));
+                }
+
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    MessageStat stat = expected.get(i);
+                    assertEquals(stat.content, actual.content(i));
+                    assertEquals(stat.count, actual.count(i));
+                    assertEquals(stat.blockedUntil, actual.blockedUntil(i));
+                    assertEquals(stat.lastSeen, actual.lastSeen(i));
+                }
+            }
+        }
+    }
+
+    private static String randomMessage(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(4) == 0) sb.append("ip ");
+
+        int parts = 1 + random.nextInt(random.nextInt(5) == 0 ? 8 : 3);
+        String last = null;
+        for (int i = 0; i < parts; i++) {
+            if (i > 0) sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            String number;
+            switch (random.nextInt(10)) {
+                case 0 -> number = last != null ? last : "7";
+                case 1 -> number = Integer.toString(256 + random.nextInt(800));
+                case 2 -> number = String.format("%03d", random.nextInt(256));
+                case 3 -> number = Integer.toString(random.nextInt(5));
+                case 4 -> number = Long.toString(1_000 + random.nextInt(1_000_000));
+                case 5 -> number = "abc";
+                default -> number = Integer.toString(random.nextInt(256));
+            }
+            sb.append(number);
+            last = number;
+        }
+        if (random.nextInt(6) == 0) sb.append(" lol");
+        return sb.toString();
+    }
+
+    private static boolean regexCheck(LinkedList<String> history, String cleanContent) {
+        if (!history.isEmpty() && history.getFirst().equals(cleanContent)) return false;
+
+        history.addFirst(cleanContent);
+        if (history.size() > MAX_HISTORY_ENTRIES) history.removeLast();
+
+        StringBuilder sb = new StringBuilder(MAX_HISTORY_ENTRIES * 50);
+        for (int i = history.size() - 1; i >= 0; i--) {
+            sb.append(history.get(i)).append(" ");
+        }
+
+        String filteredText = filterRepeatedNumbers(sb.toString());
+        if (!hasEnoughDigits(filteredText)) return false;
+        if (filteredText.length() > 300) filteredText = filteredText.substring(0, 300);
+
+        Matcher matcher = SPLIT_IP_PATTERN.matcher(filteredText);
+        return matcher.find() && !isCountingSequence(matcher.group(1));
+    }
+
+    private static String filterRepeatedNumbers(String text) {
+        String[] tokens = text.split("[^0-9]+");
+        List<String> validNumbers = new ArrayList<>();
+        String lastNum = null;
+        int runCount = 0;
+
+        for (String token : tokens) {
+            if (token.isEmpty()) continue;
+
+            if (token.equals(lastNum)) {
+                runCount++;
+            } else {
+                lastNum = token;
+                runCount = 1;
+            }
+
+            if (runCount <= 2) {
+                validNumbers.add(token);
+            }
+        }
+
+        return String.join(" ", validNumbers);
+    }
+
+    private static boolean hasRelevantCharacters(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isDigit(c) || c == '.') return true;
+        }
+        return false;
+    }
+
+    private static boolean hasEnoughDigits(String text) {
+        int digits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isDigit(text.charAt(i))) {
+                digits++;
+                if (digits >= 4) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCountingSequence(String text) {
+        try {
+            List<Integer> numbers = Arrays.stream(text.split("[^0-9]+"))
+                .filter(s -> !s.isEmpty())
+                .map(Integer::parseInt)
+                .toList();
+
+            if (numbers.size() < 4) return false;
+            int firstDiff = numbers.get(1) - numbers.get(0);
+            if (Math.abs(firstDiff) > 10 || firstDiff == 0) return false;
+            for (int i = 1; i < numbers.size() - 1; i++) {
+                if (numbers.get(i + 1) - numbers.get(i) != firstDiff) return false;
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static final class MessageStat {
+        String content;
+        int count;
+        long blockedUntil;
+        long lastSeen;
+
+        MessageStat(String content, long now) {
+            this.content = content;
+            this.count = 1;
+            this.lastSeen = now;
+        }
+    }
+}
@@ -18,6 +18,32 @@
 package com.sparkword.benchmark;
 
 import com.sparkword.SparkWord;
+import com.sparkword.core.storage.impl.sql.BoundedWriterExecutor;
+import com.sparkword.core.storage.impl.sql.ChunkedPurger;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.OverflowPolicy;
+import com.sparkword.core.storage.impl.sql.GroupCommitWriter.Priority;
+import com.sparkword.core.storage.impl.sql.SQLConnectionFactory;
+import com.sparkword.core.storage.impl.sql.SchemaManager;
+import com.sparkword.core.storage.impl.sql.SpillJournal;
+import com.sparkword.core.storage.impl.sql.WriteAheadJournal;
+import com.sparkword.core.storage.impl.sql.dao.SQLAuditDAO;
+import com.sparkword.core.storage.impl.sql.dao.SQLMonitorDAO;
+import com.sparkword.core.storage.impl.sql.dao.SQLMuteDAO;
+import com.sparkword.core.storage.impl.sql.dao.SQLReportDAO;
+import com.sparkword.core.storage.impl.sql.dao.SQLiteMaintenanceDAO;
+import com.sparkword.core.storage.impl.sql.partition.LogPartitions;
+import com.sparkword.core.storage.impl.sql.partition.SQLiteLogPartitions;
+import com.sparkword.core.storage.impl.sql.partition.SingleTableLogPartitions;
+import com.sparkword.core.storage.impl.sql.query.SQLiteQueryAdapter;
+import com.sparkword.core.storage.impl.sql.search.SQLiteFtsLogIndex;
+import com.sparkword.core.storage.model.AuditEntry;
+import com.sparkword.core.storage.model.LogEntry;
+import com.sparkword.core.storage.model.MuteInfo.MuteScope;
+import com.sparkword.core.storage.model.Page;
+import com.sparkword.core.storage.model.PageCursor;
+import com.sparkword.core.storage.search.SearchQuery;
+import com.sparkword.core.storage.spi.WriteMetrics;
 import com.sparkword.util.BenchmarkReporter;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -27,18 +53,32 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -158,6 +198,834 @@ public void testMixedWorkload() {
         long globalDuration = System.currentTimeMillis() - globalStart;
 
         calculateAndReport("MixedLoad", operations, globalDuration, new ArrayList<>(latencies));
+
+        File db = tempDir.resolve("stress_storage.db").toFile();
+        List<Long> sharedReads;
+        List<Long> splitReads;
+        try (HikariDataSource shared = openPool(db, "Mixed-Shared", 1, false)) {
+            sharedReads = mixedReadLatencies(shared, shared, 2_000);
+        }
+        try (HikariDataSource write = openPool(db, "Mixed-Write", 1, false);
+             HikariDataSource read = openPool(db, "Mixed-Read", 4, true)) {
+            splitReads = mixedReadLatencies(write, read, 2_000);
+
+            try (Connection conn = read.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO stress_test (data) VALUES ('must-fail')");
+                throw new AssertionError("Read pool must reject writes");
+            } catch (SQLException expected) {
+            }
+        }
+
+        long sharedP99 = percentile(sharedReads, 0.99);
+        long splitP99 = percentile(splitReads, 0.99);
+        BenchmarkReporter.log("MixedLoad", "read_p50_shared_pool", percentile(sharedReads, 0.50) / 1000, "us");
+        BenchmarkReporter.log("MixedLoad", "read_p50_read_pool", percentile(splitReads, 0.50) / 1000, "us");
+        BenchmarkReporter.log("MixedLoad", "read_p99_shared_pool", sharedP99 / 1000, "us");
+        BenchmarkReporter.log("MixedLoad", "read_p99_read_pool", splitP99 / 1000, "us");
+
+        if (splitP99 > sharedP99) {
+            BenchmarkReporter.alert("MixedLoad", "Read pool p99 did not improve on the shared connection");
+        }
+    }
+
+    private List<Long> mixedReadLatencies(HikariDataSource writePool, HikariDataSource readPool, int operations) {
+        ConcurrentLinkedQueue<Long> reads = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < operations; i++) {
+            if (random.nextDouble() < 0.2) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try (Connection conn = writePool.getConnection();
+                         PreparedStatement ps = conn.prepareStatement("INSERT INTO stress_test (data, created_at) VALUES (?, ?)")) {
+                        ps.setString(1, "data");
+                        ps.setLong(2, System.currentTimeMillis());
+                        ps.executeUpdate();
+                    } catch (SQLException e) {
+                        e.printStackTrace();
+                    }
+                }, writer));
+            } else {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    long start = System.nanoTime();
+                    try (Connection conn = readPool.getConnection();
+                         PreparedStatement ps = conn.prepareStatement("SELECT id, data FROM stress_test ORDER BY id DESC LIMIT 10");
+                         ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            rs.getString(2);
+                        }
+                    } catch (SQLException e) {
+                        e.printStackTrace();
+                    }
+                    reads.add(System.nanoTime() - start);
+                }, reader));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        List<Long> sorted = new ArrayList<>(reads);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private HikariDataSource openPool(File db, String name, int size, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:" + db.getPath());
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setMaximumPoolSize(size);
+        config.setPoolName(name);
+        config.addDataSourceProperty("busy_timeout", "3000");
+        if (readOnly) {
+            config.addDataSourceProperty("open_mode", "1");
+            config.addDataSourceProperty("query_only", "true");
+        }
+        return new HikariDataSource(config);
+    }
+
+    private long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) return 0;
+        return sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * p)));
+    }
+
+    @Test
+    @DisplayName("Benchmark: Group Commit (Logs + Audit)")
+    public void testGroupCommitWriter() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("monitor_logs"));
+            stmt.execute(adapter.getTableCreationQuery("audit"));
+        }
+
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> dataSource.getConnection());
+
+        GroupCommitWriter batchWriter = new GroupCommitWriter(factory, writer, Logger.getLogger("StorageStressTest"), 8192, 256, 20,
+            OverflowPolicy.BLOCK, 1000, null, null);
+        SQLMonitorDAO monitor = new SQLMonitorDAO(factory, writer, reader, batchWriter, new SingleTableLogPartitions(), null, null, null);
+        SQLAuditDAO audit = new SQLAuditDAO(factory, writer, reader, adapter, batchWriter, null, null);
+
+        int logs = 10_000;
+        int audits = 2_000;
+        int producers = 4;
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicLong worstEnqueueNanos = new AtomicLong();
+
+        long globalStart = System.currentTimeMillis();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread.ofVirtual().start(() -> {
+                for (int i = producer; i < logs; i += producers) {
+                    long start = System.nanoTime();
+                    monitor.addLogAsync("Bot" + (i % 500), "spam message " + i, "Anti-Flood", "Chat", null);
+                    if (i % 5 == 0) audit.logAuditAsync("CONSOLE", "MUTE", "Player: Bot" + (i % 500));
+                    worstEnqueueNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        batchWriter.close();
+        long globalDuration = Math.max(1, System.currentTimeMillis() - globalStart);
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT (SELECT COUNT(*) FROM monitor_logs), (SELECT COUNT(*) FROM audit)");
+            rs.next();
+            assertEquals(logs, rs.getInt(1), "Every log row must be committed");
+            assertEquals(audits, rs.getInt(2), "Every audit row must be committed");
+        }
+
+        WriteMetrics metrics = batchWriter.metrics();
+        assertEquals(logs + audits, metrics.rows());
+        assertEquals(0, metrics.failed());
+        assertTrue(metrics.batches() < logs + audits, "Rows should share transactions");
+
+        double throughput = (logs + audits) / (double) globalDuration * 1000;
+        BenchmarkReporter.log("GroupCommit", "throughput", String.format("%.2f", throughput), "rows/sec");
+        BenchmarkReporter.log("GroupCommit", "batches", metrics.batches(), "commits");
+        BenchmarkReporter.log("GroupCommit", "avg_batch", String.format("%.1f", metrics.avgBatchSize()), "rows");
+        BenchmarkReporter.log("GroupCommit", "largest_batch", metrics.largestBatch(), "rows");
+        BenchmarkReporter.log("GroupCommit", "avg_commit", metrics.avgCommitMicros(), "us");
+        BenchmarkReporter.log("GroupCommit", "max_commit", metrics.maxCommitMicros(), "us");
+        BenchmarkReporter.log("GroupCommit", "overflow", metrics.overflow(), "rows");
+        BenchmarkReporter.log("GroupCommit", "worst_enqueue", worstEnqueueNanos.get() / 1000, "us");
+
+        if (worstEnqueueNanos.get() > 50_000_000) {
+            BenchmarkReporter.alert("GroupCommit", "Producer stalled on enqueue (>50ms)");
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark: Writer Backpressure (Spill + Replay)")
+    public void testWriterBackpressure() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("monitor_logs"));
+            stmt.execute(adapter.getTableCreationQuery("audit"));
+            stmt.execute(adapter.getTableCreationQuery("muted"));
+            stmt.execute(adapter.getTableCreationQuery("mute_history"));
+        }
+
+        AtomicBoolean databaseDown = new AtomicBoolean(true);
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> {
+            if (databaseDown.get()) {
+                Thread.sleep(20);
+                throw new SQLException("Simulated stall");
+            }
+            return dataSource.getConnection();
+        });
+
+        BoundedWriterExecutor boundedWriter = new BoundedWriterExecutor("Test-DB-Writer", 64, 100);
+        SpillJournal journal = new SpillJournal(tempDir.resolve("spill.journal").toFile());
+        GroupCommitWriter batchWriter = new GroupCommitWriter(factory, boundedWriter, Logger.getLogger("StorageStressTest"), 512, 128, 10,
+            OverflowPolicy.SPILL, 100, journal, null);
+        SQLMonitorDAO monitor = new SQLMonitorDAO(factory, boundedWriter, reader, batchWriter, new SingleTableLogPartitions(), null, null, null);
+        SQLAuditDAO audit = new SQLAuditDAO(factory, boundedWriter, reader, adapter, batchWriter, null, null);
+        SQLMuteDAO mutes = new SQLMuteDAO(factory, boundedWriter, reader, adapter, batchWriter, null);
+
+        int logs = 5_000;
+        long worstEnqueueNanos = 0;
+        for (int i = 0; i < logs; i++) {
+            long start = System.nanoTime();
+            monitor.addLogAsync("Bot" + (i % 100), "flood " + i, "Anti-Flood", "Chat", null);
+            if (i % 10 == 0) audit.logAuditAsync("CONSOLE", "MUTE", "Player: Bot" + (i % 100));
+            worstEnqueueNanos = Math.max(worstEnqueueNanos, System.nanoTime() - start);
+        }
+
+        WriteMetrics stalled = batchWriter.metrics();
+        assertTrue(stalled.spilled() > 0, "Rows should spill to the journal while the database is down");
+        assertTrue(stalled.queued() <= 512 + 128, "Queue must stay bounded during a stall");
+
+        mutes.muteAsync(7, "flood", "CONSOLE", 0, MuteScope.CHAT).get(10, TimeUnit.SECONDS);
+        databaseDown.set(false);
+        mutes.unmuteAsync(7).get(10, TimeUnit.SECONDS);
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (System.currentTimeMillis() < deadline && (batchWriter.depth() > 0 || !journal.isEmpty())) {
+            Thread.sleep(100);
+        }
+        batchWriter.close();
+        boundedWriter.shutdown();
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT (SELECT COUNT(*) FROM monitor_logs), (SELECT COUNT(*) FROM audit)");
+            rs.next();
+            assertEquals(logs, rs.getInt(1), "Spilled log rows must be replayed");
+            assertEquals(logs / 10, rs.getInt(2), "Spilled audit rows must be replayed");
+
+            rs = stmt.executeQuery("SELECT (SELECT COUNT(*) FROM muted WHERE player_id = 7), (SELECT COUNT(*) FROM mute_history WHERE player_id = 7)");
+            rs.next();
+            assertEquals(0, rs.getInt(1), "A spilled mute must not be replayed over the unmute that followed it");
+            assertEquals(1, rs.getInt(2), "The spilled mute must still reach the history");
+        }
+
+        WriteMetrics metrics = batchWriter.metrics();
+        assertEquals(0, metrics.dropped());
+        assertEquals(metrics.spilled(), metrics.replayed());
+
+        BenchmarkReporter.log("Backpressure", "spilled", metrics.spilled(), "rows");
+        BenchmarkReporter.log("Backpressure", "replayed", metrics.replayed(), "rows");
+        BenchmarkReporter.log("Backpressure", "overflow", metrics.overflow(), "rows");
+        BenchmarkReporter.log("Backpressure", "worst_enqueue", worstEnqueueNanos / 1000, "us");
+
+        if (worstEnqueueNanos > 200_000_000) {
+            BenchmarkReporter.alert("Backpressure", "Producer stalled during database outage (>200ms)");
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark: Write-Ahead Journal (Crash Recovery)")
+    public void testJournalRecovery() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("monitor_logs"));
+            stmt.execute(adapter.getTableCreationQuery("audit"));
+        }
+
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> dataSource.getConnection());
+
+        CountDownLatch crash = new CountDownLatch(1);
+        ExecutorService hung = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "Test-Hung-Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        hung.execute(() -> {
+            try {
+                crash.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+
+        File journalDir = tempDir.resolve("journal").toFile();
+        WriteAheadJournal crashed = new WriteAheadJournal(journalDir, 1024 * 1024);
+        GroupCommitWriter before = new GroupCommitWriter(factory, hung, Logger.getLogger("StorageStressTest"), 8192, 256, 5,
+            OverflowPolicy.BLOCK, 100, null, crashed);
+        before.recover();
+        SQLMonitorDAO monitor = new SQLMonitorDAO(factory, writer, reader, before, new SingleTableLogPartitions(), null, null, null);
+        SQLAuditDAO audit = new SQLAuditDAO(factory, writer, reader, adapter, before, null, null);
+
+        int logs = 2_000;
+        long appendStart = System.nanoTime();
+        for (int i = 0; i < logs; i++) {
+            monitor.addLogAsync("Bot" + (i % 50), "flood " + i, "Anti-Flood", "Chat", null);
+            if (i % 10 == 0) audit.logAuditAsync("CONSOLE", "MUTE", "Player: Bot" + (i % 50));
+        }
+        double appendUs = (System.nanoTime() - appendStart) / 1000.0 / (logs + logs / 10);
+
+        WriteMetrics crashedMetrics = before.metrics();
+        assertEquals(logs + logs / 10, crashedMetrics.journaled());
+        assertEquals(logs + logs / 10, crashedMetrics.journalPending(), "Unapplied writes must stay in the journal");
+
+        WriteAheadJournal reopened = new WriteAheadJournal(journalDir, 1024 * 1024);
+        GroupCommitWriter after = new GroupCommitWriter(factory, writer, Logger.getLogger("StorageStressTest"), 8192, 256, 5,
+            OverflowPolicy.BLOCK, 100, null, reopened);
+        long recoverStart = System.nanoTime();
+        int recovered = after.recover();
+        long recoverMs = (System.nanoTime() - recoverStart) / 1_000_000;
+        after.close();
+        reopened.close();
+        hung.shutdownNow();
+
+        assertEquals(logs + logs / 10, recovered);
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT (SELECT COUNT(*) FROM monitor_logs), (SELECT COUNT(*) FROM audit)");
+            rs.next();
+            assertEquals(logs, rs.getInt(1), "Journaled log rows must be replayed after a crash");
+            assertEquals(logs / 10, rs.getInt(2), "Journaled audit rows must be replayed after a crash");
+        }
+
+        BenchmarkReporter.log("Journal", "append_cost", String.format("%.3f", appendUs), "us/op");
+        BenchmarkReporter.log("Journal", "recovered", recovered, "rows");
+        BenchmarkReporter.log("Journal", "recovery_time", recoverMs, "ms");
+    }
+
+    @Test
+    @DisplayName("Benchmark: Write-Ahead Journal (Restart After Failure)")
+    public void testJournalRestartAfterFailure() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("audit"));
+        }
+
+        AtomicBoolean databaseDown = new AtomicBoolean(true);
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> {
+            if (databaseDown.get()) throw new SQLException("Simulated outage");
+            return dataSource.getConnection();
+        });
+
+        File journalDir = tempDir.resolve("journal").toFile();
+        WriteAheadJournal journal = new WriteAheadJournal(journalDir, 1024 * 1024);
+        GroupCommitWriter batchWriter = new GroupCommitWriter(factory, writer, Logger.getLogger("StorageStressTest"), 8192, 256, 5,
+            OverflowPolicy.BLOCK, 100, null, journal);
+        batchWriter.recover();
+        String insert = "INSERT INTO audit (staff_name, action, detail, timestamp) VALUES (?, ?, ?, ?)";
+
+        CompletableFuture<Void> lost = batchWriter.submit(Priority.HIGH, insert, "CONSOLE", "MUTE", "Player: Lost", System.currentTimeMillis());
+        assertTrue(lost.handle((ok, error) -> error != null).get(10, TimeUnit.SECONDS), "A write that cannot be kept must fail");
+
+        databaseDown.set(false);
+        int rows = 100;
+        List<CompletableFuture<Void>> committed = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            committed.add(batchWriter.submit(Priority.HIGH, insert, "CONSOLE", "MUTE", "Player: Bot" + i, System.currentTimeMillis()));
+        }
+        CompletableFuture.allOf(committed.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, batchWriter.metrics().journalPending(), "A failed write must not pin the journal checkpoint");
+        batchWriter.close();
+        journal.close();
+
+        WriteAheadJournal reopened = new WriteAheadJournal(journalDir, 1024 * 1024);
+        GroupCommitWriter restarted = new GroupCommitWriter(factory, writer, Logger.getLogger("StorageStressTest"), 8192, 256, 5,
+            OverflowPolicy.BLOCK, 100, null, reopened);
+        int recovered = restarted.recover();
+        restarted.close();
+        reopened.close();
+
+        assertEquals(0, recovered, "Committed rows must not be replayed after a restart");
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM audit");
+            rs.next();
+            assertEquals(rows, rs.getInt(1), "Committed rows must not be duplicated after a restart");
+        }
+
+        BenchmarkReporter.log("Journal", "restart_replayed", recovered, "rows");
+    }
+
+    @Test
+    @DisplayName("Benchmark: Keyset Pagination (Logs + Audit)")
+    public void testKeysetPagination() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> dataSource.getConnection());
+        when(factory.getReadConnection()).thenAnswer(inv -> dataSource.getConnection());
+        new SchemaManager(factory, Logger.getLogger("StorageStressTest"), adapter).runMigrations();
+
+        int logs = 20_000;
+        Random random = new Random(7);
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO monitor_logs (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < logs; i++) {
+                    ps.setString(1, "Player" + (i % 50));
+                    ps.setString(2, "message " + i);
+                    ps.setString(3, "Filter");
+                    ps.setString(4, "Chat");
+                    ps.setString(5, "bad");
+                    ps.setLong(6, 1_000_000L + random.nextInt(2_000));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO audit (staff_name, action, detail, timestamp) VALUES (?, ?, ?, ?)")) {
+                for (int i = 0; i < 500; i++) {
+                    ps.setString(1, i % 2 == 0 ? "Staff_One" : "Other");
+                    ps.setString(2, "MUTE");
+                    ps.setString(3, "Player: P" + i);
+                    ps.setLong(4, 1_000_000L + (i / 3));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            conn.commit();
+        }
+
+        SQLReportDAO reports = new SQLReportDAO(factory, writer, reader, new SingleTableLogPartitions(), null, null);
+        SQLAuditDAO audit = new SQLAuditDAO(factory, writer, reader, adapter, null, null, null);
+
+        Set<Long> seen = new HashSet<>();
+        long previousTimestamp = Long.MAX_VALUE;
+        long previousId = Long.MAX_VALUE;
+        PageCursor after = null;
+        int pages = 0;
+        long walkStart = System.nanoTime();
+        while (true) {
+            Page<LogEntry> page = reports.getGlobalLogsPageAsync("b", after).join();
+            for (LogEntry entry : page.entries()) {
+                assertTrue(entry.timestamp() < previousTimestamp
+                    || (entry.timestamp() == previousTimestamp && entry.id() < previousId), "Keyset pages must be strictly ordered");
+                previousTimestamp = entry.timestamp();
+                previousId = entry.id();
+                seen.add(entry.id());
+            }
+            pages++;
+            if (!page.hasNext()) break;
+            after = PageCursor.decode(page.next());
+        }
+        long walkMs = (System.nanoTime() - walkStart) / 1_000_000;
+        assertEquals(logs, seen.size(), "Walking every cursor must visit each log row exactly once");
+
+        List<LogEntry> legacyPage = reports.getGlobalLogsStructAsync("b", 2).join();
+        Page<LogEntry> firstPage = reports.getGlobalLogsPageAsync("b", null).join();
+        List<LogEntry> cursorPage = reports.getGlobalLogsPageAsync("b", PageCursor.decode(firstPage.next())).join().entries();
+        assertEquals(cursorPage, legacyPage, "Numbered pages must match the cursor walk");
+
+        int deepPage = logs / 10 - 5;
+        long offsetStart = System.nanoTime();
+        reports.getGlobalLogsStructAsync("b", deepPage).join();
+        long offsetUs = (System.nanoTime() - offsetStart) / 1000;
+
+        long seekStart = System.nanoTime();
+        reports.getGlobalLogsPageAsync("b", after).join();
+        long seekUs = (System.nanoTime() - seekStart) / 1000;
+
+        List<AuditEntry> staffEntries = new ArrayList<>();
+        PageCursor auditAfter = null;
+        while (true) {
+            Page<AuditEntry> page = audit.getAuditLogsPageAsync("staff_one", auditAfter, 10).join();
+            staffEntries.addAll(page.entries());
+            if (!page.hasNext()) break;
+            auditAfter = PageCursor.decode(page.next());
+        }
+        assertEquals(250, staffEntries.size(), "Staff filter must match case-insensitively across every page");
+        assertEquals(250, staffEntries.stream().mapToInt(AuditEntry::id).distinct().count());
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN SELECT id, staff_name, action, detail, timestamp FROM audit WHERE "
+                 + adapter.getCaseInsensitiveColumn("staff_name") + " = 'x' ORDER BY timestamp DESC, id DESC LIMIT 11")) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) plan.append(rs.getString("detail")).append(' ');
+            assertTrue(plan.toString().contains("idx_audit_staff_time"), "Audit staff lookups must use the covering index: " + plan);
+        }
+
+        BenchmarkReporter.log("Pagination", "cursor_walk", pages, "pages");
+        BenchmarkReporter.log("Pagination", "cursor_walk_time", walkMs, "ms");
+        BenchmarkReporter.log("Pagination", "deep_page_numbered", offsetUs, "us");
+        BenchmarkReporter.log("Pagination", "deep_page_cursor", seekUs, "us");
+    }
+
+    @Test
+    @DisplayName("Benchmark: Partitioned Purge (Day Drops + Chunked Deletes)")
+    public void testPartitionedPurge() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> dataSource.getConnection());
+        when(factory.getReadConnection()).thenAnswer(inv -> dataSource.getConnection());
+        new SchemaManager(factory, Logger.getLogger("StorageStressTest"), adapter).runMigrations();
+
+        SQLiteLogPartitions partitions = new SQLiteLogPartitions(factory, writer, adapter, Logger.getLogger("StorageStressTest"));
+        partitions.init();
+
+        long now = System.currentTimeMillis();
+        long cutoff = now - 5 * LogPartitions.DAY_MILLIS;
+        int days = 10;
+        int perDay = 2_000;
+        int legacy = 2_000;
+        int audits = 20_000;
+        int expectedLogs = 0;
+        int expectedAudit = 0;
+
+        List<String> dayTables = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            dayTables.add(partitions.tableFor(now - day * LogPartitions.DAY_MILLIS));
+        }
+        CompletableFuture.runAsync(() -> { }, writer).join();
+        assertTrue(dayTables.stream().noneMatch(LogPartitions.BASE_TABLE::equals), "Each day must get its own table");
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            for (int day = 0; day < days; day++) {
+                long base = now - day * LogPartitions.DAY_MILLIS;
+                String table = dayTables.get(day);
+                try (PreparedStatement ps = conn.prepareStatement("INSERT INTO " + table + " (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)")) {
+                    for (int i = 0; i < perDay; i++) {
+                        long ts = Math.max(Math.floorDiv(base, LogPartitions.DAY_MILLIS) * LogPartitions.DAY_MILLIS, base - i * 1_000L);
+                        ps.setString(1, "Player" + (i % 50));
+                        ps.setString(2, "message " + i);
+                        ps.setString(3, "Filter");
+                        ps.setString(4, "Chat");
+                        ps.setString(5, "bad");
+                        ps.setLong(6, ts);
+                        ps.addBatch();
+                        if (ts >= cutoff) expectedLogs++;
+                    }
+                    ps.executeBatch();
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO monitor_logs (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < legacy; i++) {
+                    long ts = now - (i * (days * LogPartitions.DAY_MILLIS / legacy));
+                    ps.setString(1, "Legacy" + (i % 50));
+                    ps.setString(2, "old message " + i);
+                    ps.setString(3, "Filter");
+                    ps.setString(4, "Chat");
+                    ps.setString(5, "bad");
+                    ps.setLong(6, ts);
+                    ps.addBatch();
+                    if (ts >= cutoff) expectedLogs++;
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO audit (staff_name, action, detail, timestamp) VALUES (?, ?, ?, ?)")) {
+                for (int i = 0; i < audits; i++) {
+                    long ts = now - (i * (days * LogPartitions.DAY_MILLIS / audits));
+                    ps.setString(1, "Staff");
+                    ps.setString(2, "MUTE");
+                    ps.setString(3, "Player: P" + i);
+                    ps.setLong(4, ts);
+                    ps.addBatch();
+                    if (ts >= cutoff) expectedAudit++;
+                }
+                ps.executeBatch();
+            }
+            conn.commit();
+        }
+        int partitionsBefore = partitions.partitionCount();
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE audit_baseline AS SELECT * FROM audit");
+        }
+        long baselineStall = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement ps = conn.prepareStatement("DELETE FROM audit_baseline WHERE timestamp < ?")) {
+                ps.setLong(1, cutoff);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+            return System.nanoTime() - start;
+        }, writer).join();
+
+        ChunkedPurger purger = new ChunkedPurger(factory, writer, adapter, 500, 5);
+        SQLMonitorDAO monitor = new SQLMonitorDAO(factory, writer, reader, null, partitions, purger, null, null);
+        SQLAuditDAO audit = new SQLAuditDAO(factory, writer, reader, adapter, null, purger, null);
+        int budgeted = audit.purgeAsync(5, System.nanoTime()).join();
+        assertEquals(0, budgeted, "A purge past its deadline must stop before the next chunk");
+
+        long purgeStart = System.nanoTime();
+        CompletableFuture<Integer> logPurge = monitor.purgeAsync(5, Long.MAX_VALUE);
+        CompletableFuture<Integer> auditPurge = audit.purgeAsync(5, Long.MAX_VALUE);
+
+        List<Long> probeLatencies = new ArrayList<>();
+        while (!logPurge.isDone() || !auditPurge.isDone()) {
+            long start = System.nanoTime();
+            CompletableFuture.runAsync(() -> {
+                try (Connection conn = dataSource.getConnection();
+                     PreparedStatement ps = conn.prepareStatement("INSERT INTO stress_test (data, created_at) VALUES (?, ?)")) {
+                    ps.setString(1, "probe");
+                    ps.setLong(2, System.currentTimeMillis());
+                    ps.executeUpdate();
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }, writer).join();
+            probeLatencies.add(System.nanoTime() - start);
+            Thread.sleep(2);
+        }
+        int logsRemoved = logPurge.join();
+        int auditRemoved = auditPurge.join();
+        long purgeMs = (System.nanoTime() - purgeStart) / 1_000_000;
+        purger.close();
+
+        int totalLogs = days * perDay + legacy;
+        assertEquals(totalLogs - expectedLogs, logsRemoved, "Dropped days plus chunked deletes must account for every expired log");
+        assertEquals(audits - expectedAudit, auditRemoved, "Chunked audit purge must remove every expired row");
+        assertTrue(partitions.partitionCount() < partitionsBefore, "Expired days must be dropped as whole tables");
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM audit WHERE timestamp < " + cutoff)) {
+            rs.next();
+            assertEquals(0, rs.getInt(1));
+        }
+
+        SQLReportDAO reports = new SQLReportDAO(factory, writer, reader, partitions, null, null);
+        Set<Long> seen = new HashSet<>();
+        long previousTimestamp = Long.MAX_VALUE;
+        long previousId = Long.MAX_VALUE;
+        PageCursor after = null;
+        while (true) {
+            Page<LogEntry> page = reports.getGlobalLogsPageAsync("b", after).join();
+            for (LogEntry entry : page.entries()) {
+                assertTrue(entry.timestamp() >= cutoff, "Purged logs must not be listed");
+                assertTrue(entry.timestamp() < previousTimestamp
+                    || (entry.timestamp() == previousTimestamp && entry.id() < previousId), "Pages across day tables must stay ordered");
+                previousTimestamp = entry.timestamp();
+                previousId = entry.id();
+                seen.add(entry.id());
+            }
+            if (!page.hasNext()) break;
+            after = PageCursor.decode(page.next());
+        }
+        assertEquals(expectedLogs, seen.size(), "Every remaining log must be listed exactly once across partitions");
+
+        List<Long> sorted = new ArrayList<>(probeLatencies);
+        Collections.sort(sorted);
+        long probeP99 = percentile(sorted, 0.99);
+        long probeMax = percentile(sorted, 1.0);
+
+        BenchmarkReporter.log("Purge", "partitions_dropped", partitionsBefore - partitions.partitionCount(), "tables");
+        BenchmarkReporter.log("Purge", "rows_removed", logsRemoved + auditRemoved, "rows");
+        BenchmarkReporter.log("Purge", "chunks", purger.chunks(), "chunks");
+        BenchmarkReporter.log("Purge", "duration", purgeMs, "ms");
+        BenchmarkReporter.log("Purge", "single_delete_stall", baselineStall / 1000, "us");
+        BenchmarkReporter.log("Purge", "write_p99_during_purge", probeP99 / 1000, "us");
+        BenchmarkReporter.log("Purge", "write_max_during_purge", probeMax / 1000, "us");
+
+        if (probeMax > baselineStall * 2 && probeMax > 50_000_000) {
+            BenchmarkReporter.alert("Purge", "Writes stalled longer during chunked purge than a single delete");
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark: Full-Text Log Search (FTS5 vs LIKE Scan)")
+    public void testFullTextSearch() throws Exception {
+        SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(adapter.getTableCreationQuery("monitor_logs"));
+        }
+
+        SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+        when(factory.getConnection()).thenAnswer(inv -> dataSource.getConnection());
+        when(factory.getReadConnection()).thenAnswer(inv -> dataSource.getConnection());
+
+        long now = System.currentTimeMillis();
+        int legacy = 40_000;
+        Random random = new Random(5);
+        String[] words = {"hello", "trade", "iron", "spawn", "base", "lag", "server", "join", "farm", "portal"};
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("INSERT INTO monitor_logs (player_name, content, category, source, detected_word, timestamp) VALUES (?, ?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < legacy; i++) {
+                String content = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                    + (i % 200 == 0 ? " stop griefing my base" : " at spawn");
+                ps.setString(1, "Player" + (i % 300));
+                ps.setString(2, content);
+                ps.setString(3, "Filter");
+                ps.setString(4, "Chat");
+                ps.setString(5, null);
+                ps.setLong(6, now - (legacy - i) * 1000L);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+
+        GroupCommitWriter batchWriter = new GroupCommitWriter(factory, writer, Logger.getLogger("StorageStressTest"), 8192, 256, 20,
+            OverflowPolicy.BLOCK, 1000, null, null);
+        SingleTableLogPartitions partitions = new SingleTableLogPartitions();
+        ChunkedPurger purger = new ChunkedPurger(factory, writer, adapter, 500, 5);
+        SQLiteFtsLogIndex search = new SQLiteFtsLogIndex(factory, batchWriter, partitions, purger, Logger.getLogger("StorageStressTest"));
+
+        long backfillStart = System.nanoTime();
+        assertTrue(search.init(), "The bundled SQLite driver must ship FTS5");
+        long initMs = (System.nanoTime() - backfillStart) / 1_000_000;
+
+        SQLMonitorDAO monitor = new SQLMonitorDAO(factory, writer, reader, batchWriter, partitions, purger, null, search);
+        SQLReportDAO reports = new SQLReportDAO(factory, writer, reader, partitions, null, search);
+
+        int live = 5_000;
+        for (int i = 0; i < live; i++) {
+            monitor.addLogAsync("Live" + (i % 50), i % 100 == 0 ? "someone is griefing near spawn" : "live chat " + i, "Filter", "Chat", null);
+        }
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (reports.isSearchIndexing() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(reports.isSearchIndexing(), "Backfill must finish in the background");
+        long backfillMs = (System.nanoTime() - backfillStart) / 1_000_000;
+        batchWriter.close();
+
+        int expected = legacy / 200 + live / 100;
+        Set<Long> found = new HashSet<>();
+        long searchStart = System.nanoTime();
+        int page = 1;
+        while (true) {
+            Page<LogEntry> result = reports.searchLogsAsync(SearchQuery.of("griefing"), page).join();
+            for (LogEntry entry : result.entries()) {
+                assertTrue(entry.content().contains("griefing"));
+                assertTrue(found.add(entry.id()), "A hit must not repeat across pages");
+            }
+            if (!result.hasNext()) break;
+            page++;
+        }
+        long searchMs = (System.nanoTime() - searchStart) / 1_000_000;
+        assertEquals(expected, found.size(), "Backfilled and live rows must both be searchable");
+
+        List<LogEntry> phrase = search.search(SearchQuery.of("player:live0 \"griefing near\""), 0, 100);
+        assertFalse(phrase.isEmpty());
+        assertTrue(phrase.stream().allMatch(e -> e.player().equals("Live0") && e.content().contains("griefing near")));
+
+        List<LogEntry> bounded = search.search(new SearchQuery(SearchQuery.of("grief*").terms(), null, now - legacy * 500L, now), 0, 1_000);
+        assertEquals(legacy / 400, bounded.size(), "Only backfilled rows inside the window must match");
+
+        long likeStart = System.nanoTime();
+        int likeHits = 0;
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM monitor_logs WHERE content LIKE '%griefing%' ORDER BY timestamp DESC LIMIT 10")) {
+            while (rs.next()) likeHits++;
+        }
+        long likeUs = (System.nanoTime() - likeStart) / 1000;
+        long ftsStart = System.nanoTime();
+        List<LogEntry> firstPage = search.search(SearchQuery.of("griefing"), 0, 10);
+        long ftsUs = (System.nanoTime() - ftsStart) / 1000;
+        assertEquals(likeHits, firstPage.size());
+
+        int purged = search.purgeOlderThan(now - legacy * 500L).join();
+        purger.close();
+        assertEquals(legacy / 2, purged, "Purging must drop index rows with their logs");
+
+        BenchmarkReporter.log("Search", "init", initMs, "ms");
+        BenchmarkReporter.log("Search", "backfill", backfillMs, "ms");
+        BenchmarkReporter.log("Search", "all_pages", searchMs, "ms");
+        BenchmarkReporter.log("Search", "fts_first_page", ftsUs, "us");
+        BenchmarkReporter.log("Search", "like_first_page", likeUs, "us");
+        BenchmarkReporter.log("Search", "hits", found.size(), "rows");
+    }
+
+    @Test
+    @DisplayName("Benchmark: Maintenance (Checkpoint, Vacuum, Optimize, Index Repair)")
+    public void testMaintenanceTasks() throws Exception {
+        File db = tempDir.resolve("maintenance.db").toFile();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:" + db.getPath());
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setMaximumPoolSize(1);
+        config.setPoolName("Maintenance-Test");
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("busy_timeout", "3000");
+        config.addDataSourceProperty("auto_vacuum", "INCREMENTAL");
+
+        try (HikariDataSource pool = new HikariDataSource(config)) {
+            SQLiteQueryAdapter adapter = new SQLiteQueryAdapter();
+            SQLConnectionFactory factory = mock(SQLConnectionFactory.class);
+            when(factory.getConnection()).thenAnswer(inv -> pool.getConnection());
+            SchemaManager schema = new SchemaManager(factory, Logger.getLogger("StorageStressTest"), adapter);
+            schema.runMigrations();
+            SQLiteMaintenanceDAO maintenance = new SQLiteMaintenanceDAO(factory, writer, reader, schema, null);
+
+            try (Connection conn = pool.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement("INSERT INTO audit (staff_name, action, detail, timestamp) VALUES (?, ?, ?, ?)")) {
+                    String detail = "x".repeat(500);
+                    for (int i = 0; i < 20_000; i++) {
+                        ps.setString(1, "Staff");
+                        ps.setString(2, "MUTE");
+                        ps.setString(3, detail);
+                        ps.setLong(4, i);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+                conn.commit();
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("DELETE FROM audit");
+                }
+                conn.commit();
+            }
+            assertEquals(2, pragma(pool, "auto_vacuum"), "New databases must be created with incremental auto-vacuum");
+            int freeBefore = pragma(pool, "freelist_count");
+            assertTrue(freeBefore > 0, "Deleting rows must leave free pages behind");
+
+            long yieldStart = System.nanoTime();
+            boolean finished = maintenance.runTaskAsync("vacuum", System.nanoTime()).join();
+            long yieldUs = (System.nanoTime() - yieldStart) / 1000;
+            assertFalse(finished, "An exhausted budget must stop the vacuum before it starts");
+            assertEquals(freeBefore, pragma(pool, "freelist_count"));
+
+            long vacuumStart = System.nanoTime();
+            finished = maintenance.runTaskAsync("vacuum", System.nanoTime() + TimeUnit.SECONDS.toNanos(30)).join();
+            long vacuumMs = (System.nanoTime() - vacuumStart) / 1_000_000;
+            assertTrue(finished);
+            assertEquals(0, pragma(pool, "freelist_count"), "Incremental vacuum must return every free page");
+
+            File wal = new File(db.getPath() + "-wal");
+            long walBefore = wal.length();
+            long checkpointStart = System.nanoTime();
+            assertTrue(maintenance.runTaskAsync("checkpoint", Long.MAX_VALUE).join(), "Checkpoint must not be blocked without readers");
+            long checkpointUs = (System.nanoTime() - checkpointStart) / 1000;
+            assertEquals(0, wal.length(), "TRUNCATE checkpoint must empty the WAL file");
+
+            long optimizeStart = System.nanoTime();
+            assertTrue(maintenance.runTaskAsync("optimize", Long.MAX_VALUE).join());
+            long optimizeUs = (System.nanoTime() - optimizeStart) / 1000;
+
+            try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP INDEX idx_audit_time");
+            }
+            assertTrue(maintenance.runTaskAsync("indexes", Long.MAX_VALUE).join());
+            try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT 1 FROM sqlite_master WHERE type = 'index' AND name = 'idx_audit_time'")) {
+                assertTrue(rs.next(), "Index health check must recreate dropped indexes");
+            }
+
+            BenchmarkReporter.log("Maintenance", "pages_reclaimed", freeBefore, "pages");
+            BenchmarkReporter.log("Maintenance", "vacuum_time", vacuumMs, "ms");
+            BenchmarkReporter.log("Maintenance", "budget_yield", yieldUs, "us");
+            BenchmarkReporter.log("Maintenance", "wal_truncated", walBefore / 1024, "KB");
+            BenchmarkReporter.log("Maintenance", "checkpoint_time", checkpointUs, "us");
+            BenchmarkReporter.log("Maintenance", "optimize_time", optimizeUs, "us");
+        }
+    }
+
+    private int pragma(HikariDataSource pool, String name) throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
     }
 
     private void calculateAndReport(String testName, int operations, long totalDurationMs, List<Long> latencies) {